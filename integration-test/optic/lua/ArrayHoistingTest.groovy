@@ -0,0 +1,17 @@
+package optic.lua
+
+import groovy.transform.CompileStatic
+
+@CompileStatic
+class ArrayHoistingTest extends GroovyTestCase {
+    void testArrayHoisting() {
+        def program = new SampleProgram("samples/array-hoisting.lua")
+        assert program.run() == [
+                "2525\t100",
+                "252500",
+                "2555",
+                "1102.75",
+                "6"
+        ]
+    }
+}
@@ -0,0 +1,16 @@
+package optic.lua
+
+import groovy.transform.CompileStatic
+
+@CompileStatic
+class BuiltinCallsTest extends GroovyTestCase {
+    void testBuiltinCalls() {
+        def program = new SampleProgram("samples/builtin-calls.lua")
+        assert program.run() == [
+                "91",
+                "ptic\tpt\t65\tnumber",
+                "floor\t2.5",
+                "false"
+        ]
+    }
+}
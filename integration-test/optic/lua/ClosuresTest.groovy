@@ -0,0 +1,17 @@
+package optic.lua
+
+import groovy.transform.CompileStatic
+
+@CompileStatic
+class ClosuresTest extends GroovyTestCase {
+    void testClosures() {
+        def program = new SampleProgram("samples/closures.lua")
+        assert program.run() == [
+                "true\t42",
+                "65",
+                "10",
+                "11\t22\t32",
+                "a110"
+        ]
+    }
+}
@@ -0,0 +1,17 @@
+package optic.lua
+
+import groovy.transform.CompileStatic
+
+@CompileStatic
+class ForInLoopsTest extends GroovyTestCase {
+    void testForInLoops() {
+        def program = new SampleProgram("samples/for-in-loops.lua")
+        assert program.run() == [
+                "140",
+                "140",
+                "140",
+                "1:2:extra:nil 2:4:extra:nil 3:6:extra:nil",
+                "3 2 1"
+        ]
+    }
+}
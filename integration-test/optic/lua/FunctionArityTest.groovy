@@ -0,0 +1,11 @@
+package optic.lua
+
+import groovy.transform.CompileStatic
+
+@CompileStatic
+class FunctionArityTest extends GroovyTestCase {
+    void testFunctionArity() {
+        def program = new SampleProgram("samples/function-arity.lua")
+        assert program.run() == ["nil,nil", "1,nil", "1,2", "5", "2", "1,2,nil", "3,4", "0\t1", "nil\t0\t1"]
+    }
+}
@@ -0,0 +1,16 @@
+package optic.lua
+
+import groovy.transform.CompileStatic
+
+@CompileStatic
+class IntegerRangesTest extends GroovyTestCase {
+    void testIntegerRanges() {
+        def program = new SampleProgram("samples/integer-ranges.lua")
+        assert program.run() == [
+                "170425",
+                "8",
+                "11",
+                "52"
+        ]
+    }
+}
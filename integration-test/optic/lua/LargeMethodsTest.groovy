@@ -0,0 +1,22 @@
+package optic.lua
+
+import groovy.transform.CompileStatic
+
+@CompileStatic
+class LargeMethodsTest extends GroovyTestCase {
+    void testLargeMethods() {
+        def program = new SampleProgram("samples/large-methods.lua")
+        assert program.run() == [
+                "349058",
+                "90142\t60\t1155"
+        ]
+    }
+
+    void testLargeTables() {
+        def program = new SampleProgram("samples/large-tables.lua")
+        assert program.run() == [
+                "12000\t0\t11999\t71994000",
+                "0\t1234\t2999"
+        ]
+    }
+}
@@ -0,0 +1,18 @@
+package optic.lua
+
+import groovy.transform.CompileStatic
+
+@CompileStatic
+class LocalFunctionsTest extends GroovyTestCase {
+    void testLocalFunctions() {
+        def program = new SampleProgram("samples/local-functions.lua")
+        assert program.run() == [
+                "35",
+                "x\t1",
+                "3\t2.5",
+                "1/2\t3/nil",
+                "8\t10",
+                "2.5\t3.5"
+        ]
+    }
+}
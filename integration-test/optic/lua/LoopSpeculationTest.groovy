@@ -0,0 +1,19 @@
+package optic.lua
+
+import groovy.transform.CompileStatic
+
+@CompileStatic
+class LoopSpeculationTest extends GroovyTestCase {
+    void testLoopSpeculation() {
+        def program = new SampleProgram("samples/loop-speculation.lua")
+        assert program.run() == [
+                "27.5",
+                "24.25",
+                "8.25",
+                "39.25",
+                "134.25\t10",
+                "385\t24.25",
+                "integer"
+        ]
+    }
+}
@@ -0,0 +1,16 @@
+package optic.lua
+
+import groovy.transform.CompileStatic
+
+@CompileStatic
+class MetatablesTest extends GroovyTestCase {
+    void testMetatables() {
+        def program = new SampleProgram("samples/metatables.lua")
+        assert program.run() == ["1", "2", "3"]
+    }
+
+    void testArithmeticMetamethods() {
+        def program = new SampleProgram("samples/arithmetic-metamethods.lua")
+        assert program.run() == ["151\t100\t300", "400"]
+    }
+}
@@ -6,6 +6,6 @@ import groovy.transform.CompileStatic
 class StandardLibraryTest extends GroovyTestCase {
     void testStandardLibrary() {
         def program = new SampleProgram("samples/standard-library.lua")
-        assert program.run() == ["1", "2", "3", "4", "5", "6"]
+        assert program.run() == ["1", "2", "3", "4", "5", "6", "7", "8", "9"]
     }
 }
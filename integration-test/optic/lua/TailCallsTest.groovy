@@ -0,0 +1,18 @@
+package optic.lua
+
+import groovy.transform.CompileStatic
+
+@CompileStatic
+class TailCallsTest extends GroovyTestCase {
+    void testTailCalls() {
+        def program = new SampleProgram("samples/tail-calls.lua")
+        assert program.run() == [
+                "500000500000",
+                "false\ttrue",
+                "10",
+                "done",
+                "1\t2\t3",
+                "wrapped\thi"
+        ]
+    }
+}
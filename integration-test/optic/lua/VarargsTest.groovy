@@ -0,0 +1,21 @@
+package optic.lua
+
+import groovy.transform.CompileStatic
+
+@CompileStatic
+class VarargsTest extends GroovyTestCase {
+    void testVarargs() {
+        def program = new SampleProgram("samples/varargs.lua")
+        assert program.run() == [
+                "0\t2\t3",
+                "3\t2\t3",
+                "2\tnil",
+                "1\t2\t3",
+                "b\tc",
+                "10",
+                "false\tbad argument #1 to 'select' (index out of range)",
+                "0\t0\t1",
+                "true"
+        ]
+    }
+}
@@ -0,0 +1,59 @@
+package optic.lua.runtime;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class LuaTableBenchmark {
+	private static final int SIZE = 1_000_000;
+	private final Object[] values = new Object[SIZE];
+
+	@Setup
+	public void setup() {
+		for (int i = 0; i < SIZE; i++) {
+			values[i] = "value" + i;
+		}
+	}
+
+	@Benchmark
+	public LuaTable appendObjects() {
+		LuaTable table = new LuaTable();
+		for (int i = 0; i < SIZE; i++) {
+			table.set(i + 1, values[i]);
+		}
+		return table;
+	}
+
+	@Benchmark
+	public LuaTable appendNumbers() {
+		LuaTable table = new LuaTable();
+		for (int i = 0; i < SIZE; i++) {
+			table.setNum(i + 1, i);
+		}
+		return table;
+	}
+
+	@Benchmark
+	public LuaTable fillReversed() {
+		LuaTable table = new LuaTable();
+		for (int i = SIZE; i > 0; i--) {
+			table.set(i, values[i - 1]);
+		}
+		return table;
+	}
+
+	@Benchmark
+	public LuaTable punchHoles() {
+		LuaTable table = appendObjects();
+		for (int i = 1; i <= SIZE; i += 2) {
+			table.set(i, null);
+		}
+		return table;
+	}
+}
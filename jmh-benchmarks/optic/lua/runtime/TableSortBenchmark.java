@@ -0,0 +1,65 @@
+package optic.lua.runtime;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class TableSortBenchmark {
+	private static final int SIZE = 1_000_000;
+	private final LuaContext context = LuaContext.create();
+	// same as "function(a, b) return a < b end"
+	private final LuaFunction lessThan = new LuaFunction("lessThan") {
+		@Override
+		public Object[] call(LuaContext context, Object... args) {
+			return ListOps.list(DynamicOps.lt(context, args[0], args[1]));
+		}
+	};
+	private final double[] numbers = new double[SIZE];
+	private final String[] strings = new String[SIZE];
+	private LuaTable numberTable;
+	private LuaTable stringTable;
+
+	@Setup
+	public void setup() {
+		Random random = new Random(0);
+		for (int i = 0; i < SIZE; i++) {
+			numbers[i] = random.nextDouble();
+			strings[i] = "value" + random.nextInt();
+		}
+	}
+
+	@Setup(Level.Invocation)
+	public void fill() {
+		numberTable = new LuaTable();
+		stringTable = new LuaTable();
+		for (int i = 0; i < SIZE; i++) {
+			numberTable.setNum(i + 1, numbers[i]);
+			stringTable.set(i + 1, strings[i]);
+		}
+	}
+
+	@Benchmark
+	public LuaTable sortNumbers() {
+		numberTable.sort(context, null);
+		return numberTable;
+	}
+
+	@Benchmark
+	public LuaTable sortStrings() {
+		stringTable.sort(context, null);
+		return stringTable;
+	}
+
+	@Benchmark
+	public LuaTable sortWithComparator() {
+		numberTable.sort(context, lessThan);
+		return numberTable;
+	}
+}
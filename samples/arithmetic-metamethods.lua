@@ -0,0 +1,32 @@
+-- metamethods whose names are computed at runtime
+
+local Money = {}
+
+local function cents(x)
+	if type(x) == "table" then
+		return x.cents
+	end
+	return x
+end
+
+for _, name in ipairs({"add", "sub", "mul"}) do
+	Money["__" .. name] = function(a, b)
+		local x, y = cents(a), cents(b)
+		if name == "add" then
+			return setmetatable({cents = x + y}, Money)
+		elseif name == "sub" then
+			return setmetatable({cents = x - y}, Money)
+		end
+		return setmetatable({cents = x * y}, Money)
+	end
+end
+
+local wallet = {setmetatable({cents = 150}, Money), setmetatable({cents = 250}, Money)}
+print((wallet[1] + 1).cents, (wallet[2] - wallet[1]).cents, (2 * wallet[1]).cents)
+
+-- the same reads in a loop, which must leave its speculative version
+local total = 0
+for i = 1, #wallet do
+	total = total + wallet[i]
+end
+print(total.cents)
@@ -0,0 +1,52 @@
+-- loops which only read tables use their array parts directly
+
+local function sum(x, from, to)
+    local a = 0
+    for j = from, to do
+        a = a + x[j]
+    end
+    return a
+end
+
+local function dot(x, y, n)
+    local a = 0
+    for i = 1, n do
+        for j = 1, n do
+            a = a + x[j] * y[i]
+        end
+    end
+    return a
+end
+
+local function count(x, n)
+    local c = 0
+    for j = 0, n + 1 do
+        local v = x[j]
+        if v then
+            c = c + 1
+        end
+    end
+    return c
+end
+
+local halves, ones = {}, {}
+for i = 1, 100 do
+    halves[i] = i * 0.5
+    ones[i] = 1
+end
+print(sum(halves, 1, 100), sum(ones, 1, 100))
+print(dot(halves, ones, 100))
+
+-- keys outside of the array part
+halves[0] = 10
+halves[101] = 20
+print(sum(halves, 0, 101))
+
+-- a value which comes from __index, the other table must not use its array part either
+local proxy = setmetatable({}, {__index = function(t, k)
+    halves[k] = 100
+    return 2
+end})
+proxy[1] = 1.5
+print(dot(proxy, halves, 3))
+print(count(halves, 4))
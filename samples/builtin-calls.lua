@@ -0,0 +1,17 @@
+-- standard library functions are called directly while they haven't been replaced
+local sum = 0
+for i = 1, 10 do
+    sum = sum + math.floor(i / 3) + math.max(i, 5) + string.len(tostring(i))
+end
+print(sum)
+print(string.sub("optic", 2), string.sub("optic", 2, 3), string.byte("A"), type(tonumber("12")))
+
+math.floor = function(x)
+    return "floor", x
+end
+print(math.floor(2.5))
+local ok = pcall(function()
+    string.len = nil
+    return string.len("abc")
+end)
+print(ok)
@@ -0,0 +1,44 @@
+-- functions which capture nothing may be shared
+local first
+for i = 1, 3 do
+    local f = function(x) return x * 2 end
+    first = first or f
+    if i == 3 then
+        print(first == f, f(21))
+    end
+end
+
+-- captured variables declared outside of the loop
+local base = 10
+local total = 0
+for i = 1, 5 do
+    local add = function(x) return base + x end
+    total = total + add(i)
+end
+print(total)
+
+-- a variable which is assigned in the loop
+local count = 0
+local k = 0
+while k < 4 do
+    k = k + 1
+    local inc = function() count = count + k end
+    inc()
+end
+print(count)
+
+-- every iteration has its own loop variable
+local fns = {}
+for i = 1, 3 do
+    for j = 1, 2 do
+        fns[#fns + 1] = function() return i * 10 + j end
+    end
+end
+print(fns[1](), fns[4](), fns[6]())
+
+local values = {}
+for key, value in pairs({a = 1}) do
+    local get = function() return key .. value .. base end
+    values[#values + 1] = get()
+end
+print(values[1])
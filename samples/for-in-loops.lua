@@ -0,0 +1,49 @@
+-- the forms of the expression list of a generic for loop
+
+local t = {10, 20, 30}
+
+local sum = 0
+for k, v in pairs(t) do
+    sum = sum + k * v
+end
+print(sum)
+
+sum = 0
+for i, v in ipairs(t) do
+    sum = sum + i * v
+end
+print(sum)
+
+sum = 0
+for k, v in next, t do
+    sum = sum + k * v
+end
+print(sum)
+
+-- iterator function with state and control value
+local function range(limit, i)
+    if i < limit then
+        return i + 1, (i + 1) * 2, "extra"
+    end
+end
+local parts = {}
+for i, double, extra, none in range, 3, 0 do
+    parts[#parts + 1] = i .. ":" .. double .. ":" .. extra .. ":" .. tostring(none)
+end
+print(table.concat(parts, " "))
+
+-- closure which keeps its own state
+local function countdown(n)
+    local left = n
+    return function()
+        if left > 0 then
+            left = left - 1
+            return left + 1
+        end
+    end
+end
+parts = {}
+for i in countdown(3) do
+    parts[#parts + 1] = i
+end
+print(table.concat(parts, " "))
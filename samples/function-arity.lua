@@ -0,0 +1,43 @@
+local function pair(a, b)
+	return tostring(a) .. "," .. tostring(b)
+end
+
+local function many(a, b, c, d, e)
+	return e
+end
+
+local function rest(a, ...)
+	local t = {...}
+	return #t
+end
+
+-- missing arguments are nil, extra arguments are dropped
+print(pair())
+print(pair(1))
+print(pair(1, 2, 3, 4, 5))
+print(many(1, 2, 3, 4, 5))
+print(rest(1, 2, 3))
+
+-- arguments expanded from a call
+print(pair(pair(1, 2)))
+print(pair((function() return 3, 4 end)()))
+
+-- functions returning a single value
+local function sign(x)
+	if x < 0 then
+		return -1
+	elseif x > 0 then
+		return 1
+	else
+		return 0
+	end
+end
+
+local function maybe(x)
+	if x then
+		return x
+	end
+end
+
+print(sign(-5) + sign(5) + sign(0), #{sign(1)})
+print(maybe(nil), #{maybe(nil)}, #{maybe(1)})
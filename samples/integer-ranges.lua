@@ -0,0 +1,39 @@
+-- loops whose counter is known to fit in an int are compiled once
+
+local n = 100
+local sum = 0
+for i = 1, n do
+    for j = i, n, 2 do
+        sum = sum + j
+    end
+end
+print(sum)
+
+-- the counter must not overflow after the last step
+local steps = 0
+for i = 2147483640, 2147483647 do
+    steps = steps + 1
+end
+print(steps)
+
+local big = 2147483647 * 2
+for i = big - 2, big do
+    steps = steps + 1
+end
+print(steps)
+
+local t = {}
+for i = 1, 10 do
+    t[i] = i
+end
+local total = 0
+for i = 1, #t do
+    total = total + t[i]
+end
+for i = -3, -1 do
+    total = total + i
+end
+for i = 1, 2.5 do
+    total = total + i
+end
+print(total)
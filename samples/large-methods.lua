@@ -0,0 +1,589 @@
+-- a function and a main chunk which are too large for a single JVM method each
+
+local function checksum(n)
+    local a, b, c = 1, 2, 3
+    local t = {}
+    for i = 1, n do
+        a = (a * 44 + i) % 1000003
+        t[i] = (t[i] or 0) + b
+    end
+    if a % 3 == 0 then
+        b = b + a % 60
+    elseif b > c then
+        c = c + (b - c) % 93
+    else
+        a = a + 1
+    end
+    b = (b + a * c) % 1000003
+    c = (c + #t * 2) % 1000003
+    do
+        local x = a + b
+        local y = x * 6 + c
+        t[#t + 1] = y % 1000003
+    end
+    for i = 1, n do
+        a = (a * 77 + i) % 1000003
+        t[i] = (t[i] or 0) + b
+    end
+    if a % 2 == 0 then
+        b = b + a % 74
+    elseif b > c then
+        c = c + (b - c) % 37
+    else
+        a = a + 1
+    end
+    b = (b + a * c) % 1000003
+    c = (c + #t * 7) % 1000003
+    do
+        local x = a + b
+        local y = x * 2 + c
+        t[#t + 1] = y % 1000003
+    end
+    for i = 1, n do
+        a = (a * 33 + i) % 1000003
+        t[i] = (t[i] or 0) + b
+    end
+    if a % 2 == 0 then
+        b = b + a % 80
+    elseif b > c then
+        c = c + (b - c) % 64
+    else
+        a = a + 1
+    end
+    b = (b + a * c) % 1000003
+    c = (c + #t * 4) % 1000003
+    do
+        local x = a + b
+        local y = x * 1 + c
+        t[#t + 1] = y % 1000003
+    end
+    for i = 1, n do
+        a = (a * 76 + i) % 1000003
+        t[i] = (t[i] or 0) + b
+    end
+    if a % 6 == 0 then
+        b = b + a % 60
+    elseif b > c then
+        c = c + (b - c) % 16
+    else
+        a = a + 4
+    end
+    b = (b + a * c) % 1000003
+    c = (c + #t * 3) % 1000003
+    do
+        local x = a + b
+        local y = x * 5 + c
+        t[#t + 1] = y % 1000003
+    end
+    for i = 1, n do
+        a = (a * 56 + i) % 1000003
+        t[i] = (t[i] or 0) + b
+    end
+    if a % 3 == 0 then
+        b = b + a % 79
+    elseif b > c then
+        c = c + (b - c) % 25
+    else
+        a = a + 5
+    end
+    b = (b + a * c) % 1000003
+    c = (c + #t * 3) % 1000003
+    do
+        local x = a + b
+        local y = x * 2 + c
+        t[#t + 1] = y % 1000003
+    end
+    for i = 1, n do
+        a = (a * 77 + i) % 1000003
+        t[i] = (t[i] or 0) + b
+    end
+    if a % 6 == 0 then
+        b = b + a % 91
+    elseif b > c then
+        c = c + (b - c) % 34
+    else
+        a = a + 6
+    end
+    b = (b + a * c) % 1000003
+    c = (c + #t * 2) % 1000003
+    do
+        local x = a + b
+        local y = x * 1 + c
+        t[#t + 1] = y % 1000003
+    end
+    for i = 1, n do
+        a = (a * 82 + i) % 1000003
+        t[i] = (t[i] or 0) + b
+    end
+    if a % 3 == 0 then
+        b = b + a % 73
+    elseif b > c then
+        c = c + (b - c) % 97
+    else
+        a = a + 9
+    end
+    b = (b + a * c) % 1000003
+    c = (c + #t * 8) % 1000003
+    do
+        local x = a + b
+        local y = x * 8 + c
+        t[#t + 1] = y % 1000003
+    end
+    for i = 1, n do
+        a = (a * 49 + i) % 1000003
+        t[i] = (t[i] or 0) + b
+    end
+    if a % 4 == 0 then
+        b = b + a % 41
+    elseif b > c then
+        c = c + (b - c) % 33
+    else
+        a = a + 4
+    end
+    b = (b + a * c) % 1000003
+    c = (c + #t * 5) % 1000003
+    do
+        local x = a + b
+        local y = x * 9 + c
+        t[#t + 1] = y % 1000003
+    end
+    for i = 1, n do
+        a = (a * 66 + i) % 1000003
+        t[i] = (t[i] or 0) + b
+    end
+    if a % 4 == 0 then
+        b = b + a % 67
+    elseif b > c then
+        c = c + (b - c) % 46
+    else
+        a = a + 2
+    end
+    b = (b + a * c) % 1000003
+    c = (c + #t * 7) % 1000003
+    do
+        local x = a + b
+        local y = x * 3 + c
+        t[#t + 1] = y % 1000003
+    end
+    for i = 1, n do
+        a = (a * 46 + i) % 1000003
+        t[i] = (t[i] or 0) + b
+    end
+    if a % 3 == 0 then
+        b = b + a % 72
+    elseif b > c then
+        c = c + (b - c) % 63
+    else
+        a = a + 1
+    end
+    b = (b + a * c) % 1000003
+    c = (c + #t * 9) % 1000003
+    do
+        local x = a + b
+        local y = x * 6 + c
+        t[#t + 1] = y % 1000003
+    end
+    for i = 1, n do
+        a = (a * 46 + i) % 1000003
+        t[i] = (t[i] or 0) + b
+    end
+    if a % 7 == 0 then
+        b = b + a % 54
+    elseif b > c then
+        c = c + (b - c) % 86
+    else
+        a = a + 8
+    end
+    b = (b + a * c) % 1000003
+    c = (c + #t * 2) % 1000003
+    do
+        local x = a + b
+        local y = x * 2 + c
+        t[#t + 1] = y % 1000003
+    end
+    for i = 1, n do
+        a = (a * 37 + i) % 1000003
+        t[i] = (t[i] or 0) + b
+    end
+    if a % 5 == 0 then
+        b = b + a % 99
+    elseif b > c then
+        c = c + (b - c) % 95
+    else
+        a = a + 2
+    end
+    b = (b + a * c) % 1000003
+    c = (c + #t * 5) % 1000003
+    do
+        local x = a + b
+        local y = x * 8 + c
+        t[#t + 1] = y % 1000003
+    end
+    for i = 1, n do
+        a = (a * 39 + i) % 1000003
+        t[i] = (t[i] or 0) + b
+    end
+    if a % 7 == 0 then
+        b = b + a % 59
+    elseif b > c then
+        c = c + (b - c) % 95
+    else
+        a = a + 6
+    end
+    b = (b + a * c) % 1000003
+    c = (c + #t * 6) % 1000003
+    do
+        local x = a + b
+        local y = x * 3 + c
+        t[#t + 1] = y % 1000003
+    end
+    for i = 1, n do
+        a = (a * 81 + i) % 1000003
+        t[i] = (t[i] or 0) + b
+    end
+    if a % 2 == 0 then
+        b = b + a % 73
+    elseif b > c then
+        c = c + (b - c) % 17
+    else
+        a = a + 4
+    end
+    b = (b + a * c) % 1000003
+    c = (c + #t * 4) % 1000003
+    do
+        local x = a + b
+        local y = x * 7 + c
+        t[#t + 1] = y % 1000003
+    end
+    for i = 1, n do
+        a = (a * 53 + i) % 1000003
+        t[i] = (t[i] or 0) + b
+    end
+    if a % 5 == 0 then
+        b = b + a % 20
+    elseif b > c then
+        c = c + (b - c) % 31
+    else
+        a = a + 8
+    end
+    b = (b + a * c) % 1000003
+    c = (c + #t * 5) % 1000003
+    do
+        local x = a + b
+        local y = x * 3 + c
+        t[#t + 1] = y % 1000003
+    end
+    for i = 1, n do
+        a = (a * 58 + i) % 1000003
+        t[i] = (t[i] or 0) + b
+    end
+    if a % 6 == 0 then
+        b = b + a % 45
+    elseif b > c then
+        c = c + (b - c) % 63
+    else
+        a = a + 6
+    end
+    b = (b + a * c) % 1000003
+    c = (c + #t * 4) % 1000003
+    do
+        local x = a + b
+        local y = x * 3 + c
+        t[#t + 1] = y % 1000003
+    end
+    for i = 1, n do
+        a = (a * 13 + i) % 1000003
+        t[i] = (t[i] or 0) + b
+    end
+    if a % 3 == 0 then
+        b = b + a % 29
+    elseif b > c then
+        c = c + (b - c) % 39
+    else
+        a = a + 4
+    end
+    b = (b + a * c) % 1000003
+    c = (c + #t * 3) % 1000003
+    do
+        local x = a + b
+        local y = x * 5 + c
+        t[#t + 1] = y % 1000003
+    end
+    for i = 1, n do
+        a = (a * 39 + i) % 1000003
+        t[i] = (t[i] or 0) + b
+    end
+    if a % 2 == 0 then
+        b = b + a % 28
+    elseif b > c then
+        c = c + (b - c) % 63
+    else
+        a = a + 9
+    end
+    b = (b + a * c) % 1000003
+    c = (c + #t * 6) % 1000003
+    do
+        local x = a + b
+        local y = x * 3 + c
+        t[#t + 1] = y % 1000003
+    end
+    for i = 1, n do
+        a = (a * 91 + i) % 1000003
+        t[i] = (t[i] or 0) + b
+    end
+    if a % 6 == 0 then
+        b = b + a % 89
+    elseif b > c then
+        c = c + (b - c) % 93
+    else
+        a = a + 1
+    end
+    b = (b + a * c) % 1000003
+    c = (c + #t * 9) % 1000003
+    do
+        local x = a + b
+        local y = x * 7 + c
+        t[#t + 1] = y % 1000003
+    end
+    for i = 1, n do
+        a = (a * 53 + i) % 1000003
+        t[i] = (t[i] or 0) + b
+    end
+    if a % 5 == 0 then
+        b = b + a % 60
+    elseif b > c then
+        c = c + (b - c) % 23
+    else
+        a = a + 8
+    end
+    b = (b + a * c) % 1000003
+    c = (c + #t * 1) % 1000003
+    do
+        local x = a + b
+        local y = x * 4 + c
+        t[#t + 1] = y % 1000003
+    end
+    for i = 1, n do
+        a = (a * 11 + i) % 1000003
+        t[i] = (t[i] or 0) + b
+    end
+    if a % 3 == 0 then
+        b = b + a % 66
+    elseif b > c then
+        c = c + (b - c) % 30
+    else
+        a = a + 2
+    end
+    b = (b + a * c) % 1000003
+    c = (c + #t * 1) % 1000003
+    do
+        local x = a + b
+        local y = x * 2 + c
+        t[#t + 1] = y % 1000003
+    end
+    for i = 1, n do
+        a = (a * 3 + i) % 1000003
+        t[i] = (t[i] or 0) + b
+    end
+    if a % 6 == 0 then
+        b = b + a % 29
+    elseif b > c then
+        c = c + (b - c) % 78
+    else
+        a = a + 2
+    end
+    b = (b + a * c) % 1000003
+    c = (c + #t * 1) % 1000003
+    do
+        local x = a + b
+        local y = x * 2 + c
+        t[#t + 1] = y % 1000003
+    end
+    return (a + b + c + #t) % 1000003
+end
+
+print(checksum(10))
+
+local s = 0
+local names = {}
+for i = 1, 11 do s = (s + i * 41) % 65521 end
+names[#names + 1] = tostring(s % 55)
+if s % 2 == 0 then s = s // 2 + 3 else s = s * 3 + 1 end
+for i = 1, 25 do s = (s + i * 18) % 65521 end
+names[#names + 1] = tostring(s % 51)
+if s % 2 == 0 then s = s // 2 + 6 else s = s * 3 + 1 end
+for i = 1, 20 do s = (s + i * 9) % 65521 end
+names[#names + 1] = tostring(s % 21)
+if s % 2 == 0 then s = s // 2 + 8 else s = s * 3 + 1 end
+for i = 1, 19 do s = (s + i * 32) % 65521 end
+names[#names + 1] = tostring(s % 68)
+if s % 2 == 0 then s = s // 2 + 5 else s = s * 3 + 1 end
+for i = 1, 7 do s = (s + i * 11) % 65521 end
+names[#names + 1] = tostring(s % 20)
+if s % 2 == 0 then s = s // 2 + 6 else s = s * 3 + 1 end
+for i = 1, 28 do s = (s + i * 18) % 65521 end
+names[#names + 1] = tostring(s % 68)
+if s % 2 == 0 then s = s // 2 + 3 else s = s * 3 + 1 end
+for i = 1, 21 do s = (s + i * 3) % 65521 end
+names[#names + 1] = tostring(s % 33)
+if s % 2 == 0 then s = s // 2 + 9 else s = s * 3 + 1 end
+for i = 1, 16 do s = (s + i * 11) % 65521 end
+names[#names + 1] = tostring(s % 95)
+if s % 2 == 0 then s = s // 2 + 9 else s = s * 3 + 1 end
+for i = 1, 5 do s = (s + i * 50) % 65521 end
+names[#names + 1] = tostring(s % 74)
+if s % 2 == 0 then s = s // 2 + 5 else s = s * 3 + 1 end
+for i = 1, 25 do s = (s + i * 7) % 65521 end
+names[#names + 1] = tostring(s % 96)
+if s % 2 == 0 then s = s // 2 + 5 else s = s * 3 + 1 end
+for i = 1, 21 do s = (s + i * 25) % 65521 end
+names[#names + 1] = tostring(s % 28)
+if s % 2 == 0 then s = s // 2 + 6 else s = s * 3 + 1 end
+for i = 1, 29 do s = (s + i * 16) % 65521 end
+names[#names + 1] = tostring(s % 75)
+if s % 2 == 0 then s = s // 2 + 9 else s = s * 3 + 1 end
+for i = 1, 29 do s = (s + i * 34) % 65521 end
+names[#names + 1] = tostring(s % 49)
+if s % 2 == 0 then s = s // 2 + 4 else s = s * 3 + 1 end
+for i = 1, 24 do s = (s + i * 50) % 65521 end
+names[#names + 1] = tostring(s % 31)
+if s % 2 == 0 then s = s // 2 + 4 else s = s * 3 + 1 end
+for i = 1, 17 do s = (s + i * 49) % 65521 end
+names[#names + 1] = tostring(s % 36)
+if s % 2 == 0 then s = s // 2 + 4 else s = s * 3 + 1 end
+for i = 1, 21 do s = (s + i * 33) % 65521 end
+names[#names + 1] = tostring(s % 52)
+if s % 2 == 0 then s = s // 2 + 1 else s = s * 3 + 1 end
+for i = 1, 5 do s = (s + i * 19) % 65521 end
+names[#names + 1] = tostring(s % 67)
+if s % 2 == 0 then s = s // 2 + 5 else s = s * 3 + 1 end
+for i = 1, 11 do s = (s + i * 46) % 65521 end
+names[#names + 1] = tostring(s % 84)
+if s % 2 == 0 then s = s // 2 + 6 else s = s * 3 + 1 end
+for i = 1, 19 do s = (s + i * 48) % 65521 end
+names[#names + 1] = tostring(s % 51)
+if s % 2 == 0 then s = s // 2 + 6 else s = s * 3 + 1 end
+for i = 1, 7 do s = (s + i * 16) % 65521 end
+names[#names + 1] = tostring(s % 20)
+if s % 2 == 0 then s = s // 2 + 4 else s = s * 3 + 1 end
+for i = 1, 20 do s = (s + i * 14) % 65521 end
+names[#names + 1] = tostring(s % 50)
+if s % 2 == 0 then s = s // 2 + 4 else s = s * 3 + 1 end
+for i = 1, 20 do s = (s + i * 41) % 65521 end
+names[#names + 1] = tostring(s % 85)
+if s % 2 == 0 then s = s // 2 + 1 else s = s * 3 + 1 end
+for i = 1, 20 do s = (s + i * 43) % 65521 end
+names[#names + 1] = tostring(s % 51)
+if s % 2 == 0 then s = s // 2 + 2 else s = s * 3 + 1 end
+for i = 1, 26 do s = (s + i * 9) % 65521 end
+names[#names + 1] = tostring(s % 56)
+if s % 2 == 0 then s = s // 2 + 4 else s = s * 3 + 1 end
+for i = 1, 20 do s = (s + i * 13) % 65521 end
+names[#names + 1] = tostring(s % 62)
+if s % 2 == 0 then s = s // 2 + 6 else s = s * 3 + 1 end
+for i = 1, 7 do s = (s + i * 48) % 65521 end
+names[#names + 1] = tostring(s % 57)
+if s % 2 == 0 then s = s // 2 + 8 else s = s * 3 + 1 end
+for i = 1, 17 do s = (s + i * 49) % 65521 end
+names[#names + 1] = tostring(s % 17)
+if s % 2 == 0 then s = s // 2 + 3 else s = s * 3 + 1 end
+for i = 1, 10 do s = (s + i * 10) % 65521 end
+names[#names + 1] = tostring(s % 10)
+if s % 2 == 0 then s = s // 2 + 3 else s = s * 3 + 1 end
+for i = 1, 23 do s = (s + i * 31) % 65521 end
+names[#names + 1] = tostring(s % 90)
+if s % 2 == 0 then s = s // 2 + 3 else s = s * 3 + 1 end
+for i = 1, 24 do s = (s + i * 40) % 65521 end
+names[#names + 1] = tostring(s % 67)
+if s % 2 == 0 then s = s // 2 + 6 else s = s * 3 + 1 end
+for i = 1, 9 do s = (s + i * 37) % 65521 end
+names[#names + 1] = tostring(s % 77)
+if s % 2 == 0 then s = s // 2 + 3 else s = s * 3 + 1 end
+for i = 1, 5 do s = (s + i * 2) % 65521 end
+names[#names + 1] = tostring(s % 99)
+if s % 2 == 0 then s = s // 2 + 2 else s = s * 3 + 1 end
+for i = 1, 21 do s = (s + i * 49) % 65521 end
+names[#names + 1] = tostring(s % 24)
+if s % 2 == 0 then s = s // 2 + 7 else s = s * 3 + 1 end
+for i = 1, 11 do s = (s + i * 15) % 65521 end
+names[#names + 1] = tostring(s % 10)
+if s % 2 == 0 then s = s // 2 + 5 else s = s * 3 + 1 end
+for i = 1, 11 do s = (s + i * 20) % 65521 end
+names[#names + 1] = tostring(s % 71)
+if s % 2 == 0 then s = s // 2 + 4 else s = s * 3 + 1 end
+for i = 1, 29 do s = (s + i * 39) % 65521 end
+names[#names + 1] = tostring(s % 48)
+if s % 2 == 0 then s = s // 2 + 5 else s = s * 3 + 1 end
+for i = 1, 22 do s = (s + i * 28) % 65521 end
+names[#names + 1] = tostring(s % 23)
+if s % 2 == 0 then s = s // 2 + 1 else s = s * 3 + 1 end
+for i = 1, 28 do s = (s + i * 24) % 65521 end
+names[#names + 1] = tostring(s % 65)
+if s % 2 == 0 then s = s // 2 + 9 else s = s * 3 + 1 end
+for i = 1, 18 do s = (s + i * 34) % 65521 end
+names[#names + 1] = tostring(s % 23)
+if s % 2 == 0 then s = s // 2 + 9 else s = s * 3 + 1 end
+for i = 1, 9 do s = (s + i * 35) % 65521 end
+names[#names + 1] = tostring(s % 72)
+if s % 2 == 0 then s = s // 2 + 1 else s = s * 3 + 1 end
+for i = 1, 19 do s = (s + i * 13) % 65521 end
+names[#names + 1] = tostring(s % 84)
+if s % 2 == 0 then s = s // 2 + 1 else s = s * 3 + 1 end
+for i = 1, 29 do s = (s + i * 11) % 65521 end
+names[#names + 1] = tostring(s % 29)
+if s % 2 == 0 then s = s // 2 + 3 else s = s * 3 + 1 end
+for i = 1, 20 do s = (s + i * 41) % 65521 end
+names[#names + 1] = tostring(s % 99)
+if s % 2 == 0 then s = s // 2 + 2 else s = s * 3 + 1 end
+for i = 1, 22 do s = (s + i * 5) % 65521 end
+names[#names + 1] = tostring(s % 48)
+if s % 2 == 0 then s = s // 2 + 9 else s = s * 3 + 1 end
+for i = 1, 21 do s = (s + i * 37) % 65521 end
+names[#names + 1] = tostring(s % 68)
+if s % 2 == 0 then s = s // 2 + 2 else s = s * 3 + 1 end
+for i = 1, 22 do s = (s + i * 5) % 65521 end
+names[#names + 1] = tostring(s % 38)
+if s % 2 == 0 then s = s // 2 + 4 else s = s * 3 + 1 end
+for i = 1, 13 do s = (s + i * 4) % 65521 end
+names[#names + 1] = tostring(s % 19)
+if s % 2 == 0 then s = s // 2 + 9 else s = s * 3 + 1 end
+for i = 1, 19 do s = (s + i * 37) % 65521 end
+names[#names + 1] = tostring(s % 10)
+if s % 2 == 0 then s = s // 2 + 2 else s = s * 3 + 1 end
+for i = 1, 19 do s = (s + i * 22) % 65521 end
+names[#names + 1] = tostring(s % 85)
+if s % 2 == 0 then s = s // 2 + 9 else s = s * 3 + 1 end
+for i = 1, 24 do s = (s + i * 34) % 65521 end
+names[#names + 1] = tostring(s % 32)
+if s % 2 == 0 then s = s // 2 + 5 else s = s * 3 + 1 end
+for i = 1, 19 do s = (s + i * 34) % 65521 end
+names[#names + 1] = tostring(s % 75)
+if s % 2 == 0 then s = s // 2 + 8 else s = s * 3 + 1 end
+for i = 1, 21 do s = (s + i * 17) % 65521 end
+names[#names + 1] = tostring(s % 96)
+if s % 2 == 0 then s = s // 2 + 9 else s = s * 3 + 1 end
+for i = 1, 13 do s = (s + i * 37) % 65521 end
+names[#names + 1] = tostring(s % 32)
+if s % 2 == 0 then s = s // 2 + 8 else s = s * 3 + 1 end
+for i = 1, 9 do s = (s + i * 28) % 65521 end
+names[#names + 1] = tostring(s % 22)
+if s % 2 == 0 then s = s // 2 + 7 else s = s * 3 + 1 end
+for i = 1, 19 do s = (s + i * 22) % 65521 end
+names[#names + 1] = tostring(s % 16)
+if s % 2 == 0 then s = s // 2 + 4 else s = s * 3 + 1 end
+for i = 1, 18 do s = (s + i * 6) % 65521 end
+names[#names + 1] = tostring(s % 34)
+if s % 2 == 0 then s = s // 2 + 5 else s = s * 3 + 1 end
+for i = 1, 30 do s = (s + i * 9) % 65521 end
+names[#names + 1] = tostring(s % 26)
+if s % 2 == 0 then s = s // 2 + 6 else s = s * 3 + 1 end
+for i = 1, 9 do s = (s + i * 18) % 65521 end
+names[#names + 1] = tostring(s % 24)
+if s % 2 == 0 then s = s // 2 + 8 else s = s * 3 + 1 end
+for i = 1, 12 do s = (s + i * 49) % 65521 end
+names[#names + 1] = tostring(s % 19)
+if s % 2 == 0 then s = s // 2 + 7 else s = s * 3 + 1 end
+for i = 1, 20 do s = (s + i * 12) % 65521 end
+names[#names + 1] = tostring(s % 92)
+if s % 2 == 0 then s = s // 2 + 4 else s = s * 3 + 1 end
+print(s, #names, names[1] .. names[#names])
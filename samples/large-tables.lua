@@ -0,0 +1,434 @@
+-- table constructors which are too large for a single JVM method
+
+data = {
+    0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 10, 11, 12, 13, 14, 15, 16, 17, 18, 19, 20, 21, 22, 23, 24, 25, 26, 27, 28, 29, 30, 31, 32, 33, 34, 35, 36, 37, 38, 39, 40, 41, 42, 43, 44, 45, 46, 47, 48, 49, 50, 51, 52, 53, 54, 55, 56, 57, 58, 59, 60, 61, 62, 63, 64, 65, 66, 67, 68, 69, 70, 71, 72, 73, 74, 75, 76, 77, 78, 79, 80, 81, 82, 83, 84, 85, 86, 87, 88, 89, 90, 91, 92, 93, 94, 95, 96, 97, 98, 99,
+    100, 101, 102, 103, 104, 105, 106, 107, 108, 109, 110, 111, 112, 113, 114, 115, 116, 117, 118, 119, 120, 121, 122, 123, 124, 125, 126, 127, 128, 129, 130, 131, 132, 133, 134, 135, 136, 137, 138, 139, 140, 141, 142, 143, 144, 145, 146, 147, 148, 149, 150, 151, 152, 153, 154, 155, 156, 157, 158, 159, 160, 161, 162, 163, 164, 165, 166, 167, 168, 169, 170, 171, 172, 173, 174, 175, 176, 177, 178, 179, 180, 181, 182, 183, 184, 185, 186, 187, 188, 189, 190, 191, 192, 193, 194, 195, 196, 197, 198, 199,
+    200, 201, 202, 203, 204, 205, 206, 207, 208, 209, 210, 211, 212, 213, 214, 215, 216, 217, 218, 219, 220, 221, 222, 223, 224, 225, 226, 227, 228, 229, 230, 231, 232, 233, 234, 235, 236, 237, 238, 239, 240, 241, 242, 243, 244, 245, 246, 247, 248, 249, 250, 251, 252, 253, 254, 255, 256, 257, 258, 259, 260, 261, 262, 263, 264, 265, 266, 267, 268, 269, 270, 271, 272, 273, 274, 275, 276, 277, 278, 279, 280, 281, 282, 283, 284, 285, 286, 287, 288, 289, 290, 291, 292, 293, 294, 295, 296, 297, 298, 299,
+    300, 301, 302, 303, 304, 305, 306, 307, 308, 309, 310, 311, 312, 313, 314, 315, 316, 317, 318, 319, 320, 321, 322, 323, 324, 325, 326, 327, 328, 329, 330, 331, 332, 333, 334, 335, 336, 337, 338, 339, 340, 341, 342, 343, 344, 345, 346, 347, 348, 349, 350, 351, 352, 353, 354, 355, 356, 357, 358, 359, 360, 361, 362, 363, 364, 365, 366, 367, 368, 369, 370, 371, 372, 373, 374, 375, 376, 377, 378, 379, 380, 381, 382, 383, 384, 385, 386, 387, 388, 389, 390, 391, 392, 393, 394, 395, 396, 397, 398, 399,
+    400, 401, 402, 403, 404, 405, 406, 407, 408, 409, 410, 411, 412, 413, 414, 415, 416, 417, 418, 419, 420, 421, 422, 423, 424, 425, 426, 427, 428, 429, 430, 431, 432, 433, 434, 435, 436, 437, 438, 439, 440, 441, 442, 443, 444, 445, 446, 447, 448, 449, 450, 451, 452, 453, 454, 455, 456, 457, 458, 459, 460, 461, 462, 463, 464, 465, 466, 467, 468, 469, 470, 471, 472, 473, 474, 475, 476, 477, 478, 479, 480, 481, 482, 483, 484, 485, 486, 487, 488, 489, 490, 491, 492, 493, 494, 495, 496, 497, 498, 499,
+    500, 501, 502, 503, 504, 505, 506, 507, 508, 509, 510, 511, 512, 513, 514, 515, 516, 517, 518, 519, 520, 521, 522, 523, 524, 525, 526, 527, 528, 529, 530, 531, 532, 533, 534, 535, 536, 537, 538, 539, 540, 541, 542, 543, 544, 545, 546, 547, 548, 549, 550, 551, 552, 553, 554, 555, 556, 557, 558, 559, 560, 561, 562, 563, 564, 565, 566, 567, 568, 569, 570, 571, 572, 573, 574, 575, 576, 577, 578, 579, 580, 581, 582, 583, 584, 585, 586, 587, 588, 589, 590, 591, 592, 593, 594, 595, 596, 597, 598, 599,
+    600, 601, 602, 603, 604, 605, 606, 607, 608, 609, 610, 611, 612, 613, 614, 615, 616, 617, 618, 619, 620, 621, 622, 623, 624, 625, 626, 627, 628, 629, 630, 631, 632, 633, 634, 635, 636, 637, 638, 639, 640, 641, 642, 643, 644, 645, 646, 647, 648, 649, 650, 651, 652, 653, 654, 655, 656, 657, 658, 659, 660, 661, 662, 663, 664, 665, 666, 667, 668, 669, 670, 671, 672, 673, 674, 675, 676, 677, 678, 679, 680, 681, 682, 683, 684, 685, 686, 687, 688, 689, 690, 691, 692, 693, 694, 695, 696, 697, 698, 699,
+    700, 701, 702, 703, 704, 705, 706, 707, 708, 709, 710, 711, 712, 713, 714, 715, 716, 717, 718, 719, 720, 721, 722, 723, 724, 725, 726, 727, 728, 729, 730, 731, 732, 733, 734, 735, 736, 737, 738, 739, 740, 741, 742, 743, 744, 745, 746, 747, 748, 749, 750, 751, 752, 753, 754, 755, 756, 757, 758, 759, 760, 761, 762, 763, 764, 765, 766, 767, 768, 769, 770, 771, 772, 773, 774, 775, 776, 777, 778, 779, 780, 781, 782, 783, 784, 785, 786, 787, 788, 789, 790, 791, 792, 793, 794, 795, 796, 797, 798, 799,
+    800, 801, 802, 803, 804, 805, 806, 807, 808, 809, 810, 811, 812, 813, 814, 815, 816, 817, 818, 819, 820, 821, 822, 823, 824, 825, 826, 827, 828, 829, 830, 831, 832, 833, 834, 835, 836, 837, 838, 839, 840, 841, 842, 843, 844, 845, 846, 847, 848, 849, 850, 851, 852, 853, 854, 855, 856, 857, 858, 859, 860, 861, 862, 863, 864, 865, 866, 867, 868, 869, 870, 871, 872, 873, 874, 875, 876, 877, 878, 879, 880, 881, 882, 883, 884, 885, 886, 887, 888, 889, 890, 891, 892, 893, 894, 895, 896, 897, 898, 899,
+    900, 901, 902, 903, 904, 905, 906, 907, 908, 909, 910, 911, 912, 913, 914, 915, 916, 917, 918, 919, 920, 921, 922, 923, 924, 925, 926, 927, 928, 929, 930, 931, 932, 933, 934, 935, 936, 937, 938, 939, 940, 941, 942, 943, 944, 945, 946, 947, 948, 949, 950, 951, 952, 953, 954, 955, 956, 957, 958, 959, 960, 961, 962, 963, 964, 965, 966, 967, 968, 969, 970, 971, 972, 973, 974, 975, 976, 977, 978, 979, 980, 981, 982, 983, 984, 985, 986, 987, 988, 989, 990, 991, 992, 993, 994, 995, 996, 997, 998, 999,
+    1000, 1001, 1002, 1003, 1004, 1005, 1006, 1007, 1008, 1009, 1010, 1011, 1012, 1013, 1014, 1015, 1016, 1017, 1018, 1019, 1020, 1021, 1022, 1023, 1024, 1025, 1026, 1027, 1028, 1029, 1030, 1031, 1032, 1033, 1034, 1035, 1036, 1037, 1038, 1039, 1040, 1041, 1042, 1043, 1044, 1045, 1046, 1047, 1048, 1049, 1050, 1051, 1052, 1053, 1054, 1055, 1056, 1057, 1058, 1059, 1060, 1061, 1062, 1063, 1064, 1065, 1066, 1067, 1068, 1069, 1070, 1071, 1072, 1073, 1074, 1075, 1076, 1077, 1078, 1079, 1080, 1081, 1082, 1083, 1084, 1085, 1086, 1087, 1088, 1089, 1090, 1091, 1092, 1093, 1094, 1095, 1096, 1097, 1098, 1099,
+    1100, 1101, 1102, 1103, 1104, 1105, 1106, 1107, 1108, 1109, 1110, 1111, 1112, 1113, 1114, 1115, 1116, 1117, 1118, 1119, 1120, 1121, 1122, 1123, 1124, 1125, 1126, 1127, 1128, 1129, 1130, 1131, 1132, 1133, 1134, 1135, 1136, 1137, 1138, 1139, 1140, 1141, 1142, 1143, 1144, 1145, 1146, 1147, 1148, 1149, 1150, 1151, 1152, 1153, 1154, 1155, 1156, 1157, 1158, 1159, 1160, 1161, 1162, 1163, 1164, 1165, 1166, 1167, 1168, 1169, 1170, 1171, 1172, 1173, 1174, 1175, 1176, 1177, 1178, 1179, 1180, 1181, 1182, 1183, 1184, 1185, 1186, 1187, 1188, 1189, 1190, 1191, 1192, 1193, 1194, 1195, 1196, 1197, 1198, 1199,
+    1200, 1201, 1202, 1203, 1204, 1205, 1206, 1207, 1208, 1209, 1210, 1211, 1212, 1213, 1214, 1215, 1216, 1217, 1218, 1219, 1220, 1221, 1222, 1223, 1224, 1225, 1226, 1227, 1228, 1229, 1230, 1231, 1232, 1233, 1234, 1235, 1236, 1237, 1238, 1239, 1240, 1241, 1242, 1243, 1244, 1245, 1246, 1247, 1248, 1249, 1250, 1251, 1252, 1253, 1254, 1255, 1256, 1257, 1258, 1259, 1260, 1261, 1262, 1263, 1264, 1265, 1266, 1267, 1268, 1269, 1270, 1271, 1272, 1273, 1274, 1275, 1276, 1277, 1278, 1279, 1280, 1281, 1282, 1283, 1284, 1285, 1286, 1287, 1288, 1289, 1290, 1291, 1292, 1293, 1294, 1295, 1296, 1297, 1298, 1299,
+    1300, 1301, 1302, 1303, 1304, 1305, 1306, 1307, 1308, 1309, 1310, 1311, 1312, 1313, 1314, 1315, 1316, 1317, 1318, 1319, 1320, 1321, 1322, 1323, 1324, 1325, 1326, 1327, 1328, 1329, 1330, 1331, 1332, 1333, 1334, 1335, 1336, 1337, 1338, 1339, 1340, 1341, 1342, 1343, 1344, 1345, 1346, 1347, 1348, 1349, 1350, 1351, 1352, 1353, 1354, 1355, 1356, 1357, 1358, 1359, 1360, 1361, 1362, 1363, 1364, 1365, 1366, 1367, 1368, 1369, 1370, 1371, 1372, 1373, 1374, 1375, 1376, 1377, 1378, 1379, 1380, 1381, 1382, 1383, 1384, 1385, 1386, 1387, 1388, 1389, 1390, 1391, 1392, 1393, 1394, 1395, 1396, 1397, 1398, 1399,
+    1400, 1401, 1402, 1403, 1404, 1405, 1406, 1407, 1408, 1409, 1410, 1411, 1412, 1413, 1414, 1415, 1416, 1417, 1418, 1419, 1420, 1421, 1422, 1423, 1424, 1425, 1426, 1427, 1428, 1429, 1430, 1431, 1432, 1433, 1434, 1435, 1436, 1437, 1438, 1439, 1440, 1441, 1442, 1443, 1444, 1445, 1446, 1447, 1448, 1449, 1450, 1451, 1452, 1453, 1454, 1455, 1456, 1457, 1458, 1459, 1460, 1461, 1462, 1463, 1464, 1465, 1466, 1467, 1468, 1469, 1470, 1471, 1472, 1473, 1474, 1475, 1476, 1477, 1478, 1479, 1480, 1481, 1482, 1483, 1484, 1485, 1486, 1487, 1488, 1489, 1490, 1491, 1492, 1493, 1494, 1495, 1496, 1497, 1498, 1499,
+    1500, 1501, 1502, 1503, 1504, 1505, 1506, 1507, 1508, 1509, 1510, 1511, 1512, 1513, 1514, 1515, 1516, 1517, 1518, 1519, 1520, 1521, 1522, 1523, 1524, 1525, 1526, 1527, 1528, 1529, 1530, 1531, 1532, 1533, 1534, 1535, 1536, 1537, 1538, 1539, 1540, 1541, 1542, 1543, 1544, 1545, 1546, 1547, 1548, 1549, 1550, 1551, 1552, 1553, 1554, 1555, 1556, 1557, 1558, 1559, 1560, 1561, 1562, 1563, 1564, 1565, 1566, 1567, 1568, 1569, 1570, 1571, 1572, 1573, 1574, 1575, 1576, 1577, 1578, 1579, 1580, 1581, 1582, 1583, 1584, 1585, 1586, 1587, 1588, 1589, 1590, 1591, 1592, 1593, 1594, 1595, 1596, 1597, 1598, 1599,
+    1600, 1601, 1602, 1603, 1604, 1605, 1606, 1607, 1608, 1609, 1610, 1611, 1612, 1613, 1614, 1615, 1616, 1617, 1618, 1619, 1620, 1621, 1622, 1623, 1624, 1625, 1626, 1627, 1628, 1629, 1630, 1631, 1632, 1633, 1634, 1635, 1636, 1637, 1638, 1639, 1640, 1641, 1642, 1643, 1644, 1645, 1646, 1647, 1648, 1649, 1650, 1651, 1652, 1653, 1654, 1655, 1656, 1657, 1658, 1659, 1660, 1661, 1662, 1663, 1664, 1665, 1666, 1667, 1668, 1669, 1670, 1671, 1672, 1673, 1674, 1675, 1676, 1677, 1678, 1679, 1680, 1681, 1682, 1683, 1684, 1685, 1686, 1687, 1688, 1689, 1690, 1691, 1692, 1693, 1694, 1695, 1696, 1697, 1698, 1699,
+    1700, 1701, 1702, 1703, 1704, 1705, 1706, 1707, 1708, 1709, 1710, 1711, 1712, 1713, 1714, 1715, 1716, 1717, 1718, 1719, 1720, 1721, 1722, 1723, 1724, 1725, 1726, 1727, 1728, 1729, 1730, 1731, 1732, 1733, 1734, 1735, 1736, 1737, 1738, 1739, 1740, 1741, 1742, 1743, 1744, 1745, 1746, 1747, 1748, 1749, 1750, 1751, 1752, 1753, 1754, 1755, 1756, 1757, 1758, 1759, 1760, 1761, 1762, 1763, 1764, 1765, 1766, 1767, 1768, 1769, 1770, 1771, 1772, 1773, 1774, 1775, 1776, 1777, 1778, 1779, 1780, 1781, 1782, 1783, 1784, 1785, 1786, 1787, 1788, 1789, 1790, 1791, 1792, 1793, 1794, 1795, 1796, 1797, 1798, 1799,
+    1800, 1801, 1802, 1803, 1804, 1805, 1806, 1807, 1808, 1809, 1810, 1811, 1812, 1813, 1814, 1815, 1816, 1817, 1818, 1819, 1820, 1821, 1822, 1823, 1824, 1825, 1826, 1827, 1828, 1829, 1830, 1831, 1832, 1833, 1834, 1835, 1836, 1837, 1838, 1839, 1840, 1841, 1842, 1843, 1844, 1845, 1846, 1847, 1848, 1849, 1850, 1851, 1852, 1853, 1854, 1855, 1856, 1857, 1858, 1859, 1860, 1861, 1862, 1863, 1864, 1865, 1866, 1867, 1868, 1869, 1870, 1871, 1872, 1873, 1874, 1875, 1876, 1877, 1878, 1879, 1880, 1881, 1882, 1883, 1884, 1885, 1886, 1887, 1888, 1889, 1890, 1891, 1892, 1893, 1894, 1895, 1896, 1897, 1898, 1899,
+    1900, 1901, 1902, 1903, 1904, 1905, 1906, 1907, 1908, 1909, 1910, 1911, 1912, 1913, 1914, 1915, 1916, 1917, 1918, 1919, 1920, 1921, 1922, 1923, 1924, 1925, 1926, 1927, 1928, 1929, 1930, 1931, 1932, 1933, 1934, 1935, 1936, 1937, 1938, 1939, 1940, 1941, 1942, 1943, 1944, 1945, 1946, 1947, 1948, 1949, 1950, 1951, 1952, 1953, 1954, 1955, 1956, 1957, 1958, 1959, 1960, 1961, 1962, 1963, 1964, 1965, 1966, 1967, 1968, 1969, 1970, 1971, 1972, 1973, 1974, 1975, 1976, 1977, 1978, 1979, 1980, 1981, 1982, 1983, 1984, 1985, 1986, 1987, 1988, 1989, 1990, 1991, 1992, 1993, 1994, 1995, 1996, 1997, 1998, 1999,
+    2000, 2001, 2002, 2003, 2004, 2005, 2006, 2007, 2008, 2009, 2010, 2011, 2012, 2013, 2014, 2015, 2016, 2017, 2018, 2019, 2020, 2021, 2022, 2023, 2024, 2025, 2026, 2027, 2028, 2029, 2030, 2031, 2032, 2033, 2034, 2035, 2036, 2037, 2038, 2039, 2040, 2041, 2042, 2043, 2044, 2045, 2046, 2047, 2048, 2049, 2050, 2051, 2052, 2053, 2054, 2055, 2056, 2057, 2058, 2059, 2060, 2061, 2062, 2063, 2064, 2065, 2066, 2067, 2068, 2069, 2070, 2071, 2072, 2073, 2074, 2075, 2076, 2077, 2078, 2079, 2080, 2081, 2082, 2083, 2084, 2085, 2086, 2087, 2088, 2089, 2090, 2091, 2092, 2093, 2094, 2095, 2096, 2097, 2098, 2099,
+    2100, 2101, 2102, 2103, 2104, 2105, 2106, 2107, 2108, 2109, 2110, 2111, 2112, 2113, 2114, 2115, 2116, 2117, 2118, 2119, 2120, 2121, 2122, 2123, 2124, 2125, 2126, 2127, 2128, 2129, 2130, 2131, 2132, 2133, 2134, 2135, 2136, 2137, 2138, 2139, 2140, 2141, 2142, 2143, 2144, 2145, 2146, 2147, 2148, 2149, 2150, 2151, 2152, 2153, 2154, 2155, 2156, 2157, 2158, 2159, 2160, 2161, 2162, 2163, 2164, 2165, 2166, 2167, 2168, 2169, 2170, 2171, 2172, 2173, 2174, 2175, 2176, 2177, 2178, 2179, 2180, 2181, 2182, 2183, 2184, 2185, 2186, 2187, 2188, 2189, 2190, 2191, 2192, 2193, 2194, 2195, 2196, 2197, 2198, 2199,
+    2200, 2201, 2202, 2203, 2204, 2205, 2206, 2207, 2208, 2209, 2210, 2211, 2212, 2213, 2214, 2215, 2216, 2217, 2218, 2219, 2220, 2221, 2222, 2223, 2224, 2225, 2226, 2227, 2228, 2229, 2230, 2231, 2232, 2233, 2234, 2235, 2236, 2237, 2238, 2239, 2240, 2241, 2242, 2243, 2244, 2245, 2246, 2247, 2248, 2249, 2250, 2251, 2252, 2253, 2254, 2255, 2256, 2257, 2258, 2259, 2260, 2261, 2262, 2263, 2264, 2265, 2266, 2267, 2268, 2269, 2270, 2271, 2272, 2273, 2274, 2275, 2276, 2277, 2278, 2279, 2280, 2281, 2282, 2283, 2284, 2285, 2286, 2287, 2288, 2289, 2290, 2291, 2292, 2293, 2294, 2295, 2296, 2297, 2298, 2299,
+    2300, 2301, 2302, 2303, 2304, 2305, 2306, 2307, 2308, 2309, 2310, 2311, 2312, 2313, 2314, 2315, 2316, 2317, 2318, 2319, 2320, 2321, 2322, 2323, 2324, 2325, 2326, 2327, 2328, 2329, 2330, 2331, 2332, 2333, 2334, 2335, 2336, 2337, 2338, 2339, 2340, 2341, 2342, 2343, 2344, 2345, 2346, 2347, 2348, 2349, 2350, 2351, 2352, 2353, 2354, 2355, 2356, 2357, 2358, 2359, 2360, 2361, 2362, 2363, 2364, 2365, 2366, 2367, 2368, 2369, 2370, 2371, 2372, 2373, 2374, 2375, 2376, 2377, 2378, 2379, 2380, 2381, 2382, 2383, 2384, 2385, 2386, 2387, 2388, 2389, 2390, 2391, 2392, 2393, 2394, 2395, 2396, 2397, 2398, 2399,
+    2400, 2401, 2402, 2403, 2404, 2405, 2406, 2407, 2408, 2409, 2410, 2411, 2412, 2413, 2414, 2415, 2416, 2417, 2418, 2419, 2420, 2421, 2422, 2423, 2424, 2425, 2426, 2427, 2428, 2429, 2430, 2431, 2432, 2433, 2434, 2435, 2436, 2437, 2438, 2439, 2440, 2441, 2442, 2443, 2444, 2445, 2446, 2447, 2448, 2449, 2450, 2451, 2452, 2453, 2454, 2455, 2456, 2457, 2458, 2459, 2460, 2461, 2462, 2463, 2464, 2465, 2466, 2467, 2468, 2469, 2470, 2471, 2472, 2473, 2474, 2475, 2476, 2477, 2478, 2479, 2480, 2481, 2482, 2483, 2484, 2485, 2486, 2487, 2488, 2489, 2490, 2491, 2492, 2493, 2494, 2495, 2496, 2497, 2498, 2499,
+    2500, 2501, 2502, 2503, 2504, 2505, 2506, 2507, 2508, 2509, 2510, 2511, 2512, 2513, 2514, 2515, 2516, 2517, 2518, 2519, 2520, 2521, 2522, 2523, 2524, 2525, 2526, 2527, 2528, 2529, 2530, 2531, 2532, 2533, 2534, 2535, 2536, 2537, 2538, 2539, 2540, 2541, 2542, 2543, 2544, 2545, 2546, 2547, 2548, 2549, 2550, 2551, 2552, 2553, 2554, 2555, 2556, 2557, 2558, 2559, 2560, 2561, 2562, 2563, 2564, 2565, 2566, 2567, 2568, 2569, 2570, 2571, 2572, 2573, 2574, 2575, 2576, 2577, 2578, 2579, 2580, 2581, 2582, 2583, 2584, 2585, 2586, 2587, 2588, 2589, 2590, 2591, 2592, 2593, 2594, 2595, 2596, 2597, 2598, 2599,
+    2600, 2601, 2602, 2603, 2604, 2605, 2606, 2607, 2608, 2609, 2610, 2611, 2612, 2613, 2614, 2615, 2616, 2617, 2618, 2619, 2620, 2621, 2622, 2623, 2624, 2625, 2626, 2627, 2628, 2629, 2630, 2631, 2632, 2633, 2634, 2635, 2636, 2637, 2638, 2639, 2640, 2641, 2642, 2643, 2644, 2645, 2646, 2647, 2648, 2649, 2650, 2651, 2652, 2653, 2654, 2655, 2656, 2657, 2658, 2659, 2660, 2661, 2662, 2663, 2664, 2665, 2666, 2667, 2668, 2669, 2670, 2671, 2672, 2673, 2674, 2675, 2676, 2677, 2678, 2679, 2680, 2681, 2682, 2683, 2684, 2685, 2686, 2687, 2688, 2689, 2690, 2691, 2692, 2693, 2694, 2695, 2696, 2697, 2698, 2699,
+    2700, 2701, 2702, 2703, 2704, 2705, 2706, 2707, 2708, 2709, 2710, 2711, 2712, 2713, 2714, 2715, 2716, 2717, 2718, 2719, 2720, 2721, 2722, 2723, 2724, 2725, 2726, 2727, 2728, 2729, 2730, 2731, 2732, 2733, 2734, 2735, 2736, 2737, 2738, 2739, 2740, 2741, 2742, 2743, 2744, 2745, 2746, 2747, 2748, 2749, 2750, 2751, 2752, 2753, 2754, 2755, 2756, 2757, 2758, 2759, 2760, 2761, 2762, 2763, 2764, 2765, 2766, 2767, 2768, 2769, 2770, 2771, 2772, 2773, 2774, 2775, 2776, 2777, 2778, 2779, 2780, 2781, 2782, 2783, 2784, 2785, 2786, 2787, 2788, 2789, 2790, 2791, 2792, 2793, 2794, 2795, 2796, 2797, 2798, 2799,
+    2800, 2801, 2802, 2803, 2804, 2805, 2806, 2807, 2808, 2809, 2810, 2811, 2812, 2813, 2814, 2815, 2816, 2817, 2818, 2819, 2820, 2821, 2822, 2823, 2824, 2825, 2826, 2827, 2828, 2829, 2830, 2831, 2832, 2833, 2834, 2835, 2836, 2837, 2838, 2839, 2840, 2841, 2842, 2843, 2844, 2845, 2846, 2847, 2848, 2849, 2850, 2851, 2852, 2853, 2854, 2855, 2856, 2857, 2858, 2859, 2860, 2861, 2862, 2863, 2864, 2865, 2866, 2867, 2868, 2869, 2870, 2871, 2872, 2873, 2874, 2875, 2876, 2877, 2878, 2879, 2880, 2881, 2882, 2883, 2884, 2885, 2886, 2887, 2888, 2889, 2890, 2891, 2892, 2893, 2894, 2895, 2896, 2897, 2898, 2899,
+    2900, 2901, 2902, 2903, 2904, 2905, 2906, 2907, 2908, 2909, 2910, 2911, 2912, 2913, 2914, 2915, 2916, 2917, 2918, 2919, 2920, 2921, 2922, 2923, 2924, 2925, 2926, 2927, 2928, 2929, 2930, 2931, 2932, 2933, 2934, 2935, 2936, 2937, 2938, 2939, 2940, 2941, 2942, 2943, 2944, 2945, 2946, 2947, 2948, 2949, 2950, 2951, 2952, 2953, 2954, 2955, 2956, 2957, 2958, 2959, 2960, 2961, 2962, 2963, 2964, 2965, 2966, 2967, 2968, 2969, 2970, 2971, 2972, 2973, 2974, 2975, 2976, 2977, 2978, 2979, 2980, 2981, 2982, 2983, 2984, 2985, 2986, 2987, 2988, 2989, 2990, 2991, 2992, 2993, 2994, 2995, 2996, 2997, 2998, 2999,
+    3000, 3001, 3002, 3003, 3004, 3005, 3006, 3007, 3008, 3009, 3010, 3011, 3012, 3013, 3014, 3015, 3016, 3017, 3018, 3019, 3020, 3021, 3022, 3023, 3024, 3025, 3026, 3027, 3028, 3029, 3030, 3031, 3032, 3033, 3034, 3035, 3036, 3037, 3038, 3039, 3040, 3041, 3042, 3043, 3044, 3045, 3046, 3047, 3048, 3049, 3050, 3051, 3052, 3053, 3054, 3055, 3056, 3057, 3058, 3059, 3060, 3061, 3062, 3063, 3064, 3065, 3066, 3067, 3068, 3069, 3070, 3071, 3072, 3073, 3074, 3075, 3076, 3077, 3078, 3079, 3080, 3081, 3082, 3083, 3084, 3085, 3086, 3087, 3088, 3089, 3090, 3091, 3092, 3093, 3094, 3095, 3096, 3097, 3098, 3099,
+    3100, 3101, 3102, 3103, 3104, 3105, 3106, 3107, 3108, 3109, 3110, 3111, 3112, 3113, 3114, 3115, 3116, 3117, 3118, 3119, 3120, 3121, 3122, 3123, 3124, 3125, 3126, 3127, 3128, 3129, 3130, 3131, 3132, 3133, 3134, 3135, 3136, 3137, 3138, 3139, 3140, 3141, 3142, 3143, 3144, 3145, 3146, 3147, 3148, 3149, 3150, 3151, 3152, 3153, 3154, 3155, 3156, 3157, 3158, 3159, 3160, 3161, 3162, 3163, 3164, 3165, 3166, 3167, 3168, 3169, 3170, 3171, 3172, 3173, 3174, 3175, 3176, 3177, 3178, 3179, 3180, 3181, 3182, 3183, 3184, 3185, 3186, 3187, 3188, 3189, 3190, 3191, 3192, 3193, 3194, 3195, 3196, 3197, 3198, 3199,
+    3200, 3201, 3202, 3203, 3204, 3205, 3206, 3207, 3208, 3209, 3210, 3211, 3212, 3213, 3214, 3215, 3216, 3217, 3218, 3219, 3220, 3221, 3222, 3223, 3224, 3225, 3226, 3227, 3228, 3229, 3230, 3231, 3232, 3233, 3234, 3235, 3236, 3237, 3238, 3239, 3240, 3241, 3242, 3243, 3244, 3245, 3246, 3247, 3248, 3249, 3250, 3251, 3252, 3253, 3254, 3255, 3256, 3257, 3258, 3259, 3260, 3261, 3262, 3263, 3264, 3265, 3266, 3267, 3268, 3269, 3270, 3271, 3272, 3273, 3274, 3275, 3276, 3277, 3278, 3279, 3280, 3281, 3282, 3283, 3284, 3285, 3286, 3287, 3288, 3289, 3290, 3291, 3292, 3293, 3294, 3295, 3296, 3297, 3298, 3299,
+    3300, 3301, 3302, 3303, 3304, 3305, 3306, 3307, 3308, 3309, 3310, 3311, 3312, 3313, 3314, 3315, 3316, 3317, 3318, 3319, 3320, 3321, 3322, 3323, 3324, 3325, 3326, 3327, 3328, 3329, 3330, 3331, 3332, 3333, 3334, 3335, 3336, 3337, 3338, 3339, 3340, 3341, 3342, 3343, 3344, 3345, 3346, 3347, 3348, 3349, 3350, 3351, 3352, 3353, 3354, 3355, 3356, 3357, 3358, 3359, 3360, 3361, 3362, 3363, 3364, 3365, 3366, 3367, 3368, 3369, 3370, 3371, 3372, 3373, 3374, 3375, 3376, 3377, 3378, 3379, 3380, 3381, 3382, 3383, 3384, 3385, 3386, 3387, 3388, 3389, 3390, 3391, 3392, 3393, 3394, 3395, 3396, 3397, 3398, 3399,
+    3400, 3401, 3402, 3403, 3404, 3405, 3406, 3407, 3408, 3409, 3410, 3411, 3412, 3413, 3414, 3415, 3416, 3417, 3418, 3419, 3420, 3421, 3422, 3423, 3424, 3425, 3426, 3427, 3428, 3429, 3430, 3431, 3432, 3433, 3434, 3435, 3436, 3437, 3438, 3439, 3440, 3441, 3442, 3443, 3444, 3445, 3446, 3447, 3448, 3449, 3450, 3451, 3452, 3453, 3454, 3455, 3456, 3457, 3458, 3459, 3460, 3461, 3462, 3463, 3464, 3465, 3466, 3467, 3468, 3469, 3470, 3471, 3472, 3473, 3474, 3475, 3476, 3477, 3478, 3479, 3480, 3481, 3482, 3483, 3484, 3485, 3486, 3487, 3488, 3489, 3490, 3491, 3492, 3493, 3494, 3495, 3496, 3497, 3498, 3499,
+    3500, 3501, 3502, 3503, 3504, 3505, 3506, 3507, 3508, 3509, 3510, 3511, 3512, 3513, 3514, 3515, 3516, 3517, 3518, 3519, 3520, 3521, 3522, 3523, 3524, 3525, 3526, 3527, 3528, 3529, 3530, 3531, 3532, 3533, 3534, 3535, 3536, 3537, 3538, 3539, 3540, 3541, 3542, 3543, 3544, 3545, 3546, 3547, 3548, 3549, 3550, 3551, 3552, 3553, 3554, 3555, 3556, 3557, 3558, 3559, 3560, 3561, 3562, 3563, 3564, 3565, 3566, 3567, 3568, 3569, 3570, 3571, 3572, 3573, 3574, 3575, 3576, 3577, 3578, 3579, 3580, 3581, 3582, 3583, 3584, 3585, 3586, 3587, 3588, 3589, 3590, 3591, 3592, 3593, 3594, 3595, 3596, 3597, 3598, 3599,
+    3600, 3601, 3602, 3603, 3604, 3605, 3606, 3607, 3608, 3609, 3610, 3611, 3612, 3613, 3614, 3615, 3616, 3617, 3618, 3619, 3620, 3621, 3622, 3623, 3624, 3625, 3626, 3627, 3628, 3629, 3630, 3631, 3632, 3633, 3634, 3635, 3636, 3637, 3638, 3639, 3640, 3641, 3642, 3643, 3644, 3645, 3646, 3647, 3648, 3649, 3650, 3651, 3652, 3653, 3654, 3655, 3656, 3657, 3658, 3659, 3660, 3661, 3662, 3663, 3664, 3665, 3666, 3667, 3668, 3669, 3670, 3671, 3672, 3673, 3674, 3675, 3676, 3677, 3678, 3679, 3680, 3681, 3682, 3683, 3684, 3685, 3686, 3687, 3688, 3689, 3690, 3691, 3692, 3693, 3694, 3695, 3696, 3697, 3698, 3699,
+    3700, 3701, 3702, 3703, 3704, 3705, 3706, 3707, 3708, 3709, 3710, 3711, 3712, 3713, 3714, 3715, 3716, 3717, 3718, 3719, 3720, 3721, 3722, 3723, 3724, 3725, 3726, 3727, 3728, 3729, 3730, 3731, 3732, 3733, 3734, 3735, 3736, 3737, 3738, 3739, 3740, 3741, 3742, 3743, 3744, 3745, 3746, 3747, 3748, 3749, 3750, 3751, 3752, 3753, 3754, 3755, 3756, 3757, 3758, 3759, 3760, 3761, 3762, 3763, 3764, 3765, 3766, 3767, 3768, 3769, 3770, 3771, 3772, 3773, 3774, 3775, 3776, 3777, 3778, 3779, 3780, 3781, 3782, 3783, 3784, 3785, 3786, 3787, 3788, 3789, 3790, 3791, 3792, 3793, 3794, 3795, 3796, 3797, 3798, 3799,
+    3800, 3801, 3802, 3803, 3804, 3805, 3806, 3807, 3808, 3809, 3810, 3811, 3812, 3813, 3814, 3815, 3816, 3817, 3818, 3819, 3820, 3821, 3822, 3823, 3824, 3825, 3826, 3827, 3828, 3829, 3830, 3831, 3832, 3833, 3834, 3835, 3836, 3837, 3838, 3839, 3840, 3841, 3842, 3843, 3844, 3845, 3846, 3847, 3848, 3849, 3850, 3851, 3852, 3853, 3854, 3855, 3856, 3857, 3858, 3859, 3860, 3861, 3862, 3863, 3864, 3865, 3866, 3867, 3868, 3869, 3870, 3871, 3872, 3873, 3874, 3875, 3876, 3877, 3878, 3879, 3880, 3881, 3882, 3883, 3884, 3885, 3886, 3887, 3888, 3889, 3890, 3891, 3892, 3893, 3894, 3895, 3896, 3897, 3898, 3899,
+    3900, 3901, 3902, 3903, 3904, 3905, 3906, 3907, 3908, 3909, 3910, 3911, 3912, 3913, 3914, 3915, 3916, 3917, 3918, 3919, 3920, 3921, 3922, 3923, 3924, 3925, 3926, 3927, 3928, 3929, 3930, 3931, 3932, 3933, 3934, 3935, 3936, 3937, 3938, 3939, 3940, 3941, 3942, 3943, 3944, 3945, 3946, 3947, 3948, 3949, 3950, 3951, 3952, 3953, 3954, 3955, 3956, 3957, 3958, 3959, 3960, 3961, 3962, 3963, 3964, 3965, 3966, 3967, 3968, 3969, 3970, 3971, 3972, 3973, 3974, 3975, 3976, 3977, 3978, 3979, 3980, 3981, 3982, 3983, 3984, 3985, 3986, 3987, 3988, 3989, 3990, 3991, 3992, 3993, 3994, 3995, 3996, 3997, 3998, 3999,
+    4000, 4001, 4002, 4003, 4004, 4005, 4006, 4007, 4008, 4009, 4010, 4011, 4012, 4013, 4014, 4015, 4016, 4017, 4018, 4019, 4020, 4021, 4022, 4023, 4024, 4025, 4026, 4027, 4028, 4029, 4030, 4031, 4032, 4033, 4034, 4035, 4036, 4037, 4038, 4039, 4040, 4041, 4042, 4043, 4044, 4045, 4046, 4047, 4048, 4049, 4050, 4051, 4052, 4053, 4054, 4055, 4056, 4057, 4058, 4059, 4060, 4061, 4062, 4063, 4064, 4065, 4066, 4067, 4068, 4069, 4070, 4071, 4072, 4073, 4074, 4075, 4076, 4077, 4078, 4079, 4080, 4081, 4082, 4083, 4084, 4085, 4086, 4087, 4088, 4089, 4090, 4091, 4092, 4093, 4094, 4095, 4096, 4097, 4098, 4099,
+    4100, 4101, 4102, 4103, 4104, 4105, 4106, 4107, 4108, 4109, 4110, 4111, 4112, 4113, 4114, 4115, 4116, 4117, 4118, 4119, 4120, 4121, 4122, 4123, 4124, 4125, 4126, 4127, 4128, 4129, 4130, 4131, 4132, 4133, 4134, 4135, 4136, 4137, 4138, 4139, 4140, 4141, 4142, 4143, 4144, 4145, 4146, 4147, 4148, 4149, 4150, 4151, 4152, 4153, 4154, 4155, 4156, 4157, 4158, 4159, 4160, 4161, 4162, 4163, 4164, 4165, 4166, 4167, 4168, 4169, 4170, 4171, 4172, 4173, 4174, 4175, 4176, 4177, 4178, 4179, 4180, 4181, 4182, 4183, 4184, 4185, 4186, 4187, 4188, 4189, 4190, 4191, 4192, 4193, 4194, 4195, 4196, 4197, 4198, 4199,
+    4200, 4201, 4202, 4203, 4204, 4205, 4206, 4207, 4208, 4209, 4210, 4211, 4212, 4213, 4214, 4215, 4216, 4217, 4218, 4219, 4220, 4221, 4222, 4223, 4224, 4225, 4226, 4227, 4228, 4229, 4230, 4231, 4232, 4233, 4234, 4235, 4236, 4237, 4238, 4239, 4240, 4241, 4242, 4243, 4244, 4245, 4246, 4247, 4248, 4249, 4250, 4251, 4252, 4253, 4254, 4255, 4256, 4257, 4258, 4259, 4260, 4261, 4262, 4263, 4264, 4265, 4266, 4267, 4268, 4269, 4270, 4271, 4272, 4273, 4274, 4275, 4276, 4277, 4278, 4279, 4280, 4281, 4282, 4283, 4284, 4285, 4286, 4287, 4288, 4289, 4290, 4291, 4292, 4293, 4294, 4295, 4296, 4297, 4298, 4299,
+    4300, 4301, 4302, 4303, 4304, 4305, 4306, 4307, 4308, 4309, 4310, 4311, 4312, 4313, 4314, 4315, 4316, 4317, 4318, 4319, 4320, 4321, 4322, 4323, 4324, 4325, 4326, 4327, 4328, 4329, 4330, 4331, 4332, 4333, 4334, 4335, 4336, 4337, 4338, 4339, 4340, 4341, 4342, 4343, 4344, 4345, 4346, 4347, 4348, 4349, 4350, 4351, 4352, 4353, 4354, 4355, 4356, 4357, 4358, 4359, 4360, 4361, 4362, 4363, 4364, 4365, 4366, 4367, 4368, 4369, 4370, 4371, 4372, 4373, 4374, 4375, 4376, 4377, 4378, 4379, 4380, 4381, 4382, 4383, 4384, 4385, 4386, 4387, 4388, 4389, 4390, 4391, 4392, 4393, 4394, 4395, 4396, 4397, 4398, 4399,
+    4400, 4401, 4402, 4403, 4404, 4405, 4406, 4407, 4408, 4409, 4410, 4411, 4412, 4413, 4414, 4415, 4416, 4417, 4418, 4419, 4420, 4421, 4422, 4423, 4424, 4425, 4426, 4427, 4428, 4429, 4430, 4431, 4432, 4433, 4434, 4435, 4436, 4437, 4438, 4439, 4440, 4441, 4442, 4443, 4444, 4445, 4446, 4447, 4448, 4449, 4450, 4451, 4452, 4453, 4454, 4455, 4456, 4457, 4458, 4459, 4460, 4461, 4462, 4463, 4464, 4465, 4466, 4467, 4468, 4469, 4470, 4471, 4472, 4473, 4474, 4475, 4476, 4477, 4478, 4479, 4480, 4481, 4482, 4483, 4484, 4485, 4486, 4487, 4488, 4489, 4490, 4491, 4492, 4493, 4494, 4495, 4496, 4497, 4498, 4499,
+    4500, 4501, 4502, 4503, 4504, 4505, 4506, 4507, 4508, 4509, 4510, 4511, 4512, 4513, 4514, 4515, 4516, 4517, 4518, 4519, 4520, 4521, 4522, 4523, 4524, 4525, 4526, 4527, 4528, 4529, 4530, 4531, 4532, 4533, 4534, 4535, 4536, 4537, 4538, 4539, 4540, 4541, 4542, 4543, 4544, 4545, 4546, 4547, 4548, 4549, 4550, 4551, 4552, 4553, 4554, 4555, 4556, 4557, 4558, 4559, 4560, 4561, 4562, 4563, 4564, 4565, 4566, 4567, 4568, 4569, 4570, 4571, 4572, 4573, 4574, 4575, 4576, 4577, 4578, 4579, 4580, 4581, 4582, 4583, 4584, 4585, 4586, 4587, 4588, 4589, 4590, 4591, 4592, 4593, 4594, 4595, 4596, 4597, 4598, 4599,
+    4600, 4601, 4602, 4603, 4604, 4605, 4606, 4607, 4608, 4609, 4610, 4611, 4612, 4613, 4614, 4615, 4616, 4617, 4618, 4619, 4620, 4621, 4622, 4623, 4624, 4625, 4626, 4627, 4628, 4629, 4630, 4631, 4632, 4633, 4634, 4635, 4636, 4637, 4638, 4639, 4640, 4641, 4642, 4643, 4644, 4645, 4646, 4647, 4648, 4649, 4650, 4651, 4652, 4653, 4654, 4655, 4656, 4657, 4658, 4659, 4660, 4661, 4662, 4663, 4664, 4665, 4666, 4667, 4668, 4669, 4670, 4671, 4672, 4673, 4674, 4675, 4676, 4677, 4678, 4679, 4680, 4681, 4682, 4683, 4684, 4685, 4686, 4687, 4688, 4689, 4690, 4691, 4692, 4693, 4694, 4695, 4696, 4697, 4698, 4699,
+    4700, 4701, 4702, 4703, 4704, 4705, 4706, 4707, 4708, 4709, 4710, 4711, 4712, 4713, 4714, 4715, 4716, 4717, 4718, 4719, 4720, 4721, 4722, 4723, 4724, 4725, 4726, 4727, 4728, 4729, 4730, 4731, 4732, 4733, 4734, 4735, 4736, 4737, 4738, 4739, 4740, 4741, 4742, 4743, 4744, 4745, 4746, 4747, 4748, 4749, 4750, 4751, 4752, 4753, 4754, 4755, 4756, 4757, 4758, 4759, 4760, 4761, 4762, 4763, 4764, 4765, 4766, 4767, 4768, 4769, 4770, 4771, 4772, 4773, 4774, 4775, 4776, 4777, 4778, 4779, 4780, 4781, 4782, 4783, 4784, 4785, 4786, 4787, 4788, 4789, 4790, 4791, 4792, 4793, 4794, 4795, 4796, 4797, 4798, 4799,
+    4800, 4801, 4802, 4803, 4804, 4805, 4806, 4807, 4808, 4809, 4810, 4811, 4812, 4813, 4814, 4815, 4816, 4817, 4818, 4819, 4820, 4821, 4822, 4823, 4824, 4825, 4826, 4827, 4828, 4829, 4830, 4831, 4832, 4833, 4834, 4835, 4836, 4837, 4838, 4839, 4840, 4841, 4842, 4843, 4844, 4845, 4846, 4847, 4848, 4849, 4850, 4851, 4852, 4853, 4854, 4855, 4856, 4857, 4858, 4859, 4860, 4861, 4862, 4863, 4864, 4865, 4866, 4867, 4868, 4869, 4870, 4871, 4872, 4873, 4874, 4875, 4876, 4877, 4878, 4879, 4880, 4881, 4882, 4883, 4884, 4885, 4886, 4887, 4888, 4889, 4890, 4891, 4892, 4893, 4894, 4895, 4896, 4897, 4898, 4899,
+    4900, 4901, 4902, 4903, 4904, 4905, 4906, 4907, 4908, 4909, 4910, 4911, 4912, 4913, 4914, 4915, 4916, 4917, 4918, 4919, 4920, 4921, 4922, 4923, 4924, 4925, 4926, 4927, 4928, 4929, 4930, 4931, 4932, 4933, 4934, 4935, 4936, 4937, 4938, 4939, 4940, 4941, 4942, 4943, 4944, 4945, 4946, 4947, 4948, 4949, 4950, 4951, 4952, 4953, 4954, 4955, 4956, 4957, 4958, 4959, 4960, 4961, 4962, 4963, 4964, 4965, 4966, 4967, 4968, 4969, 4970, 4971, 4972, 4973, 4974, 4975, 4976, 4977, 4978, 4979, 4980, 4981, 4982, 4983, 4984, 4985, 4986, 4987, 4988, 4989, 4990, 4991, 4992, 4993, 4994, 4995, 4996, 4997, 4998, 4999,
+    5000, 5001, 5002, 5003, 5004, 5005, 5006, 5007, 5008, 5009, 5010, 5011, 5012, 5013, 5014, 5015, 5016, 5017, 5018, 5019, 5020, 5021, 5022, 5023, 5024, 5025, 5026, 5027, 5028, 5029, 5030, 5031, 5032, 5033, 5034, 5035, 5036, 5037, 5038, 5039, 5040, 5041, 5042, 5043, 5044, 5045, 5046, 5047, 5048, 5049, 5050, 5051, 5052, 5053, 5054, 5055, 5056, 5057, 5058, 5059, 5060, 5061, 5062, 5063, 5064, 5065, 5066, 5067, 5068, 5069, 5070, 5071, 5072, 5073, 5074, 5075, 5076, 5077, 5078, 5079, 5080, 5081, 5082, 5083, 5084, 5085, 5086, 5087, 5088, 5089, 5090, 5091, 5092, 5093, 5094, 5095, 5096, 5097, 5098, 5099,
+    5100, 5101, 5102, 5103, 5104, 5105, 5106, 5107, 5108, 5109, 5110, 5111, 5112, 5113, 5114, 5115, 5116, 5117, 5118, 5119, 5120, 5121, 5122, 5123, 5124, 5125, 5126, 5127, 5128, 5129, 5130, 5131, 5132, 5133, 5134, 5135, 5136, 5137, 5138, 5139, 5140, 5141, 5142, 5143, 5144, 5145, 5146, 5147, 5148, 5149, 5150, 5151, 5152, 5153, 5154, 5155, 5156, 5157, 5158, 5159, 5160, 5161, 5162, 5163, 5164, 5165, 5166, 5167, 5168, 5169, 5170, 5171, 5172, 5173, 5174, 5175, 5176, 5177, 5178, 5179, 5180, 5181, 5182, 5183, 5184, 5185, 5186, 5187, 5188, 5189, 5190, 5191, 5192, 5193, 5194, 5195, 5196, 5197, 5198, 5199,
+    5200, 5201, 5202, 5203, 5204, 5205, 5206, 5207, 5208, 5209, 5210, 5211, 5212, 5213, 5214, 5215, 5216, 5217, 5218, 5219, 5220, 5221, 5222, 5223, 5224, 5225, 5226, 5227, 5228, 5229, 5230, 5231, 5232, 5233, 5234, 5235, 5236, 5237, 5238, 5239, 5240, 5241, 5242, 5243, 5244, 5245, 5246, 5247, 5248, 5249, 5250, 5251, 5252, 5253, 5254, 5255, 5256, 5257, 5258, 5259, 5260, 5261, 5262, 5263, 5264, 5265, 5266, 5267, 5268, 5269, 5270, 5271, 5272, 5273, 5274, 5275, 5276, 5277, 5278, 5279, 5280, 5281, 5282, 5283, 5284, 5285, 5286, 5287, 5288, 5289, 5290, 5291, 5292, 5293, 5294, 5295, 5296, 5297, 5298, 5299,
+    5300, 5301, 5302, 5303, 5304, 5305, 5306, 5307, 5308, 5309, 5310, 5311, 5312, 5313, 5314, 5315, 5316, 5317, 5318, 5319, 5320, 5321, 5322, 5323, 5324, 5325, 5326, 5327, 5328, 5329, 5330, 5331, 5332, 5333, 5334, 5335, 5336, 5337, 5338, 5339, 5340, 5341, 5342, 5343, 5344, 5345, 5346, 5347, 5348, 5349, 5350, 5351, 5352, 5353, 5354, 5355, 5356, 5357, 5358, 5359, 5360, 5361, 5362, 5363, 5364, 5365, 5366, 5367, 5368, 5369, 5370, 5371, 5372, 5373, 5374, 5375, 5376, 5377, 5378, 5379, 5380, 5381, 5382, 5383, 5384, 5385, 5386, 5387, 5388, 5389, 5390, 5391, 5392, 5393, 5394, 5395, 5396, 5397, 5398, 5399,
+    5400, 5401, 5402, 5403, 5404, 5405, 5406, 5407, 5408, 5409, 5410, 5411, 5412, 5413, 5414, 5415, 5416, 5417, 5418, 5419, 5420, 5421, 5422, 5423, 5424, 5425, 5426, 5427, 5428, 5429, 5430, 5431, 5432, 5433, 5434, 5435, 5436, 5437, 5438, 5439, 5440, 5441, 5442, 5443, 5444, 5445, 5446, 5447, 5448, 5449, 5450, 5451, 5452, 5453, 5454, 5455, 5456, 5457, 5458, 5459, 5460, 5461, 5462, 5463, 5464, 5465, 5466, 5467, 5468, 5469, 5470, 5471, 5472, 5473, 5474, 5475, 5476, 5477, 5478, 5479, 5480, 5481, 5482, 5483, 5484, 5485, 5486, 5487, 5488, 5489, 5490, 5491, 5492, 5493, 5494, 5495, 5496, 5497, 5498, 5499,
+    5500, 5501, 5502, 5503, 5504, 5505, 5506, 5507, 5508, 5509, 5510, 5511, 5512, 5513, 5514, 5515, 5516, 5517, 5518, 5519, 5520, 5521, 5522, 5523, 5524, 5525, 5526, 5527, 5528, 5529, 5530, 5531, 5532, 5533, 5534, 5535, 5536, 5537, 5538, 5539, 5540, 5541, 5542, 5543, 5544, 5545, 5546, 5547, 5548, 5549, 5550, 5551, 5552, 5553, 5554, 5555, 5556, 5557, 5558, 5559, 5560, 5561, 5562, 5563, 5564, 5565, 5566, 5567, 5568, 5569, 5570, 5571, 5572, 5573, 5574, 5575, 5576, 5577, 5578, 5579, 5580, 5581, 5582, 5583, 5584, 5585, 5586, 5587, 5588, 5589, 5590, 5591, 5592, 5593, 5594, 5595, 5596, 5597, 5598, 5599,
+    5600, 5601, 5602, 5603, 5604, 5605, 5606, 5607, 5608, 5609, 5610, 5611, 5612, 5613, 5614, 5615, 5616, 5617, 5618, 5619, 5620, 5621, 5622, 5623, 5624, 5625, 5626, 5627, 5628, 5629, 5630, 5631, 5632, 5633, 5634, 5635, 5636, 5637, 5638, 5639, 5640, 5641, 5642, 5643, 5644, 5645, 5646, 5647, 5648, 5649, 5650, 5651, 5652, 5653, 5654, 5655, 5656, 5657, 5658, 5659, 5660, 5661, 5662, 5663, 5664, 5665, 5666, 5667, 5668, 5669, 5670, 5671, 5672, 5673, 5674, 5675, 5676, 5677, 5678, 5679, 5680, 5681, 5682, 5683, 5684, 5685, 5686, 5687, 5688, 5689, 5690, 5691, 5692, 5693, 5694, 5695, 5696, 5697, 5698, 5699,
+    5700, 5701, 5702, 5703, 5704, 5705, 5706, 5707, 5708, 5709, 5710, 5711, 5712, 5713, 5714, 5715, 5716, 5717, 5718, 5719, 5720, 5721, 5722, 5723, 5724, 5725, 5726, 5727, 5728, 5729, 5730, 5731, 5732, 5733, 5734, 5735, 5736, 5737, 5738, 5739, 5740, 5741, 5742, 5743, 5744, 5745, 5746, 5747, 5748, 5749, 5750, 5751, 5752, 5753, 5754, 5755, 5756, 5757, 5758, 5759, 5760, 5761, 5762, 5763, 5764, 5765, 5766, 5767, 5768, 5769, 5770, 5771, 5772, 5773, 5774, 5775, 5776, 5777, 5778, 5779, 5780, 5781, 5782, 5783, 5784, 5785, 5786, 5787, 5788, 5789, 5790, 5791, 5792, 5793, 5794, 5795, 5796, 5797, 5798, 5799,
+    5800, 5801, 5802, 5803, 5804, 5805, 5806, 5807, 5808, 5809, 5810, 5811, 5812, 5813, 5814, 5815, 5816, 5817, 5818, 5819, 5820, 5821, 5822, 5823, 5824, 5825, 5826, 5827, 5828, 5829, 5830, 5831, 5832, 5833, 5834, 5835, 5836, 5837, 5838, 5839, 5840, 5841, 5842, 5843, 5844, 5845, 5846, 5847, 5848, 5849, 5850, 5851, 5852, 5853, 5854, 5855, 5856, 5857, 5858, 5859, 5860, 5861, 5862, 5863, 5864, 5865, 5866, 5867, 5868, 5869, 5870, 5871, 5872, 5873, 5874, 5875, 5876, 5877, 5878, 5879, 5880, 5881, 5882, 5883, 5884, 5885, 5886, 5887, 5888, 5889, 5890, 5891, 5892, 5893, 5894, 5895, 5896, 5897, 5898, 5899,
+    5900, 5901, 5902, 5903, 5904, 5905, 5906, 5907, 5908, 5909, 5910, 5911, 5912, 5913, 5914, 5915, 5916, 5917, 5918, 5919, 5920, 5921, 5922, 5923, 5924, 5925, 5926, 5927, 5928, 5929, 5930, 5931, 5932, 5933, 5934, 5935, 5936, 5937, 5938, 5939, 5940, 5941, 5942, 5943, 5944, 5945, 5946, 5947, 5948, 5949, 5950, 5951, 5952, 5953, 5954, 5955, 5956, 5957, 5958, 5959, 5960, 5961, 5962, 5963, 5964, 5965, 5966, 5967, 5968, 5969, 5970, 5971, 5972, 5973, 5974, 5975, 5976, 5977, 5978, 5979, 5980, 5981, 5982, 5983, 5984, 5985, 5986, 5987, 5988, 5989, 5990, 5991, 5992, 5993, 5994, 5995, 5996, 5997, 5998, 5999,
+    6000, 6001, 6002, 6003, 6004, 6005, 6006, 6007, 6008, 6009, 6010, 6011, 6012, 6013, 6014, 6015, 6016, 6017, 6018, 6019, 6020, 6021, 6022, 6023, 6024, 6025, 6026, 6027, 6028, 6029, 6030, 6031, 6032, 6033, 6034, 6035, 6036, 6037, 6038, 6039, 6040, 6041, 6042, 6043, 6044, 6045, 6046, 6047, 6048, 6049, 6050, 6051, 6052, 6053, 6054, 6055, 6056, 6057, 6058, 6059, 6060, 6061, 6062, 6063, 6064, 6065, 6066, 6067, 6068, 6069, 6070, 6071, 6072, 6073, 6074, 6075, 6076, 6077, 6078, 6079, 6080, 6081, 6082, 6083, 6084, 6085, 6086, 6087, 6088, 6089, 6090, 6091, 6092, 6093, 6094, 6095, 6096, 6097, 6098, 6099,
+    6100, 6101, 6102, 6103, 6104, 6105, 6106, 6107, 6108, 6109, 6110, 6111, 6112, 6113, 6114, 6115, 6116, 6117, 6118, 6119, 6120, 6121, 6122, 6123, 6124, 6125, 6126, 6127, 6128, 6129, 6130, 6131, 6132, 6133, 6134, 6135, 6136, 6137, 6138, 6139, 6140, 6141, 6142, 6143, 6144, 6145, 6146, 6147, 6148, 6149, 6150, 6151, 6152, 6153, 6154, 6155, 6156, 6157, 6158, 6159, 6160, 6161, 6162, 6163, 6164, 6165, 6166, 6167, 6168, 6169, 6170, 6171, 6172, 6173, 6174, 6175, 6176, 6177, 6178, 6179, 6180, 6181, 6182, 6183, 6184, 6185, 6186, 6187, 6188, 6189, 6190, 6191, 6192, 6193, 6194, 6195, 6196, 6197, 6198, 6199,
+    6200, 6201, 6202, 6203, 6204, 6205, 6206, 6207, 6208, 6209, 6210, 6211, 6212, 6213, 6214, 6215, 6216, 6217, 6218, 6219, 6220, 6221, 6222, 6223, 6224, 6225, 6226, 6227, 6228, 6229, 6230, 6231, 6232, 6233, 6234, 6235, 6236, 6237, 6238, 6239, 6240, 6241, 6242, 6243, 6244, 6245, 6246, 6247, 6248, 6249, 6250, 6251, 6252, 6253, 6254, 6255, 6256, 6257, 6258, 6259, 6260, 6261, 6262, 6263, 6264, 6265, 6266, 6267, 6268, 6269, 6270, 6271, 6272, 6273, 6274, 6275, 6276, 6277, 6278, 6279, 6280, 6281, 6282, 6283, 6284, 6285, 6286, 6287, 6288, 6289, 6290, 6291, 6292, 6293, 6294, 6295, 6296, 6297, 6298, 6299,
+    6300, 6301, 6302, 6303, 6304, 6305, 6306, 6307, 6308, 6309, 6310, 6311, 6312, 6313, 6314, 6315, 6316, 6317, 6318, 6319, 6320, 6321, 6322, 6323, 6324, 6325, 6326, 6327, 6328, 6329, 6330, 6331, 6332, 6333, 6334, 6335, 6336, 6337, 6338, 6339, 6340, 6341, 6342, 6343, 6344, 6345, 6346, 6347, 6348, 6349, 6350, 6351, 6352, 6353, 6354, 6355, 6356, 6357, 6358, 6359, 6360, 6361, 6362, 6363, 6364, 6365, 6366, 6367, 6368, 6369, 6370, 6371, 6372, 6373, 6374, 6375, 6376, 6377, 6378, 6379, 6380, 6381, 6382, 6383, 6384, 6385, 6386, 6387, 6388, 6389, 6390, 6391, 6392, 6393, 6394, 6395, 6396, 6397, 6398, 6399,
+    6400, 6401, 6402, 6403, 6404, 6405, 6406, 6407, 6408, 6409, 6410, 6411, 6412, 6413, 6414, 6415, 6416, 6417, 6418, 6419, 6420, 6421, 6422, 6423, 6424, 6425, 6426, 6427, 6428, 6429, 6430, 6431, 6432, 6433, 6434, 6435, 6436, 6437, 6438, 6439, 6440, 6441, 6442, 6443, 6444, 6445, 6446, 6447, 6448, 6449, 6450, 6451, 6452, 6453, 6454, 6455, 6456, 6457, 6458, 6459, 6460, 6461, 6462, 6463, 6464, 6465, 6466, 6467, 6468, 6469, 6470, 6471, 6472, 6473, 6474, 6475, 6476, 6477, 6478, 6479, 6480, 6481, 6482, 6483, 6484, 6485, 6486, 6487, 6488, 6489, 6490, 6491, 6492, 6493, 6494, 6495, 6496, 6497, 6498, 6499,
+    6500, 6501, 6502, 6503, 6504, 6505, 6506, 6507, 6508, 6509, 6510, 6511, 6512, 6513, 6514, 6515, 6516, 6517, 6518, 6519, 6520, 6521, 6522, 6523, 6524, 6525, 6526, 6527, 6528, 6529, 6530, 6531, 6532, 6533, 6534, 6535, 6536, 6537, 6538, 6539, 6540, 6541, 6542, 6543, 6544, 6545, 6546, 6547, 6548, 6549, 6550, 6551, 6552, 6553, 6554, 6555, 6556, 6557, 6558, 6559, 6560, 6561, 6562, 6563, 6564, 6565, 6566, 6567, 6568, 6569, 6570, 6571, 6572, 6573, 6574, 6575, 6576, 6577, 6578, 6579, 6580, 6581, 6582, 6583, 6584, 6585, 6586, 6587, 6588, 6589, 6590, 6591, 6592, 6593, 6594, 6595, 6596, 6597, 6598, 6599,
+    6600, 6601, 6602, 6603, 6604, 6605, 6606, 6607, 6608, 6609, 6610, 6611, 6612, 6613, 6614, 6615, 6616, 6617, 6618, 6619, 6620, 6621, 6622, 6623, 6624, 6625, 6626, 6627, 6628, 6629, 6630, 6631, 6632, 6633, 6634, 6635, 6636, 6637, 6638, 6639, 6640, 6641, 6642, 6643, 6644, 6645, 6646, 6647, 6648, 6649, 6650, 6651, 6652, 6653, 6654, 6655, 6656, 6657, 6658, 6659, 6660, 6661, 6662, 6663, 6664, 6665, 6666, 6667, 6668, 6669, 6670, 6671, 6672, 6673, 6674, 6675, 6676, 6677, 6678, 6679, 6680, 6681, 6682, 6683, 6684, 6685, 6686, 6687, 6688, 6689, 6690, 6691, 6692, 6693, 6694, 6695, 6696, 6697, 6698, 6699,
+    6700, 6701, 6702, 6703, 6704, 6705, 6706, 6707, 6708, 6709, 6710, 6711, 6712, 6713, 6714, 6715, 6716, 6717, 6718, 6719, 6720, 6721, 6722, 6723, 6724, 6725, 6726, 6727, 6728, 6729, 6730, 6731, 6732, 6733, 6734, 6735, 6736, 6737, 6738, 6739, 6740, 6741, 6742, 6743, 6744, 6745, 6746, 6747, 6748, 6749, 6750, 6751, 6752, 6753, 6754, 6755, 6756, 6757, 6758, 6759, 6760, 6761, 6762, 6763, 6764, 6765, 6766, 6767, 6768, 6769, 6770, 6771, 6772, 6773, 6774, 6775, 6776, 6777, 6778, 6779, 6780, 6781, 6782, 6783, 6784, 6785, 6786, 6787, 6788, 6789, 6790, 6791, 6792, 6793, 6794, 6795, 6796, 6797, 6798, 6799,
+    6800, 6801, 6802, 6803, 6804, 6805, 6806, 6807, 6808, 6809, 6810, 6811, 6812, 6813, 6814, 6815, 6816, 6817, 6818, 6819, 6820, 6821, 6822, 6823, 6824, 6825, 6826, 6827, 6828, 6829, 6830, 6831, 6832, 6833, 6834, 6835, 6836, 6837, 6838, 6839, 6840, 6841, 6842, 6843, 6844, 6845, 6846, 6847, 6848, 6849, 6850, 6851, 6852, 6853, 6854, 6855, 6856, 6857, 6858, 6859, 6860, 6861, 6862, 6863, 6864, 6865, 6866, 6867, 6868, 6869, 6870, 6871, 6872, 6873, 6874, 6875, 6876, 6877, 6878, 6879, 6880, 6881, 6882, 6883, 6884, 6885, 6886, 6887, 6888, 6889, 6890, 6891, 6892, 6893, 6894, 6895, 6896, 6897, 6898, 6899,
+    6900, 6901, 6902, 6903, 6904, 6905, 6906, 6907, 6908, 6909, 6910, 6911, 6912, 6913, 6914, 6915, 6916, 6917, 6918, 6919, 6920, 6921, 6922, 6923, 6924, 6925, 6926, 6927, 6928, 6929, 6930, 6931, 6932, 6933, 6934, 6935, 6936, 6937, 6938, 6939, 6940, 6941, 6942, 6943, 6944, 6945, 6946, 6947, 6948, 6949, 6950, 6951, 6952, 6953, 6954, 6955, 6956, 6957, 6958, 6959, 6960, 6961, 6962, 6963, 6964, 6965, 6966, 6967, 6968, 6969, 6970, 6971, 6972, 6973, 6974, 6975, 6976, 6977, 6978, 6979, 6980, 6981, 6982, 6983, 6984, 6985, 6986, 6987, 6988, 6989, 6990, 6991, 6992, 6993, 6994, 6995, 6996, 6997, 6998, 6999,
+    7000, 7001, 7002, 7003, 7004, 7005, 7006, 7007, 7008, 7009, 7010, 7011, 7012, 7013, 7014, 7015, 7016, 7017, 7018, 7019, 7020, 7021, 7022, 7023, 7024, 7025, 7026, 7027, 7028, 7029, 7030, 7031, 7032, 7033, 7034, 7035, 7036, 7037, 7038, 7039, 7040, 7041, 7042, 7043, 7044, 7045, 7046, 7047, 7048, 7049, 7050, 7051, 7052, 7053, 7054, 7055, 7056, 7057, 7058, 7059, 7060, 7061, 7062, 7063, 7064, 7065, 7066, 7067, 7068, 7069, 7070, 7071, 7072, 7073, 7074, 7075, 7076, 7077, 7078, 7079, 7080, 7081, 7082, 7083, 7084, 7085, 7086, 7087, 7088, 7089, 7090, 7091, 7092, 7093, 7094, 7095, 7096, 7097, 7098, 7099,
+    7100, 7101, 7102, 7103, 7104, 7105, 7106, 7107, 7108, 7109, 7110, 7111, 7112, 7113, 7114, 7115, 7116, 7117, 7118, 7119, 7120, 7121, 7122, 7123, 7124, 7125, 7126, 7127, 7128, 7129, 7130, 7131, 7132, 7133, 7134, 7135, 7136, 7137, 7138, 7139, 7140, 7141, 7142, 7143, 7144, 7145, 7146, 7147, 7148, 7149, 7150, 7151, 7152, 7153, 7154, 7155, 7156, 7157, 7158, 7159, 7160, 7161, 7162, 7163, 7164, 7165, 7166, 7167, 7168, 7169, 7170, 7171, 7172, 7173, 7174, 7175, 7176, 7177, 7178, 7179, 7180, 7181, 7182, 7183, 7184, 7185, 7186, 7187, 7188, 7189, 7190, 7191, 7192, 7193, 7194, 7195, 7196, 7197, 7198, 7199,
+    7200, 7201, 7202, 7203, 7204, 7205, 7206, 7207, 7208, 7209, 7210, 7211, 7212, 7213, 7214, 7215, 7216, 7217, 7218, 7219, 7220, 7221, 7222, 7223, 7224, 7225, 7226, 7227, 7228, 7229, 7230, 7231, 7232, 7233, 7234, 7235, 7236, 7237, 7238, 7239, 7240, 7241, 7242, 7243, 7244, 7245, 7246, 7247, 7248, 7249, 7250, 7251, 7252, 7253, 7254, 7255, 7256, 7257, 7258, 7259, 7260, 7261, 7262, 7263, 7264, 7265, 7266, 7267, 7268, 7269, 7270, 7271, 7272, 7273, 7274, 7275, 7276, 7277, 7278, 7279, 7280, 7281, 7282, 7283, 7284, 7285, 7286, 7287, 7288, 7289, 7290, 7291, 7292, 7293, 7294, 7295, 7296, 7297, 7298, 7299,
+    7300, 7301, 7302, 7303, 7304, 7305, 7306, 7307, 7308, 7309, 7310, 7311, 7312, 7313, 7314, 7315, 7316, 7317, 7318, 7319, 7320, 7321, 7322, 7323, 7324, 7325, 7326, 7327, 7328, 7329, 7330, 7331, 7332, 7333, 7334, 7335, 7336, 7337, 7338, 7339, 7340, 7341, 7342, 7343, 7344, 7345, 7346, 7347, 7348, 7349, 7350, 7351, 7352, 7353, 7354, 7355, 7356, 7357, 7358, 7359, 7360, 7361, 7362, 7363, 7364, 7365, 7366, 7367, 7368, 7369, 7370, 7371, 7372, 7373, 7374, 7375, 7376, 7377, 7378, 7379, 7380, 7381, 7382, 7383, 7384, 7385, 7386, 7387, 7388, 7389, 7390, 7391, 7392, 7393, 7394, 7395, 7396, 7397, 7398, 7399,
+    7400, 7401, 7402, 7403, 7404, 7405, 7406, 7407, 7408, 7409, 7410, 7411, 7412, 7413, 7414, 7415, 7416, 7417, 7418, 7419, 7420, 7421, 7422, 7423, 7424, 7425, 7426, 7427, 7428, 7429, 7430, 7431, 7432, 7433, 7434, 7435, 7436, 7437, 7438, 7439, 7440, 7441, 7442, 7443, 7444, 7445, 7446, 7447, 7448, 7449, 7450, 7451, 7452, 7453, 7454, 7455, 7456, 7457, 7458, 7459, 7460, 7461, 7462, 7463, 7464, 7465, 7466, 7467, 7468, 7469, 7470, 7471, 7472, 7473, 7474, 7475, 7476, 7477, 7478, 7479, 7480, 7481, 7482, 7483, 7484, 7485, 7486, 7487, 7488, 7489, 7490, 7491, 7492, 7493, 7494, 7495, 7496, 7497, 7498, 7499,
+    7500, 7501, 7502, 7503, 7504, 7505, 7506, 7507, 7508, 7509, 7510, 7511, 7512, 7513, 7514, 7515, 7516, 7517, 7518, 7519, 7520, 7521, 7522, 7523, 7524, 7525, 7526, 7527, 7528, 7529, 7530, 7531, 7532, 7533, 7534, 7535, 7536, 7537, 7538, 7539, 7540, 7541, 7542, 7543, 7544, 7545, 7546, 7547, 7548, 7549, 7550, 7551, 7552, 7553, 7554, 7555, 7556, 7557, 7558, 7559, 7560, 7561, 7562, 7563, 7564, 7565, 7566, 7567, 7568, 7569, 7570, 7571, 7572, 7573, 7574, 7575, 7576, 7577, 7578, 7579, 7580, 7581, 7582, 7583, 7584, 7585, 7586, 7587, 7588, 7589, 7590, 7591, 7592, 7593, 7594, 7595, 7596, 7597, 7598, 7599,
+    7600, 7601, 7602, 7603, 7604, 7605, 7606, 7607, 7608, 7609, 7610, 7611, 7612, 7613, 7614, 7615, 7616, 7617, 7618, 7619, 7620, 7621, 7622, 7623, 7624, 7625, 7626, 7627, 7628, 7629, 7630, 7631, 7632, 7633, 7634, 7635, 7636, 7637, 7638, 7639, 7640, 7641, 7642, 7643, 7644, 7645, 7646, 7647, 7648, 7649, 7650, 7651, 7652, 7653, 7654, 7655, 7656, 7657, 7658, 7659, 7660, 7661, 7662, 7663, 7664, 7665, 7666, 7667, 7668, 7669, 7670, 7671, 7672, 7673, 7674, 7675, 7676, 7677, 7678, 7679, 7680, 7681, 7682, 7683, 7684, 7685, 7686, 7687, 7688, 7689, 7690, 7691, 7692, 7693, 7694, 7695, 7696, 7697, 7698, 7699,
+    7700, 7701, 7702, 7703, 7704, 7705, 7706, 7707, 7708, 7709, 7710, 7711, 7712, 7713, 7714, 7715, 7716, 7717, 7718, 7719, 7720, 7721, 7722, 7723, 7724, 7725, 7726, 7727, 7728, 7729, 7730, 7731, 7732, 7733, 7734, 7735, 7736, 7737, 7738, 7739, 7740, 7741, 7742, 7743, 7744, 7745, 7746, 7747, 7748, 7749, 7750, 7751, 7752, 7753, 7754, 7755, 7756, 7757, 7758, 7759, 7760, 7761, 7762, 7763, 7764, 7765, 7766, 7767, 7768, 7769, 7770, 7771, 7772, 7773, 7774, 7775, 7776, 7777, 7778, 7779, 7780, 7781, 7782, 7783, 7784, 7785, 7786, 7787, 7788, 7789, 7790, 7791, 7792, 7793, 7794, 7795, 7796, 7797, 7798, 7799,
+    7800, 7801, 7802, 7803, 7804, 7805, 7806, 7807, 7808, 7809, 7810, 7811, 7812, 7813, 7814, 7815, 7816, 7817, 7818, 7819, 7820, 7821, 7822, 7823, 7824, 7825, 7826, 7827, 7828, 7829, 7830, 7831, 7832, 7833, 7834, 7835, 7836, 7837, 7838, 7839, 7840, 7841, 7842, 7843, 7844, 7845, 7846, 7847, 7848, 7849, 7850, 7851, 7852, 7853, 7854, 7855, 7856, 7857, 7858, 7859, 7860, 7861, 7862, 7863, 7864, 7865, 7866, 7867, 7868, 7869, 7870, 7871, 7872, 7873, 7874, 7875, 7876, 7877, 7878, 7879, 7880, 7881, 7882, 7883, 7884, 7885, 7886, 7887, 7888, 7889, 7890, 7891, 7892, 7893, 7894, 7895, 7896, 7897, 7898, 7899,
+    7900, 7901, 7902, 7903, 7904, 7905, 7906, 7907, 7908, 7909, 7910, 7911, 7912, 7913, 7914, 7915, 7916, 7917, 7918, 7919, 7920, 7921, 7922, 7923, 7924, 7925, 7926, 7927, 7928, 7929, 7930, 7931, 7932, 7933, 7934, 7935, 7936, 7937, 7938, 7939, 7940, 7941, 7942, 7943, 7944, 7945, 7946, 7947, 7948, 7949, 7950, 7951, 7952, 7953, 7954, 7955, 7956, 7957, 7958, 7959, 7960, 7961, 7962, 7963, 7964, 7965, 7966, 7967, 7968, 7969, 7970, 7971, 7972, 7973, 7974, 7975, 7976, 7977, 7978, 7979, 7980, 7981, 7982, 7983, 7984, 7985, 7986, 7987, 7988, 7989, 7990, 7991, 7992, 7993, 7994, 7995, 7996, 7997, 7998, 7999,
+    8000, 8001, 8002, 8003, 8004, 8005, 8006, 8007, 8008, 8009, 8010, 8011, 8012, 8013, 8014, 8015, 8016, 8017, 8018, 8019, 8020, 8021, 8022, 8023, 8024, 8025, 8026, 8027, 8028, 8029, 8030, 8031, 8032, 8033, 8034, 8035, 8036, 8037, 8038, 8039, 8040, 8041, 8042, 8043, 8044, 8045, 8046, 8047, 8048, 8049, 8050, 8051, 8052, 8053, 8054, 8055, 8056, 8057, 8058, 8059, 8060, 8061, 8062, 8063, 8064, 8065, 8066, 8067, 8068, 8069, 8070, 8071, 8072, 8073, 8074, 8075, 8076, 8077, 8078, 8079, 8080, 8081, 8082, 8083, 8084, 8085, 8086, 8087, 8088, 8089, 8090, 8091, 8092, 8093, 8094, 8095, 8096, 8097, 8098, 8099,
+    8100, 8101, 8102, 8103, 8104, 8105, 8106, 8107, 8108, 8109, 8110, 8111, 8112, 8113, 8114, 8115, 8116, 8117, 8118, 8119, 8120, 8121, 8122, 8123, 8124, 8125, 8126, 8127, 8128, 8129, 8130, 8131, 8132, 8133, 8134, 8135, 8136, 8137, 8138, 8139, 8140, 8141, 8142, 8143, 8144, 8145, 8146, 8147, 8148, 8149, 8150, 8151, 8152, 8153, 8154, 8155, 8156, 8157, 8158, 8159, 8160, 8161, 8162, 8163, 8164, 8165, 8166, 8167, 8168, 8169, 8170, 8171, 8172, 8173, 8174, 8175, 8176, 8177, 8178, 8179, 8180, 8181, 8182, 8183, 8184, 8185, 8186, 8187, 8188, 8189, 8190, 8191, 8192, 8193, 8194, 8195, 8196, 8197, 8198, 8199,
+    8200, 8201, 8202, 8203, 8204, 8205, 8206, 8207, 8208, 8209, 8210, 8211, 8212, 8213, 8214, 8215, 8216, 8217, 8218, 8219, 8220, 8221, 8222, 8223, 8224, 8225, 8226, 8227, 8228, 8229, 8230, 8231, 8232, 8233, 8234, 8235, 8236, 8237, 8238, 8239, 8240, 8241, 8242, 8243, 8244, 8245, 8246, 8247, 8248, 8249, 8250, 8251, 8252, 8253, 8254, 8255, 8256, 8257, 8258, 8259, 8260, 8261, 8262, 8263, 8264, 8265, 8266, 8267, 8268, 8269, 8270, 8271, 8272, 8273, 8274, 8275, 8276, 8277, 8278, 8279, 8280, 8281, 8282, 8283, 8284, 8285, 8286, 8287, 8288, 8289, 8290, 8291, 8292, 8293, 8294, 8295, 8296, 8297, 8298, 8299,
+    8300, 8301, 8302, 8303, 8304, 8305, 8306, 8307, 8308, 8309, 8310, 8311, 8312, 8313, 8314, 8315, 8316, 8317, 8318, 8319, 8320, 8321, 8322, 8323, 8324, 8325, 8326, 8327, 8328, 8329, 8330, 8331, 8332, 8333, 8334, 8335, 8336, 8337, 8338, 8339, 8340, 8341, 8342, 8343, 8344, 8345, 8346, 8347, 8348, 8349, 8350, 8351, 8352, 8353, 8354, 8355, 8356, 8357, 8358, 8359, 8360, 8361, 8362, 8363, 8364, 8365, 8366, 8367, 8368, 8369, 8370, 8371, 8372, 8373, 8374, 8375, 8376, 8377, 8378, 8379, 8380, 8381, 8382, 8383, 8384, 8385, 8386, 8387, 8388, 8389, 8390, 8391, 8392, 8393, 8394, 8395, 8396, 8397, 8398, 8399,
+    8400, 8401, 8402, 8403, 8404, 8405, 8406, 8407, 8408, 8409, 8410, 8411, 8412, 8413, 8414, 8415, 8416, 8417, 8418, 8419, 8420, 8421, 8422, 8423, 8424, 8425, 8426, 8427, 8428, 8429, 8430, 8431, 8432, 8433, 8434, 8435, 8436, 8437, 8438, 8439, 8440, 8441, 8442, 8443, 8444, 8445, 8446, 8447, 8448, 8449, 8450, 8451, 8452, 8453, 8454, 8455, 8456, 8457, 8458, 8459, 8460, 8461, 8462, 8463, 8464, 8465, 8466, 8467, 8468, 8469, 8470, 8471, 8472, 8473, 8474, 8475, 8476, 8477, 8478, 8479, 8480, 8481, 8482, 8483, 8484, 8485, 8486, 8487, 8488, 8489, 8490, 8491, 8492, 8493, 8494, 8495, 8496, 8497, 8498, 8499,
+    8500, 8501, 8502, 8503, 8504, 8505, 8506, 8507, 8508, 8509, 8510, 8511, 8512, 8513, 8514, 8515, 8516, 8517, 8518, 8519, 8520, 8521, 8522, 8523, 8524, 8525, 8526, 8527, 8528, 8529, 8530, 8531, 8532, 8533, 8534, 8535, 8536, 8537, 8538, 8539, 8540, 8541, 8542, 8543, 8544, 8545, 8546, 8547, 8548, 8549, 8550, 8551, 8552, 8553, 8554, 8555, 8556, 8557, 8558, 8559, 8560, 8561, 8562, 8563, 8564, 8565, 8566, 8567, 8568, 8569, 8570, 8571, 8572, 8573, 8574, 8575, 8576, 8577, 8578, 8579, 8580, 8581, 8582, 8583, 8584, 8585, 8586, 8587, 8588, 8589, 8590, 8591, 8592, 8593, 8594, 8595, 8596, 8597, 8598, 8599,
+    8600, 8601, 8602, 8603, 8604, 8605, 8606, 8607, 8608, 8609, 8610, 8611, 8612, 8613, 8614, 8615, 8616, 8617, 8618, 8619, 8620, 8621, 8622, 8623, 8624, 8625, 8626, 8627, 8628, 8629, 8630, 8631, 8632, 8633, 8634, 8635, 8636, 8637, 8638, 8639, 8640, 8641, 8642, 8643, 8644, 8645, 8646, 8647, 8648, 8649, 8650, 8651, 8652, 8653, 8654, 8655, 8656, 8657, 8658, 8659, 8660, 8661, 8662, 8663, 8664, 8665, 8666, 8667, 8668, 8669, 8670, 8671, 8672, 8673, 8674, 8675, 8676, 8677, 8678, 8679, 8680, 8681, 8682, 8683, 8684, 8685, 8686, 8687, 8688, 8689, 8690, 8691, 8692, 8693, 8694, 8695, 8696, 8697, 8698, 8699,
+    8700, 8701, 8702, 8703, 8704, 8705, 8706, 8707, 8708, 8709, 8710, 8711, 8712, 8713, 8714, 8715, 8716, 8717, 8718, 8719, 8720, 8721, 8722, 8723, 8724, 8725, 8726, 8727, 8728, 8729, 8730, 8731, 8732, 8733, 8734, 8735, 8736, 8737, 8738, 8739, 8740, 8741, 8742, 8743, 8744, 8745, 8746, 8747, 8748, 8749, 8750, 8751, 8752, 8753, 8754, 8755, 8756, 8757, 8758, 8759, 8760, 8761, 8762, 8763, 8764, 8765, 8766, 8767, 8768, 8769, 8770, 8771, 8772, 8773, 8774, 8775, 8776, 8777, 8778, 8779, 8780, 8781, 8782, 8783, 8784, 8785, 8786, 8787, 8788, 8789, 8790, 8791, 8792, 8793, 8794, 8795, 8796, 8797, 8798, 8799,
+    8800, 8801, 8802, 8803, 8804, 8805, 8806, 8807, 8808, 8809, 8810, 8811, 8812, 8813, 8814, 8815, 8816, 8817, 8818, 8819, 8820, 8821, 8822, 8823, 8824, 8825, 8826, 8827, 8828, 8829, 8830, 8831, 8832, 8833, 8834, 8835, 8836, 8837, 8838, 8839, 8840, 8841, 8842, 8843, 8844, 8845, 8846, 8847, 8848, 8849, 8850, 8851, 8852, 8853, 8854, 8855, 8856, 8857, 8858, 8859, 8860, 8861, 8862, 8863, 8864, 8865, 8866, 8867, 8868, 8869, 8870, 8871, 8872, 8873, 8874, 8875, 8876, 8877, 8878, 8879, 8880, 8881, 8882, 8883, 8884, 8885, 8886, 8887, 8888, 8889, 8890, 8891, 8892, 8893, 8894, 8895, 8896, 8897, 8898, 8899,
+    8900, 8901, 8902, 8903, 8904, 8905, 8906, 8907, 8908, 8909, 8910, 8911, 8912, 8913, 8914, 8915, 8916, 8917, 8918, 8919, 8920, 8921, 8922, 8923, 8924, 8925, 8926, 8927, 8928, 8929, 8930, 8931, 8932, 8933, 8934, 8935, 8936, 8937, 8938, 8939, 8940, 8941, 8942, 8943, 8944, 8945, 8946, 8947, 8948, 8949, 8950, 8951, 8952, 8953, 8954, 8955, 8956, 8957, 8958, 8959, 8960, 8961, 8962, 8963, 8964, 8965, 8966, 8967, 8968, 8969, 8970, 8971, 8972, 8973, 8974, 8975, 8976, 8977, 8978, 8979, 8980, 8981, 8982, 8983, 8984, 8985, 8986, 8987, 8988, 8989, 8990, 8991, 8992, 8993, 8994, 8995, 8996, 8997, 8998, 8999,
+    9000, 9001, 9002, 9003, 9004, 9005, 9006, 9007, 9008, 9009, 9010, 9011, 9012, 9013, 9014, 9015, 9016, 9017, 9018, 9019, 9020, 9021, 9022, 9023, 9024, 9025, 9026, 9027, 9028, 9029, 9030, 9031, 9032, 9033, 9034, 9035, 9036, 9037, 9038, 9039, 9040, 9041, 9042, 9043, 9044, 9045, 9046, 9047, 9048, 9049, 9050, 9051, 9052, 9053, 9054, 9055, 9056, 9057, 9058, 9059, 9060, 9061, 9062, 9063, 9064, 9065, 9066, 9067, 9068, 9069, 9070, 9071, 9072, 9073, 9074, 9075, 9076, 9077, 9078, 9079, 9080, 9081, 9082, 9083, 9084, 9085, 9086, 9087, 9088, 9089, 9090, 9091, 9092, 9093, 9094, 9095, 9096, 9097, 9098, 9099,
+    9100, 9101, 9102, 9103, 9104, 9105, 9106, 9107, 9108, 9109, 9110, 9111, 9112, 9113, 9114, 9115, 9116, 9117, 9118, 9119, 9120, 9121, 9122, 9123, 9124, 9125, 9126, 9127, 9128, 9129, 9130, 9131, 9132, 9133, 9134, 9135, 9136, 9137, 9138, 9139, 9140, 9141, 9142, 9143, 9144, 9145, 9146, 9147, 9148, 9149, 9150, 9151, 9152, 9153, 9154, 9155, 9156, 9157, 9158, 9159, 9160, 9161, 9162, 9163, 9164, 9165, 9166, 9167, 9168, 9169, 9170, 9171, 9172, 9173, 9174, 9175, 9176, 9177, 9178, 9179, 9180, 9181, 9182, 9183, 9184, 9185, 9186, 9187, 9188, 9189, 9190, 9191, 9192, 9193, 9194, 9195, 9196, 9197, 9198, 9199,
+    9200, 9201, 9202, 9203, 9204, 9205, 9206, 9207, 9208, 9209, 9210, 9211, 9212, 9213, 9214, 9215, 9216, 9217, 9218, 9219, 9220, 9221, 9222, 9223, 9224, 9225, 9226, 9227, 9228, 9229, 9230, 9231, 9232, 9233, 9234, 9235, 9236, 9237, 9238, 9239, 9240, 9241, 9242, 9243, 9244, 9245, 9246, 9247, 9248, 9249, 9250, 9251, 9252, 9253, 9254, 9255, 9256, 9257, 9258, 9259, 9260, 9261, 9262, 9263, 9264, 9265, 9266, 9267, 9268, 9269, 9270, 9271, 9272, 9273, 9274, 9275, 9276, 9277, 9278, 9279, 9280, 9281, 9282, 9283, 9284, 9285, 9286, 9287, 9288, 9289, 9290, 9291, 9292, 9293, 9294, 9295, 9296, 9297, 9298, 9299,
+    9300, 9301, 9302, 9303, 9304, 9305, 9306, 9307, 9308, 9309, 9310, 9311, 9312, 9313, 9314, 9315, 9316, 9317, 9318, 9319, 9320, 9321, 9322, 9323, 9324, 9325, 9326, 9327, 9328, 9329, 9330, 9331, 9332, 9333, 9334, 9335, 9336, 9337, 9338, 9339, 9340, 9341, 9342, 9343, 9344, 9345, 9346, 9347, 9348, 9349, 9350, 9351, 9352, 9353, 9354, 9355, 9356, 9357, 9358, 9359, 9360, 9361, 9362, 9363, 9364, 9365, 9366, 9367, 9368, 9369, 9370, 9371, 9372, 9373, 9374, 9375, 9376, 9377, 9378, 9379, 9380, 9381, 9382, 9383, 9384, 9385, 9386, 9387, 9388, 9389, 9390, 9391, 9392, 9393, 9394, 9395, 9396, 9397, 9398, 9399,
+    9400, 9401, 9402, 9403, 9404, 9405, 9406, 9407, 9408, 9409, 9410, 9411, 9412, 9413, 9414, 9415, 9416, 9417, 9418, 9419, 9420, 9421, 9422, 9423, 9424, 9425, 9426, 9427, 9428, 9429, 9430, 9431, 9432, 9433, 9434, 9435, 9436, 9437, 9438, 9439, 9440, 9441, 9442, 9443, 9444, 9445, 9446, 9447, 9448, 9449, 9450, 9451, 9452, 9453, 9454, 9455, 9456, 9457, 9458, 9459, 9460, 9461, 9462, 9463, 9464, 9465, 9466, 9467, 9468, 9469, 9470, 9471, 9472, 9473, 9474, 9475, 9476, 9477, 9478, 9479, 9480, 9481, 9482, 9483, 9484, 9485, 9486, 9487, 9488, 9489, 9490, 9491, 9492, 9493, 9494, 9495, 9496, 9497, 9498, 9499,
+    9500, 9501, 9502, 9503, 9504, 9505, 9506, 9507, 9508, 9509, 9510, 9511, 9512, 9513, 9514, 9515, 9516, 9517, 9518, 9519, 9520, 9521, 9522, 9523, 9524, 9525, 9526, 9527, 9528, 9529, 9530, 9531, 9532, 9533, 9534, 9535, 9536, 9537, 9538, 9539, 9540, 9541, 9542, 9543, 9544, 9545, 9546, 9547, 9548, 9549, 9550, 9551, 9552, 9553, 9554, 9555, 9556, 9557, 9558, 9559, 9560, 9561, 9562, 9563, 9564, 9565, 9566, 9567, 9568, 9569, 9570, 9571, 9572, 9573, 9574, 9575, 9576, 9577, 9578, 9579, 9580, 9581, 9582, 9583, 9584, 9585, 9586, 9587, 9588, 9589, 9590, 9591, 9592, 9593, 9594, 9595, 9596, 9597, 9598, 9599,
+    9600, 9601, 9602, 9603, 9604, 9605, 9606, 9607, 9608, 9609, 9610, 9611, 9612, 9613, 9614, 9615, 9616, 9617, 9618, 9619, 9620, 9621, 9622, 9623, 9624, 9625, 9626, 9627, 9628, 9629, 9630, 9631, 9632, 9633, 9634, 9635, 9636, 9637, 9638, 9639, 9640, 9641, 9642, 9643, 9644, 9645, 9646, 9647, 9648, 9649, 9650, 9651, 9652, 9653, 9654, 9655, 9656, 9657, 9658, 9659, 9660, 9661, 9662, 9663, 9664, 9665, 9666, 9667, 9668, 9669, 9670, 9671, 9672, 9673, 9674, 9675, 9676, 9677, 9678, 9679, 9680, 9681, 9682, 9683, 9684, 9685, 9686, 9687, 9688, 9689, 9690, 9691, 9692, 9693, 9694, 9695, 9696, 9697, 9698, 9699,
+    9700, 9701, 9702, 9703, 9704, 9705, 9706, 9707, 9708, 9709, 9710, 9711, 9712, 9713, 9714, 9715, 9716, 9717, 9718, 9719, 9720, 9721, 9722, 9723, 9724, 9725, 9726, 9727, 9728, 9729, 9730, 9731, 9732, 9733, 9734, 9735, 9736, 9737, 9738, 9739, 9740, 9741, 9742, 9743, 9744, 9745, 9746, 9747, 9748, 9749, 9750, 9751, 9752, 9753, 9754, 9755, 9756, 9757, 9758, 9759, 9760, 9761, 9762, 9763, 9764, 9765, 9766, 9767, 9768, 9769, 9770, 9771, 9772, 9773, 9774, 9775, 9776, 9777, 9778, 9779, 9780, 9781, 9782, 9783, 9784, 9785, 9786, 9787, 9788, 9789, 9790, 9791, 9792, 9793, 9794, 9795, 9796, 9797, 9798, 9799,
+    9800, 9801, 9802, 9803, 9804, 9805, 9806, 9807, 9808, 9809, 9810, 9811, 9812, 9813, 9814, 9815, 9816, 9817, 9818, 9819, 9820, 9821, 9822, 9823, 9824, 9825, 9826, 9827, 9828, 9829, 9830, 9831, 9832, 9833, 9834, 9835, 9836, 9837, 9838, 9839, 9840, 9841, 9842, 9843, 9844, 9845, 9846, 9847, 9848, 9849, 9850, 9851, 9852, 9853, 9854, 9855, 9856, 9857, 9858, 9859, 9860, 9861, 9862, 9863, 9864, 9865, 9866, 9867, 9868, 9869, 9870, 9871, 9872, 9873, 9874, 9875, 9876, 9877, 9878, 9879, 9880, 9881, 9882, 9883, 9884, 9885, 9886, 9887, 9888, 9889, 9890, 9891, 9892, 9893, 9894, 9895, 9896, 9897, 9898, 9899,
+    9900, 9901, 9902, 9903, 9904, 9905, 9906, 9907, 9908, 9909, 9910, 9911, 9912, 9913, 9914, 9915, 9916, 9917, 9918, 9919, 9920, 9921, 9922, 9923, 9924, 9925, 9926, 9927, 9928, 9929, 9930, 9931, 9932, 9933, 9934, 9935, 9936, 9937, 9938, 9939, 9940, 9941, 9942, 9943, 9944, 9945, 9946, 9947, 9948, 9949, 9950, 9951, 9952, 9953, 9954, 9955, 9956, 9957, 9958, 9959, 9960, 9961, 9962, 9963, 9964, 9965, 9966, 9967, 9968, 9969, 9970, 9971, 9972, 9973, 9974, 9975, 9976, 9977, 9978, 9979, 9980, 9981, 9982, 9983, 9984, 9985, 9986, 9987, 9988, 9989, 9990, 9991, 9992, 9993, 9994, 9995, 9996, 9997, 9998, 9999,
+    10000, 10001, 10002, 10003, 10004, 10005, 10006, 10007, 10008, 10009, 10010, 10011, 10012, 10013, 10014, 10015, 10016, 10017, 10018, 10019, 10020, 10021, 10022, 10023, 10024, 10025, 10026, 10027, 10028, 10029, 10030, 10031, 10032, 10033, 10034, 10035, 10036, 10037, 10038, 10039, 10040, 10041, 10042, 10043, 10044, 10045, 10046, 10047, 10048, 10049, 10050, 10051, 10052, 10053, 10054, 10055, 10056, 10057, 10058, 10059, 10060, 10061, 10062, 10063, 10064, 10065, 10066, 10067, 10068, 10069, 10070, 10071, 10072, 10073, 10074, 10075, 10076, 10077, 10078, 10079, 10080, 10081, 10082, 10083, 10084, 10085, 10086, 10087, 10088, 10089, 10090, 10091, 10092, 10093, 10094, 10095, 10096, 10097, 10098, 10099,
+    10100, 10101, 10102, 10103, 10104, 10105, 10106, 10107, 10108, 10109, 10110, 10111, 10112, 10113, 10114, 10115, 10116, 10117, 10118, 10119, 10120, 10121, 10122, 10123, 10124, 10125, 10126, 10127, 10128, 10129, 10130, 10131, 10132, 10133, 10134, 10135, 10136, 10137, 10138, 10139, 10140, 10141, 10142, 10143, 10144, 10145, 10146, 10147, 10148, 10149, 10150, 10151, 10152, 10153, 10154, 10155, 10156, 10157, 10158, 10159, 10160, 10161, 10162, 10163, 10164, 10165, 10166, 10167, 10168, 10169, 10170, 10171, 10172, 10173, 10174, 10175, 10176, 10177, 10178, 10179, 10180, 10181, 10182, 10183, 10184, 10185, 10186, 10187, 10188, 10189, 10190, 10191, 10192, 10193, 10194, 10195, 10196, 10197, 10198, 10199,
+    10200, 10201, 10202, 10203, 10204, 10205, 10206, 10207, 10208, 10209, 10210, 10211, 10212, 10213, 10214, 10215, 10216, 10217, 10218, 10219, 10220, 10221, 10222, 10223, 10224, 10225, 10226, 10227, 10228, 10229, 10230, 10231, 10232, 10233, 10234, 10235, 10236, 10237, 10238, 10239, 10240, 10241, 10242, 10243, 10244, 10245, 10246, 10247, 10248, 10249, 10250, 10251, 10252, 10253, 10254, 10255, 10256, 10257, 10258, 10259, 10260, 10261, 10262, 10263, 10264, 10265, 10266, 10267, 10268, 10269, 10270, 10271, 10272, 10273, 10274, 10275, 10276, 10277, 10278, 10279, 10280, 10281, 10282, 10283, 10284, 10285, 10286, 10287, 10288, 10289, 10290, 10291, 10292, 10293, 10294, 10295, 10296, 10297, 10298, 10299,
+    10300, 10301, 10302, 10303, 10304, 10305, 10306, 10307, 10308, 10309, 10310, 10311, 10312, 10313, 10314, 10315, 10316, 10317, 10318, 10319, 10320, 10321, 10322, 10323, 10324, 10325, 10326, 10327, 10328, 10329, 10330, 10331, 10332, 10333, 10334, 10335, 10336, 10337, 10338, 10339, 10340, 10341, 10342, 10343, 10344, 10345, 10346, 10347, 10348, 10349, 10350, 10351, 10352, 10353, 10354, 10355, 10356, 10357, 10358, 10359, 10360, 10361, 10362, 10363, 10364, 10365, 10366, 10367, 10368, 10369, 10370, 10371, 10372, 10373, 10374, 10375, 10376, 10377, 10378, 10379, 10380, 10381, 10382, 10383, 10384, 10385, 10386, 10387, 10388, 10389, 10390, 10391, 10392, 10393, 10394, 10395, 10396, 10397, 10398, 10399,
+    10400, 10401, 10402, 10403, 10404, 10405, 10406, 10407, 10408, 10409, 10410, 10411, 10412, 10413, 10414, 10415, 10416, 10417, 10418, 10419, 10420, 10421, 10422, 10423, 10424, 10425, 10426, 10427, 10428, 10429, 10430, 10431, 10432, 10433, 10434, 10435, 10436, 10437, 10438, 10439, 10440, 10441, 10442, 10443, 10444, 10445, 10446, 10447, 10448, 10449, 10450, 10451, 10452, 10453, 10454, 10455, 10456, 10457, 10458, 10459, 10460, 10461, 10462, 10463, 10464, 10465, 10466, 10467, 10468, 10469, 10470, 10471, 10472, 10473, 10474, 10475, 10476, 10477, 10478, 10479, 10480, 10481, 10482, 10483, 10484, 10485, 10486, 10487, 10488, 10489, 10490, 10491, 10492, 10493, 10494, 10495, 10496, 10497, 10498, 10499,
+    10500, 10501, 10502, 10503, 10504, 10505, 10506, 10507, 10508, 10509, 10510, 10511, 10512, 10513, 10514, 10515, 10516, 10517, 10518, 10519, 10520, 10521, 10522, 10523, 10524, 10525, 10526, 10527, 10528, 10529, 10530, 10531, 10532, 10533, 10534, 10535, 10536, 10537, 10538, 10539, 10540, 10541, 10542, 10543, 10544, 10545, 10546, 10547, 10548, 10549, 10550, 10551, 10552, 10553, 10554, 10555, 10556, 10557, 10558, 10559, 10560, 10561, 10562, 10563, 10564, 10565, 10566, 10567, 10568, 10569, 10570, 10571, 10572, 10573, 10574, 10575, 10576, 10577, 10578, 10579, 10580, 10581, 10582, 10583, 10584, 10585, 10586, 10587, 10588, 10589, 10590, 10591, 10592, 10593, 10594, 10595, 10596, 10597, 10598, 10599,
+    10600, 10601, 10602, 10603, 10604, 10605, 10606, 10607, 10608, 10609, 10610, 10611, 10612, 10613, 10614, 10615, 10616, 10617, 10618, 10619, 10620, 10621, 10622, 10623, 10624, 10625, 10626, 10627, 10628, 10629, 10630, 10631, 10632, 10633, 10634, 10635, 10636, 10637, 10638, 10639, 10640, 10641, 10642, 10643, 10644, 10645, 10646, 10647, 10648, 10649, 10650, 10651, 10652, 10653, 10654, 10655, 10656, 10657, 10658, 10659, 10660, 10661, 10662, 10663, 10664, 10665, 10666, 10667, 10668, 10669, 10670, 10671, 10672, 10673, 10674, 10675, 10676, 10677, 10678, 10679, 10680, 10681, 10682, 10683, 10684, 10685, 10686, 10687, 10688, 10689, 10690, 10691, 10692, 10693, 10694, 10695, 10696, 10697, 10698, 10699,
+    10700, 10701, 10702, 10703, 10704, 10705, 10706, 10707, 10708, 10709, 10710, 10711, 10712, 10713, 10714, 10715, 10716, 10717, 10718, 10719, 10720, 10721, 10722, 10723, 10724, 10725, 10726, 10727, 10728, 10729, 10730, 10731, 10732, 10733, 10734, 10735, 10736, 10737, 10738, 10739, 10740, 10741, 10742, 10743, 10744, 10745, 10746, 10747, 10748, 10749, 10750, 10751, 10752, 10753, 10754, 10755, 10756, 10757, 10758, 10759, 10760, 10761, 10762, 10763, 10764, 10765, 10766, 10767, 10768, 10769, 10770, 10771, 10772, 10773, 10774, 10775, 10776, 10777, 10778, 10779, 10780, 10781, 10782, 10783, 10784, 10785, 10786, 10787, 10788, 10789, 10790, 10791, 10792, 10793, 10794, 10795, 10796, 10797, 10798, 10799,
+    10800, 10801, 10802, 10803, 10804, 10805, 10806, 10807, 10808, 10809, 10810, 10811, 10812, 10813, 10814, 10815, 10816, 10817, 10818, 10819, 10820, 10821, 10822, 10823, 10824, 10825, 10826, 10827, 10828, 10829, 10830, 10831, 10832, 10833, 10834, 10835, 10836, 10837, 10838, 10839, 10840, 10841, 10842, 10843, 10844, 10845, 10846, 10847, 10848, 10849, 10850, 10851, 10852, 10853, 10854, 10855, 10856, 10857, 10858, 10859, 10860, 10861, 10862, 10863, 10864, 10865, 10866, 10867, 10868, 10869, 10870, 10871, 10872, 10873, 10874, 10875, 10876, 10877, 10878, 10879, 10880, 10881, 10882, 10883, 10884, 10885, 10886, 10887, 10888, 10889, 10890, 10891, 10892, 10893, 10894, 10895, 10896, 10897, 10898, 10899,
+    10900, 10901, 10902, 10903, 10904, 10905, 10906, 10907, 10908, 10909, 10910, 10911, 10912, 10913, 10914, 10915, 10916, 10917, 10918, 10919, 10920, 10921, 10922, 10923, 10924, 10925, 10926, 10927, 10928, 10929, 10930, 10931, 10932, 10933, 10934, 10935, 10936, 10937, 10938, 10939, 10940, 10941, 10942, 10943, 10944, 10945, 10946, 10947, 10948, 10949, 10950, 10951, 10952, 10953, 10954, 10955, 10956, 10957, 10958, 10959, 10960, 10961, 10962, 10963, 10964, 10965, 10966, 10967, 10968, 10969, 10970, 10971, 10972, 10973, 10974, 10975, 10976, 10977, 10978, 10979, 10980, 10981, 10982, 10983, 10984, 10985, 10986, 10987, 10988, 10989, 10990, 10991, 10992, 10993, 10994, 10995, 10996, 10997, 10998, 10999,
+    11000, 11001, 11002, 11003, 11004, 11005, 11006, 11007, 11008, 11009, 11010, 11011, 11012, 11013, 11014, 11015, 11016, 11017, 11018, 11019, 11020, 11021, 11022, 11023, 11024, 11025, 11026, 11027, 11028, 11029, 11030, 11031, 11032, 11033, 11034, 11035, 11036, 11037, 11038, 11039, 11040, 11041, 11042, 11043, 11044, 11045, 11046, 11047, 11048, 11049, 11050, 11051, 11052, 11053, 11054, 11055, 11056, 11057, 11058, 11059, 11060, 11061, 11062, 11063, 11064, 11065, 11066, 11067, 11068, 11069, 11070, 11071, 11072, 11073, 11074, 11075, 11076, 11077, 11078, 11079, 11080, 11081, 11082, 11083, 11084, 11085, 11086, 11087, 11088, 11089, 11090, 11091, 11092, 11093, 11094, 11095, 11096, 11097, 11098, 11099,
+    11100, 11101, 11102, 11103, 11104, 11105, 11106, 11107, 11108, 11109, 11110, 11111, 11112, 11113, 11114, 11115, 11116, 11117, 11118, 11119, 11120, 11121, 11122, 11123, 11124, 11125, 11126, 11127, 11128, 11129, 11130, 11131, 11132, 11133, 11134, 11135, 11136, 11137, 11138, 11139, 11140, 11141, 11142, 11143, 11144, 11145, 11146, 11147, 11148, 11149, 11150, 11151, 11152, 11153, 11154, 11155, 11156, 11157, 11158, 11159, 11160, 11161, 11162, 11163, 11164, 11165, 11166, 11167, 11168, 11169, 11170, 11171, 11172, 11173, 11174, 11175, 11176, 11177, 11178, 11179, 11180, 11181, 11182, 11183, 11184, 11185, 11186, 11187, 11188, 11189, 11190, 11191, 11192, 11193, 11194, 11195, 11196, 11197, 11198, 11199,
+    11200, 11201, 11202, 11203, 11204, 11205, 11206, 11207, 11208, 11209, 11210, 11211, 11212, 11213, 11214, 11215, 11216, 11217, 11218, 11219, 11220, 11221, 11222, 11223, 11224, 11225, 11226, 11227, 11228, 11229, 11230, 11231, 11232, 11233, 11234, 11235, 11236, 11237, 11238, 11239, 11240, 11241, 11242, 11243, 11244, 11245, 11246, 11247, 11248, 11249, 11250, 11251, 11252, 11253, 11254, 11255, 11256, 11257, 11258, 11259, 11260, 11261, 11262, 11263, 11264, 11265, 11266, 11267, 11268, 11269, 11270, 11271, 11272, 11273, 11274, 11275, 11276, 11277, 11278, 11279, 11280, 11281, 11282, 11283, 11284, 11285, 11286, 11287, 11288, 11289, 11290, 11291, 11292, 11293, 11294, 11295, 11296, 11297, 11298, 11299,
+    11300, 11301, 11302, 11303, 11304, 11305, 11306, 11307, 11308, 11309, 11310, 11311, 11312, 11313, 11314, 11315, 11316, 11317, 11318, 11319, 11320, 11321, 11322, 11323, 11324, 11325, 11326, 11327, 11328, 11329, 11330, 11331, 11332, 11333, 11334, 11335, 11336, 11337, 11338, 11339, 11340, 11341, 11342, 11343, 11344, 11345, 11346, 11347, 11348, 11349, 11350, 11351, 11352, 11353, 11354, 11355, 11356, 11357, 11358, 11359, 11360, 11361, 11362, 11363, 11364, 11365, 11366, 11367, 11368, 11369, 11370, 11371, 11372, 11373, 11374, 11375, 11376, 11377, 11378, 11379, 11380, 11381, 11382, 11383, 11384, 11385, 11386, 11387, 11388, 11389, 11390, 11391, 11392, 11393, 11394, 11395, 11396, 11397, 11398, 11399,
+    11400, 11401, 11402, 11403, 11404, 11405, 11406, 11407, 11408, 11409, 11410, 11411, 11412, 11413, 11414, 11415, 11416, 11417, 11418, 11419, 11420, 11421, 11422, 11423, 11424, 11425, 11426, 11427, 11428, 11429, 11430, 11431, 11432, 11433, 11434, 11435, 11436, 11437, 11438, 11439, 11440, 11441, 11442, 11443, 11444, 11445, 11446, 11447, 11448, 11449, 11450, 11451, 11452, 11453, 11454, 11455, 11456, 11457, 11458, 11459, 11460, 11461, 11462, 11463, 11464, 11465, 11466, 11467, 11468, 11469, 11470, 11471, 11472, 11473, 11474, 11475, 11476, 11477, 11478, 11479, 11480, 11481, 11482, 11483, 11484, 11485, 11486, 11487, 11488, 11489, 11490, 11491, 11492, 11493, 11494, 11495, 11496, 11497, 11498, 11499,
+    11500, 11501, 11502, 11503, 11504, 11505, 11506, 11507, 11508, 11509, 11510, 11511, 11512, 11513, 11514, 11515, 11516, 11517, 11518, 11519, 11520, 11521, 11522, 11523, 11524, 11525, 11526, 11527, 11528, 11529, 11530, 11531, 11532, 11533, 11534, 11535, 11536, 11537, 11538, 11539, 11540, 11541, 11542, 11543, 11544, 11545, 11546, 11547, 11548, 11549, 11550, 11551, 11552, 11553, 11554, 11555, 11556, 11557, 11558, 11559, 11560, 11561, 11562, 11563, 11564, 11565, 11566, 11567, 11568, 11569, 11570, 11571, 11572, 11573, 11574, 11575, 11576, 11577, 11578, 11579, 11580, 11581, 11582, 11583, 11584, 11585, 11586, 11587, 11588, 11589, 11590, 11591, 11592, 11593, 11594, 11595, 11596, 11597, 11598, 11599,
+    11600, 11601, 11602, 11603, 11604, 11605, 11606, 11607, 11608, 11609, 11610, 11611, 11612, 11613, 11614, 11615, 11616, 11617, 11618, 11619, 11620, 11621, 11622, 11623, 11624, 11625, 11626, 11627, 11628, 11629, 11630, 11631, 11632, 11633, 11634, 11635, 11636, 11637, 11638, 11639, 11640, 11641, 11642, 11643, 11644, 11645, 11646, 11647, 11648, 11649, 11650, 11651, 11652, 11653, 11654, 11655, 11656, 11657, 11658, 11659, 11660, 11661, 11662, 11663, 11664, 11665, 11666, 11667, 11668, 11669, 11670, 11671, 11672, 11673, 11674, 11675, 11676, 11677, 11678, 11679, 11680, 11681, 11682, 11683, 11684, 11685, 11686, 11687, 11688, 11689, 11690, 11691, 11692, 11693, 11694, 11695, 11696, 11697, 11698, 11699,
+    11700, 11701, 11702, 11703, 11704, 11705, 11706, 11707, 11708, 11709, 11710, 11711, 11712, 11713, 11714, 11715, 11716, 11717, 11718, 11719, 11720, 11721, 11722, 11723, 11724, 11725, 11726, 11727, 11728, 11729, 11730, 11731, 11732, 11733, 11734, 11735, 11736, 11737, 11738, 11739, 11740, 11741, 11742, 11743, 11744, 11745, 11746, 11747, 11748, 11749, 11750, 11751, 11752, 11753, 11754, 11755, 11756, 11757, 11758, 11759, 11760, 11761, 11762, 11763, 11764, 11765, 11766, 11767, 11768, 11769, 11770, 11771, 11772, 11773, 11774, 11775, 11776, 11777, 11778, 11779, 11780, 11781, 11782, 11783, 11784, 11785, 11786, 11787, 11788, 11789, 11790, 11791, 11792, 11793, 11794, 11795, 11796, 11797, 11798, 11799,
+    11800, 11801, 11802, 11803, 11804, 11805, 11806, 11807, 11808, 11809, 11810, 11811, 11812, 11813, 11814, 11815, 11816, 11817, 11818, 11819, 11820, 11821, 11822, 11823, 11824, 11825, 11826, 11827, 11828, 11829, 11830, 11831, 11832, 11833, 11834, 11835, 11836, 11837, 11838, 11839, 11840, 11841, 11842, 11843, 11844, 11845, 11846, 11847, 11848, 11849, 11850, 11851, 11852, 11853, 11854, 11855, 11856, 11857, 11858, 11859, 11860, 11861, 11862, 11863, 11864, 11865, 11866, 11867, 11868, 11869, 11870, 11871, 11872, 11873, 11874, 11875, 11876, 11877, 11878, 11879, 11880, 11881, 11882, 11883, 11884, 11885, 11886, 11887, 11888, 11889, 11890, 11891, 11892, 11893, 11894, 11895, 11896, 11897, 11898, 11899,
+    11900, 11901, 11902, 11903, 11904, 11905, 11906, 11907, 11908, 11909, 11910, 11911, 11912, 11913, 11914, 11915, 11916, 11917, 11918, 11919, 11920, 11921, 11922, 11923, 11924, 11925, 11926, 11927, 11928, 11929, 11930, 11931, 11932, 11933, 11934, 11935, 11936, 11937, 11938, 11939, 11940, 11941, 11942, 11943, 11944, 11945, 11946, 11947, 11948, 11949, 11950, 11951, 11952, 11953, 11954, 11955, 11956, 11957, 11958, 11959, 11960, 11961, 11962, 11963, 11964, 11965, 11966, 11967, 11968, 11969, 11970, 11971, 11972, 11973, 11974, 11975, 11976, 11977, 11978, 11979, 11980, 11981, 11982, 11983, 11984, 11985, 11986, 11987, 11988, 11989, 11990, 11991, 11992, 11993, 11994, 11995, 11996, 11997, 11998, 11999,
+}
+
+local names = {
+    k0 = 0, k1 = 1, k2 = 2, k3 = 3, k4 = 4, k5 = 5, k6 = 6, k7 = 7, k8 = 8, k9 = 9,
+    k10 = 10, k11 = 11, k12 = 12, k13 = 13, k14 = 14, k15 = 15, k16 = 16, k17 = 17, k18 = 18, k19 = 19,
+    k20 = 20, k21 = 21, k22 = 22, k23 = 23, k24 = 24, k25 = 25, k26 = 26, k27 = 27, k28 = 28, k29 = 29,
+    k30 = 30, k31 = 31, k32 = 32, k33 = 33, k34 = 34, k35 = 35, k36 = 36, k37 = 37, k38 = 38, k39 = 39,
+    k40 = 40, k41 = 41, k42 = 42, k43 = 43, k44 = 44, k45 = 45, k46 = 46, k47 = 47, k48 = 48, k49 = 49,
+    k50 = 50, k51 = 51, k52 = 52, k53 = 53, k54 = 54, k55 = 55, k56 = 56, k57 = 57, k58 = 58, k59 = 59,
+    k60 = 60, k61 = 61, k62 = 62, k63 = 63, k64 = 64, k65 = 65, k66 = 66, k67 = 67, k68 = 68, k69 = 69,
+    k70 = 70, k71 = 71, k72 = 72, k73 = 73, k74 = 74, k75 = 75, k76 = 76, k77 = 77, k78 = 78, k79 = 79,
+    k80 = 80, k81 = 81, k82 = 82, k83 = 83, k84 = 84, k85 = 85, k86 = 86, k87 = 87, k88 = 88, k89 = 89,
+    k90 = 90, k91 = 91, k92 = 92, k93 = 93, k94 = 94, k95 = 95, k96 = 96, k97 = 97, k98 = 98, k99 = 99,
+    k100 = 100, k101 = 101, k102 = 102, k103 = 103, k104 = 104, k105 = 105, k106 = 106, k107 = 107, k108 = 108, k109 = 109,
+    k110 = 110, k111 = 111, k112 = 112, k113 = 113, k114 = 114, k115 = 115, k116 = 116, k117 = 117, k118 = 118, k119 = 119,
+    k120 = 120, k121 = 121, k122 = 122, k123 = 123, k124 = 124, k125 = 125, k126 = 126, k127 = 127, k128 = 128, k129 = 129,
+    k130 = 130, k131 = 131, k132 = 132, k133 = 133, k134 = 134, k135 = 135, k136 = 136, k137 = 137, k138 = 138, k139 = 139,
+    k140 = 140, k141 = 141, k142 = 142, k143 = 143, k144 = 144, k145 = 145, k146 = 146, k147 = 147, k148 = 148, k149 = 149,
+    k150 = 150, k151 = 151, k152 = 152, k153 = 153, k154 = 154, k155 = 155, k156 = 156, k157 = 157, k158 = 158, k159 = 159,
+    k160 = 160, k161 = 161, k162 = 162, k163 = 163, k164 = 164, k165 = 165, k166 = 166, k167 = 167, k168 = 168, k169 = 169,
+    k170 = 170, k171 = 171, k172 = 172, k173 = 173, k174 = 174, k175 = 175, k176 = 176, k177 = 177, k178 = 178, k179 = 179,
+    k180 = 180, k181 = 181, k182 = 182, k183 = 183, k184 = 184, k185 = 185, k186 = 186, k187 = 187, k188 = 188, k189 = 189,
+    k190 = 190, k191 = 191, k192 = 192, k193 = 193, k194 = 194, k195 = 195, k196 = 196, k197 = 197, k198 = 198, k199 = 199,
+    k200 = 200, k201 = 201, k202 = 202, k203 = 203, k204 = 204, k205 = 205, k206 = 206, k207 = 207, k208 = 208, k209 = 209,
+    k210 = 210, k211 = 211, k212 = 212, k213 = 213, k214 = 214, k215 = 215, k216 = 216, k217 = 217, k218 = 218, k219 = 219,
+    k220 = 220, k221 = 221, k222 = 222, k223 = 223, k224 = 224, k225 = 225, k226 = 226, k227 = 227, k228 = 228, k229 = 229,
+    k230 = 230, k231 = 231, k232 = 232, k233 = 233, k234 = 234, k235 = 235, k236 = 236, k237 = 237, k238 = 238, k239 = 239,
+    k240 = 240, k241 = 241, k242 = 242, k243 = 243, k244 = 244, k245 = 245, k246 = 246, k247 = 247, k248 = 248, k249 = 249,
+    k250 = 250, k251 = 251, k252 = 252, k253 = 253, k254 = 254, k255 = 255, k256 = 256, k257 = 257, k258 = 258, k259 = 259,
+    k260 = 260, k261 = 261, k262 = 262, k263 = 263, k264 = 264, k265 = 265, k266 = 266, k267 = 267, k268 = 268, k269 = 269,
+    k270 = 270, k271 = 271, k272 = 272, k273 = 273, k274 = 274, k275 = 275, k276 = 276, k277 = 277, k278 = 278, k279 = 279,
+    k280 = 280, k281 = 281, k282 = 282, k283 = 283, k284 = 284, k285 = 285, k286 = 286, k287 = 287, k288 = 288, k289 = 289,
+    k290 = 290, k291 = 291, k292 = 292, k293 = 293, k294 = 294, k295 = 295, k296 = 296, k297 = 297, k298 = 298, k299 = 299,
+    k300 = 300, k301 = 301, k302 = 302, k303 = 303, k304 = 304, k305 = 305, k306 = 306, k307 = 307, k308 = 308, k309 = 309,
+    k310 = 310, k311 = 311, k312 = 312, k313 = 313, k314 = 314, k315 = 315, k316 = 316, k317 = 317, k318 = 318, k319 = 319,
+    k320 = 320, k321 = 321, k322 = 322, k323 = 323, k324 = 324, k325 = 325, k326 = 326, k327 = 327, k328 = 328, k329 = 329,
+    k330 = 330, k331 = 331, k332 = 332, k333 = 333, k334 = 334, k335 = 335, k336 = 336, k337 = 337, k338 = 338, k339 = 339,
+    k340 = 340, k341 = 341, k342 = 342, k343 = 343, k344 = 344, k345 = 345, k346 = 346, k347 = 347, k348 = 348, k349 = 349,
+    k350 = 350, k351 = 351, k352 = 352, k353 = 353, k354 = 354, k355 = 355, k356 = 356, k357 = 357, k358 = 358, k359 = 359,
+    k360 = 360, k361 = 361, k362 = 362, k363 = 363, k364 = 364, k365 = 365, k366 = 366, k367 = 367, k368 = 368, k369 = 369,
+    k370 = 370, k371 = 371, k372 = 372, k373 = 373, k374 = 374, k375 = 375, k376 = 376, k377 = 377, k378 = 378, k379 = 379,
+    k380 = 380, k381 = 381, k382 = 382, k383 = 383, k384 = 384, k385 = 385, k386 = 386, k387 = 387, k388 = 388, k389 = 389,
+    k390 = 390, k391 = 391, k392 = 392, k393 = 393, k394 = 394, k395 = 395, k396 = 396, k397 = 397, k398 = 398, k399 = 399,
+    k400 = 400, k401 = 401, k402 = 402, k403 = 403, k404 = 404, k405 = 405, k406 = 406, k407 = 407, k408 = 408, k409 = 409,
+    k410 = 410, k411 = 411, k412 = 412, k413 = 413, k414 = 414, k415 = 415, k416 = 416, k417 = 417, k418 = 418, k419 = 419,
+    k420 = 420, k421 = 421, k422 = 422, k423 = 423, k424 = 424, k425 = 425, k426 = 426, k427 = 427, k428 = 428, k429 = 429,
+    k430 = 430, k431 = 431, k432 = 432, k433 = 433, k434 = 434, k435 = 435, k436 = 436, k437 = 437, k438 = 438, k439 = 439,
+    k440 = 440, k441 = 441, k442 = 442, k443 = 443, k444 = 444, k445 = 445, k446 = 446, k447 = 447, k448 = 448, k449 = 449,
+    k450 = 450, k451 = 451, k452 = 452, k453 = 453, k454 = 454, k455 = 455, k456 = 456, k457 = 457, k458 = 458, k459 = 459,
+    k460 = 460, k461 = 461, k462 = 462, k463 = 463, k464 = 464, k465 = 465, k466 = 466, k467 = 467, k468 = 468, k469 = 469,
+    k470 = 470, k471 = 471, k472 = 472, k473 = 473, k474 = 474, k475 = 475, k476 = 476, k477 = 477, k478 = 478, k479 = 479,
+    k480 = 480, k481 = 481, k482 = 482, k483 = 483, k484 = 484, k485 = 485, k486 = 486, k487 = 487, k488 = 488, k489 = 489,
+    k490 = 490, k491 = 491, k492 = 492, k493 = 493, k494 = 494, k495 = 495, k496 = 496, k497 = 497, k498 = 498, k499 = 499,
+    k500 = 500, k501 = 501, k502 = 502, k503 = 503, k504 = 504, k505 = 505, k506 = 506, k507 = 507, k508 = 508, k509 = 509,
+    k510 = 510, k511 = 511, k512 = 512, k513 = 513, k514 = 514, k515 = 515, k516 = 516, k517 = 517, k518 = 518, k519 = 519,
+    k520 = 520, k521 = 521, k522 = 522, k523 = 523, k524 = 524, k525 = 525, k526 = 526, k527 = 527, k528 = 528, k529 = 529,
+    k530 = 530, k531 = 531, k532 = 532, k533 = 533, k534 = 534, k535 = 535, k536 = 536, k537 = 537, k538 = 538, k539 = 539,
+    k540 = 540, k541 = 541, k542 = 542, k543 = 543, k544 = 544, k545 = 545, k546 = 546, k547 = 547, k548 = 548, k549 = 549,
+    k550 = 550, k551 = 551, k552 = 552, k553 = 553, k554 = 554, k555 = 555, k556 = 556, k557 = 557, k558 = 558, k559 = 559,
+    k560 = 560, k561 = 561, k562 = 562, k563 = 563, k564 = 564, k565 = 565, k566 = 566, k567 = 567, k568 = 568, k569 = 569,
+    k570 = 570, k571 = 571, k572 = 572, k573 = 573, k574 = 574, k575 = 575, k576 = 576, k577 = 577, k578 = 578, k579 = 579,
+    k580 = 580, k581 = 581, k582 = 582, k583 = 583, k584 = 584, k585 = 585, k586 = 586, k587 = 587, k588 = 588, k589 = 589,
+    k590 = 590, k591 = 591, k592 = 592, k593 = 593, k594 = 594, k595 = 595, k596 = 596, k597 = 597, k598 = 598, k599 = 599,
+    k600 = 600, k601 = 601, k602 = 602, k603 = 603, k604 = 604, k605 = 605, k606 = 606, k607 = 607, k608 = 608, k609 = 609,
+    k610 = 610, k611 = 611, k612 = 612, k613 = 613, k614 = 614, k615 = 615, k616 = 616, k617 = 617, k618 = 618, k619 = 619,
+    k620 = 620, k621 = 621, k622 = 622, k623 = 623, k624 = 624, k625 = 625, k626 = 626, k627 = 627, k628 = 628, k629 = 629,
+    k630 = 630, k631 = 631, k632 = 632, k633 = 633, k634 = 634, k635 = 635, k636 = 636, k637 = 637, k638 = 638, k639 = 639,
+    k640 = 640, k641 = 641, k642 = 642, k643 = 643, k644 = 644, k645 = 645, k646 = 646, k647 = 647, k648 = 648, k649 = 649,
+    k650 = 650, k651 = 651, k652 = 652, k653 = 653, k654 = 654, k655 = 655, k656 = 656, k657 = 657, k658 = 658, k659 = 659,
+    k660 = 660, k661 = 661, k662 = 662, k663 = 663, k664 = 664, k665 = 665, k666 = 666, k667 = 667, k668 = 668, k669 = 669,
+    k670 = 670, k671 = 671, k672 = 672, k673 = 673, k674 = 674, k675 = 675, k676 = 676, k677 = 677, k678 = 678, k679 = 679,
+    k680 = 680, k681 = 681, k682 = 682, k683 = 683, k684 = 684, k685 = 685, k686 = 686, k687 = 687, k688 = 688, k689 = 689,
+    k690 = 690, k691 = 691, k692 = 692, k693 = 693, k694 = 694, k695 = 695, k696 = 696, k697 = 697, k698 = 698, k699 = 699,
+    k700 = 700, k701 = 701, k702 = 702, k703 = 703, k704 = 704, k705 = 705, k706 = 706, k707 = 707, k708 = 708, k709 = 709,
+    k710 = 710, k711 = 711, k712 = 712, k713 = 713, k714 = 714, k715 = 715, k716 = 716, k717 = 717, k718 = 718, k719 = 719,
+    k720 = 720, k721 = 721, k722 = 722, k723 = 723, k724 = 724, k725 = 725, k726 = 726, k727 = 727, k728 = 728, k729 = 729,
+    k730 = 730, k731 = 731, k732 = 732, k733 = 733, k734 = 734, k735 = 735, k736 = 736, k737 = 737, k738 = 738, k739 = 739,
+    k740 = 740, k741 = 741, k742 = 742, k743 = 743, k744 = 744, k745 = 745, k746 = 746, k747 = 747, k748 = 748, k749 = 749,
+    k750 = 750, k751 = 751, k752 = 752, k753 = 753, k754 = 754, k755 = 755, k756 = 756, k757 = 757, k758 = 758, k759 = 759,
+    k760 = 760, k761 = 761, k762 = 762, k763 = 763, k764 = 764, k765 = 765, k766 = 766, k767 = 767, k768 = 768, k769 = 769,
+    k770 = 770, k771 = 771, k772 = 772, k773 = 773, k774 = 774, k775 = 775, k776 = 776, k777 = 777, k778 = 778, k779 = 779,
+    k780 = 780, k781 = 781, k782 = 782, k783 = 783, k784 = 784, k785 = 785, k786 = 786, k787 = 787, k788 = 788, k789 = 789,
+    k790 = 790, k791 = 791, k792 = 792, k793 = 793, k794 = 794, k795 = 795, k796 = 796, k797 = 797, k798 = 798, k799 = 799,
+    k800 = 800, k801 = 801, k802 = 802, k803 = 803, k804 = 804, k805 = 805, k806 = 806, k807 = 807, k808 = 808, k809 = 809,
+    k810 = 810, k811 = 811, k812 = 812, k813 = 813, k814 = 814, k815 = 815, k816 = 816, k817 = 817, k818 = 818, k819 = 819,
+    k820 = 820, k821 = 821, k822 = 822, k823 = 823, k824 = 824, k825 = 825, k826 = 826, k827 = 827, k828 = 828, k829 = 829,
+    k830 = 830, k831 = 831, k832 = 832, k833 = 833, k834 = 834, k835 = 835, k836 = 836, k837 = 837, k838 = 838, k839 = 839,
+    k840 = 840, k841 = 841, k842 = 842, k843 = 843, k844 = 844, k845 = 845, k846 = 846, k847 = 847, k848 = 848, k849 = 849,
+    k850 = 850, k851 = 851, k852 = 852, k853 = 853, k854 = 854, k855 = 855, k856 = 856, k857 = 857, k858 = 858, k859 = 859,
+    k860 = 860, k861 = 861, k862 = 862, k863 = 863, k864 = 864, k865 = 865, k866 = 866, k867 = 867, k868 = 868, k869 = 869,
+    k870 = 870, k871 = 871, k872 = 872, k873 = 873, k874 = 874, k875 = 875, k876 = 876, k877 = 877, k878 = 878, k879 = 879,
+    k880 = 880, k881 = 881, k882 = 882, k883 = 883, k884 = 884, k885 = 885, k886 = 886, k887 = 887, k888 = 888, k889 = 889,
+    k890 = 890, k891 = 891, k892 = 892, k893 = 893, k894 = 894, k895 = 895, k896 = 896, k897 = 897, k898 = 898, k899 = 899,
+    k900 = 900, k901 = 901, k902 = 902, k903 = 903, k904 = 904, k905 = 905, k906 = 906, k907 = 907, k908 = 908, k909 = 909,
+    k910 = 910, k911 = 911, k912 = 912, k913 = 913, k914 = 914, k915 = 915, k916 = 916, k917 = 917, k918 = 918, k919 = 919,
+    k920 = 920, k921 = 921, k922 = 922, k923 = 923, k924 = 924, k925 = 925, k926 = 926, k927 = 927, k928 = 928, k929 = 929,
+    k930 = 930, k931 = 931, k932 = 932, k933 = 933, k934 = 934, k935 = 935, k936 = 936, k937 = 937, k938 = 938, k939 = 939,
+    k940 = 940, k941 = 941, k942 = 942, k943 = 943, k944 = 944, k945 = 945, k946 = 946, k947 = 947, k948 = 948, k949 = 949,
+    k950 = 950, k951 = 951, k952 = 952, k953 = 953, k954 = 954, k955 = 955, k956 = 956, k957 = 957, k958 = 958, k959 = 959,
+    k960 = 960, k961 = 961, k962 = 962, k963 = 963, k964 = 964, k965 = 965, k966 = 966, k967 = 967, k968 = 968, k969 = 969,
+    k970 = 970, k971 = 971, k972 = 972, k973 = 973, k974 = 974, k975 = 975, k976 = 976, k977 = 977, k978 = 978, k979 = 979,
+    k980 = 980, k981 = 981, k982 = 982, k983 = 983, k984 = 984, k985 = 985, k986 = 986, k987 = 987, k988 = 988, k989 = 989,
+    k990 = 990, k991 = 991, k992 = 992, k993 = 993, k994 = 994, k995 = 995, k996 = 996, k997 = 997, k998 = 998, k999 = 999,
+    k1000 = 1000, k1001 = 1001, k1002 = 1002, k1003 = 1003, k1004 = 1004, k1005 = 1005, k1006 = 1006, k1007 = 1007, k1008 = 1008, k1009 = 1009,
+    k1010 = 1010, k1011 = 1011, k1012 = 1012, k1013 = 1013, k1014 = 1014, k1015 = 1015, k1016 = 1016, k1017 = 1017, k1018 = 1018, k1019 = 1019,
+    k1020 = 1020, k1021 = 1021, k1022 = 1022, k1023 = 1023, k1024 = 1024, k1025 = 1025, k1026 = 1026, k1027 = 1027, k1028 = 1028, k1029 = 1029,
+    k1030 = 1030, k1031 = 1031, k1032 = 1032, k1033 = 1033, k1034 = 1034, k1035 = 1035, k1036 = 1036, k1037 = 1037, k1038 = 1038, k1039 = 1039,
+    k1040 = 1040, k1041 = 1041, k1042 = 1042, k1043 = 1043, k1044 = 1044, k1045 = 1045, k1046 = 1046, k1047 = 1047, k1048 = 1048, k1049 = 1049,
+    k1050 = 1050, k1051 = 1051, k1052 = 1052, k1053 = 1053, k1054 = 1054, k1055 = 1055, k1056 = 1056, k1057 = 1057, k1058 = 1058, k1059 = 1059,
+    k1060 = 1060, k1061 = 1061, k1062 = 1062, k1063 = 1063, k1064 = 1064, k1065 = 1065, k1066 = 1066, k1067 = 1067, k1068 = 1068, k1069 = 1069,
+    k1070 = 1070, k1071 = 1071, k1072 = 1072, k1073 = 1073, k1074 = 1074, k1075 = 1075, k1076 = 1076, k1077 = 1077, k1078 = 1078, k1079 = 1079,
+    k1080 = 1080, k1081 = 1081, k1082 = 1082, k1083 = 1083, k1084 = 1084, k1085 = 1085, k1086 = 1086, k1087 = 1087, k1088 = 1088, k1089 = 1089,
+    k1090 = 1090, k1091 = 1091, k1092 = 1092, k1093 = 1093, k1094 = 1094, k1095 = 1095, k1096 = 1096, k1097 = 1097, k1098 = 1098, k1099 = 1099,
+    k1100 = 1100, k1101 = 1101, k1102 = 1102, k1103 = 1103, k1104 = 1104, k1105 = 1105, k1106 = 1106, k1107 = 1107, k1108 = 1108, k1109 = 1109,
+    k1110 = 1110, k1111 = 1111, k1112 = 1112, k1113 = 1113, k1114 = 1114, k1115 = 1115, k1116 = 1116, k1117 = 1117, k1118 = 1118, k1119 = 1119,
+    k1120 = 1120, k1121 = 1121, k1122 = 1122, k1123 = 1123, k1124 = 1124, k1125 = 1125, k1126 = 1126, k1127 = 1127, k1128 = 1128, k1129 = 1129,
+    k1130 = 1130, k1131 = 1131, k1132 = 1132, k1133 = 1133, k1134 = 1134, k1135 = 1135, k1136 = 1136, k1137 = 1137, k1138 = 1138, k1139 = 1139,
+    k1140 = 1140, k1141 = 1141, k1142 = 1142, k1143 = 1143, k1144 = 1144, k1145 = 1145, k1146 = 1146, k1147 = 1147, k1148 = 1148, k1149 = 1149,
+    k1150 = 1150, k1151 = 1151, k1152 = 1152, k1153 = 1153, k1154 = 1154, k1155 = 1155, k1156 = 1156, k1157 = 1157, k1158 = 1158, k1159 = 1159,
+    k1160 = 1160, k1161 = 1161, k1162 = 1162, k1163 = 1163, k1164 = 1164, k1165 = 1165, k1166 = 1166, k1167 = 1167, k1168 = 1168, k1169 = 1169,
+    k1170 = 1170, k1171 = 1171, k1172 = 1172, k1173 = 1173, k1174 = 1174, k1175 = 1175, k1176 = 1176, k1177 = 1177, k1178 = 1178, k1179 = 1179,
+    k1180 = 1180, k1181 = 1181, k1182 = 1182, k1183 = 1183, k1184 = 1184, k1185 = 1185, k1186 = 1186, k1187 = 1187, k1188 = 1188, k1189 = 1189,
+    k1190 = 1190, k1191 = 1191, k1192 = 1192, k1193 = 1193, k1194 = 1194, k1195 = 1195, k1196 = 1196, k1197 = 1197, k1198 = 1198, k1199 = 1199,
+    k1200 = 1200, k1201 = 1201, k1202 = 1202, k1203 = 1203, k1204 = 1204, k1205 = 1205, k1206 = 1206, k1207 = 1207, k1208 = 1208, k1209 = 1209,
+    k1210 = 1210, k1211 = 1211, k1212 = 1212, k1213 = 1213, k1214 = 1214, k1215 = 1215, k1216 = 1216, k1217 = 1217, k1218 = 1218, k1219 = 1219,
+    k1220 = 1220, k1221 = 1221, k1222 = 1222, k1223 = 1223, k1224 = 1224, k1225 = 1225, k1226 = 1226, k1227 = 1227, k1228 = 1228, k1229 = 1229,
+    k1230 = 1230, k1231 = 1231, k1232 = 1232, k1233 = 1233, k1234 = 1234, k1235 = 1235, k1236 = 1236, k1237 = 1237, k1238 = 1238, k1239 = 1239,
+    k1240 = 1240, k1241 = 1241, k1242 = 1242, k1243 = 1243, k1244 = 1244, k1245 = 1245, k1246 = 1246, k1247 = 1247, k1248 = 1248, k1249 = 1249,
+    k1250 = 1250, k1251 = 1251, k1252 = 1252, k1253 = 1253, k1254 = 1254, k1255 = 1255, k1256 = 1256, k1257 = 1257, k1258 = 1258, k1259 = 1259,
+    k1260 = 1260, k1261 = 1261, k1262 = 1262, k1263 = 1263, k1264 = 1264, k1265 = 1265, k1266 = 1266, k1267 = 1267, k1268 = 1268, k1269 = 1269,
+    k1270 = 1270, k1271 = 1271, k1272 = 1272, k1273 = 1273, k1274 = 1274, k1275 = 1275, k1276 = 1276, k1277 = 1277, k1278 = 1278, k1279 = 1279,
+    k1280 = 1280, k1281 = 1281, k1282 = 1282, k1283 = 1283, k1284 = 1284, k1285 = 1285, k1286 = 1286, k1287 = 1287, k1288 = 1288, k1289 = 1289,
+    k1290 = 1290, k1291 = 1291, k1292 = 1292, k1293 = 1293, k1294 = 1294, k1295 = 1295, k1296 = 1296, k1297 = 1297, k1298 = 1298, k1299 = 1299,
+    k1300 = 1300, k1301 = 1301, k1302 = 1302, k1303 = 1303, k1304 = 1304, k1305 = 1305, k1306 = 1306, k1307 = 1307, k1308 = 1308, k1309 = 1309,
+    k1310 = 1310, k1311 = 1311, k1312 = 1312, k1313 = 1313, k1314 = 1314, k1315 = 1315, k1316 = 1316, k1317 = 1317, k1318 = 1318, k1319 = 1319,
+    k1320 = 1320, k1321 = 1321, k1322 = 1322, k1323 = 1323, k1324 = 1324, k1325 = 1325, k1326 = 1326, k1327 = 1327, k1328 = 1328, k1329 = 1329,
+    k1330 = 1330, k1331 = 1331, k1332 = 1332, k1333 = 1333, k1334 = 1334, k1335 = 1335, k1336 = 1336, k1337 = 1337, k1338 = 1338, k1339 = 1339,
+    k1340 = 1340, k1341 = 1341, k1342 = 1342, k1343 = 1343, k1344 = 1344, k1345 = 1345, k1346 = 1346, k1347 = 1347, k1348 = 1348, k1349 = 1349,
+    k1350 = 1350, k1351 = 1351, k1352 = 1352, k1353 = 1353, k1354 = 1354, k1355 = 1355, k1356 = 1356, k1357 = 1357, k1358 = 1358, k1359 = 1359,
+    k1360 = 1360, k1361 = 1361, k1362 = 1362, k1363 = 1363, k1364 = 1364, k1365 = 1365, k1366 = 1366, k1367 = 1367, k1368 = 1368, k1369 = 1369,
+    k1370 = 1370, k1371 = 1371, k1372 = 1372, k1373 = 1373, k1374 = 1374, k1375 = 1375, k1376 = 1376, k1377 = 1377, k1378 = 1378, k1379 = 1379,
+    k1380 = 1380, k1381 = 1381, k1382 = 1382, k1383 = 1383, k1384 = 1384, k1385 = 1385, k1386 = 1386, k1387 = 1387, k1388 = 1388, k1389 = 1389,
+    k1390 = 1390, k1391 = 1391, k1392 = 1392, k1393 = 1393, k1394 = 1394, k1395 = 1395, k1396 = 1396, k1397 = 1397, k1398 = 1398, k1399 = 1399,
+    k1400 = 1400, k1401 = 1401, k1402 = 1402, k1403 = 1403, k1404 = 1404, k1405 = 1405, k1406 = 1406, k1407 = 1407, k1408 = 1408, k1409 = 1409,
+    k1410 = 1410, k1411 = 1411, k1412 = 1412, k1413 = 1413, k1414 = 1414, k1415 = 1415, k1416 = 1416, k1417 = 1417, k1418 = 1418, k1419 = 1419,
+    k1420 = 1420, k1421 = 1421, k1422 = 1422, k1423 = 1423, k1424 = 1424, k1425 = 1425, k1426 = 1426, k1427 = 1427, k1428 = 1428, k1429 = 1429,
+    k1430 = 1430, k1431 = 1431, k1432 = 1432, k1433 = 1433, k1434 = 1434, k1435 = 1435, k1436 = 1436, k1437 = 1437, k1438 = 1438, k1439 = 1439,
+    k1440 = 1440, k1441 = 1441, k1442 = 1442, k1443 = 1443, k1444 = 1444, k1445 = 1445, k1446 = 1446, k1447 = 1447, k1448 = 1448, k1449 = 1449,
+    k1450 = 1450, k1451 = 1451, k1452 = 1452, k1453 = 1453, k1454 = 1454, k1455 = 1455, k1456 = 1456, k1457 = 1457, k1458 = 1458, k1459 = 1459,
+    k1460 = 1460, k1461 = 1461, k1462 = 1462, k1463 = 1463, k1464 = 1464, k1465 = 1465, k1466 = 1466, k1467 = 1467, k1468 = 1468, k1469 = 1469,
+    k1470 = 1470, k1471 = 1471, k1472 = 1472, k1473 = 1473, k1474 = 1474, k1475 = 1475, k1476 = 1476, k1477 = 1477, k1478 = 1478, k1479 = 1479,
+    k1480 = 1480, k1481 = 1481, k1482 = 1482, k1483 = 1483, k1484 = 1484, k1485 = 1485, k1486 = 1486, k1487 = 1487, k1488 = 1488, k1489 = 1489,
+    k1490 = 1490, k1491 = 1491, k1492 = 1492, k1493 = 1493, k1494 = 1494, k1495 = 1495, k1496 = 1496, k1497 = 1497, k1498 = 1498, k1499 = 1499,
+    k1500 = 1500, k1501 = 1501, k1502 = 1502, k1503 = 1503, k1504 = 1504, k1505 = 1505, k1506 = 1506, k1507 = 1507, k1508 = 1508, k1509 = 1509,
+    k1510 = 1510, k1511 = 1511, k1512 = 1512, k1513 = 1513, k1514 = 1514, k1515 = 1515, k1516 = 1516, k1517 = 1517, k1518 = 1518, k1519 = 1519,
+    k1520 = 1520, k1521 = 1521, k1522 = 1522, k1523 = 1523, k1524 = 1524, k1525 = 1525, k1526 = 1526, k1527 = 1527, k1528 = 1528, k1529 = 1529,
+    k1530 = 1530, k1531 = 1531, k1532 = 1532, k1533 = 1533, k1534 = 1534, k1535 = 1535, k1536 = 1536, k1537 = 1537, k1538 = 1538, k1539 = 1539,
+    k1540 = 1540, k1541 = 1541, k1542 = 1542, k1543 = 1543, k1544 = 1544, k1545 = 1545, k1546 = 1546, k1547 = 1547, k1548 = 1548, k1549 = 1549,
+    k1550 = 1550, k1551 = 1551, k1552 = 1552, k1553 = 1553, k1554 = 1554, k1555 = 1555, k1556 = 1556, k1557 = 1557, k1558 = 1558, k1559 = 1559,
+    k1560 = 1560, k1561 = 1561, k1562 = 1562, k1563 = 1563, k1564 = 1564, k1565 = 1565, k1566 = 1566, k1567 = 1567, k1568 = 1568, k1569 = 1569,
+    k1570 = 1570, k1571 = 1571, k1572 = 1572, k1573 = 1573, k1574 = 1574, k1575 = 1575, k1576 = 1576, k1577 = 1577, k1578 = 1578, k1579 = 1579,
+    k1580 = 1580, k1581 = 1581, k1582 = 1582, k1583 = 1583, k1584 = 1584, k1585 = 1585, k1586 = 1586, k1587 = 1587, k1588 = 1588, k1589 = 1589,
+    k1590 = 1590, k1591 = 1591, k1592 = 1592, k1593 = 1593, k1594 = 1594, k1595 = 1595, k1596 = 1596, k1597 = 1597, k1598 = 1598, k1599 = 1599,
+    k1600 = 1600, k1601 = 1601, k1602 = 1602, k1603 = 1603, k1604 = 1604, k1605 = 1605, k1606 = 1606, k1607 = 1607, k1608 = 1608, k1609 = 1609,
+    k1610 = 1610, k1611 = 1611, k1612 = 1612, k1613 = 1613, k1614 = 1614, k1615 = 1615, k1616 = 1616, k1617 = 1617, k1618 = 1618, k1619 = 1619,
+    k1620 = 1620, k1621 = 1621, k1622 = 1622, k1623 = 1623, k1624 = 1624, k1625 = 1625, k1626 = 1626, k1627 = 1627, k1628 = 1628, k1629 = 1629,
+    k1630 = 1630, k1631 = 1631, k1632 = 1632, k1633 = 1633, k1634 = 1634, k1635 = 1635, k1636 = 1636, k1637 = 1637, k1638 = 1638, k1639 = 1639,
+    k1640 = 1640, k1641 = 1641, k1642 = 1642, k1643 = 1643, k1644 = 1644, k1645 = 1645, k1646 = 1646, k1647 = 1647, k1648 = 1648, k1649 = 1649,
+    k1650 = 1650, k1651 = 1651, k1652 = 1652, k1653 = 1653, k1654 = 1654, k1655 = 1655, k1656 = 1656, k1657 = 1657, k1658 = 1658, k1659 = 1659,
+    k1660 = 1660, k1661 = 1661, k1662 = 1662, k1663 = 1663, k1664 = 1664, k1665 = 1665, k1666 = 1666, k1667 = 1667, k1668 = 1668, k1669 = 1669,
+    k1670 = 1670, k1671 = 1671, k1672 = 1672, k1673 = 1673, k1674 = 1674, k1675 = 1675, k1676 = 1676, k1677 = 1677, k1678 = 1678, k1679 = 1679,
+    k1680 = 1680, k1681 = 1681, k1682 = 1682, k1683 = 1683, k1684 = 1684, k1685 = 1685, k1686 = 1686, k1687 = 1687, k1688 = 1688, k1689 = 1689,
+    k1690 = 1690, k1691 = 1691, k1692 = 1692, k1693 = 1693, k1694 = 1694, k1695 = 1695, k1696 = 1696, k1697 = 1697, k1698 = 1698, k1699 = 1699,
+    k1700 = 1700, k1701 = 1701, k1702 = 1702, k1703 = 1703, k1704 = 1704, k1705 = 1705, k1706 = 1706, k1707 = 1707, k1708 = 1708, k1709 = 1709,
+    k1710 = 1710, k1711 = 1711, k1712 = 1712, k1713 = 1713, k1714 = 1714, k1715 = 1715, k1716 = 1716, k1717 = 1717, k1718 = 1718, k1719 = 1719,
+    k1720 = 1720, k1721 = 1721, k1722 = 1722, k1723 = 1723, k1724 = 1724, k1725 = 1725, k1726 = 1726, k1727 = 1727, k1728 = 1728, k1729 = 1729,
+    k1730 = 1730, k1731 = 1731, k1732 = 1732, k1733 = 1733, k1734 = 1734, k1735 = 1735, k1736 = 1736, k1737 = 1737, k1738 = 1738, k1739 = 1739,
+    k1740 = 1740, k1741 = 1741, k1742 = 1742, k1743 = 1743, k1744 = 1744, k1745 = 1745, k1746 = 1746, k1747 = 1747, k1748 = 1748, k1749 = 1749,
+    k1750 = 1750, k1751 = 1751, k1752 = 1752, k1753 = 1753, k1754 = 1754, k1755 = 1755, k1756 = 1756, k1757 = 1757, k1758 = 1758, k1759 = 1759,
+    k1760 = 1760, k1761 = 1761, k1762 = 1762, k1763 = 1763, k1764 = 1764, k1765 = 1765, k1766 = 1766, k1767 = 1767, k1768 = 1768, k1769 = 1769,
+    k1770 = 1770, k1771 = 1771, k1772 = 1772, k1773 = 1773, k1774 = 1774, k1775 = 1775, k1776 = 1776, k1777 = 1777, k1778 = 1778, k1779 = 1779,
+    k1780 = 1780, k1781 = 1781, k1782 = 1782, k1783 = 1783, k1784 = 1784, k1785 = 1785, k1786 = 1786, k1787 = 1787, k1788 = 1788, k1789 = 1789,
+    k1790 = 1790, k1791 = 1791, k1792 = 1792, k1793 = 1793, k1794 = 1794, k1795 = 1795, k1796 = 1796, k1797 = 1797, k1798 = 1798, k1799 = 1799,
+    k1800 = 1800, k1801 = 1801, k1802 = 1802, k1803 = 1803, k1804 = 1804, k1805 = 1805, k1806 = 1806, k1807 = 1807, k1808 = 1808, k1809 = 1809,
+    k1810 = 1810, k1811 = 1811, k1812 = 1812, k1813 = 1813, k1814 = 1814, k1815 = 1815, k1816 = 1816, k1817 = 1817, k1818 = 1818, k1819 = 1819,
+    k1820 = 1820, k1821 = 1821, k1822 = 1822, k1823 = 1823, k1824 = 1824, k1825 = 1825, k1826 = 1826, k1827 = 1827, k1828 = 1828, k1829 = 1829,
+    k1830 = 1830, k1831 = 1831, k1832 = 1832, k1833 = 1833, k1834 = 1834, k1835 = 1835, k1836 = 1836, k1837 = 1837, k1838 = 1838, k1839 = 1839,
+    k1840 = 1840, k1841 = 1841, k1842 = 1842, k1843 = 1843, k1844 = 1844, k1845 = 1845, k1846 = 1846, k1847 = 1847, k1848 = 1848, k1849 = 1849,
+    k1850 = 1850, k1851 = 1851, k1852 = 1852, k1853 = 1853, k1854 = 1854, k1855 = 1855, k1856 = 1856, k1857 = 1857, k1858 = 1858, k1859 = 1859,
+    k1860 = 1860, k1861 = 1861, k1862 = 1862, k1863 = 1863, k1864 = 1864, k1865 = 1865, k1866 = 1866, k1867 = 1867, k1868 = 1868, k1869 = 1869,
+    k1870 = 1870, k1871 = 1871, k1872 = 1872, k1873 = 1873, k1874 = 1874, k1875 = 1875, k1876 = 1876, k1877 = 1877, k1878 = 1878, k1879 = 1879,
+    k1880 = 1880, k1881 = 1881, k1882 = 1882, k1883 = 1883, k1884 = 1884, k1885 = 1885, k1886 = 1886, k1887 = 1887, k1888 = 1888, k1889 = 1889,
+    k1890 = 1890, k1891 = 1891, k1892 = 1892, k1893 = 1893, k1894 = 1894, k1895 = 1895, k1896 = 1896, k1897 = 1897, k1898 = 1898, k1899 = 1899,
+    k1900 = 1900, k1901 = 1901, k1902 = 1902, k1903 = 1903, k1904 = 1904, k1905 = 1905, k1906 = 1906, k1907 = 1907, k1908 = 1908, k1909 = 1909,
+    k1910 = 1910, k1911 = 1911, k1912 = 1912, k1913 = 1913, k1914 = 1914, k1915 = 1915, k1916 = 1916, k1917 = 1917, k1918 = 1918, k1919 = 1919,
+    k1920 = 1920, k1921 = 1921, k1922 = 1922, k1923 = 1923, k1924 = 1924, k1925 = 1925, k1926 = 1926, k1927 = 1927, k1928 = 1928, k1929 = 1929,
+    k1930 = 1930, k1931 = 1931, k1932 = 1932, k1933 = 1933, k1934 = 1934, k1935 = 1935, k1936 = 1936, k1937 = 1937, k1938 = 1938, k1939 = 1939,
+    k1940 = 1940, k1941 = 1941, k1942 = 1942, k1943 = 1943, k1944 = 1944, k1945 = 1945, k1946 = 1946, k1947 = 1947, k1948 = 1948, k1949 = 1949,
+    k1950 = 1950, k1951 = 1951, k1952 = 1952, k1953 = 1953, k1954 = 1954, k1955 = 1955, k1956 = 1956, k1957 = 1957, k1958 = 1958, k1959 = 1959,
+    k1960 = 1960, k1961 = 1961, k1962 = 1962, k1963 = 1963, k1964 = 1964, k1965 = 1965, k1966 = 1966, k1967 = 1967, k1968 = 1968, k1969 = 1969,
+    k1970 = 1970, k1971 = 1971, k1972 = 1972, k1973 = 1973, k1974 = 1974, k1975 = 1975, k1976 = 1976, k1977 = 1977, k1978 = 1978, k1979 = 1979,
+    k1980 = 1980, k1981 = 1981, k1982 = 1982, k1983 = 1983, k1984 = 1984, k1985 = 1985, k1986 = 1986, k1987 = 1987, k1988 = 1988, k1989 = 1989,
+    k1990 = 1990, k1991 = 1991, k1992 = 1992, k1993 = 1993, k1994 = 1994, k1995 = 1995, k1996 = 1996, k1997 = 1997, k1998 = 1998, k1999 = 1999,
+    k2000 = 2000, k2001 = 2001, k2002 = 2002, k2003 = 2003, k2004 = 2004, k2005 = 2005, k2006 = 2006, k2007 = 2007, k2008 = 2008, k2009 = 2009,
+    k2010 = 2010, k2011 = 2011, k2012 = 2012, k2013 = 2013, k2014 = 2014, k2015 = 2015, k2016 = 2016, k2017 = 2017, k2018 = 2018, k2019 = 2019,
+    k2020 = 2020, k2021 = 2021, k2022 = 2022, k2023 = 2023, k2024 = 2024, k2025 = 2025, k2026 = 2026, k2027 = 2027, k2028 = 2028, k2029 = 2029,
+    k2030 = 2030, k2031 = 2031, k2032 = 2032, k2033 = 2033, k2034 = 2034, k2035 = 2035, k2036 = 2036, k2037 = 2037, k2038 = 2038, k2039 = 2039,
+    k2040 = 2040, k2041 = 2041, k2042 = 2042, k2043 = 2043, k2044 = 2044, k2045 = 2045, k2046 = 2046, k2047 = 2047, k2048 = 2048, k2049 = 2049,
+    k2050 = 2050, k2051 = 2051, k2052 = 2052, k2053 = 2053, k2054 = 2054, k2055 = 2055, k2056 = 2056, k2057 = 2057, k2058 = 2058, k2059 = 2059,
+    k2060 = 2060, k2061 = 2061, k2062 = 2062, k2063 = 2063, k2064 = 2064, k2065 = 2065, k2066 = 2066, k2067 = 2067, k2068 = 2068, k2069 = 2069,
+    k2070 = 2070, k2071 = 2071, k2072 = 2072, k2073 = 2073, k2074 = 2074, k2075 = 2075, k2076 = 2076, k2077 = 2077, k2078 = 2078, k2079 = 2079,
+    k2080 = 2080, k2081 = 2081, k2082 = 2082, k2083 = 2083, k2084 = 2084, k2085 = 2085, k2086 = 2086, k2087 = 2087, k2088 = 2088, k2089 = 2089,
+    k2090 = 2090, k2091 = 2091, k2092 = 2092, k2093 = 2093, k2094 = 2094, k2095 = 2095, k2096 = 2096, k2097 = 2097, k2098 = 2098, k2099 = 2099,
+    k2100 = 2100, k2101 = 2101, k2102 = 2102, k2103 = 2103, k2104 = 2104, k2105 = 2105, k2106 = 2106, k2107 = 2107, k2108 = 2108, k2109 = 2109,
+    k2110 = 2110, k2111 = 2111, k2112 = 2112, k2113 = 2113, k2114 = 2114, k2115 = 2115, k2116 = 2116, k2117 = 2117, k2118 = 2118, k2119 = 2119,
+    k2120 = 2120, k2121 = 2121, k2122 = 2122, k2123 = 2123, k2124 = 2124, k2125 = 2125, k2126 = 2126, k2127 = 2127, k2128 = 2128, k2129 = 2129,
+    k2130 = 2130, k2131 = 2131, k2132 = 2132, k2133 = 2133, k2134 = 2134, k2135 = 2135, k2136 = 2136, k2137 = 2137, k2138 = 2138, k2139 = 2139,
+    k2140 = 2140, k2141 = 2141, k2142 = 2142, k2143 = 2143, k2144 = 2144, k2145 = 2145, k2146 = 2146, k2147 = 2147, k2148 = 2148, k2149 = 2149,
+    k2150 = 2150, k2151 = 2151, k2152 = 2152, k2153 = 2153, k2154 = 2154, k2155 = 2155, k2156 = 2156, k2157 = 2157, k2158 = 2158, k2159 = 2159,
+    k2160 = 2160, k2161 = 2161, k2162 = 2162, k2163 = 2163, k2164 = 2164, k2165 = 2165, k2166 = 2166, k2167 = 2167, k2168 = 2168, k2169 = 2169,
+    k2170 = 2170, k2171 = 2171, k2172 = 2172, k2173 = 2173, k2174 = 2174, k2175 = 2175, k2176 = 2176, k2177 = 2177, k2178 = 2178, k2179 = 2179,
+    k2180 = 2180, k2181 = 2181, k2182 = 2182, k2183 = 2183, k2184 = 2184, k2185 = 2185, k2186 = 2186, k2187 = 2187, k2188 = 2188, k2189 = 2189,
+    k2190 = 2190, k2191 = 2191, k2192 = 2192, k2193 = 2193, k2194 = 2194, k2195 = 2195, k2196 = 2196, k2197 = 2197, k2198 = 2198, k2199 = 2199,
+    k2200 = 2200, k2201 = 2201, k2202 = 2202, k2203 = 2203, k2204 = 2204, k2205 = 2205, k2206 = 2206, k2207 = 2207, k2208 = 2208, k2209 = 2209,
+    k2210 = 2210, k2211 = 2211, k2212 = 2212, k2213 = 2213, k2214 = 2214, k2215 = 2215, k2216 = 2216, k2217 = 2217, k2218 = 2218, k2219 = 2219,
+    k2220 = 2220, k2221 = 2221, k2222 = 2222, k2223 = 2223, k2224 = 2224, k2225 = 2225, k2226 = 2226, k2227 = 2227, k2228 = 2228, k2229 = 2229,
+    k2230 = 2230, k2231 = 2231, k2232 = 2232, k2233 = 2233, k2234 = 2234, k2235 = 2235, k2236 = 2236, k2237 = 2237, k2238 = 2238, k2239 = 2239,
+    k2240 = 2240, k2241 = 2241, k2242 = 2242, k2243 = 2243, k2244 = 2244, k2245 = 2245, k2246 = 2246, k2247 = 2247, k2248 = 2248, k2249 = 2249,
+    k2250 = 2250, k2251 = 2251, k2252 = 2252, k2253 = 2253, k2254 = 2254, k2255 = 2255, k2256 = 2256, k2257 = 2257, k2258 = 2258, k2259 = 2259,
+    k2260 = 2260, k2261 = 2261, k2262 = 2262, k2263 = 2263, k2264 = 2264, k2265 = 2265, k2266 = 2266, k2267 = 2267, k2268 = 2268, k2269 = 2269,
+    k2270 = 2270, k2271 = 2271, k2272 = 2272, k2273 = 2273, k2274 = 2274, k2275 = 2275, k2276 = 2276, k2277 = 2277, k2278 = 2278, k2279 = 2279,
+    k2280 = 2280, k2281 = 2281, k2282 = 2282, k2283 = 2283, k2284 = 2284, k2285 = 2285, k2286 = 2286, k2287 = 2287, k2288 = 2288, k2289 = 2289,
+    k2290 = 2290, k2291 = 2291, k2292 = 2292, k2293 = 2293, k2294 = 2294, k2295 = 2295, k2296 = 2296, k2297 = 2297, k2298 = 2298, k2299 = 2299,
+    k2300 = 2300, k2301 = 2301, k2302 = 2302, k2303 = 2303, k2304 = 2304, k2305 = 2305, k2306 = 2306, k2307 = 2307, k2308 = 2308, k2309 = 2309,
+    k2310 = 2310, k2311 = 2311, k2312 = 2312, k2313 = 2313, k2314 = 2314, k2315 = 2315, k2316 = 2316, k2317 = 2317, k2318 = 2318, k2319 = 2319,
+    k2320 = 2320, k2321 = 2321, k2322 = 2322, k2323 = 2323, k2324 = 2324, k2325 = 2325, k2326 = 2326, k2327 = 2327, k2328 = 2328, k2329 = 2329,
+    k2330 = 2330, k2331 = 2331, k2332 = 2332, k2333 = 2333, k2334 = 2334, k2335 = 2335, k2336 = 2336, k2337 = 2337, k2338 = 2338, k2339 = 2339,
+    k2340 = 2340, k2341 = 2341, k2342 = 2342, k2343 = 2343, k2344 = 2344, k2345 = 2345, k2346 = 2346, k2347 = 2347, k2348 = 2348, k2349 = 2349,
+    k2350 = 2350, k2351 = 2351, k2352 = 2352, k2353 = 2353, k2354 = 2354, k2355 = 2355, k2356 = 2356, k2357 = 2357, k2358 = 2358, k2359 = 2359,
+    k2360 = 2360, k2361 = 2361, k2362 = 2362, k2363 = 2363, k2364 = 2364, k2365 = 2365, k2366 = 2366, k2367 = 2367, k2368 = 2368, k2369 = 2369,
+    k2370 = 2370, k2371 = 2371, k2372 = 2372, k2373 = 2373, k2374 = 2374, k2375 = 2375, k2376 = 2376, k2377 = 2377, k2378 = 2378, k2379 = 2379,
+    k2380 = 2380, k2381 = 2381, k2382 = 2382, k2383 = 2383, k2384 = 2384, k2385 = 2385, k2386 = 2386, k2387 = 2387, k2388 = 2388, k2389 = 2389,
+    k2390 = 2390, k2391 = 2391, k2392 = 2392, k2393 = 2393, k2394 = 2394, k2395 = 2395, k2396 = 2396, k2397 = 2397, k2398 = 2398, k2399 = 2399,
+    k2400 = 2400, k2401 = 2401, k2402 = 2402, k2403 = 2403, k2404 = 2404, k2405 = 2405, k2406 = 2406, k2407 = 2407, k2408 = 2408, k2409 = 2409,
+    k2410 = 2410, k2411 = 2411, k2412 = 2412, k2413 = 2413, k2414 = 2414, k2415 = 2415, k2416 = 2416, k2417 = 2417, k2418 = 2418, k2419 = 2419,
+    k2420 = 2420, k2421 = 2421, k2422 = 2422, k2423 = 2423, k2424 = 2424, k2425 = 2425, k2426 = 2426, k2427 = 2427, k2428 = 2428, k2429 = 2429,
+    k2430 = 2430, k2431 = 2431, k2432 = 2432, k2433 = 2433, k2434 = 2434, k2435 = 2435, k2436 = 2436, k2437 = 2437, k2438 = 2438, k2439 = 2439,
+    k2440 = 2440, k2441 = 2441, k2442 = 2442, k2443 = 2443, k2444 = 2444, k2445 = 2445, k2446 = 2446, k2447 = 2447, k2448 = 2448, k2449 = 2449,
+    k2450 = 2450, k2451 = 2451, k2452 = 2452, k2453 = 2453, k2454 = 2454, k2455 = 2455, k2456 = 2456, k2457 = 2457, k2458 = 2458, k2459 = 2459,
+    k2460 = 2460, k2461 = 2461, k2462 = 2462, k2463 = 2463, k2464 = 2464, k2465 = 2465, k2466 = 2466, k2467 = 2467, k2468 = 2468, k2469 = 2469,
+    k2470 = 2470, k2471 = 2471, k2472 = 2472, k2473 = 2473, k2474 = 2474, k2475 = 2475, k2476 = 2476, k2477 = 2477, k2478 = 2478, k2479 = 2479,
+    k2480 = 2480, k2481 = 2481, k2482 = 2482, k2483 = 2483, k2484 = 2484, k2485 = 2485, k2486 = 2486, k2487 = 2487, k2488 = 2488, k2489 = 2489,
+    k2490 = 2490, k2491 = 2491, k2492 = 2492, k2493 = 2493, k2494 = 2494, k2495 = 2495, k2496 = 2496, k2497 = 2497, k2498 = 2498, k2499 = 2499,
+    k2500 = 2500, k2501 = 2501, k2502 = 2502, k2503 = 2503, k2504 = 2504, k2505 = 2505, k2506 = 2506, k2507 = 2507, k2508 = 2508, k2509 = 2509,
+    k2510 = 2510, k2511 = 2511, k2512 = 2512, k2513 = 2513, k2514 = 2514, k2515 = 2515, k2516 = 2516, k2517 = 2517, k2518 = 2518, k2519 = 2519,
+    k2520 = 2520, k2521 = 2521, k2522 = 2522, k2523 = 2523, k2524 = 2524, k2525 = 2525, k2526 = 2526, k2527 = 2527, k2528 = 2528, k2529 = 2529,
+    k2530 = 2530, k2531 = 2531, k2532 = 2532, k2533 = 2533, k2534 = 2534, k2535 = 2535, k2536 = 2536, k2537 = 2537, k2538 = 2538, k2539 = 2539,
+    k2540 = 2540, k2541 = 2541, k2542 = 2542, k2543 = 2543, k2544 = 2544, k2545 = 2545, k2546 = 2546, k2547 = 2547, k2548 = 2548, k2549 = 2549,
+    k2550 = 2550, k2551 = 2551, k2552 = 2552, k2553 = 2553, k2554 = 2554, k2555 = 2555, k2556 = 2556, k2557 = 2557, k2558 = 2558, k2559 = 2559,
+    k2560 = 2560, k2561 = 2561, k2562 = 2562, k2563 = 2563, k2564 = 2564, k2565 = 2565, k2566 = 2566, k2567 = 2567, k2568 = 2568, k2569 = 2569,
+    k2570 = 2570, k2571 = 2571, k2572 = 2572, k2573 = 2573, k2574 = 2574, k2575 = 2575, k2576 = 2576, k2577 = 2577, k2578 = 2578, k2579 = 2579,
+    k2580 = 2580, k2581 = 2581, k2582 = 2582, k2583 = 2583, k2584 = 2584, k2585 = 2585, k2586 = 2586, k2587 = 2587, k2588 = 2588, k2589 = 2589,
+    k2590 = 2590, k2591 = 2591, k2592 = 2592, k2593 = 2593, k2594 = 2594, k2595 = 2595, k2596 = 2596, k2597 = 2597, k2598 = 2598, k2599 = 2599,
+    k2600 = 2600, k2601 = 2601, k2602 = 2602, k2603 = 2603, k2604 = 2604, k2605 = 2605, k2606 = 2606, k2607 = 2607, k2608 = 2608, k2609 = 2609,
+    k2610 = 2610, k2611 = 2611, k2612 = 2612, k2613 = 2613, k2614 = 2614, k2615 = 2615, k2616 = 2616, k2617 = 2617, k2618 = 2618, k2619 = 2619,
+    k2620 = 2620, k2621 = 2621, k2622 = 2622, k2623 = 2623, k2624 = 2624, k2625 = 2625, k2626 = 2626, k2627 = 2627, k2628 = 2628, k2629 = 2629,
+    k2630 = 2630, k2631 = 2631, k2632 = 2632, k2633 = 2633, k2634 = 2634, k2635 = 2635, k2636 = 2636, k2637 = 2637, k2638 = 2638, k2639 = 2639,
+    k2640 = 2640, k2641 = 2641, k2642 = 2642, k2643 = 2643, k2644 = 2644, k2645 = 2645, k2646 = 2646, k2647 = 2647, k2648 = 2648, k2649 = 2649,
+    k2650 = 2650, k2651 = 2651, k2652 = 2652, k2653 = 2653, k2654 = 2654, k2655 = 2655, k2656 = 2656, k2657 = 2657, k2658 = 2658, k2659 = 2659,
+    k2660 = 2660, k2661 = 2661, k2662 = 2662, k2663 = 2663, k2664 = 2664, k2665 = 2665, k2666 = 2666, k2667 = 2667, k2668 = 2668, k2669 = 2669,
+    k2670 = 2670, k2671 = 2671, k2672 = 2672, k2673 = 2673, k2674 = 2674, k2675 = 2675, k2676 = 2676, k2677 = 2677, k2678 = 2678, k2679 = 2679,
+    k2680 = 2680, k2681 = 2681, k2682 = 2682, k2683 = 2683, k2684 = 2684, k2685 = 2685, k2686 = 2686, k2687 = 2687, k2688 = 2688, k2689 = 2689,
+    k2690 = 2690, k2691 = 2691, k2692 = 2692, k2693 = 2693, k2694 = 2694, k2695 = 2695, k2696 = 2696, k2697 = 2697, k2698 = 2698, k2699 = 2699,
+    k2700 = 2700, k2701 = 2701, k2702 = 2702, k2703 = 2703, k2704 = 2704, k2705 = 2705, k2706 = 2706, k2707 = 2707, k2708 = 2708, k2709 = 2709,
+    k2710 = 2710, k2711 = 2711, k2712 = 2712, k2713 = 2713, k2714 = 2714, k2715 = 2715, k2716 = 2716, k2717 = 2717, k2718 = 2718, k2719 = 2719,
+    k2720 = 2720, k2721 = 2721, k2722 = 2722, k2723 = 2723, k2724 = 2724, k2725 = 2725, k2726 = 2726, k2727 = 2727, k2728 = 2728, k2729 = 2729,
+    k2730 = 2730, k2731 = 2731, k2732 = 2732, k2733 = 2733, k2734 = 2734, k2735 = 2735, k2736 = 2736, k2737 = 2737, k2738 = 2738, k2739 = 2739,
+    k2740 = 2740, k2741 = 2741, k2742 = 2742, k2743 = 2743, k2744 = 2744, k2745 = 2745, k2746 = 2746, k2747 = 2747, k2748 = 2748, k2749 = 2749,
+    k2750 = 2750, k2751 = 2751, k2752 = 2752, k2753 = 2753, k2754 = 2754, k2755 = 2755, k2756 = 2756, k2757 = 2757, k2758 = 2758, k2759 = 2759,
+    k2760 = 2760, k2761 = 2761, k2762 = 2762, k2763 = 2763, k2764 = 2764, k2765 = 2765, k2766 = 2766, k2767 = 2767, k2768 = 2768, k2769 = 2769,
+    k2770 = 2770, k2771 = 2771, k2772 = 2772, k2773 = 2773, k2774 = 2774, k2775 = 2775, k2776 = 2776, k2777 = 2777, k2778 = 2778, k2779 = 2779,
+    k2780 = 2780, k2781 = 2781, k2782 = 2782, k2783 = 2783, k2784 = 2784, k2785 = 2785, k2786 = 2786, k2787 = 2787, k2788 = 2788, k2789 = 2789,
+    k2790 = 2790, k2791 = 2791, k2792 = 2792, k2793 = 2793, k2794 = 2794, k2795 = 2795, k2796 = 2796, k2797 = 2797, k2798 = 2798, k2799 = 2799,
+    k2800 = 2800, k2801 = 2801, k2802 = 2802, k2803 = 2803, k2804 = 2804, k2805 = 2805, k2806 = 2806, k2807 = 2807, k2808 = 2808, k2809 = 2809,
+    k2810 = 2810, k2811 = 2811, k2812 = 2812, k2813 = 2813, k2814 = 2814, k2815 = 2815, k2816 = 2816, k2817 = 2817, k2818 = 2818, k2819 = 2819,
+    k2820 = 2820, k2821 = 2821, k2822 = 2822, k2823 = 2823, k2824 = 2824, k2825 = 2825, k2826 = 2826, k2827 = 2827, k2828 = 2828, k2829 = 2829,
+    k2830 = 2830, k2831 = 2831, k2832 = 2832, k2833 = 2833, k2834 = 2834, k2835 = 2835, k2836 = 2836, k2837 = 2837, k2838 = 2838, k2839 = 2839,
+    k2840 = 2840, k2841 = 2841, k2842 = 2842, k2843 = 2843, k2844 = 2844, k2845 = 2845, k2846 = 2846, k2847 = 2847, k2848 = 2848, k2849 = 2849,
+    k2850 = 2850, k2851 = 2851, k2852 = 2852, k2853 = 2853, k2854 = 2854, k2855 = 2855, k2856 = 2856, k2857 = 2857, k2858 = 2858, k2859 = 2859,
+    k2860 = 2860, k2861 = 2861, k2862 = 2862, k2863 = 2863, k2864 = 2864, k2865 = 2865, k2866 = 2866, k2867 = 2867, k2868 = 2868, k2869 = 2869,
+    k2870 = 2870, k2871 = 2871, k2872 = 2872, k2873 = 2873, k2874 = 2874, k2875 = 2875, k2876 = 2876, k2877 = 2877, k2878 = 2878, k2879 = 2879,
+    k2880 = 2880, k2881 = 2881, k2882 = 2882, k2883 = 2883, k2884 = 2884, k2885 = 2885, k2886 = 2886, k2887 = 2887, k2888 = 2888, k2889 = 2889,
+    k2890 = 2890, k2891 = 2891, k2892 = 2892, k2893 = 2893, k2894 = 2894, k2895 = 2895, k2896 = 2896, k2897 = 2897, k2898 = 2898, k2899 = 2899,
+    k2900 = 2900, k2901 = 2901, k2902 = 2902, k2903 = 2903, k2904 = 2904, k2905 = 2905, k2906 = 2906, k2907 = 2907, k2908 = 2908, k2909 = 2909,
+    k2910 = 2910, k2911 = 2911, k2912 = 2912, k2913 = 2913, k2914 = 2914, k2915 = 2915, k2916 = 2916, k2917 = 2917, k2918 = 2918, k2919 = 2919,
+    k2920 = 2920, k2921 = 2921, k2922 = 2922, k2923 = 2923, k2924 = 2924, k2925 = 2925, k2926 = 2926, k2927 = 2927, k2928 = 2928, k2929 = 2929,
+    k2930 = 2930, k2931 = 2931, k2932 = 2932, k2933 = 2933, k2934 = 2934, k2935 = 2935, k2936 = 2936, k2937 = 2937, k2938 = 2938, k2939 = 2939,
+    k2940 = 2940, k2941 = 2941, k2942 = 2942, k2943 = 2943, k2944 = 2944, k2945 = 2945, k2946 = 2946, k2947 = 2947, k2948 = 2948, k2949 = 2949,
+    k2950 = 2950, k2951 = 2951, k2952 = 2952, k2953 = 2953, k2954 = 2954, k2955 = 2955, k2956 = 2956, k2957 = 2957, k2958 = 2958, k2959 = 2959,
+    k2960 = 2960, k2961 = 2961, k2962 = 2962, k2963 = 2963, k2964 = 2964, k2965 = 2965, k2966 = 2966, k2967 = 2967, k2968 = 2968, k2969 = 2969,
+    k2970 = 2970, k2971 = 2971, k2972 = 2972, k2973 = 2973, k2974 = 2974, k2975 = 2975, k2976 = 2976, k2977 = 2977, k2978 = 2978, k2979 = 2979,
+    k2980 = 2980, k2981 = 2981, k2982 = 2982, k2983 = 2983, k2984 = 2984, k2985 = 2985, k2986 = 2986, k2987 = 2987, k2988 = 2988, k2989 = 2989,
+    k2990 = 2990, k2991 = 2991, k2992 = 2992, k2993 = 2993, k2994 = 2994, k2995 = 2995, k2996 = 2996, k2997 = 2997, k2998 = 2998, k2999 = 2999,
+}
+
+local sum = 0
+for i = 1, #data do
+    sum = sum + data[i]
+end
+print(#data, data[1], data[12000], sum)
+print(names.k0, names.k1234, names.k2999)
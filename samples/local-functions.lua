@@ -0,0 +1,51 @@
+-- local functions which are only called directly get typed entry points
+
+local function area(w, h)
+    return w * h * 0.5
+end
+
+local function total(t, n)
+    local sum = 0
+    for i = 1, n do
+        sum = sum + t[i]
+    end
+    return sum
+end
+
+local function swap(a, b)
+    return b, a
+end
+
+local values = {}
+for i = 1, 5 do
+    values[i] = area(i, i + 1)
+end
+print(total(values, 5))
+
+print(swap(1, "x"))
+local first, second = swap(2.5, 3)
+print(first, second)
+
+-- called with a missing argument
+local function describe(a, b)
+    return tostring(a) .. "/" .. tostring(b)
+end
+print(describe(1, 2), describe(3))
+
+-- passed around as a value
+local function twice(x)
+    return x * 2
+end
+local function apply(f, x)
+    return f(x)
+end
+print(twice(4), apply(twice, 5))
+
+-- tail call of a typed function
+local function half(x)
+    return x / 2
+end
+local function quarter(x)
+    return half(x / 2)
+end
+print(quarter(10), half(7))
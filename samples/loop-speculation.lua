@@ -0,0 +1,70 @@
+-- numeric for loops get a version which assumes that table values are numbers
+
+local function dot(a, b, n)
+    local sum = 0
+    for i = 1, n do
+        local x, y = a[i], b[i]
+        sum = sum + x * y
+    end
+    return sum
+end
+
+local floats, halves = {}, {}
+for i = 1, 10 do
+    floats[i] = i + 0.0
+    halves[i] = 0.5
+end
+print(dot(floats, halves, 10))
+
+-- an integer in the middle: the rest of the loop keeps integer arithmetic
+local mixed = {}
+for i = 1, 10 do
+    mixed[i] = 1.5
+end
+mixed[6] = 2
+print(dot(mixed, mixed, 10))
+
+-- a string in the middle
+mixed[6] = "3"
+print(dot(mixed, halves, 10))
+
+-- a value which comes from __index
+local proxy = setmetatable({}, {__index = function(t, k) return 0.25 end})
+for i = 1, 10 do
+    if i ~= 4 then proxy[i] = 0.75 end
+end
+print(dot(proxy, floats, 10))
+
+-- the counter of calls must not be affected by iterations which are performed again
+local calls, total = 0, 0.0
+local function weight(x)
+    calls = calls + 1
+    return x
+end
+for i = 1, 10 do
+    local w = floats[i] * 2
+    total = total + weight(w)
+end
+mixed[6] = 2
+for i = 1, 10 do
+    local m = mixed[i] + 0
+    total = total + m * m
+end
+print(total, calls)
+
+-- "a" is updated before the check of "y" fails
+local a, b = 0, 0
+for i = 1, 10 do
+    local x, y = floats[i], mixed[i]
+    a = a + x * x
+    b = b + y * y
+end
+print(a, b)
+
+-- no iterations at all
+local none = 0
+for i = 1, 0 do
+    local x = floats[i]
+    none = none + x * x
+end
+print(math.type(none))
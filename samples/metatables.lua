@@ -0,0 +1,129 @@
+local Vector = {}
+Vector.__index = Vector
+
+function Vector.new(x, y)
+	return setmetatable({x = x, y = y}, Vector)
+end
+
+function Vector:length()
+	return math.sqrt(self.x * self.x + self.y * self.y)
+end
+
+Vector.__add = function(a, b)
+	return Vector.new(a.x + b.x, a.y + b.y)
+end
+
+Vector.__mul = function(a, b)
+	if type(a) == "number" then
+		return Vector.new(a * b.x, a * b.y)
+	end
+	return Vector.new(a.x * b, a.y * b)
+end
+
+Vector.__unm = function(a)
+	return Vector.new(-a.x, -a.y)
+end
+
+Vector.__eq = function(a, b)
+	return a.x == b.x and a.y == b.y
+end
+
+Vector.__lt = function(a, b)
+	return a:length() < b:length()
+end
+
+Vector.__le = function(a, b)
+	return a:length() <= b:length()
+end
+
+Vector.__len = function(a)
+	return 2
+end
+
+Vector.__concat = function(a, b)
+	return tostring(a) .. "|" .. tostring(b)
+end
+
+Vector.__call = function(self, scale)
+	return self.x * scale
+end
+
+local a = Vector.new(3, 4)
+local b = Vector.new(1, 2)
+assert(getmetatable(a) == Vector)
+assert(a:length() == 5)
+local c = a + b
+assert(c.x == 4 and c.y == 6)
+local d = 2 * b
+assert(d.x == 2 and d.y == 4)
+d = b * 3
+assert(d.x == 3 and d.y == 6)
+assert((-a).x == -3)
+assert(a + b == Vector.new(4, 6))
+assert(a ~= b)
+assert(b < a and b <= a and a > b and not (a < b))
+assert(#a == 2)
+assert(("x" .. a) == "x|" .. tostring(a))
+assert(a(10) == 30)
+
+print "1"
+
+-- inheritance through chained __index tables
+local Animal = {}
+Animal.__index = Animal
+function Animal.new(name)
+	return setmetatable({name = name}, Animal)
+end
+function Animal:speak()
+	return self.name .. " makes a sound"
+end
+
+local Dog = setmetatable({}, {__index = Animal})
+Dog.__index = Dog
+function Dog.new(name)
+	return setmetatable(Animal.new(name), Dog)
+end
+function Dog:speak()
+	return self.name .. " barks"
+end
+
+local animals = {Animal.new("cat"), Dog.new("rex"), Animal.new("cow")}
+local said = {}
+for i = 1, 3 do
+	said[i] = animals[i]:speak()
+end
+assert(table.concat(said, ", ") == "cat makes a sound, rex barks, cow makes a sound")
+-- methods added later are visible to existing objects
+function Animal:legs()
+	return 4
+end
+assert(animals[2]:legs() == 4)
+
+print "2"
+
+-- default values, proxies and raw access
+local defaults = setmetatable({}, {__index = function(t, k) return k * 2 end})
+assert(defaults[21] == 42)
+assert(defaults[1] + 1 == 3)
+assert(rawget(defaults, 21) == nil)
+
+local log = {}
+local proxy = setmetatable({}, {
+	__index = function(t, k) return "get " .. k end,
+	__newindex = function(t, k, v) log[#log + 1] = k .. "=" .. v end
+})
+proxy.a = 1
+proxy[2] = 3
+assert(proxy.a == "get a")
+assert(rawget(proxy, "a") == nil)
+assert(table.concat(log, " ") == "a=1 2=3")
+rawset(proxy, "a", 5)
+assert(proxy.a == 5)
+proxy.a = 6
+assert(proxy.a == 6)
+
+local protected = setmetatable({}, {__metatable = "locked"})
+assert(getmetatable(protected) == "locked")
+assert(not pcall(setmetatable, protected, {}))
+
+print "3"
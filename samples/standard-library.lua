@@ -54,3 +54,71 @@ print "6"
 assert(string.len("abc") == 3)
 assert(string.len(1234) == 4)
 assert(string.len("") == 0)
+
+print "7"
+
+local t = {1, 2, 3}
+table.insert(t, 4)
+table.insert(t, 1, 0)
+assert(table.concat(t, " ") == "0 1 2 3 4")
+assert(table.remove(t) == 4)
+assert(table.remove(t, 1) == 0)
+assert(table.concat(t, " ") == "1 2 3")
+assert(table.remove({}) == nil)
+local storage = {10, 20, 30}
+local proxy = setmetatable({}, {
+	__index = storage,
+	__newindex = function(_, k, v) storage[k] = v end,
+	__len = function() return #storage end
+})
+table.insert(proxy, 40)
+table.insert(proxy, 1, 0)
+assert(table.concat(storage, " ") == "0 10 20 30 40")
+assert(table.remove(proxy) == 40)
+assert(table.remove(proxy, 2) == 10)
+assert(table.concat(storage, " ") == "0 20 30")
+assert(rawlen(proxy) == 0)
+local tens = setmetatable({}, {
+	__index = function(_, k) return k * 10 end,
+	__len = function() return 3 end
+})
+local ten, twenty, thirty = table.unpack(tens)
+assert(ten == 10 and twenty == 20 and thirty == 30)
+local doubled = {}
+local doubling = setmetatable({}, {__newindex = function(_, k, v) doubled[k] = v * 2 end})
+table.move({1, 2, 3}, 1, 3, 1, doubling)
+assert(doubled[1] == 2 and doubled[2] == 4 and doubled[3] == 6)
+table.move(tens, 1, 3, 1, doubled)
+assert(doubled[1] == 10 and doubled[2] == 20 and doubled[3] == 30)
+table.sort(proxy, function(x, y) return x > y end)
+assert(table.concat(storage, " ") == "30 20 0")
+assert(rawlen(proxy) == 0)
+local ok, err = pcall(next, 5)
+assert(not ok and err == "Bad parameter #1 (table expected)")
+ok, err = pcall(table.move, {1})
+assert(not ok and err == "Bad parameter #2 (number expected)")
+local a, b, c = table.unpack({1, 2, 3})
+assert(a == 1 and b == 2 and c == 3)
+a, b, c = table.unpack({1, 2, 3}, 2, 4)
+assert(a == 2 and b == 3 and c == nil)
+assert(table.concat(table.move({1, 2, 3}, 1, 3, 2), " ") == "1 1 2 3")
+assert(table.concat(table.move({1, 2, 3}, 2, 3, 1), " ") == "2 3 3")
+assert(table.concat(table.move({"a", "b"}, 1, 2, 3, {"x", "y"}), " ") == "x y a b")
+local packed = table.pack(1, nil, 3)
+assert(packed.n == 3 and packed[3] == 3)
+
+print "8"
+
+local sorted = {5, 3, 8, 1, 9, 2}
+table.sort(sorted)
+assert(table.concat(sorted, " ") == "1 2 3 5 8 9")
+table.sort(sorted, function(a, b) return a > b end)
+assert(table.concat(sorted, " ") == "9 8 5 3 2 1")
+local words = {"pear", "apple", "fig"}
+table.sort(words)
+assert(table.concat(words, " ") == "apple fig pear")
+local mixed = {2, 1.5, 3, 0.5}
+table.sort(mixed)
+assert(table.concat(mixed, " ") == "0.5 1.5 2 3")
+
+print "9"
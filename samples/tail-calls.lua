@@ -0,0 +1,42 @@
+-- none of these calls should grow the stack
+
+local function sum(n, acc)
+    if n == 0 then
+        return acc
+    end
+    return sum(n - 1, acc + n)
+end
+print(sum(1000000, 0))
+
+local isEven, isOdd
+function isEven(n)
+    if n == 0 then return true end
+    return isOdd(n - 1)
+end
+function isOdd(n)
+    if n == 0 then return false end
+    return isEven(n - 1)
+end
+print(isEven(1000001), isOdd(1000001))
+
+local function count(acc, n, ...)
+    if n == nil then return acc end
+    return count(acc + n, ...)
+end
+print(count(0, 1, 2, 3, 4))
+
+local countdown = setmetatable({}, {
+    __call = function(self, n)
+        if n == 0 then return "done" end
+        return self(n - 1)
+    end
+})
+print(countdown(1000000))
+
+local function values() return 1, 2, 3 end
+local function forward() return values() end
+print(forward())
+
+-- unlike "local function", the name is not visible in its own value
+local print = function(...) print("wrapped", ...) end
+print("hi")
@@ -0,0 +1,57 @@
+local function count(...)
+	return select('#', ...)
+end
+
+local function last(first, ...)
+	return select(-1, ...)
+end
+
+local function rest(first, ...)
+	return ...
+end
+
+local function two(first, ...)
+	local a, b = ...
+	return a, b
+end
+
+local function forward(first, ...)
+	return rest(first, first, ...)
+end
+
+local function sum(...)
+	local total = 0
+	for i = 1, select('#', ...) do
+		total = total + select(i, ...)
+	end
+	return total
+end
+
+print(count(), count(nil, nil), count(1, 2, 3))
+print(last(1, 2, 3), rest(1, 2, 3))
+print(two(1, 2))
+print(forward(1, 2, 3))
+print(select(2, "a", "b", "c"))
+print(sum(1, 2, 3, 4))
+print(pcall(select, 0))
+
+local function none(a, ...)
+	local t = {...}
+	return select('#', ...), #t, select(-1, 1, ...)
+end
+print(none())
+
+-- values kept by the comparator must not change during later comparisons
+local kept, seen = {}, {}
+local function keep(...)
+	kept[#kept + 1] = {...}
+	seen[#seen + 1] = table.concat({...}, ",")
+	local a, b = ...
+	return a < b
+end
+table.sort({3, 1, 2}, keep)
+local same = true
+for i = 1, #kept do
+	same = same and table.concat(kept[i], ",") == seen[i]
+end
+print(same)
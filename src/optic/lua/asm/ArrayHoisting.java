@@ -0,0 +1,209 @@
+package optic.lua.asm;
+
+import optic.lua.asm.ListNode.Invocation;
+import optic.lua.optimization.StaticType;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.*;
+
+/**
+ * Tables whose array part can be read directly by a numeric for loop.
+ * <p>
+ * A loop qualifies if it doesn't write to any table and can't call a function, so that array parts don't change
+ * while the loop runs. Every table which the loop reads must be held by a final local variable of the enclosing
+ * code, so it can be checked before the loop that reads won't call an "__index" metamethod. The array parts of tables
+ * which are read with integer keys are then loaded once before the loop and each read only checks whether the key
+ * is within the array part, other reads use the regular path.
+ * </p>
+ */
+public final class ArrayHoisting {
+	// tables which are read by the loop
+	private final Set<VariableInfo> tables;
+	// tables which are read with integer keys
+	private final Set<VariableInfo> arrays;
+
+	private ArrayHoisting(Set<VariableInfo> tables, Set<VariableInfo> arrays) {
+		this.tables = tables;
+		this.arrays = arrays;
+	}
+
+	/**
+	 * Returns the tables of the given loop body whose array parts can be hoisted, or null if the loop doesn't qualify
+	 * or doesn't read any table with integer keys.
+	 * Must not be called before types are known.
+	 */
+	@Nullable
+	public static ArrayHoisting of(AsmBlock body) {
+		var scan = new Scan();
+		scan.visitAll(body.steps());
+		if (scan.unsafe || scan.arrays.isEmpty()) {
+			return null;
+		}
+		return new ArrayHoisting(scan.tables, scan.arrays);
+	}
+
+	/**
+	 * Returns true if the given table read may use the array part of a hoisted table.
+	 */
+	public static boolean isArrayRead(Invocation read) {
+		if (read.getMethod() != InvocationMethod.INDEX || read.getArguments().getLeading().isEmpty()) {
+			return false;
+		}
+		var key = read.getArguments().getLeading(0);
+		return key.typeInfo() == StaticType.INTEGER && key.isPure() && tableVariable(read) != null;
+	}
+
+	/**
+	 * Returns the local variable which holds the table of the given read, or null if the table is not held by one.
+	 */
+	@Nullable
+	public static VariableInfo tableVariable(Invocation read) {
+		var object = read.getObject();
+		if (!(object instanceof ExprNode.Name)) {
+			return null;
+		}
+		return object.accept(new SpecificNodeVisitor<VariableInfo, RuntimeException>() {
+			@Override
+			public VariableInfo visitLocalName(VariableInfo variable) {
+				return variable;
+			}
+
+			@Override
+			public VariableInfo visitUpValueName(VariableInfo upvalue) {
+				return upvalue;
+			}
+		});
+	}
+
+	/**
+	 * Tables which must not have an "__index" metamethod, in order of first read.
+	 */
+	public Set<VariableInfo> tables() {
+		return Collections.unmodifiableSet(tables);
+	}
+
+	/**
+	 * Tables whose array parts are loaded before the loop, in order of first read.
+	 */
+	public Set<VariableInfo> arrays() {
+		return Collections.unmodifiableSet(arrays);
+	}
+
+	private static final class Scan extends SpecificNodeVisitor<Void, RuntimeException> {
+		private final Set<VariableInfo> tables = new LinkedHashSet<>(4);
+		private final Set<VariableInfo> arrays = new LinkedHashSet<>(4);
+		// variables declared in the loop don't have a value before the loop
+		private final Set<VariableInfo> declared = Collections.newSetFromMap(new IdentityHashMap<>());
+		private boolean unsafe = false;
+
+		private void check(ListNode value) {
+			if (SideEffects.hasSideEffects(value, this::isPlainRead)) {
+				unsafe = true;
+			}
+		}
+
+		// reads of tables which are checked before the loop don't call metamethods
+		private boolean isPlainRead(Invocation read) {
+			var table = tableVariable(read);
+			if (table == null || !table.isFinal() || declared.contains(table)) {
+				return false;
+			}
+			tables.add(table);
+			if (isArrayRead(read)) {
+				arrays.add(table);
+			}
+			return true;
+		}
+
+		@Override
+		public Void visitAssignment(Register register, ExprNode value) {
+			check(value);
+			return null;
+		}
+
+		@Override
+		public Void visitArrayAssignment(ArrayRegister register, ListNode value) {
+			check(value);
+			return null;
+		}
+
+		@Override
+		public Void visitBlock(AsmBlock block) {
+			visitAll(block.steps());
+			return null;
+		}
+
+		@Override
+		public Void visitBreakIf(ExprNode condition, boolean isTrue) {
+			check(condition);
+			return null;
+		}
+
+		@Override
+		public Void visitDeclaration(VariableInfo variable) {
+			declared.add(variable);
+			return null;
+		}
+
+		@Override
+		public Void visitForEachLoop(List<VariableInfo> variables, ListNode iterator, AsmBlock body) {
+			// the iterator is a function
+			unsafe = true;
+			return null;
+		}
+
+		@Override
+		public Void visitForRangeLoop(VariableInfo counter, ExprNode from, ExprNode to, ExprNode step, AsmBlock body) {
+			check(from);
+			check(to);
+			check(step);
+			declared.add(counter);
+			visitAll(body.steps());
+			return null;
+		}
+
+		@Override
+		public Void visitIfElseChain(LinkedHashMap<FlatExpr, AsmBlock> clauses) {
+			for (var clause : clauses.entrySet()) {
+				visitAll(clause.getKey().block());
+				check(clause.getKey().value());
+				visitAll(clause.getValue().steps());
+			}
+			return null;
+		}
+
+		@Override
+		public Void visitLoop(AsmBlock body) {
+			visitAll(body.steps());
+			return null;
+		}
+
+		@Override
+		public Void visitReturn(ExprList values) {
+			check(values);
+			return null;
+		}
+
+		@Override
+		public Void visitTailCall(ExprNode function, ExprList arguments) {
+			unsafe = true;
+			return null;
+		}
+
+		@Override
+		public Void visitVoid(ListNode invocation) {
+			check(invocation);
+			return null;
+		}
+
+		@Override
+		public Void visitWrite(VariableInfo target, ExprNode value) {
+			// global variables are fields of a table
+			if (target.getMode() == VariableMode.GLOBAL) {
+				unsafe = true;
+			}
+			check(value);
+			return null;
+		}
+	}
+}
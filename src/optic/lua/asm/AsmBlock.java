@@ -1,14 +1,22 @@
 package optic.lua.asm;
 
+import optic.lua.asm.ExprNode.FunctionLiteral;
+
 import java.util.*;
 
 public final class AsmBlock {
 	private final List<VoidNode> steps;
 	private final Map<String, VariableInfo> locals;
+	private final List<FunctionLiteral> invariantFunctions;
 
 	public AsmBlock(List<VoidNode> steps, Map<String, VariableInfo> locals) {
+		this(steps, locals, List.of());
+	}
+
+	public AsmBlock(List<VoidNode> steps, Map<String, VariableInfo> locals, List<FunctionLiteral> invariantFunctions) {
 		this.steps = steps;
 		this.locals = locals;
+		this.invariantFunctions = invariantFunctions;
 	}
 
 	public Map<String, VariableInfo> locals() {
@@ -18,4 +26,12 @@ public final class AsmBlock {
 	public List<VoidNode> steps() {
 		return steps;
 	}
+
+	/**
+	 * Function literals inside this loop body which only capture variables declared outside of the loop.
+	 * Such functions may be created once before the loop instead of on every iteration.
+	 */
+	public List<FunctionLiteral> invariantFunctions() {
+		return invariantFunctions;
+	}
 }
@@ -50,6 +50,10 @@ final class AssignmentBuilder {
 				// the left side has surpassed the right side
 				// fill remaining variables with nil
 				steps.add(createWriteStep(variable, ExprNode.nil()));
+			} else if (vararg instanceof ListNode.Varargs) {
+				// "..." can be read multiple times, no need to store it in a register
+				steps.add(createWriteStep(variable, ExprNode.selectNth(vararg, overflow)));
+				overflow++;
 			} else {
 				if (trailingValues == null) // lazily initialize the trailing register
 					steps.add(assignArray(trailingValues = ArrayRegister.create(), vararg));
@@ -82,6 +86,9 @@ final class AssignmentBuilder {
 			info.addTypeDependency(right::typeInfo);
 			info.markAsWritten();
 			info.setLastAssignedExpression(right);
+			if (right instanceof ExprNode.FunctionLiteral) {
+				((ExprNode.FunctionLiteral) right).bindTo(info);
+			}
 			return VoidNode.write(info, right);
 		}
 		throw new AssertionError();
@@ -0,0 +1,188 @@
+package optic.lua.asm;
+
+import optic.lua.messages.*;
+import org.antlr.runtime.tree.Tree;
+
+import java.util.*;
+
+import static nl.bigo.luaparser.Lua53Walker.*;
+
+/**
+ * Keeps the size of generated Java methods in check. The JVM refuses methods with more than 64KB of bytecode
+ * and HotSpot never compiles methods larger than 8000 bytes (<code>-XX:HugeMethodLimit</code>),
+ * so such methods would run in the interpreter forever.
+ * <p>
+ * The size of a method is estimated from the number of syntax tree nodes which compile into it. When a block
+ * is too large, its largest statements are moved ("outlined") into functions of their own, which are called
+ * in place. Local variables used by outlined statements become upvalues. Likewise, the fields of a large table
+ * constructor are stored into the new table by functions of their own.
+ */
+final class BlockSplitter {
+	// a node takes 3-5 bytes of bytecode on average, this keeps methods below HugeMethodLimit
+	static final int MAX_WEIGHT = 1500;
+	// creating and calling an outlined function takes about as much bytecode as this many nodes
+	private static final int CALL_WEIGHT = 10;
+
+	private BlockSplitter() {
+	}
+
+	/**
+	 * Selects runs of consecutive statements of a block which should be outlined to get the weight of the block
+	 * below {@link #MAX_WEIGHT}. The result is empty if the block is small enough or can't be split.
+	 */
+	static List<List<Tree>> statementsToOutline(List<?> statements, BlockMeaning meaning, Options options) {
+		boolean loopSplit = options.get(StandardFlags.LOOP_SPLIT);
+		boolean speculation = options.get(StandardFlags.LOOP_SPECULATION);
+		int total = 0;
+		var groups = new ArrayList<List<Tree>>();
+		var weights = new IdentityHashMap<List<Tree>, Integer>();
+		List<Tree> group = null;
+		int groupWeight = 0;
+		for (var o : statements) {
+			var statement = (Tree) o;
+			int weight = weight(statement, loopSplit, speculation);
+			total += weight;
+			if (!canOutline(statement)) {
+				group = null;
+				continue;
+			}
+			if (group == null || groupWeight + weight > MAX_WEIGHT) {
+				group = new ArrayList<>(4);
+				groupWeight = 0;
+				groups.add(group);
+			}
+			group.add(statement);
+			groupWeight += weight;
+			weights.put(group, groupWeight);
+		}
+		if (total <= MAX_WEIGHT) {
+			return List.of();
+		}
+		groups.sort(Comparator.comparing(weights::get).reversed());
+		var selected = new ArrayList<List<Tree>>();
+		for (var g : groups) {
+			if (total <= MAX_WEIGHT) {
+				break;
+			}
+			if (g.size() == statements.size() && meaning.hasLexicalBoundary()) {
+				// the function would only be replaced by another function with the same body
+				continue;
+			}
+			selected.add(g);
+			// the statements are replaced by a call of a function without arguments
+			total -= weights.get(g) - CALL_WEIGHT;
+		}
+		return selected;
+	}
+
+	/**
+	 * Splits the fields of a table constructor into runs of consecutive fields which should be stored into the table
+	 * by a function each. The result is empty if the constructor is small enough or can't be split.
+	 */
+	static List<List<Tree>> fieldsToOutline(Tree table) {
+		if (!canSplit(table)) {
+			return List.of();
+		}
+		int total = 0;
+		var groups = new ArrayList<List<Tree>>();
+		List<Tree> group = null;
+		int groupWeight = 0;
+		for (int i = 0; i < table.getChildCount(); i++) {
+			var field = table.getChild(i);
+			// fields are expressions, so loop flags don't matter
+			int weight = weight(field, false, false);
+			total += weight;
+			if (group == null || groupWeight + weight > MAX_WEIGHT) {
+				group = new ArrayList<>(64);
+				groupWeight = 0;
+				groups.add(group);
+			}
+			group.add(field);
+			groupWeight += weight;
+		}
+		return total <= MAX_WEIGHT ? List.of() : groups;
+	}
+
+	/**
+	 * Returns the number of nodes in the given tree, not counting the bodies of function literals
+	 * since they compile into separate methods. Bodies of numeric for loops are counted twice
+	 * if loops are compiled twice (see {@link StandardFlags#LOOP_SPLIT} and {@link StandardFlags#LOOP_SPECULATION}),
+	 * loops with constant int bounds are never split. A table constructor which is split (see {@link #fieldsToOutline(Tree)})
+	 * only counts its calls.
+	 */
+	static int weight(Tree tree, boolean loopSplit, boolean speculation) {
+		int weight = 1;
+		for (int i = 0; i < tree.getChildCount(); i++) {
+			var child = tree.getChild(i);
+			weight += child.getType() == FUNCTION ? 1 : weight(child, loopSplit, speculation);
+		}
+		if (tree.getType() == TABLE && weight > MAX_WEIGHT) {
+			int calls = fieldsToOutline(tree).size();
+			return calls == 0 ? weight : 1 + calls * CALL_WEIGHT;
+		}
+		if (tree.getType() != For) {
+			return weight;
+		}
+		// the last child is "do" with the body
+		var body = tree.getChild(tree.getChildCount() - 1).getChild(0);
+		boolean split = loopSplit && !hasIntBounds(tree);
+		return split || speculation && LoopSpeculation.isCandidate(body) ? weight * 2 : weight;
+	}
+
+	// loops with integer literals as bounds have an int counter and are not split (see RangeAnalysis)
+	private static boolean hasIntBounds(Tree loop) {
+		boolean hasStep = loop.getChild(3).getType() != Do;
+		if (!isIntLiteral(loop.getChild(1)) || !isIntLiteral(loop.getChild(2)) || hasStep && !isIntLiteral(loop.getChild(3))) {
+			return false;
+		}
+		long step = hasStep ? (long) Double.parseDouble(loop.getChild(3).getText()) : 1;
+		return RangeAnalysis.fitsInt((long) Double.parseDouble(loop.getChild(1).getText()), (long) Double.parseDouble(loop.getChild(2).getText()), step);
+	}
+
+	private static boolean isIntLiteral(Tree tree) {
+		if (tree.getType() != Number) {
+			return false;
+		}
+		double value = Double.parseDouble(tree.getText());
+		return (long) value == value;
+	}
+
+	// a table constructor can't be split if a field uses varargs or if the last field may have multiple values
+	private static boolean canSplit(Tree table) {
+		int n = table.getChildCount();
+		if (n == 0 || dependsOnFunction(table)) {
+			return false;
+		}
+		var last = table.getChild(n - 1);
+		if (last.getChildCount() != 1 || last.getChild(0).getType() != VAR) {
+			return true;
+		}
+		var value = last.getChild(0);
+		int type = value.getChild(value.getChildCount() - 1).getType();
+		return type != CALL && type != COL_CALL;
+	}
+
+	// a statement can't be outlined if its meaning depends on the enclosing function or if it declares locals
+	private static boolean canOutline(Tree statement) {
+		return statement.getType() != LOCAL_ASSIGNMENT && !dependsOnFunction(statement);
+	}
+
+	// returns true if the tree returns from the enclosing function, breaks out of a loop or uses varargs
+	private static boolean dependsOnFunction(Tree tree) {
+		switch (tree.getType()) {
+			case FUNCTION:
+				return false;
+			case Return:
+			case Break:
+			case DotDotDot:
+				return true;
+			default:
+				for (int i = 0; i < tree.getChildCount(); i++) {
+					if (dependsOnFunction(tree.getChild(i))) {
+						return true;
+					}
+				}
+				return false;
+		}
+	}
+}
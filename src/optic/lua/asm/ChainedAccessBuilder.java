@@ -1,7 +1,7 @@
 package optic.lua.asm;
 
 import optic.lua.messages.CompilationFailure;
-import optic.lua.optimization.StaticType;
+import optic.lua.optimization.*;
 import optic.lua.util.Trees;
 import org.antlr.runtime.tree.*;
 
@@ -71,6 +71,9 @@ final class ChainedAccessBuilder {
 
 	private void addIndex(CommonTree tree) throws CompilationFailure {
 		Trees.expect(INDEX, tree);
+		if (lastOp == Op.INDEX && flattener.isSpeculative()) {
+			speculateLastRead();
+		}
 		var key = flattener.flattenExpression((CommonTree) tree.getChild(0));
 		steps.addAll(key.block());
 		Register next = Register.ofType(StaticType.OBJECT);
@@ -86,9 +89,24 @@ final class ChainedAccessBuilder {
 		List<ListNode> args = new ArrayList<>();
 		if (colon)
 			args.add(self);
+		int stepCount = steps.size();
 		for (var child : childrenOf(tree))
 			args.add(flattener.flattenExpression((CommonTree) child).applyTo(steps));
-		current = ListNode.invocation(firstOnly(current), InvocationMethod.CALL, exprList(args));
+		ExprNode function = firstOnly(current);
+		if (!colon && lastOp == Op.INDEX && steps.size() == stepCount) {
+			// library functions such as "math.floor" are read in place, so that the call can be recognized as an intrinsic
+			var read = tableIndex(self, lastKey);
+			if (Intrinsics.getDefault().lookupGuarded(read, args.size()) != null) {
+				steps.remove(steps.size() - 1);
+				function = read;
+			}
+		}
+		var arguments = exprList(args);
+		if (function instanceof ExprNode.Name) {
+			// calls of local functions are recorded for interprocedural type inference
+			((ExprNode.Name) function).addCall(arguments);
+		}
+		current = ListNode.invocation(function, InvocationMethod.CALL, arguments);
 		lastKey = null;
 		lastOp = colon ? Op.COL_CALL : Op.CALL;
 	}
@@ -109,9 +127,43 @@ final class ChainedAccessBuilder {
 	 * Returns the resulting expression (either a function call or an index access).
 	 */
 	FlatExpr buildExpression() {
+		if (lastOp == Op.INDEX && flattener.isSpeculative()) {
+			speculateLastRead();
+		}
 		return new FlatExpr(steps, current);
 	}
 
+	/**
+	 * Returns the resulting table read coerced to number, only used in speculative loop bodies.
+	 * The read ignores metatables and the speculative loop is left if the value is not a number.
+	 */
+	FlatExpr buildNumericExpression() {
+		if (lastOp != Op.INDEX || !flattener.isSpeculative())
+			throw new IllegalStateException("Last operation is not a speculative index access!");
+		var value = (Register) current;
+		steps.set(steps.size() - 1, assign(value, LoopSpeculation.rawIndex(self, lastKey)));
+		steps.add(LoopSpeculation.exitUnless(LoopSpeculation.isNumber(value)));
+		return new FlatExpr(steps, LoopSpeculation.doubleValue(value));
+	}
+
+	// replaces the last table read by a read which ignores metatables and leaves the speculative loop if the value is absent
+	private void speculateLastRead() {
+		var value = (Register) current;
+		steps.set(steps.size() - 1, assign(value, LoopSpeculation.rawIndex(self, lastKey)));
+		steps.add(LoopSpeculation.exitUnless(LoopSpeculation.isPresent(value)));
+	}
+
+	/**
+	 * Returns the steps which evaluate the table and the key of the last index access, without reading the value.
+	 * Useful when compiling table index assignment.
+	 */
+	List<VoidNode> buildIndexTarget() {
+		if (lastOp != Op.INDEX)
+			throw new IllegalStateException("Last operation is not an index access!");
+		// the last step is the assignment of the final table read
+		return Collections.unmodifiableList(steps.subList(0, steps.size() - 1));
+	}
+
 	/**
 	 * Returns the last expression in the "chain" which may be used as a target of an index assignment or a colon call
 	 */
@@ -99,10 +99,17 @@ public final class ExprList implements ListNode {
 		return nodes.get(i);
 	}
 
-	Optional<ListNode> getTrailing() {
+	public Optional<ListNode> getTrailing() {
 		return trailing;
 	}
 
+	/**
+	 * Returns true if the number of values in this list is only known at runtime
+	 */
+	public boolean hasTrailing() {
+		return trailing.isPresent();
+	}
+
 	int expressionCount() {
 		return nodes.size() + (trailing.isPresent() ? 1 : 0);
 	}
@@ -4,7 +4,7 @@ import optic.lua.GlobalStats;
 import optic.lua.optimization.*;
 import optic.lua.util.*;
 import org.codehaus.janino.InternalCompilerException;
-import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.*;
 import org.slf4j.*;
 
 import java.util.*;
@@ -68,19 +68,19 @@ public interface ExprNode extends ListNode {
 	/**
 	 * Returns a node which describes a table constructor expression from the given entries.
 	 */
-	static ExprNode table(LinkedHashMap<ExprNode, ListNode> entries) {
-		if (entries.isEmpty()) {
+	static ExprNode table(List<ExprNode> array, ListNode trailing, LinkedHashMap<ExprNode, ExprNode> entries) {
+		if (array.isEmpty() && trailing == null && entries.isEmpty()) {
 			GlobalStats.nodesReused++;
 			return TableLiteral.EMPTY;
 		}
-		return new TableLiteral(entries);
+		return new TableLiteral(array, trailing, entries);
 	}
 
 	/**
 	 * Returns a node which describes an anonymous function with given parameter list and body.
 	 */
-	static ExprNode function(ParameterList parameters, AsmBlock body) {
-		return new FunctionLiteral(parameters, body);
+	static ExprNode function(ParameterList parameters, AsmBlock body, boolean capturesVariables) {
+		return new FunctionLiteral(parameters, body, capturesVariables);
 	}
 
 	/**
@@ -361,10 +361,16 @@ public interface ExprNode extends ListNode {
 	}
 
 	final class TableLiteral implements ExprNode {
-		private static final TableLiteral EMPTY = new TableLiteral(new LinkedHashMap<>());
-		private final LinkedHashMap<ExprNode, ListNode> entries;
-
-		private TableLiteral(LinkedHashMap<ExprNode, ListNode> entries) {
+		private static final TableLiteral EMPTY = new TableLiteral(List.of(), null, new LinkedHashMap<>());
+		// positional fields, the last one may return multiple values and is stored separately
+		private final List<ExprNode> array;
+		@Nullable
+		private final ListNode trailing;
+		private final LinkedHashMap<ExprNode, ExprNode> entries;
+
+		private TableLiteral(List<ExprNode> array, @Nullable ListNode trailing, LinkedHashMap<ExprNode, ExprNode> entries) {
+			this.array = List.copyOf(array);
+			this.trailing = trailing;
 			this.entries = new LinkedHashMap<>(entries);
 		}
 
@@ -373,7 +379,26 @@ public interface ExprNode extends ListNode {
 			return visitor.visitTableConstructor(this);
 		}
 
-		public LinkedHashMap<ExprNode, ListNode> entries() {
+		/**
+		 * Values of positional fields, stored at keys [1 .. n].
+		 */
+		public List<ExprNode> array() {
+			return array;
+		}
+
+		/**
+		 * The last positional field if it may return multiple values (a vararg or function call), otherwise null.
+		 * All of its values are stored right after the {@link #array()} fields.
+		 */
+		@Nullable
+		public ListNode trailing() {
+			return trailing;
+		}
+
+		/**
+		 * Fields with explicit keys, in order of appearance.
+		 */
+		public LinkedHashMap<ExprNode, ExprNode> entries() {
 			return entries;
 		}
 
@@ -391,10 +416,16 @@ public interface ExprNode extends ListNode {
 	final class FunctionLiteral implements ExprNode {
 		private final ParameterList parameters;
 		private final AsmBlock body;
+		private final boolean capturesVariables;
+		// the local variable which holds this function
+		@Nullable
+		private VariableInfo variable = null;
+		private boolean inferringReturnType = false;
 
-		private FunctionLiteral(ParameterList parameters, AsmBlock body) {
+		private FunctionLiteral(ParameterList parameters, AsmBlock body, boolean capturesVariables) {
 			this.parameters = parameters;
 			this.body = body;
+			this.capturesVariables = capturesVariables;
 		}
 
 		@Override
@@ -410,6 +441,93 @@ public interface ExprNode extends ListNode {
 			return parameters;
 		}
 
+		/**
+		 * Returns true if every call of this function returns exactly one value.
+		 */
+		public boolean returnsSingleValue() {
+			return ReturnAnalysis.returnsSingleValue(body);
+		}
+
+		/**
+		 * Returns true if this function ends with a call to another function (or itself) in some cases.
+		 */
+		public boolean hasTailCalls() {
+			return ReturnAnalysis.hasTailCalls(body);
+		}
+
+		/**
+		 * Returns true if this function uses local variables or varargs of enclosing functions.
+		 * Functions which capture nothing behave the same no matter where they are created.
+		 */
+		public boolean capturesVariables() {
+			return capturesVariables;
+		}
+
+		void bindTo(VariableInfo variable) {
+			if (this.variable == null) {
+				this.variable = variable;
+			}
+		}
+
+		/**
+		 * Returns true if this function is held by a final local variable which is only used to call the function
+		 * with all of its parameters. Such calls may use a typed entry point with parameters of types
+		 * {@link #parameterType(int)} which returns {@link #returnType()}.
+		 */
+		public boolean isSpecialized() {
+			if (variable == null || !variable.isFinal() || parameters.hasVarargs() || hasTailCalls()) {
+				return false;
+			}
+			var calls = variable.directCalls();
+			if (calls == null || calls.isEmpty()) {
+				return false;
+			}
+			for (var arguments : calls) {
+				if (arguments.hasTrailing() || arguments.getLeading().size() != parameters.list().size()) {
+					return false;
+				}
+			}
+			return true;
+		}
+
+		/**
+		 * Returns the common type of the n-th argument of every call if this function is specialized
+		 * and the parameter is never written to, otherwise returns {@link StaticType#OBJECT}.
+		 */
+		public StaticType parameterType(int n) {
+			var parameter = body.locals().get(parameters.list().get(n));
+			if (!isSpecialized() || !parameter.isFinal()) {
+				return StaticType.OBJECT;
+			}
+			StaticType type = null;
+			for (var arguments : variable.directCalls()) {
+				var argumentType = arguments.getLeading(n).typeInfo();
+				type = type == null ? argumentType : type.and(argumentType);
+			}
+			return typedOrObject(type);
+		}
+
+		/**
+		 * Returns the common type of all returned values if this function is specialized and
+		 * always returns a single value, otherwise returns {@link StaticType#OBJECT}.
+		 */
+		public StaticType returnType() {
+			if (inferringReturnType || !isSpecialized() || !returnsSingleValue()) {
+				return StaticType.OBJECT;
+			}
+			inferringReturnType = true;
+			try {
+				return typedOrObject(ReturnAnalysis.returnType(body));
+			} finally {
+				inferringReturnType = false;
+			}
+		}
+
+		// types which entry points may use instead of Object
+		private static StaticType typedOrObject(StaticType type) {
+			return type == StaticType.NUMBER || type == StaticType.INTEGER || type == StaticType.TABLE ? type : StaticType.OBJECT;
+		}
+
 		@Override
 		public String toString() {
 			return "function(" + String.join(", ", parameters.list()) + ") ... end";
@@ -453,6 +571,28 @@ public interface ExprNode extends ListNode {
 			return variable.getMode() != VariableMode.GLOBAL;
 		}
 
+		/**
+		 * Returns the function held by this variable if calls of this variable can use a typed entry point
+		 * (see {@link FunctionLiteral#isSpecialized()}), otherwise null.
+		 */
+		@Nullable
+		public FunctionLiteral specializedFunction() {
+			if (variable.getMode() == VariableMode.GLOBAL || !variable.isFinal()) {
+				return null;
+			}
+			var value = variable.getLastAssignedExpression();
+			if (value instanceof FunctionLiteral && ((FunctionLiteral) value).isSpecialized()) {
+				return (FunctionLiteral) value;
+			}
+			return null;
+		}
+
+		void addCall(ExprList arguments) {
+			if (variable.getMode() != VariableMode.GLOBAL) {
+				variable.addCall(arguments);
+			}
+		}
+
 		@Override
 		public String toString() {
 			return "<" + variable.getMode().toString().toLowerCase() + "> " + variable.getName();
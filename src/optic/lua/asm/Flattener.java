@@ -13,6 +13,11 @@ interface Flattener {
 
 	FlatExpr flattenExpression(CommonTree tree) throws CompilationFailure;
 
+	/**
+	 * Returns true if the code being flattened is a speculative loop body (see {@link LoopSpeculation}).
+	 */
+	boolean isSpeculative();
+
 	/**
 	 * Convenience overload for {@link #flattenExpression(CommonTree)}
 	 */
@@ -46,8 +46,14 @@ public enum InvocationMethod {
 
 	public StaticType typeInfo(ExprNode object, ListNode arguments) {
 		switch (this) {
-			case INDEX:
 			case CALL:
+				// calls of specialized local functions return the inferred type
+				if (object instanceof ExprNode.Name) {
+					var function = ((ExprNode.Name) object).specializedFunction();
+					return function == null ? StaticType.OBJECT : function.returnType();
+				}
+				return StaticType.OBJECT;
+			case INDEX:
 			case SET_INDEX:
 				return StaticType.OBJECT;
 			case TO_NUMBER:
@@ -0,0 +1,256 @@
+package optic.lua.asm;
+
+import optic.lua.optimization.*;
+import org.antlr.runtime.tree.Tree;
+
+import java.util.*;
+
+import static nl.bigo.luaparser.Lua53Walker.*;
+import static optic.lua.optimization.StaticType.BOOLEAN;
+import static optic.lua.optimization.StaticType.NUMBER;
+import static optic.lua.optimization.StaticType.OBJECT;
+
+/**
+ * A second version of the body of a numeric for loop, which assumes that the values used by arithmetic are numbers.
+ * <p>
+ * Values without a static type are checked by guards, which leave the loop if the assumption does not hold.
+ * Table reads don't consult metatables and leave the loop if the value is absent, operands of arithmetic operators
+ * must be floats (table reads coerced in place, see {@link optic.lua.messages.StandardFlags#NUMERIC_OPERANDS},
+ * may be any number). Local variables of the enclosing code which are written in the loop are replaced by "shadow"
+ * variables of their own, so that accumulators get a numeric type. Shadows are copied back after the loop.
+ * </p>
+ * <p>
+ * The speculative version takes over after the first iteration, when accumulators already hold values of the type
+ * they keep. If a guard fails, shadows are restored to their values from the start of the iteration and the iteration
+ * is performed again by the generic version, which also performs all remaining iterations. This is only correct
+ * if no guard can fail after any other side effect, see {@link #isApplicable()}.
+ * </p>
+ */
+public final class LoopSpeculation {
+	// larger loop bodies are not compiled twice
+	private static final int MAX_WEIGHT = 200;
+	private final AsmBlock body;
+	private final VariableInfo counter;
+	private final Map<VariableInfo, VariableInfo> shadows;
+	// whether the body checks the type of an operand of arithmetic
+	private final boolean guardsOperands;
+
+	LoopSpeculation(AsmBlock body, VariableInfo counter, Map<VariableInfo, VariableInfo> shadows, boolean guardsOperands) {
+		this.body = body;
+		this.counter = counter;
+		this.shadows = shadows;
+		this.guardsOperands = guardsOperands;
+	}
+
+	/**
+	 * Returns true if the body of a numeric for loop should be compiled twice.
+	 */
+	static boolean isCandidate(Tree body) {
+		return !containsLoopsOrFunctions(body) && BlockSplitter.weight(body, false, false) <= MAX_WEIGHT;
+	}
+
+	/**
+	 * Returns the names of variables assigned in the given block.
+	 */
+	static Set<String> assignedNames(Tree tree) {
+		var names = new HashSet<String>(4);
+		collectAssignedNames(tree, names);
+		return names;
+	}
+
+	static VoidNode exitUnless(ExprNode condition) {
+		return VoidNode.breakIf(condition, false);
+	}
+
+	static ExprNode rawIndex(ExprNode table, ExprNode key) {
+		var signature = new FunctionSignature(List.of(OBJECT, OBJECT), OBJECT);
+		return new ExprNode.IntrinsicCall(signature, "Guards.rawIndex", ExprList.exprList(table, key));
+	}
+
+	static ExprNode isPresent(ExprNode value) {
+		return new ExprNode.IntrinsicCall(new FunctionSignature(OBJECT, BOOLEAN), "Guards.isPresent", ExprList.exprList(value));
+	}
+
+	static ExprNode isFloat(ExprNode value) {
+		return new ExprNode.IntrinsicCall(new FunctionSignature(OBJECT, BOOLEAN), "Guards.isFloat", ExprList.exprList(value));
+	}
+
+	static ExprNode isNumber(ExprNode value) {
+		return new ExprNode.IntrinsicCall(new FunctionSignature(OBJECT, BOOLEAN), "Guards.isNumber", ExprList.exprList(value));
+	}
+
+	static ExprNode doubleValue(ExprNode value) {
+		return new ExprNode.IntrinsicCall(new FunctionSignature(OBJECT, NUMBER), "Guards.doubleValue", ExprList.exprList(value));
+	}
+
+	/**
+	 * The speculative loop body.
+	 */
+	public AsmBlock body() {
+		return body;
+	}
+
+	/**
+	 * The counter variable of the speculative loop body.
+	 */
+	public VariableInfo counter() {
+		return counter;
+	}
+
+	/**
+	 * Variables of the enclosing code which are written in the loop, mapped to the variables which replace them
+	 * in the speculative loop body.
+	 */
+	public Map<VariableInfo, VariableInfo> shadows() {
+		return Collections.unmodifiableMap(shadows);
+	}
+
+	/**
+	 * Returns true if the speculative version can be used and gives a type to a value which has none in the generic
+	 * version. Must not be called before types are known.
+	 */
+	public boolean isApplicable() {
+		boolean typed = guardsOperands;
+		for (var entry : shadows.entrySet()) {
+			var variable = entry.getKey();
+			// functions created after the loop may capture the variable, but they must not see a stale value
+			if (variable.getMode() != VariableMode.LOCAL) {
+				return false;
+			}
+			var type = variable.typeInfo();
+			var shadowType = entry.getValue().typeInfo();
+			if (type != OBJECT && !type.subtypeOf(shadowType)) {
+				return false;
+			}
+			typed |= type == OBJECT && shadowType != OBJECT;
+		}
+		if (!typed) {
+			return false;
+		}
+		var scan = new Scan();
+		scan.locals.add(counter);
+		scan.locals.addAll(shadows.values());
+		scan.visitAll(body.steps());
+		return scan.guards > 0 && !scan.unsafe;
+	}
+
+	// break is not supported by the flattener, so the only "break" statements in the body are guards
+	private static boolean containsLoopsOrFunctions(Tree tree) {
+		switch (tree.getType()) {
+			case FUNCTION:
+			case For:
+			case FOR_IN:
+			case While:
+			case Repeat:
+			case Break:
+				return true;
+			default:
+				for (int i = 0; i < tree.getChildCount(); i++) {
+					if (containsLoopsOrFunctions(tree.getChild(i))) {
+						return true;
+					}
+				}
+				return false;
+		}
+	}
+
+	private static void collectAssignedNames(Tree tree, Set<String> names) {
+		if (tree.getType() == ASSIGNMENT || tree.getType() == LOCAL_ASSIGNMENT) {
+			var targets = tree.getChild(0);
+			for (int i = 0; i < targets.getChildCount(); i++) {
+				if (targets.getChild(i).getType() != ASSIGNMENT_VAR) {
+					names.add(targets.getChild(i).toString());
+				}
+			}
+		}
+		for (int i = 0; i < tree.getChildCount(); i++) {
+			collectAssignedNames(tree.getChild(i), names);
+		}
+	}
+
+	// checks the steps of the body in order, conditional steps are treated as if they were always executed
+	private static final class Scan extends SpecificNodeVisitor<Void, RuntimeException> {
+		// variables whose values don't outlive a failed iteration
+		private final Set<VariableInfo> locals = Collections.newSetFromMap(new IdentityHashMap<>());
+		private int guards = 0;
+		private boolean sideEffects = false;
+		private boolean unsafe = false;
+
+		private void check(ListNode value) {
+			if (SideEffects.hasSideEffects(value)) {
+				sideEffects = true;
+			}
+		}
+
+		@Override
+		public Void visitAssignment(Register register, ExprNode value) {
+			check(value);
+			return null;
+		}
+
+		@Override
+		public Void visitArrayAssignment(ArrayRegister register, ListNode value) {
+			check(value);
+			return null;
+		}
+
+		@Override
+		public Void visitBlock(AsmBlock block) {
+			visitAll(block.steps());
+			return null;
+		}
+
+		@Override
+		public Void visitBreakIf(ExprNode condition, boolean isTrue) {
+			check(condition);
+			guards++;
+			if (sideEffects) {
+				unsafe = true;
+			}
+			return null;
+		}
+
+		@Override
+		public Void visitDeclaration(VariableInfo variable) {
+			locals.add(variable);
+			return null;
+		}
+
+		@Override
+		public Void visitIfElseChain(LinkedHashMap<FlatExpr, AsmBlock> clauses) {
+			for (var clause : clauses.entrySet()) {
+				visitAll(clause.getKey().block());
+				check(clause.getKey().value());
+				visitAll(clause.getValue().steps());
+			}
+			return null;
+		}
+
+		@Override
+		public Void visitWrite(VariableInfo target, ExprNode value) {
+			check(value);
+			if (!locals.contains(target)) {
+				sideEffects = true;
+			}
+			return null;
+		}
+
+		@Override
+		public Void visitReturn(ExprList values) {
+			sideEffects = true;
+			return null;
+		}
+
+		@Override
+		public Void visitTailCall(ExprNode function, ExprList arguments) {
+			sideEffects = true;
+			return null;
+		}
+
+		@Override
+		public Void visitVoid(ListNode invocation) {
+			sideEffects = true;
+			return null;
+		}
+	}
+}
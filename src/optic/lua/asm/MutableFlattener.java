@@ -9,6 +9,7 @@ import org.slf4j.*;
 
 import java.lang.String;
 import java.util.*;
+import java.util.function.Supplier;
 
 import static nl.bigo.luaparser.Lua53Walker.Name;
 import static nl.bigo.luaparser.Lua53Walker.Not;
@@ -36,6 +37,24 @@ public final class MutableFlattener implements VariableResolver {
 	private final Options options;
 	// what kind of code block does
 	private final BlockMeaning meaning;
+	// variables of enclosing functions used in this function body (including nested functions)
+	private final Set<VariableInfo> upvalues = Collections.newSetFromMap(new IdentityHashMap<>());
+	// whether varargs of an enclosing function are used in this function body
+	private boolean usesVarargs = false;
+	// function literals which can be created before this loop body, null if this is not a loop body
+	@Nullable
+	private final List<FunctionLiteral> invariantFunctions;
+	// variables and registers of the whole chunk in order of creation, shared by all nested flatteners
+	private final List<VariableInfo> variables;
+	private final List<Register> registers;
+	// variables of the enclosing code written in this speculative loop body mapped to their shadows (see LoopSpeculation),
+	// null if this is not a speculative loop body
+	@Nullable
+	private Map<VariableInfo, VariableInfo> shadows = null;
+	// names of variables assigned in this speculative loop body
+	private Set<String> assignedNames = Set.of();
+	// whether this speculative loop body checks the type of an operand of arithmetic
+	private boolean guardsOperands = false;
 
 	private MutableFlattener(List<VoidNode> steps, MutableFlattener parent, boolean boundary, Options options, BlockMeaning meaning) {
 		this.parent = parent;
@@ -45,34 +64,86 @@ public final class MutableFlattener implements VariableResolver {
 		Objects.requireNonNull(options);
 		this.options = options;
 		this.steps = steps;
+		invariantFunctions = null;
+		variables = parent == null ? new ArrayList<>() : parent.variables;
+		registers = parent == null ? new ArrayList<>() : parent.registers;
+	}
+
+	private MutableFlattener(MutableFlattener parent, Options options, BlockMeaning meaning, int expectedSize) {
+		this.parent = parent;
+		lexicalBoundary = meaning.hasLexicalBoundary();
+		this.meaning = meaning;
+		this.options = Objects.requireNonNull(options);
+		steps = new ArrayList<>(expectedSize);
+		invariantFunctions = meaning == BlockMeaning.LOOP_BODY ? new ArrayList<>(0) : null;
+		variables = parent == null ? new ArrayList<>() : parent.variables;
+		registers = parent == null ? new ArrayList<>() : parent.registers;
 	}
 
 	public static AsmBlock flatten(CommonTree tree, Options context) throws CompilationFailure {
-		return flatten(tree, context, null, List.of(), BlockMeaning.MAIN_CHUNK);
+		var flattener = flattenBlock(tree, context, null, List.of(), BlockMeaning.MAIN_CHUNK);
+		var block = flattener.toBlock();
+		TypeInference.solve(flattener.variables, flattener.registers);
+		return block;
 	}
 
 	private static AsmBlock flatten(CommonTree tree, Options context, MutableFlattener parent, List<VariableInfo> locals, BlockMeaning kind) throws CompilationFailure {
+		return flattenBlock(tree, context, parent, locals, kind).toBlock();
+	}
+
+	private static MutableFlattener flattenBlock(CommonTree tree, Options context, MutableFlattener parent, List<VariableInfo> locals, BlockMeaning kind) throws CompilationFailure {
 		Objects.requireNonNull(tree);
 		var statements = Trees.childrenOf(tree);
 		int expectedSize = statements.size() * 4 + 10;
-		var f = new MutableFlattener(new ArrayList<>(expectedSize), parent, kind.hasLexicalBoundary(), context, kind);
+		var f = new MutableFlattener(parent, context, kind, expectedSize);
 		for (var local : locals) {
 			local.markAsInitialized();
 			f.locals.put(local.getName(), local);
+			f.variables.add(local);
+		}
+		f.flattenStatements(statements);
+		return f;
+	}
+
+	@Contract(mutates = "this")
+	private void flattenStatements(List<?> statements) throws CompilationFailure {
+		// outlined runs of statements by their first statement
+		var outlined = new IdentityHashMap<Object, List<Tree>>();
+		for (var run : BlockSplitter.statementsToOutline(statements, meaning, options)) {
+			outlined.put(run.get(0), run);
 		}
-		for (var stat : statements) {
-			int lineNumber = ((Tree) stat).getLine();
+		for (int i = 0; i < statements.size(); i++) {
+			var stat = (Tree) statements.get(i);
+			int lineNumber = stat.getLine();
 			if (lineNumber > 0) {
-				f.steps.add(VoidNode.lineNumber(lineNumber));
+				steps.add(VoidNode.lineNumber(lineNumber));
 			}
 			try {
-				f.flattenStatement((Tree) stat);
+				var run = outlined.get(stat);
+				if (run != null) {
+					outline(run);
+					i += run.size() - 1;
+				} else {
+					flattenStatement(stat);
+				}
 			} catch (RuntimeException e) {
-				log.error(((Tree) stat).toStringTree(), e);
+				log.error(stat.toStringTree(), e);
 				throw new CompilationFailure();
 			}
 		}
-		return new AsmBlock(f.steps, f.locals);
+	}
+
+	// compiles the statements as a function without parameters which is called in place, see BlockSplitter
+	@Contract(mutates = "this")
+	private void outline(List<Tree> statements) throws CompilationFailure {
+		var body = new MutableFlattener(this, options, BlockMeaning.FUNCTION_BODY, statements.size() * 4 + 10);
+		body.flattenStatements(statements);
+		var function = functionLiteral(ParameterList.of(List.of()), body);
+		steps.add(VoidNode.discard(ListNode.invocation(function, InvocationMethod.CALL, ExprList.exprList())));
+	}
+
+	private AsmBlock toBlock() {
+		return new AsmBlock(steps, locals, invariantFunctions == null ? List.of() : invariantFunctions);
 	}
 
 	private Flattener getInterface() {
@@ -89,6 +160,11 @@ public final class MutableFlattener implements VariableResolver {
 				ListNode result = flattener.flattenExpression(tree);
 				return new FlatExpr(flattener.steps, result);
 			}
+
+			@Override
+			public boolean isSpeculative() {
+				return MutableFlattener.this.isSpeculative();
+			}
 		};
 	}
 
@@ -104,18 +180,69 @@ public final class MutableFlattener implements VariableResolver {
 		return flatten(tree, options, this, variables, BlockMeaning.LOOP_BODY);
 	}
 
-	private AsmBlock flattenForRangeBody(CommonTree tree, StaticType counterType, String name) throws CompilationFailure {
+	private AsmBlock flattenForRangeBody(CommonTree tree, Supplier<StaticType> counterType, String name) throws CompilationFailure {
 		var info = new VariableInfo(name);
-		info.update(counterType);
+		info.addTypeDependency(counterType);
 		return flatten(tree, options, this, List.of(info), BlockMeaning.LOOP_BODY);
 	}
 
-	private AsmBlock flattenFunctionBody(CommonTree tree, ParameterList params) throws CompilationFailure {
+	/**
+	 * Flattens the body of a numeric for loop again, assuming that values used by arithmetic are numbers.
+	 * Returns null if the loop is not worth it.
+	 */
+	@Nullable
+	private LoopSpeculation speculate(CommonTree tree, Supplier<StaticType> counterType, String name) throws CompilationFailure {
+		if (!options.get(StandardFlags.LOOP_SPECULATION) || !LoopSpeculation.isCandidate(tree)) {
+			return null;
+		}
+		var counter = new VariableInfo(name);
+		counter.addTypeDependency(counterType);
+		counter.markAsInitialized();
+		var statements = Trees.childrenOf(tree);
+		var body = new MutableFlattener(this, options, BlockMeaning.LOOP_BODY, statements.size() * 4 + 10);
+		body.shadows = new LinkedHashMap<>(4);
+		body.assignedNames = LoopSpeculation.assignedNames(tree);
+		body.locals.put(name, counter);
+		variables.add(counter);
+		body.flattenStatements(statements);
+		return new LoopSpeculation(body.toBlock(), counter, body.shadows, body.guardsOperands);
+	}
+
+	// returns the speculative loop body which contains this block, null if there is none
+	@Nullable
+	private MutableFlattener speculativeBody() {
+		var scope = this;
+		while (scope != null) {
+			if (scope.shadows != null) {
+				return scope;
+			}
+			if (scope.lexicalBoundary) {
+				return null;
+			}
+			scope = scope.parent;
+		}
+		return null;
+	}
+
+	private boolean isSpeculative() {
+		return speculativeBody() != null;
+	}
+
+	private MutableFlattener flattenFunctionBody(CommonTree tree, ParameterList params) throws CompilationFailure {
 		var infos = new ArrayList<VariableInfo>(params.list().size());
 		for (var param : params.list()) {
 			infos.add(new VariableInfo(param));
 		}
-		return flatten(tree, options, this, infos, BlockMeaning.FUNCTION_BODY);
+		return flattenBlock(tree, options, this, infos, BlockMeaning.FUNCTION_BODY);
+	}
+
+	// returns the flattener of the innermost function body (or main chunk) containing this block
+	private MutableFlattener functionScope() {
+		var scope = this;
+		while (!scope.lexicalBoundary && scope.parent != null) {
+			scope = scope.parent;
+		}
+		return scope;
 	}
 
 	/**
@@ -140,12 +267,27 @@ public final class MutableFlattener implements VariableResolver {
 		if (parentVar != null) {
 			if (lexicalBoundary) {
 				parentVar.markAsUpvalue();
+				upvalues.add(parentVar);
+			} else if (shadows != null && assignedNames.contains(name) && parentVar.getMode() == VariableMode.LOCAL) {
+				return shadows.computeIfAbsent(parentVar, this::createShadow);
 			}
 			return parentVar;
 		}
 		return null;
 	}
 
+	// the shadow starts with the value of the variable, which is checked to have the type of the shadow
+	private VariableInfo createShadow(VariableInfo variable) {
+		var shadow = new VariableInfo(variable.getName() + "__fast");
+		shadow.markAsInitialized();
+		shadow.addTypeDependency(() -> {
+			var type = variable.typeInfo();
+			return type == StaticType.OBJECT ? StaticType.INTEGER : type;
+		});
+		variables.add(shadow);
+		return shadow;
+	}
+
 	@Contract(mutates = "this")
 	private void flattenStatement(Tree t) throws CompilationFailure {
 		Objects.requireNonNull(t);
@@ -179,17 +321,21 @@ public final class MutableFlattener implements VariableResolver {
 					// for loop without step:
 					// for i = A, B do ... end
 					CommonTree block = (CommonTree) stepOrBody.getChild(0);
-					AsmBlock body = flattenForRangeBody(block, from.typeInfo(), varName);
+					AsmBlock body = flattenForRangeBody(block, from::typeInfo, varName);
 					VariableInfo counter = body.locals().get(varName);
-					steps.add(VoidNode.forRange(counter, from, to, body));
+					counter.setLoopBounds(from, to, ExprNode.number(1));
+					var speculation = speculate(block, from::typeInfo, varName);
+					steps.add(VoidNode.forRange(counter, from, to, ExprNode.number(1), body, speculation));
 				} else {
 					// for loop with step "C":
 					// for i = A, B, C do ... end
 					ExprNode step = evaluateOnce(ExprNode.toNumber(firstOnly(flattenExpression(stepOrBody))));
 					CommonTree block = (CommonTree) t.getChild(4).getChild(0);
-					AsmBlock body = flattenForRangeBody(block, from.typeInfo().and(step.typeInfo()), varName);
+					AsmBlock body = flattenForRangeBody(block, () -> from.typeInfo().and(step.typeInfo()), varName);
 					VariableInfo counter = body.locals().get(varName);
-					steps.add(VoidNode.forRange(counter, from, to, step, body));
+					counter.setLoopBounds(from, to, step);
+					var speculation = speculate(block, () -> from.typeInfo().and(step.typeInfo()), varName);
+					steps.add(VoidNode.forRange(counter, from, to, step, body, speculation));
 				}
 				return;
 			}
@@ -200,10 +346,7 @@ public final class MutableFlattener implements VariableResolver {
 				for (var name : nameList.getChildren()) {
 					variables.add(new VariableInfo(name.toString()));
 				}
-				if (t.getChild(1).getChildCount() > 1) {
-					log.warn("for loop iterator should be a single expression; additional expressions will be ignored! {}", t.toStringTree());
-				}
-				var iterator = evaluateOnce(firstOnly(flattenExpression(Trees.expectChild(EXPR_LIST, t, 1).getChild(0))));
+				var iterator = flattenAll(Trees.childrenOf(Trees.expectChild(EXPR_LIST, t, 1)));
 				var body = flattenForInLoopBody((CommonTree) Trees.expectChild(Do, t, 2), variables);
 				steps.add(VoidNode.forInLoop(variables, iterator, body));
 				return;
@@ -219,7 +362,7 @@ public final class MutableFlattener implements VariableResolver {
 				stepList.addAll(condition.block());
 				stepList.add(VoidNode.breakIf(firstOnly(condition.value()), false));
 				stepList.addAll(body.steps());
-				var processedBody = new AsmBlock(stepList, body.locals());
+				var processedBody = new AsmBlock(stepList, body.locals(), body.invariantFunctions());
 				steps.add(VoidNode.loop(processedBody));
 				return;
 			}
@@ -233,7 +376,7 @@ public final class MutableFlattener implements VariableResolver {
 				var stepList = new ArrayList<>(body.steps());
 				stepList.addAll(condition.block());
 				stepList.add(VoidNode.breakIf(firstOnly(condition.value()), true));
-				var processedBody = new AsmBlock(stepList, body.locals());
+				var processedBody = new AsmBlock(stepList, body.locals(), body.invariantFunctions());
 				steps.add(VoidNode.loop(processedBody));
 				return;
 			}
@@ -277,13 +420,21 @@ public final class MutableFlattener implements VariableResolver {
 		Objects.requireNonNull(t);
 		if (Operators.isBinary(t)) {
 			LuaOperator op = LuaOperator.forTokenType(t.getType());
-			var a = firstOnly(flattenExpression(t.getChild(0)));
-			var b = firstOnly(flattenExpression(t.getChild(1)));
+			boolean numeric = isArithmetic(op);
+			var a = numeric ? flattenNumericOperand(t.getChild(0)) : firstOnly(flattenExpression(t.getChild(0)));
+			int mark = steps.size();
+			var b = numeric ? flattenNumericOperand(t.getChild(1)) : firstOnly(flattenExpression(t.getChild(1)));
+			if (numeric && steps.size() != mark && !a.isPure()) {
+				// make sure that "a" is still evaluated before "b"
+				var register = createRegister(a);
+				steps.add(mark, VoidNode.assign(register, a));
+				a = register;
+			}
 			return ExprNode.monoInvocation(a, op.invocationMethod(), ExprList.exprList(b));
 		}
 		if (Operators.isUnary(t)) {
 			LuaOperator op = LuaOperator.forTokenType(t.getType());
-			ExprNode param = firstOnly(flattenExpression(t.getChild(0)));
+			ExprNode param = isArithmetic(op) ? flattenNumericOperand(t.getChild(0)) : firstOnly(flattenExpression(t.getChild(0)));
 			return ExprNode.monoInvocation(param, op.invocationMethod(), ExprList.exprList());
 		}
 		switch (t.getType()) {
@@ -300,6 +451,7 @@ public final class MutableFlattener implements VariableResolver {
 					var global = VariableInfo.global(name);
 					return ExprNode.variableName(global);
 				}
+				info.markAsRead();
 				return ExprNode.variableName(info);
 			}
 			case VAR: {
@@ -319,6 +471,7 @@ public final class MutableFlattener implements VariableResolver {
 				return createTableLiteral(t);
 			}
 			case DotDotDot: {
+				functionScope().usesVarargs = true;
 				return ListNode.varargs();
 			}
 			case CONDITION: {
@@ -357,13 +510,102 @@ public final class MutableFlattener implements VariableResolver {
 	@Contract(mutates = "this")
 	private ExprNode createTableLiteral(Tree tree) throws CompilationFailure {
 		Trees.expect(TABLE, tree);
+		var runs = BlockSplitter.fieldsToOutline(tree);
+		if (!runs.isEmpty()) {
+			return createLargeTable(runs);
+		}
 		List<?> fields = Trees.childrenOf(tree);
 		var builder = new TableLiteralBuilder(this.getInterface(), fields.size());
 		for (Object obj : fields) {
 			builder.addEntry((Tree) obj);
 		}
 		steps.addAll(builder.getSteps());
-		return ExprNode.table(builder.getTable());
+		return builder.getTable();
+	}
+
+	// each run of fields is created as a table of its own by a function without parameters, see BlockSplitter
+	// the tables are then merged into the first one
+	@Contract(mutates = "this")
+	private ExprNode createLargeTable(List<List<Tree>> runs) throws CompilationFailure {
+		ExprNode table = null;
+		int positional = 0;
+		for (var run : runs) {
+			var body = new MutableFlattener(this, options, BlockMeaning.FUNCTION_BODY, run.size() + 10);
+			var part = body.createTablePart(run, positional);
+			body.steps.add(VoidNode.returnFromFunction(ExprList.exprList(part)));
+			var function = functionLiteral(ParameterList.of(List.of()), body);
+			var created = firstOnly(ListNode.invocation(function, InvocationMethod.CALL, ExprList.exprList()));
+			table = evaluateOnce(table == null ? created : putAll(table, created));
+			for (var field : run) {
+				if (field.getChildCount() == 1) {
+					positional++;
+				}
+			}
+		}
+		return table;
+	}
+
+	// positional fields get explicit keys which follow the given number of preceding positional fields
+	@Contract(mutates = "this")
+	private ExprNode createTablePart(List<Tree> fields, int positional) throws CompilationFailure {
+		var entries = new LinkedHashMap<ExprNode, ExprNode>(fields.size() * 2);
+		for (var field : fields) {
+			Trees.expect(FIELD, field);
+			if (field.getChildCount() == 2) {
+				var key = firstOnly(flattenExpression(field.getChild(0)));
+				entries.put(key, firstOnly(flattenExpression(field.getChild(1))));
+			} else {
+				positional++;
+				entries.put(ExprNode.number(positional), firstOnly(flattenExpression(field.getChild(0))));
+			}
+		}
+		return ExprNode.table(List.of(), null, entries);
+	}
+
+	private static ExprNode putAll(ExprNode table, ExprNode entries) {
+		var signature = new FunctionSignature(List.of(StaticType.OBJECT, StaticType.OBJECT), StaticType.TABLE);
+		return new ExprNode.IntrinsicCall(signature, "DynamicOps.putAll", ExprList.exprList(table, entries));
+	}
+
+	// operators which coerce their operands to numbers
+	private static boolean isArithmetic(LuaOperator op) {
+		switch (op) {
+			case ADD:
+			case SUB:
+			case MUL:
+			case DIV:
+			case MOD:
+			case POW:
+			case UNM:
+				return true;
+			default:
+				return false;
+		}
+	}
+
+	/**
+	 * Flattens an operand of an arithmetic operator. In speculative loop bodies, table reads are coerced to number
+	 * in place, which allows them to be compiled as unboxed reads. Elsewhere the value may have arithmetic metamethods.
+	 */
+	@Contract(mutates = "this")
+	private ExprNode flattenNumericOperand(Tree t) throws CompilationFailure {
+		if (!options.get(StandardFlags.NUMERIC_OPERANDS) || !isSpeculative() || t.getType() != VAR || t.getChild(t.getChildCount() - 1).getType() != INDEX) {
+			var value = firstOnly(flattenExpression(t));
+			var speculativeBody = speculativeBody();
+			if ((value instanceof ExprNode.Name || value instanceof Register) && value.isPure()
+					&& value.typeInfo() == StaticType.OBJECT && speculativeBody != null) {
+				// integers keep their own arithmetic, so only floats are accepted
+				steps.add(LoopSpeculation.exitUnless(LoopSpeculation.isFloat(value)));
+				speculativeBody.guardsOperands = true;
+				return LoopSpeculation.doubleValue(value);
+			}
+			return value;
+		}
+		var builder = new ChainedAccessBuilder(getInterface(), firstOnly(flattenExpression(t.getChild(0))));
+		for (int i = 1; i < t.getChildCount(); i++) {
+			builder.add(t.getChild(i));
+		}
+		return firstOnly(builder.buildNumericExpression().applyTo(steps));
 	}
 
 	@Contract(mutates = "this")
@@ -371,11 +613,17 @@ public final class MutableFlattener implements VariableResolver {
 		if (value.isPure()) {
 			return value;
 		}
-		var register = Register.ofType(value::typeInfo);
+		var register = createRegister(value);
 		steps.add(VoidNode.assign(register, value));
 		return register;
 	}
 
+	private Register createRegister(ExprNode value) {
+		var register = Register.holding(value);
+		registers.add(register);
+		return register;
+	}
+
 	@Contract(mutates = "this")
 	private ExprList flattenAll(List<?> trees) throws CompilationFailure {
 		int size = trees.size();
@@ -396,7 +644,7 @@ public final class MutableFlattener implements VariableResolver {
 			for (int i = 1, size = t.getChildCount(); i < size; i++) {
 				builder.add(t.getChild(i));
 			}
-			steps.addAll(builder.buildExpression().block());
+			steps.addAll(builder.buildIndexTarget());
 			return new LValue.TableField(builder.getSelf(), builder.getLastIndexKey());
 		} else {
 			// variable assignment;
@@ -411,13 +659,30 @@ public final class MutableFlattener implements VariableResolver {
 
 		var builder = new AssignmentBuilder(this);
 		var valueList = Trees.expect(EXPR_LIST, t.getChild(1));
+		List<?> names = Trees.childrenOf(nameList);
+		// "local function f() end" means "local f; f = function() end", so that the function can call itself
+		// in "local f = function() end" the name is not visible in the function
+		boolean declareFirst = local && names.size() == 1 && valueList.getChildCount() == 1 && isLocalFunction((Tree) names.get(0), valueList.getChild(0));
+		if (declareFirst) {
+			var info = resolve(names.get(0).toString());
+			declareFirst = info == null || info.getMode() != VariableMode.LOCAL;
+		}
+		VariableInfo function = null;
+		if (declareFirst) {
+			function = new VariableInfo(names.get(0).toString());
+			locals.put(function.getName(), function);
+			declare(function);
+		}
 		ExprList values = flattenAll(Trees.childrenOf(valueList));
+		if (function != null && function.getMode() == VariableMode.UPVALUE) {
+			// the function refers to itself, so it is captured before being assigned and can't be final
+			function.markAsWritten();
+		}
 		builder.setValues(values);
-		List<?> names = Trees.childrenOf(nameList);
 
 		// if the assignment starts with local, no need to worry about table assignments
 		// this code is illegal: "local a, tb[k] = 4, 2"
-		for (var name : names) {
+		for (var name : declareFirst ? List.of() : names) {
 			var info = resolve(name.toString());
 			if (info == null || info.getMode() != VariableMode.LOCAL) {
 				// if variable doesn't exist yet
@@ -442,8 +707,15 @@ public final class MutableFlattener implements VariableResolver {
 		steps.addAll(builder.build());
 	}
 
+	// the parser produces the same tree for "local function f() end" and "local f = function() end",
+	// only in the former the function (which starts at the parameter list) directly follows the name
+	private static boolean isLocalFunction(Tree name, Tree value) {
+		return value.getType() == FUNCTION && value.getTokenStartIndex() == name.getTokenStartIndex() + 1;
+	}
+
 	@Contract(mutates = "this")
 	private void declare(VariableInfo variable) {
+		variables.add(variable);
 		VoidNode step = VoidNode.declareLocal(variable);
 		steps.add(step);
 	}
@@ -454,7 +726,51 @@ public final class MutableFlattener implements VariableResolver {
 		Tree paramList = Trees.expectChild(PARAM_LIST, t, 0);
 		var params = ParameterList.parse(((CommonTree) paramList));
 		Tree chunk = Trees.expectChild(CHUNK, t, 1);
-		AsmBlock body = flattenFunctionBody((CommonTree) chunk, params);
-		return ExprNode.function(params, body);
+		var body = flattenFunctionBody((CommonTree) chunk, params);
+		return functionLiteral(params, body);
+	}
+
+	private ExprNode functionLiteral(ParameterList params, MutableFlattener body) {
+		// varargs of the function itself are not captured
+		boolean outerVarargs = body.usesVarargs && !params.hasVarargs();
+		if (outerVarargs) {
+			functionScope().usesVarargs = true;
+		}
+		boolean captures = outerVarargs || !body.upvalues.isEmpty();
+		var function = (FunctionLiteral) ExprNode.function(params, body.toBlock(), captures);
+		var names = params.list();
+		for (int i = 0; i < names.size(); i++) {
+			if (!names.get(i).equals("...")) {
+				int index = i;
+				body.locals.get(names.get(i)).addTypeDependency(() -> function.parameterType(index));
+			}
+		}
+		if (captures) {
+			var loop = outermostInvariantLoop(body.upvalues);
+			if (loop != null) {
+				loop.invariantFunctions.add(function);
+			}
+		}
+		return function;
+	}
+
+	// finds the outermost loop body of current function which doesn't declare any of given variables
+	@Nullable
+	private MutableFlattener outermostInvariantLoop(Set<VariableInfo> captured) {
+		MutableFlattener loop = null;
+		for (var scope = this; scope != null; scope = scope.parent) {
+			for (var local : scope.locals.values()) {
+				if (captured.contains(local)) {
+					return loop;
+				}
+			}
+			if (scope.invariantFunctions != null) {
+				loop = scope;
+			}
+			if (scope.lexicalBoundary) {
+				break;
+			}
+		}
+		return loop;
 	}
 }
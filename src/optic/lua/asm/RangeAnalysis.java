@@ -0,0 +1,145 @@
+package optic.lua.asm;
+
+import optic.lua.asm.ListNode.Invocation;
+import optic.lua.optimization.StaticType;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Finds out which values an integer expression can have.
+ * <p>
+ * Ranges are known for integer constants, registers and final local variables which hold an expression with a known
+ * range, counters of numeric for loops with known bounds and sums, differences and products of such values which
+ * can't overflow. The range of any other expression is unknown. Must not be used before types are known.
+ * </p>
+ */
+public final class RangeAnalysis {
+	// longer chains of variables and registers are not followed
+	private static final int MAX_DEPTH = 8;
+
+	private RangeAnalysis() {
+	}
+
+	/**
+	 * Returns true if the counter of a numeric for loop with given bounds is proven to fit in an int,
+	 * including the value after the last step.
+	 */
+	public static boolean fitsInt(ExprNode from, ExprNode to, ExprNode step) {
+		var fromRange = range(from, 0);
+		var toRange = range(to, 0);
+		var stepRange = range(step, 0);
+		return fromRange != null && toRange != null && stepRange != null
+				&& fitsInt(fromRange.min, fromRange.max, toRange.min, toRange.max, stepRange.min, stepRange.max);
+	}
+
+	/**
+	 * Returns true if the counter of a numeric for loop with given constant bounds fits in an int,
+	 * including the value after the last step.
+	 */
+	static boolean fitsInt(long from, long to, long step) {
+		return fitsInt(from, from, to, to, step, step);
+	}
+
+	// negative steps are not supported by numeric for loops, so only positive steps are accepted
+	private static boolean fitsInt(long fromMin, long fromMax, long toMin, long toMax, long stepMin, long stepMax) {
+		return fromMin >= Integer.MIN_VALUE && fromMax <= Integer.MAX_VALUE
+				&& toMin >= Integer.MIN_VALUE && toMax <= Integer.MAX_VALUE
+				&& stepMin > 0 && stepMax <= Integer.MAX_VALUE - toMax;
+	}
+
+	@Nullable
+	private static Range range(ExprNode node, int depth) {
+		if (depth > MAX_DEPTH || node.typeInfo() != StaticType.INTEGER) {
+			return null;
+		}
+		return node.accept(new SpecificNodeVisitor<Range, RuntimeException>() {
+			@Override
+			public Range visitNumberConstant(double n) {
+				return new Range((long) n, (long) n);
+			}
+
+			@Override
+			public Range visitRegister(Register register) {
+				var value = register.value();
+				return value == null ? null : range(value, depth + 1);
+			}
+
+			@Override
+			public Range visitLocalName(VariableInfo variable) {
+				return variableRange(variable, depth + 1);
+			}
+
+			@Override
+			public Range visitUpValueName(VariableInfo upvalue) {
+				return variableRange(upvalue, depth + 1);
+			}
+
+			@Override
+			public Range visitInvocation(Invocation invocation) {
+				var a = range(invocation.getObject(), depth + 1);
+				if (a == null) {
+					return null;
+				}
+				if (invocation.getMethod() == InvocationMethod.UNM) {
+					return a.min == Long.MIN_VALUE ? null : new Range(-a.max, -a.min);
+				}
+				var arguments = invocation.getArguments();
+				if (arguments.getLeading().size() != 1 || arguments.hasTrailing()) {
+					return null;
+				}
+				var b = range(arguments.getLeading(0), depth + 1);
+				if (b == null) {
+					return null;
+				}
+				try {
+					switch (invocation.getMethod()) {
+						case ADD:
+							return new Range(Math.addExact(a.min, b.min), Math.addExact(a.max, b.max));
+						case SUB:
+							return new Range(Math.subtractExact(a.min, b.max), Math.subtractExact(a.max, b.min));
+						case MUL: {
+							long p1 = Math.multiplyExact(a.min, b.min);
+							long p2 = Math.multiplyExact(a.min, b.max);
+							long p3 = Math.multiplyExact(a.max, b.min);
+							long p4 = Math.multiplyExact(a.max, b.max);
+							return new Range(Math.min(Math.min(p1, p2), Math.min(p3, p4)), Math.max(Math.max(p1, p2), Math.max(p3, p4)));
+						}
+						default:
+							return null;
+					}
+				} catch (ArithmeticException e) {
+					// integer arithmetic wraps around
+					return null;
+				}
+			}
+		});
+	}
+
+	@Nullable
+	private static Range variableRange(VariableInfo variable, int depth) {
+		if (!variable.isFinal()) {
+			return null;
+		}
+		var bounds = variable.getLoopBounds();
+		if (bounds == null) {
+			return range(variable.getLastAssignedExpression(), depth);
+		}
+		// the counter of a loop with a positive step is never greater than the limit
+		var from = range(bounds.getLeading(0), depth);
+		var to = range(bounds.getLeading(1), depth);
+		var step = range(bounds.getLeading(2), depth);
+		if (from == null || to == null || step == null || step.min <= 0) {
+			return null;
+		}
+		return new Range(from.min, Math.max(from.min, to.max));
+	}
+
+	private static final class Range {
+		private final long min;
+		private final long max;
+
+		private Range(long min, long max) {
+			this.min = min;
+			this.max = max;
+		}
+	}
+}
@@ -12,17 +12,31 @@ import java.util.function.Supplier;
  */
 public final class Register implements ExprNode {
 	private final String name;
-	private final Supplier<StaticType> type;
+	// replaced by the computed type after type inference (see TypeInference)
+	private Supplier<StaticType> type;
+	// the value assigned to this register, if it is known
+	@Nullable
+	private final ExprNode value;
 
-	private Register(Supplier<StaticType> type) {
+	private Register(Supplier<StaticType> type, @Nullable ExprNode value) {
 		this.name = UniqueNames.next();
 		this.type = type;
+		this.value = value;
 	}
 
 	@NotNull
 	@Contract(value = "_ -> new", pure = true)
 	public static Register ofType(Supplier<StaticType> type) {
-		return new Register(type);
+		return new Register(type, null);
+	}
+
+	/**
+	 * Returns a register which is assigned the given value and has the same type.
+	 */
+	@NotNull
+	@Contract(value = "_ -> new", pure = true)
+	static Register holding(ExprNode value) {
+		return new Register(value::typeInfo, value);
 	}
 
 	@Override
@@ -48,4 +62,13 @@ public final class Register implements ExprNode {
 	public StaticType typeInfo() {
 		return type.get();
 	}
+
+	@Nullable
+	ExprNode value() {
+		return value;
+	}
+
+	void fixType() {
+		type = type.get();
+	}
 }
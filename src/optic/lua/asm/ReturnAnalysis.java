@@ -0,0 +1,124 @@
+package optic.lua.asm;
+
+import optic.lua.optimization.StaticType;
+
+import java.util.*;
+import java.util.function.Predicate;
+
+/**
+ * Finds out how a function body returns.
+ */
+final class ReturnAnalysis {
+	private ReturnAnalysis() {
+	}
+
+	/**
+	 * Returns true if every return statement in the given function body returns exactly one value
+	 * and the end of the body can't be reached without executing a return statement.
+	 */
+	static boolean returnsSingleValue(AsmBlock body) {
+		return endsWithReturn(body) && allReturns(body, values -> values.getLeading().size() == 1 && !values.hasTrailing(), false);
+	}
+
+	/**
+	 * Returns true if the given function body contains a tail call.
+	 */
+	static boolean hasTailCalls(AsmBlock body) {
+		return !allReturns(body, values -> true, false);
+	}
+
+	/**
+	 * Returns the common type of the first value of every return statement in the given function body.
+	 */
+	static StaticType returnType(AsmBlock body) {
+		var type = new StaticType[1];
+		allReturns(body, values -> {
+			var valueType = values.getLeading(0).typeInfo();
+			type[0] = type[0] == null ? valueType : type[0].and(valueType);
+			return true;
+		}, true);
+		return type[0] == null ? StaticType.OBJECT : type[0];
+	}
+
+	private static boolean endsWithReturn(AsmBlock block) {
+		var steps = block.steps();
+		if (steps.isEmpty())
+			return false;
+		return steps.get(steps.size() - 1).accept(new SpecificNodeVisitor<Boolean, RuntimeException>() {
+			@Override
+			public Boolean visitReturn(ExprList values) {
+				return true;
+			}
+
+			@Override
+			public Boolean visitTailCall(ExprNode function, ExprList arguments) {
+				return true;
+			}
+
+			@Override
+			public Boolean visitBlock(AsmBlock block) {
+				return endsWithReturn(block);
+			}
+
+			@Override
+			public Boolean visitIfElseChain(LinkedHashMap<FlatExpr, AsmBlock> clauses) {
+				// the last clause must be an "else" clause
+				FlatExpr last = null;
+				for (var clause : clauses.entrySet()) {
+					if (!endsWithReturn(clause.getValue()))
+						return false;
+					last = clause.getKey();
+				}
+				return last != null && last.value() == ExprNode.bool(true);
+			}
+		}) == Boolean.TRUE;
+	}
+
+	// checks every return statement with the predicate, tail calls are accepted if "tailCalls" is true
+	private static boolean allReturns(AsmBlock block, Predicate<ExprList> predicate, boolean tailCalls) {
+		for (var step : block.steps()) {
+			boolean accepted = step.accept(new SpecificNodeVisitor<Boolean, RuntimeException>() {
+				@Override
+				public Boolean visitReturn(ExprList values) {
+					return predicate.test(values);
+				}
+
+				@Override
+				public Boolean visitTailCall(ExprNode function, ExprList arguments) {
+					return tailCalls;
+				}
+
+				@Override
+				public Boolean visitBlock(AsmBlock block) {
+					return allReturns(block, predicate, tailCalls);
+				}
+
+				@Override
+				public Boolean visitIfElseChain(LinkedHashMap<FlatExpr, AsmBlock> clauses) {
+					for (var body : clauses.values())
+						if (!allReturns(body, predicate, tailCalls))
+							return false;
+					return true;
+				}
+
+				@Override
+				public Boolean visitLoop(AsmBlock body) {
+					return allReturns(body, predicate, tailCalls);
+				}
+
+				@Override
+				public Boolean visitForRangeLoop(VariableInfo counter, ExprNode from, ExprNode to, ExprNode step, AsmBlock body) {
+					return allReturns(body, predicate, tailCalls);
+				}
+
+				@Override
+				public Boolean visitForEachLoop(List<VariableInfo> variables, ListNode iterator, AsmBlock body) {
+					return allReturns(body, predicate, tailCalls);
+				}
+			}) != Boolean.FALSE;
+			if (!accepted)
+				return false;
+		}
+		return true;
+	}
+}
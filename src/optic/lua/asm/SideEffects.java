@@ -0,0 +1,139 @@
+package optic.lua.asm;
+
+import optic.lua.asm.ListNode.Invocation;
+
+import java.util.*;
+import java.util.function.Predicate;
+
+import static optic.lua.optimization.StaticType.STRING;
+
+/**
+ * Finds out whether evaluating an expression may do anything besides computing its value, such as calling a function
+ * or a metamethod or modifying a table.
+ */
+final class SideEffects {
+	private SideEffects() {
+	}
+
+	static boolean hasSideEffects(ListNode node) {
+		return hasSideEffects(node, read -> false);
+	}
+
+	/**
+	 * Same as {@link #hasSideEffects(ListNode)}, except that table reads accepted by the given predicate
+	 * are assumed not to call metamethods.
+	 */
+	static boolean hasSideEffects(ListNode node, Predicate<Invocation> plainRead) {
+		return node.accept(new SpecificNodeVisitor<Boolean, RuntimeException>() {
+			@Override
+			public Boolean visitNumberConstant(double n) {
+				return false;
+			}
+
+			@Override
+			public Boolean visitStringConstant(String s) {
+				return false;
+			}
+
+			@Override
+			public Boolean visitBooleanConstant(boolean b) {
+				return false;
+			}
+
+			@Override
+			public Boolean visitNilConstant() {
+				return false;
+			}
+
+			@Override
+			public Boolean visitRegister(Register register) {
+				return false;
+			}
+
+			@Override
+			public Boolean visitArrayRegister(ArrayRegister register) {
+				return false;
+			}
+
+			@Override
+			public Boolean visitLocalName(VariableInfo variable) {
+				return false;
+			}
+
+			@Override
+			public Boolean visitUpValueName(VariableInfo upvalue) {
+				return false;
+			}
+
+			@Override
+			public Boolean visitVarargs() {
+				return false;
+			}
+
+			@Override
+			public Boolean visitNot(ExprNode value) {
+				return hasSideEffects(value, plainRead);
+			}
+
+			@Override
+			public Boolean visitAnd(ExprNode first, ExprNode second) {
+				return hasSideEffects(first, plainRead) || hasSideEffects(second, plainRead);
+			}
+
+			@Override
+			public Boolean visitOr(ExprNode first, ExprNode second) {
+				return hasSideEffects(first, plainRead) || hasSideEffects(second, plainRead);
+			}
+
+			@Override
+			public Boolean visitSelectNth(ListNode source, int n) {
+				return hasSideEffects(source, plainRead);
+			}
+
+			@Override
+			public Boolean visitExprList(List<ExprNode> nodes, Optional<ListNode> trailing) {
+				for (var node : nodes) {
+					if (hasSideEffects(node, plainRead)) {
+						return true;
+					}
+				}
+				return trailing.isPresent() && hasSideEffects(trailing.get(), plainRead);
+			}
+
+			@Override
+			public Boolean acceptIntrinsic(String methodName, ExprList args) {
+				return hasSideEffects(args, plainRead);
+			}
+
+			@Override
+			public Boolean visitInvocation(Invocation invocation) {
+				var operands = new ArrayList<ExprNode>(invocation.getArguments().getLeading());
+				operands.add(invocation.getObject());
+				switch (invocation.getMethod()) {
+					case INDEX:
+						if (!plainRead.test(invocation)) {
+							return true;
+						}
+						return hasSideEffects(invocation.getObject(), plainRead) || hasSideEffects(invocation.getArguments(), plainRead);
+					case CALL:
+					case SET_INDEX:
+					case LEN:
+						return true;
+					case TO_NUMBER:
+					case TO_BOOLEAN:
+						return hasSideEffects(invocation.getObject(), plainRead);
+					default:
+						// other operators only call metamethods if an operand is not a number (or a string for "..")
+						for (var operand : operands) {
+							var type = operand.typeInfo();
+							boolean primitive = type.isNumeric() || (type == STRING && invocation.getMethod() == InvocationMethod.CONCAT);
+							if (!primitive || hasSideEffects(operand, plainRead)) {
+								return true;
+							}
+						}
+						return invocation.getArguments().hasTrailing();
+				}
+			}
+		}) != Boolean.FALSE;
+	}
+}
@@ -132,7 +132,7 @@ public abstract class SpecificNodeVisitor<T, X extends Throwable> implements Sta
 	}
 
 	@Override
-	public T visitForEachLoop(List<VariableInfo> variables, ExprNode iterator, AsmBlock body) throws X {
+	public T visitForEachLoop(List<VariableInfo> variables, ListNode iterator, AsmBlock body) throws X {
 		return null;
 	}
 
@@ -161,6 +161,11 @@ public abstract class SpecificNodeVisitor<T, X extends Throwable> implements Sta
 		return null;
 	}
 
+	@Override
+	public T visitTailCall(ExprNode function, ExprList arguments) throws X {
+		return null;
+	}
+
 	@Override
 	public T visitVoid(ListNode invocation) throws X {
 		return null;
@@ -15,10 +15,18 @@ public interface StatementVisitor<T, X extends Throwable> {
 
 	T visitDeclaration(VariableInfo variable) throws X;
 
-	T visitForEachLoop(List<VariableInfo> variables, ExprNode iterator, AsmBlock body) throws X;
+	T visitForEachLoop(List<VariableInfo> variables, ListNode iterator, AsmBlock body) throws X;
 
 	T visitForRangeLoop(VariableInfo counter, ExprNode from, ExprNode to, ExprNode step, AsmBlock body) throws X;
 
+	/**
+	 * Visits a numeric for loop which has a speculative version of its body, by default the loop is visited
+	 * as a regular loop with the generic body.
+	 */
+	default T visitSpeculativeLoop(VariableInfo counter, ExprNode from, ExprNode to, ExprNode step, AsmBlock body, LoopSpeculation speculation) throws X {
+		return visitForRangeLoop(counter, from, to, step, body);
+	}
+
 	T visitIfElseChain(LinkedHashMap<FlatExpr, AsmBlock> clauses) throws X;
 
 	T visitLineNumber(int number) throws X;
@@ -27,6 +35,8 @@ public interface StatementVisitor<T, X extends Throwable> {
 
 	T visitReturn(ExprList values) throws X;
 
+	T visitTailCall(ExprNode function, ExprList arguments) throws X;
+
 	T visitVoid(ListNode invocation) throws X;
 
 	T visitWrite(VariableInfo target, ExprNode value) throws X;
@@ -14,12 +14,13 @@ import static optic.lua.asm.ExprNode.firstOnly;
  * add entries using {@link #addEntry(Tree)} and finally obtain the results using {@link #getSteps()} and {@link #getTable()}.
  */
 final class TableLiteralBuilder {
-	private final LinkedHashMap<ExprNode, ListNode> table = new LinkedHashMap<>(4);
+	private final List<ExprNode> array = new ArrayList<>(4);
+	private ListNode trailing = null;
+	private final LinkedHashMap<ExprNode, ExprNode> entries = new LinkedHashMap<>(4);
 	private final Flattener flattener;
 	private final int size;
 	private final List<VoidNode> steps = new ArrayList<>(8);
 	private int fieldIndex = 0;
-	private int arrayFieldIndex = 1;
 
 	TableLiteralBuilder(Flattener flattener, int numberOfEntries) {
 		this.flattener = flattener;
@@ -35,18 +36,21 @@ final class TableLiteralBuilder {
 		if (hasKey) {
 			var key = flattener.flattenExpression(field.getChild(0)).applyTo(steps);
 			var value = flattener.flattenExpression(field.getChild(1)).applyTo(steps);
-			table.put(firstOnly(key), firstOnly(value));
+			entries.put(firstOnly(key), firstOnly(value));
 		} else {
-			var key = ExprNode.number(arrayFieldIndex++);
 			var value = flattener.flattenExpression(field.getChild(0)).applyTo(steps);
 			boolean isLastField = fieldIndex == size - 1;
-			table.put(key, isLastField ? value : firstOnly(value));
+			if (isLastField && value.isVararg()) {
+				trailing = value;
+			} else {
+				array.add(firstOnly(value));
+			}
 		}
 		fieldIndex++;
 	}
 
-	LinkedHashMap<ExprNode, ListNode> getTable() {
-		return table;
+	ExprNode getTable() {
+		return ExprNode.table(array, trailing, entries);
 	}
 
 	List<VoidNode> getSteps() {
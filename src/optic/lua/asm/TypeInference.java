@@ -0,0 +1,131 @@
+package optic.lua.asm;
+
+import optic.lua.optimization.StaticType;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.*;
+
+/**
+ * Computes the types of all local variables of a chunk to a fixpoint.
+ * <p>
+ * Every variable starts without a type. The sources of a variable (see {@link VariableInfo#addTypeDependency})
+ * are evaluated using the current types of the variables they read and the variable takes the common type
+ * of the results. Sources which read a variable without a type are skipped. Whenever the type of a variable
+ * changes, the variables whose sources read it are evaluated again. Types only move towards
+ * {@link StaticType#OBJECT}, so this terminates. Afterwards types of variables and registers are fixed
+ * and no longer evaluated.
+ * </p>
+ */
+final class TypeInference {
+	private static final UnknownType UNKNOWN = new UnknownType();
+	// variables whose sources read the key variable
+	private final Map<VariableInfo, Set<VariableInfo>> dependents = new IdentityHashMap<>();
+	private final Deque<VariableInfo> worklist = new ArrayDeque<>();
+	private final Set<VariableInfo> queued = Collections.newSetFromMap(new IdentityHashMap<>());
+	// the variable whose sources are being evaluated
+	@Nullable
+	private VariableInfo current = null;
+
+	private TypeInference() {
+	}
+
+	/**
+	 * Solves the types of given variables, registers must be given in order of creation.
+	 */
+	static void solve(List<VariableInfo> variables, List<Register> registers) {
+		var inference = new TypeInference();
+		for (var variable : variables) {
+			variable.startInference(inference);
+			inference.enqueue(variable);
+		}
+		inference.run(variables);
+		for (var variable : variables) {
+			variable.finishInference();
+		}
+		// operands are created before the registers which use them, so every register is computed only once
+		for (var register : registers) {
+			register.fixType();
+		}
+	}
+
+	private void run(List<VariableInfo> variables) {
+		boolean changed = true;
+		while (changed) {
+			while (!worklist.isEmpty()) {
+				var variable = worklist.removeFirst();
+				queued.remove(variable);
+				var type = evaluate(variable);
+				if (type != null && type != variable.approximateType()) {
+					update(variable, type);
+				}
+			}
+			// variables which only depend on each other never get a type
+			changed = false;
+			for (var variable : variables) {
+				if (variable.approximateType() == null) {
+					update(variable, StaticType.OBJECT);
+					changed = true;
+				}
+			}
+		}
+	}
+
+	@Nullable
+	private StaticType evaluate(VariableInfo variable) {
+		current = variable;
+		var type = variable.approximateType();
+		try {
+			for (var source : variable.typeSources()) {
+				if (type == StaticType.OBJECT) {
+					break;
+				}
+				try {
+					var sourceType = source.get();
+					type = type == null ? sourceType : type.and(sourceType);
+				} catch (UnknownType e) {
+					// the variable will be evaluated again once the type becomes known
+				}
+			}
+		} finally {
+			current = null;
+		}
+		return type;
+	}
+
+	private void update(VariableInfo variable, StaticType type) {
+		variable.setApproximateType(type);
+		for (var dependent : dependents.getOrDefault(variable, Set.of())) {
+			enqueue(dependent);
+		}
+	}
+
+	private void enqueue(VariableInfo variable) {
+		if (queued.add(variable)) {
+			worklist.addLast(variable);
+		}
+	}
+
+	/**
+	 * Returns the current type of a variable which is being solved and records that the variable
+	 * which is being evaluated depends on it.
+	 */
+	StaticType read(VariableInfo variable) {
+		if (current != null) {
+			dependents.computeIfAbsent(variable, v -> Collections.newSetFromMap(new IdentityHashMap<>())).add(current);
+		}
+		var type = variable.approximateType();
+		if (type == null) {
+			throw UNKNOWN;
+		}
+		return type;
+	}
+
+	// thrown when a source reads a variable which has no type yet
+	private static final class UnknownType extends RuntimeException {
+		private static final long serialVersionUID = 1L;
+
+		private UnknownType() {
+			super(null, null, false, false);
+		}
+	}
+}
@@ -1,8 +1,9 @@
 package optic.lua.asm;
 
 import optic.lua.optimization.*;
-import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.*;
 
+import java.util.*;
 import java.util.function.Supplier;
 
 import static optic.lua.asm.VariableMode.*;
@@ -17,8 +18,23 @@ public class VariableInfo {
 	private boolean isUpvalue = false;
 	private boolean initialized = false;
 	private boolean isEnv = false;
-	private CombinedType combinedType = new CombinedType();
+	// suppliers of the types of values assigned to this variable
+	private final List<Supplier<StaticType>> typeSources = new ArrayList<>(2);
+	// the inferred type, during inference this is the current approximation (null if there is none yet)
+	@Nullable
+	private StaticType type = null;
+	private boolean solved = false;
+	// the inference which is solving the type of this variable
+	@Nullable
+	private TypeInference inference = null;
+	private boolean evaluating = false;
 	private ExprNode lastAssignedExpression = ExprNode.nil();
+	// the initial value, limit and step of the numeric for loop which uses this variable as the counter
+	@Nullable
+	private ExprList loopBounds = null;
+	private int reads = 0;
+	// argument lists of calls which use this variable as the function
+	private final List<ExprList> calls = new ArrayList<>(0);
 
 	VariableInfo(String name) {
 		this.name = name;
@@ -92,7 +108,7 @@ public class VariableInfo {
 	public StaticType typeInfo() {
 		if (!initialized)
 			throw new IllegalStateException(this + " not initialized");
-		var t = combinedType.get();
+		var t = inferredType();
 		if (!isUpvalue)
 			return t;
 		if (t == FUNCTION || t == INTEGER || t == NUMBER || t == OBJECT || t == TABLE)
@@ -100,12 +116,61 @@ public class VariableInfo {
 		return OBJECT; // not all types have respective up-value specializations
 	}
 
+	private StaticType inferredType() {
+		if (solved) {
+			return type;
+		}
+		if (inference != null) {
+			return inference.read(this);
+		}
+		// until the whole chunk is flattened, the type is computed from the sources known so far
+		if (evaluating) {
+			return OBJECT;
+		}
+		evaluating = true;
+		try {
+			StaticType result = null;
+			for (var source : typeSources) {
+				var sourceType = source.get();
+				result = result == null ? sourceType : result.and(sourceType);
+				if (result == OBJECT) {
+					break;
+				}
+			}
+			return result == null ? OBJECT : result;
+		} finally {
+			evaluating = false;
+		}
+	}
+
 	void update(StaticType other) {
-		combinedType.add(other);
+		typeSources.add(Objects.requireNonNull(other));
 	}
 
 	void addTypeDependency(Supplier<StaticType> source) {
-		combinedType.add(source);
+		typeSources.add(Objects.requireNonNull(source));
+	}
+
+	List<Supplier<StaticType>> typeSources() {
+		return typeSources;
+	}
+
+	@Nullable
+	StaticType approximateType() {
+		return type;
+	}
+
+	void setApproximateType(StaticType type) {
+		this.type = type;
+	}
+
+	void startInference(TypeInference inference) {
+		this.inference = inference;
+	}
+
+	void finishInference() {
+		inference = null;
+		solved = true;
 	}
 
 	ExprNode getLastAssignedExpression() {
@@ -116,10 +181,35 @@ public class VariableInfo {
 		this.lastAssignedExpression = expr;
 	}
 
+	@Nullable
+	ExprList getLoopBounds() {
+		return loopBounds;
+	}
+
+	void setLoopBounds(ExprNode from, ExprNode to, ExprNode step) {
+		loopBounds = ExprList.exprList(from, to, step);
+	}
+
 	public boolean isEnv() {
 		return isEnv;
 	}
 
+	void markAsRead() {
+		reads++;
+	}
+
+	void addCall(ExprList arguments) {
+		calls.add(arguments);
+	}
+
+	/**
+	 * Returns the arguments of every call of this variable, or null if the variable is also read for other purposes.
+	 */
+	@Nullable
+	List<ExprList> directCalls() {
+		return reads == calls.size() ? calls : null;
+	}
+
 	private static final class GlobalVariableInfo extends VariableInfo {
 		private GlobalVariableInfo(String name) {
 			super(name);
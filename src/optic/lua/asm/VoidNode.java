@@ -1,5 +1,6 @@
 package optic.lua.asm;
 
+import org.jetbrains.annotations.Nullable;
 import org.slf4j.*;
 
 import java.util.*;
@@ -19,12 +20,8 @@ public interface VoidNode extends Node {
 		return new Declare(info);
 	}
 
-	static VoidNode forRange(VariableInfo counter, ExprNode from, ExprNode to, AsmBlock block) {
-		return new ForRangeLoop(counter, from, to, ExprNode.number(1), block);
-	}
-
-	static VoidNode forRange(VariableInfo counter, ExprNode from, ExprNode to, ExprNode step, AsmBlock block) {
-		return new ForRangeLoop(counter, from, to, step, block);
+	static VoidNode forRange(VariableInfo counter, ExprNode from, ExprNode to, ExprNode step, AsmBlock block, @Nullable LoopSpeculation speculation) {
+		return new ForRangeLoop(counter, from, to, step, block, speculation);
 	}
 
 	static VoidNode doBlock(AsmBlock block) {
@@ -32,6 +29,14 @@ public interface VoidNode extends Node {
 	}
 
 	static VoidNode returnFromFunction(ExprList values) {
+		// "return f(x)" is a tail call
+		var trailing = values.getTrailing();
+		if (values.getLeading().isEmpty() && trailing.isPresent() && trailing.get() instanceof ListNode.Invocation) {
+			var invocation = (ListNode.Invocation) trailing.get();
+			if (invocation.getMethod() == InvocationMethod.CALL) {
+				return new TailCall(invocation.getObject(), invocation.getArguments());
+			}
+		}
 		return new Return(values);
 	}
 
@@ -63,7 +68,7 @@ public interface VoidNode extends Node {
 		return new Loop(body);
 	}
 
-	static VoidNode forInLoop(List<VariableInfo> variables, ExprNode iterator, AsmBlock body) {
+	static VoidNode forInLoop(List<VariableInfo> variables, ListNode iterator, AsmBlock body) {
 		return new ForEachLoop(variables, iterator, body);
 	}
 
@@ -147,10 +152,11 @@ public interface VoidNode extends Node {
 
 	final class ForEachLoop implements VoidNode {
 		private final List<VariableInfo> variables;
-		private final ExprNode iterator;
+		// the values of the expression list, see LoopCursor.of
+		private final ListNode iterator;
 		private final AsmBlock body;
 
-		private ForEachLoop(List<VariableInfo> variables, ExprNode iterator, AsmBlock body) {
+		private ForEachLoop(List<VariableInfo> variables, ListNode iterator, AsmBlock body) {
 			this.variables = variables;
 			this.iterator = iterator;
 			this.body = body;
@@ -168,17 +174,23 @@ public interface VoidNode extends Node {
 		private final ExprNode to;
 		private final ExprNode step;
 		private final AsmBlock block;
+		@Nullable
+		private final LoopSpeculation speculation;
 
-		private ForRangeLoop(VariableInfo counter, ExprNode from, ExprNode to, ExprNode step, AsmBlock block) {
+		private ForRangeLoop(VariableInfo counter, ExprNode from, ExprNode to, ExprNode step, AsmBlock block, @Nullable LoopSpeculation speculation) {
 			this.counter = counter;
 			this.from = from;
 			this.to = to;
 			this.step = step;
 			this.block = block;
+			this.speculation = speculation;
 		}
 
 		@Override
 		public <T, X extends Throwable> T accept(StatementVisitor<T, X> visitor) throws X {
+			if (speculation != null) {
+				return visitor.visitSpeculativeLoop(counter, from, to, step, block, speculation);
+			}
 			return visitor.visitForRangeLoop(counter, from, to, step, block);
 		}
 	}
@@ -222,6 +234,21 @@ public interface VoidNode extends Node {
 		}
 	}
 
+	final class TailCall implements VoidNode {
+		private final ExprNode function;
+		private final ExprList arguments;
+
+		private TailCall(ExprNode function, ExprList arguments) {
+			this.function = function;
+			this.arguments = arguments;
+		}
+
+		@Override
+		public <T, X extends Throwable> T accept(StatementVisitor<T, X> visitor) throws X {
+			return visitor.visitTailCall(function, arguments);
+		}
+	}
+
 	final class Void implements VoidNode {
 		private final ListNode value;
 
@@ -5,7 +5,7 @@ import optic.lua.asm.ListNode.Invocation;
 import optic.lua.codegen.*;
 import optic.lua.messages.*;
 import optic.lua.optimization.StaticType;
-import optic.lua.util.UniqueNames;
+import optic.lua.util.*;
 import org.jetbrains.annotations.NotNull;
 import org.slf4j.*;
 
@@ -35,8 +35,15 @@ import static optic.lua.codegen.java.JavaExpressionVisitor.LOCAL_VARIABLE_PREFIX
  * */
 public final class JavaCodeOutput implements StatementVisitor<ResultBuffer, CompilationFailure> {
 	private static final Logger log = LoggerFactory.getLogger(JavaCodeOutput.class);
+	// maximum length of a string in the encoded line table
+	private static final int LINE_TABLE_PART_LENGTH = 8192;
 	final Options options;
-	private final List<String> constants = new ArrayList<>();
+	// declarations at the start of the chunk, in order of creation (a constant may use the previous ones)
+	private final List<ResultBuffer> constants = new ArrayList<>();
+	// classes declared next to the run method
+	private final List<ResultBuffer> memberClasses = new ArrayList<>();
+	// names of GlobalVariable constants by the name of the global
+	private final Map<String, String> globalVariables = new HashMap<>();
 	private final NestedData nestedData = new NestedData();
 	private final JavaExpressionVisitor expressionVisitor = new JavaExpressionVisitor(nestedData, this);
 	// [J1, L1, J2, L2, ...] where J = Java line and L = Lua line
@@ -50,10 +57,60 @@ public final class JavaCodeOutput implements StatementVisitor<ResultBuffer, Comp
 	@Override
 	public ResultBuffer visitReturn(ExprList values) throws CompilationFailure {
 		var buffer = new LineList();
+		if (nestedData.singleResult()) {
+			buffer.addLine("return ", expression(values.getLeading(0)), ";");
+			return buffer;
+		}
 		buffer.addLine("return ", expression(values), ";");
 		return buffer;
 	}
 
+	@Override
+	public ResultBuffer visitTailCall(ExprNode function, ExprList arguments) throws CompilationFailure {
+		var target = nestedData.tailCallTarget();
+		if (target.isEmpty()) {
+			// nobody could perform a tail call of the main chunk
+			return visitReturn(ExprList.exprList(ListNode.invocation(function, CALL, arguments)));
+		}
+		var buffer = new LineList();
+		buffer.addLine("{");
+		var functionName = "tail_function_" + UniqueNames.next();
+		buffer.addLine("final Object ", functionName, " = ", expression(function), ";");
+		// arguments are evaluated before any parameter is overwritten
+		var argNames = new ArrayList<String>(arguments.getLeading().size());
+		String argsArray;
+		if (arguments.hasTrailing()) {
+			argsArray = "tail_args_" + UniqueNames.next();
+			buffer.addLine("final Object[] ", argsArray, " = ", expression(arguments), ";");
+		} else {
+			for (var arg : arguments.getLeading()) {
+				var argName = "tail_arg_" + UniqueNames.next();
+				buffer.addLine("final Object ", argName, " = ", expression(arg), ";");
+				argNames.add(argName);
+			}
+			argsArray = "list(" + String.join(", ", argNames) + ")";
+		}
+		var self = target.get();
+		buffer.addLine("if (", functionName, " == this) {");
+		if (self.arity < 0) {
+			buffer.addLine(self.argsName, " = ", argsArray, ";");
+		} else {
+			for (int i = 0; i < self.arity; i++) {
+				String value;
+				if (arguments.hasTrailing())
+					value = "get(" + argsArray + ", " + i + ")";
+				else
+					value = i < argNames.size() ? argNames.get(i) : "null";
+				buffer.addLine(self.argsName, "_", i, " = ", value, ";");
+			}
+		}
+		buffer.addLine("continue ", self.label, ";");
+		buffer.addLine("}");
+		buffer.addLine("return ", nestedData.contextName(), ".tailCall(", functionName, ", ", argsArray, ");");
+		buffer.addLine("}");
+		return buffer;
+	}
+
 	@Override
 	public ResultBuffer visitWrite(VariableInfo variable, ExprNode value) throws CompilationFailure {
 		var buffer = new LineList();
@@ -78,7 +135,7 @@ public final class JavaCodeOutput implements StatementVisitor<ResultBuffer, Comp
 			}
 			case GLOBAL: {
 				var context = nestedData.contextName();
-				buffer.addLine(context, ".setGlobal(\"", variable.getName(), "\", ", expression(value), ");");
+				buffer.addLine(globalVariable(variable.getName()), ".set(", context, ", ", expression(value), ");");
 				return buffer;
 			}
 			default:
@@ -99,27 +156,183 @@ public final class JavaCodeOutput implements StatementVisitor<ResultBuffer, Comp
 		var buffer = new LineList();
 		var realCounterName = "i_" + counter.getName();
 		StaticType realCounterType = from.typeInfo().and(step.typeInfo());
+		createInvariantFunctions(block, buffer);
+		var hoistedArrays = hoistArrays(block, buffer);
+		if (realCounterType == StaticType.INTEGER && RangeAnalysis.fitsInt(from, to, step)) {
+			// the range is known to fit in an int, so there is only one version
+			buffer.addLine("for(int ", realCounterName, " = (int)", expression(from), "; ", realCounterName, " <= (int)", expression(to), "; ", realCounterName, " += ", expression(step), ") {");
+			buffer.addAllChildren(loopVersion(counter, realCounterName, block));
+			buffer.addLine("}");
+		} else {
+			dynamicRangeLoop(counter, from, to, step, block, realCounterName, realCounterType, buffer);
+		}
+		for (var table : hoistedArrays) {
+			nestedData.removeHoistedArray(table);
+		}
+		return buffer;
+	}
+
+	// a loop whose counter is not known to fit in an int
+	private void dynamicRangeLoop(VariableInfo counter, ExprNode from, ExprNode to, ExprNode step, AsmBlock block, String realCounterName, StaticType realCounterType, LineList buffer) throws CompilationFailure {
 		if (realCounterType == StaticType.INTEGER
 				&& options.get(StandardFlags.LOOP_SPLIT)) {
 			// we optimize integer loops at runtime by checking if the range is within int bounds
 			// that way the majority of loops can run with int as counter and the long loop is just a safety measure
 			// it has been proven repeatedly that int loops are ~30% faster than long loops and 300% faster than float/double loops
+			// the counter must not overflow after the last step, a limit which is not an integer is compared as a double
 			// int loop
-			buffer.addLine("if(", expression(from), " >= Integer.MIN_VALUE && ", expression(to), " <= Integer.MAX_VALUE && (long) ", expression(step), " == ", expression(step), ")");
-			buffer.addLine("for(int ", realCounterName, " = (int)", expression(from), "; ", realCounterName, " <= (int)", expression(to), "; ", realCounterName, " += ", expression(step), ") {");
-			buffer.addLine("long ", LOCAL_VARIABLE_PREFIX, counter.getName(), " = ", realCounterName, ";");
-			buffer.addAllChildren(visitAll(block.steps()));
+			var condition = new ArrayList<Object>(List.of("if(", expression(from), " >= Integer.MIN_VALUE && (int) ", expression(step), " == ", expression(step), " && ", expression(to), " <= Integer.MAX_VALUE - ", expression(step)));
+			var limit = expression(to);
+			if (to.typeInfo() == StaticType.INTEGER) {
+				condition.addAll(List.of(" && ", expression(to), " >= Integer.MIN_VALUE"));
+				limit = Line.join("(int)", limit);
+			}
+			condition.add(")");
+			buffer.addLine(condition.toArray());
+			buffer.addLine("for(int ", realCounterName, " = (int)", expression(from), "; ", realCounterName, " <= ", limit, "; ", realCounterName, " += ", expression(step), ") {");
+			buffer.addAllChildren(loopVersion(counter, realCounterName, block));
 			buffer.addLine("}");
 			buffer.addLine("else");
 		}
 		// regular for-loop
 		buffer.addLine("for(", JavaUtils.typeName(realCounterType), " ", realCounterName, " = ", expression(from), "; ", realCounterName, " <= ", expression(to), "; ", realCounterName, " += ", expression(step), ") {");
-		buffer.addLine(JavaUtils.typeName(counter), " ", LOCAL_VARIABLE_PREFIX, counter.getName(), " = ", realCounterName, ";");
-		buffer.addAllChildren(visitAll(block.steps()));
+		buffer.addAllChildren(loopVersion(counter, realCounterName, block));
+		buffer.addLine("}");
+	}
+
+	// loads the array parts of tables which the loop reads (see ArrayHoisting), returns the tables whose array part has been loaded
+	private List<VariableInfo> hoistArrays(AsmBlock block, LineList buffer) throws CompilationFailure {
+		var hoisting = options.get(StandardFlags.ARRAY_HOISTING) ? ArrayHoisting.of(block) : null;
+		if (hoisting == null) {
+			return List.of();
+		}
+		var flagName = "lacks_index_" + UniqueNames.next();
+		var lacksIndex = new ArrayList<Object>(List.of("final boolean ", flagName, " = "));
+		for (var table : hoisting.tables()) {
+			if (lacksIndex.size() > 3) {
+				lacksIndex.add(" && ");
+			}
+			lacksIndex.addAll(List.of("ArrayParts.lacksIndex(", expression(ExprNode.variableName(table)), ")"));
+		}
+		lacksIndex.add(";");
+		var arrays = new ArrayList<ResultBuffer>(hoisting.arrays().size() * 2);
+		var hoisted = new ArrayList<VariableInfo>(hoisting.arrays().size());
+		for (var table : hoisting.arrays()) {
+			var value = expression(ExprNode.variableName(table));
+			var arrayName = "array_" + UniqueNames.next();
+			var lengthName = "length_" + UniqueNames.next();
+			// an enclosing loop may have loaded the array part already
+			if (nestedData.hoistArray(table, arrayName, lengthName)) {
+				arrays.add(Line.join("final double[] ", arrayName, " = ArrayParts.numbers(", value, ");"));
+				arrays.add(Line.join("final int ", lengthName, " = ", flagName, " ? ArrayParts.length(", value, ") : 0;"));
+				hoisted.add(table);
+			}
+		}
+		if (!hoisted.isEmpty()) {
+			// reads which can't use the array part must not call metamethods, otherwise they might change it
+			buffer.addLine(lacksIndex.toArray());
+			buffer.addAllChildren(arrays);
+		}
+		return hoisted;
+	}
+
+	/*
+	 * The speculative version continues the same counter as the generic version:
+	 *
+	 * i = from;
+	 * for(; i <= to; i += step) {
+	 *   if(speculate && i != from && entryGuards) {
+	 *     speculate = false;
+	 *     declareShadows();
+	 *     for(; i <= to; i += step) {
+	 *       saveShadows();
+	 *       speculativeBody(); // guards break out of this loop
+	 *     }
+	 *     if(i <= to) restoreShadows();
+	 *     writeBackShadows();
+	 *     if(i > to) break;
+	 *   }
+	 *   genericBody();
+	 * }
+	 */
+	@Override
+	public ResultBuffer visitSpeculativeLoop(VariableInfo counter, ExprNode from, ExprNode to, ExprNode step, AsmBlock block, LoopSpeculation speculation) throws CompilationFailure {
+		if (!speculation.isApplicable()) {
+			return visitForRangeLoop(counter, from, to, step, block);
+		}
+		var buffer = new LineList();
+		var realCounterName = "i_" + counter.getName() + "_" + UniqueNames.next();
+		var flagName = "speculate_" + UniqueNames.next();
+		StaticType realCounterType = from.typeInfo().and(step.typeInfo());
+		boolean intCounter = realCounterType == StaticType.INTEGER && RangeAnalysis.fitsInt(from, to, step);
+		var counterDeclaration = intCounter
+				? Line.join("int ", realCounterName, " = (int)", expression(from), ";")
+				: Line.join(JavaUtils.typeName(realCounterType), " ", realCounterName, " = ", expression(from), ";");
+		var limit = intCounter ? Line.join("(int)", expression(to)) : expression(to);
+		// the first iteration is generic, so that accumulators hold values of the type they keep
+		var condition = new ArrayList<Object>(List.of("if(", flagName, " && ", realCounterName, " != ", expression(from)));
+		var shadows = new LineList();
+		var save = new LineList();
+		var restore = new LineList();
+		var writeBack = new LineList();
+		for (var entry : speculation.shadows().entrySet()) {
+			var variable = entry.getKey();
+			var shadow = entry.getValue();
+			var value = expression(ExprNode.variableName(variable));
+			var shadowType = shadow.typeInfo();
+			var shadowName = LOCAL_VARIABLE_PREFIX + shadow.getName();
+			var savedName = "saved_" + UniqueNames.next();
+			if (variable.typeInfo().subtypeOf(shadowType)) {
+				shadows.addLine(JavaUtils.typeName(shadow), " ", shadowName, " = ", value, ";");
+			} else if (shadowType == StaticType.NUMBER) {
+				condition.addAll(List.of(" && Guards.isFloat(", value, ")"));
+				shadows.addLine("double ", shadowName, " = Guards.doubleValue(", value, ");");
+			} else {
+				assert shadowType == StaticType.INTEGER;
+				condition.addAll(List.of(" && Guards.isInteger(", value, ")"));
+				shadows.addLine("long ", shadowName, " = Guards.longValue(", value, ");");
+			}
+			shadows.addLine(JavaUtils.typeName(shadow), " ", savedName, " = ", shadowName, ";");
+			save.addLine(savedName, " = ", shadowName, ";");
+			restore.addLine(shadowName, " = ", savedName, ";");
+			writeBack.addChild(visitWrite(variable, ExprNode.variableName(shadow)));
+		}
+		var header = Line.join("for(; ", realCounterName, " <= ", limit, "; ", realCounterName, " += ", expression(step), ") {");
+		buffer.addLine("{");
+		buffer.addChild(counterDeclaration);
+		buffer.addLine("boolean ", flagName, " = true;");
+		buffer.addLine(header);
+		condition.add(") {");
+		buffer.addLine(condition.toArray());
+		buffer.addLine(flagName, " = false;");
+		buffer.addChild(shadows);
+		buffer.addLine(header);
+		buffer.addChild(save);
+		buffer.addAllChildren(loopVersion(speculation.counter(), realCounterName, speculation.body()));
+		buffer.addLine("}");
+		// if a guard has failed, the generic version performs the iteration again
+		buffer.addLine("if(", realCounterName, " <= ", limit, ") {");
+		buffer.addChild(restore);
+		buffer.addLine("}");
+		buffer.addChild(writeBack);
+		buffer.addLine("if(!(", realCounterName, " <= ", limit, ")) break;");
+		buffer.addLine("}");
+		buffer.addAllChildren(loopVersion(counter, realCounterName, block));
+		buffer.addLine("}");
 		buffer.addLine("}");
 		return buffer;
 	}
 
+	// the body of a loop which uses the given Java variable as the counter
+	private List<ResultBuffer> loopVersion(VariableInfo counter, String realCounterName, AsmBlock block) throws CompilationFailure {
+		var lines = new ArrayList<ResultBuffer>(block.steps().size() + 1);
+		// the counter may be captured by functions in the loop body
+		String finalPrefix = counter.isFinal() ? "final " : "";
+		lines.add(Line.join(finalPrefix, JavaUtils.typeName(counter), " ", LOCAL_VARIABLE_PREFIX, counter.getName(), " = ", realCounterName, ";"));
+		lines.addAll(visitAll(block.steps()));
+		return lines;
+	}
+
 	@Override
 	public ResultBuffer visitDeclaration(VariableInfo variable) {
 		var buffer = new LineList();
@@ -141,16 +354,17 @@ public final class JavaCodeOutput implements StatementVisitor<ResultBuffer, Comp
 	}
 
 	@Override
-	public ResultBuffer visitForEachLoop(List<VariableInfo> variables, ExprNode iterator, AsmBlock body) throws CompilationFailure {
+	public ResultBuffer visitForEachLoop(List<VariableInfo> variables, ListNode iterator, AsmBlock body) throws CompilationFailure {
 		var buffer = new LineList();
-		var iteratorName = "iterator_" + UniqueNames.next();
-		var eachName = "each_" + UniqueNames.next();
-		buffer.addLine("Iterator ", iteratorName, " = (Iterator) ", expression(iterator), ";");
-		buffer.addLine("while(", iteratorName, ".hasNext()) {");
-		buffer.addLine("Object[] ", eachName, " = (Object[]) ", iteratorName, ".next();");
+		var cursorName = "cursor_" + UniqueNames.next();
+		createInvariantFunctions(body, buffer);
+		buffer.addLine("LoopCursor ", cursorName, " = LoopCursor.of(", nestedData.contextName(), ", ", expression(iterator), ");");
+		buffer.addLine("while(", cursorName, ".advance()) {");
 		int i = 0;
 		for (var variable : variables) {
-			buffer.addLine(JavaUtils.typeName(variable), " ", LOCAL_VARIABLE_PREFIX, variable.getName(), " = get(", eachName, ", ", i++, ");");
+			var value = i == 0 ? cursorName + ".key()" : i == 1 ? cursorName + ".value()" : cursorName + ".variable(" + i + ")";
+			buffer.addLine(variable.isFinal() ? "final " : "", JavaUtils.typeName(variable), " ", LOCAL_VARIABLE_PREFIX, variable.getName(), " = ", value, ";");
+			i++;
 		}
 		buffer.addAllChildren(visitAll(body.steps()));
 		buffer.addLine("}");
@@ -186,12 +400,20 @@ public final class JavaCodeOutput implements StatementVisitor<ResultBuffer, Comp
 	@Override
 	public ResultBuffer visitLoop(AsmBlock body) throws CompilationFailure {
 		var buffer = new LineList();
+		createInvariantFunctions(body, buffer);
 		buffer.addLine("while(true) {");
 		buffer.addAllChildren(visitAll(body.steps()));
 		buffer.addLine("}");
 		return buffer;
 	}
 
+	// functions which don't depend on the iteration are created once, before the loop
+	private void createInvariantFunctions(AsmBlock loopBody, LineList buffer) throws CompilationFailure {
+		for (var function : loopBody.invariantFunctions()) {
+			buffer.addChild(expressionVisitor.declareFunction(function));
+		}
+	}
+
 	@Override
 	public ResultBuffer visitBlock(AsmBlock block) throws CompilationFailure {
 		var buffer = new LineList();
@@ -258,18 +480,16 @@ public final class JavaCodeOutput implements StatementVisitor<ResultBuffer, Comp
 		buffer.addLine("import static optic.lua.runtime.DynamicOps.*;");
 		buffer.addLine("import static optic.lua.runtime.ListOps.*;");
 		buffer.addLine("import optic.lua.runtime.invoke.*;");
-		buffer.addLine("import java.util.Iterator;");
 		buffer.addLine("public class " + className + " {");
 		var contextName = nestedData.pushNewContextName();
 
 		LineList classBody = new LineList();
-		classBody.addLine("public static Object[] run(final LuaContext " + contextName + ", Object[] args) { if(1 == 1) {");
+		classBody.addLine("public static Object[] run(final LuaContext " + contextName + ", final Object[] args) { if(1 == 1) {");
 
 		LineList methodBody = new LineList();
-		methodBody.addAllChildren(visitAll(block.steps()));
-		for (String constant : constants) {
-			methodBody.prependString(constant);
-		}
+		var steps = visitAll(block.steps());
+		methodBody.addAllChildren(constants);
+		methodBody.addAllChildren(steps);
 		classBody.addChild(methodBody);
 
 		classBody.addLine("} return EMPTY; }");
@@ -277,6 +497,7 @@ public final class JavaCodeOutput implements StatementVisitor<ResultBuffer, Comp
 		classBody.addLine("public static void main(String... args) {");
 		classBody.addLine(new LineList("run(LuaContext.create(), args);"));
 		classBody.addLine("}");
+		classBody.addAllChildren(memberClasses);
 
 		buffer.addChild(classBody);
 
@@ -284,18 +505,38 @@ public final class JavaCodeOutput implements StatementVisitor<ResultBuffer, Comp
 		buffer.writeTo(out, options.get(Option.INDENT));
 
 		// append line table which only becomes populated after writing out the buffer
-		var joiner = new StringJoiner(",");
+		// the table is encoded as strings of limited length, see LineNumberTable(String...)
+		var parts = new StringJoiner("\", \"", "\"", "\"");
+		var part = new StringJoiner(",");
 		for (Integer lineNumber : lineTable) {
-			joiner.add(lineNumber.toString());
+			if (part.length() > LINE_TABLE_PART_LENGTH) {
+				parts.add(part.toString());
+				part = new StringJoiner(",");
+			}
+			part.add(lineNumber.toString());
 		}
-		out.println(options.get(Option.INDENT) + "public static final LineNumberTable LINE_TABLE = new LineNumberTable(" + joiner.toString() + ");");
+		parts.add(part.toString());
+		out.println(options.get(Option.INDENT) + "public static final LineNumberTable LINE_TABLE = new LineNumberTable(" + parts.toString() + ");");
 		out.println("}");
 		out.flush();
 		return result.toString();
 	}
 
-	void addConstant(String type, String name, String value) {
-		constants.add("final " + type + " " + name + " = " + value + ";");
+	void addConstant(String type, String name, Object value) {
+		constants.add(Line.join("final ", type, " ", name, " = ", value, ";"));
+	}
+
+	void addMemberClass(ResultBuffer declaration) {
+		memberClasses.add(declaration);
+	}
+
+	// returns the name of the constant which accesses given global, the constant is shared by the whole chunk
+	String globalVariable(String name) {
+		return globalVariables.computeIfAbsent(name, n -> {
+			String constantName = "global_" + UniqueNames.next();
+			addConstant("GlobalVariable", constantName, "new GlobalVariable(\"" + StringUtils.escape(n) + "\")");
+			return constantName;
+		});
 	}
 
 	@Override
@@ -6,7 +6,7 @@ import optic.lua.codegen.*;
 import optic.lua.messages.*;
 import optic.lua.optimization.*;
 import optic.lua.util.*;
-import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.*;
 import org.slf4j.*;
 
 import java.text.*;
@@ -29,9 +29,15 @@ final class JavaExpressionVisitor implements ExpressionVisitor<ResultBuffer, Com
 	}
 
 	static final String LOCAL_VARIABLE_PREFIX = "L_";
+	// functions with up to this many parameters get a fixed-arity entry point (see LuaFunction#call0)
+	private static final int MAX_FIXED_ARITY = 4;
 	private static AtomicInteger idCounter = new AtomicInteger();
 	private final NestedData nestedData;
 	private final JavaCodeOutput statementVisitor;
+	// names of variables and constants which hold functions created in advance
+	private final Map<FunctionLiteral, String> functionNames = new IdentityHashMap<>();
+	// names of the classes which declare the typed entry points of specialized functions
+	private final Map<FunctionLiteral, String> functionClasses = new IdentityHashMap<>();
 
 	JavaExpressionVisitor(NestedData data, JavaCodeOutput visitor) {
 		nestedData = Objects.requireNonNull(data);
@@ -98,11 +104,25 @@ final class JavaExpressionVisitor implements ExpressionVisitor<ResultBuffer, Com
 
 	@Override
 	public ResultBuffer visitSelectNth(ListNode source, int n) throws CompilationFailure {
+		if (n == 0 && source instanceof ListNode.Invocation && ((ListNode.Invocation) source).getMethod() == InvocationMethod.CALL) {
+			// only the first result is needed, no need to create the result array
+			var call = (ListNode.Invocation) source;
+			return compileFunctionCall(call.getObject(), call.getArguments(), true);
+		}
+		if (source instanceof ListNode.Varargs) {
+			var varargs = varargs();
+			return Line.join("get(", varargs.array, ", ", varargs.offset + n, ")");
+		}
 		return Line.join("get(", source.accept(this), ", ", n, ")");
 	}
 
 	@Override
 	public ResultBuffer visitExprList(List<ExprNode> leading, Optional<ListNode> trailing) throws CompilationFailure {
+		if (trailing.isPresent() && trailing.get() instanceof ListNode.Varargs && !leading.isEmpty()) {
+			// copy the values directly from the argument array
+			var varargs = varargs();
+			return Line.join("appendFrom(", varargs.array, ", ", varargs.offset, ", ", commaList(leading), ")");
+		}
 		if (trailing.isPresent()) {
 			return Line.join("append(", trailing.get().accept(this), leading.isEmpty() ? "" : ", ", commaList(leading), ")");
 		}
@@ -116,26 +136,20 @@ final class JavaExpressionVisitor implements ExpressionVisitor<ResultBuffer, Com
 
 	@Override
 	public ResultBuffer visitTableConstructor(TableLiteral t) throws CompilationFailure {
-		var copy = new LinkedHashMap<>(t.entries());
-		Entry<ExprNode, ListNode> vararg = copy.entrySet().stream()
-				.filter(e -> e.getValue().isVararg())
-				.findAny()
-				.orElse(null);
-		if (vararg != null && vararg.getKey().typeInfo() != StaticType.INTEGER)
-			throw new InternalCompilerError("Vararg key must be an integer");
-		// vararg is treated separately, remove it from the map
-		if (vararg != null)
-			copy.remove(vararg.getKey());
-		var joiner = new ArrayList<ExprNode>(copy.size() * 2);
-		for (Entry<ExprNode, ListNode> e : copy.entrySet()) {
+		var joiner = new ArrayList<ExprNode>(t.entries().size() * 2);
+		for (Entry<ExprNode, ExprNode> e : t.entries().entrySet()) {
 			joiner.add(e.getKey());
-			joiner.add((ExprNode) e.getValue());
+			joiner.add(e.getValue());
 		}
 		ResultBuffer list = commaList(joiner);
-		if (vararg != null) {
-			var offset = vararg.getKey().accept(this);
-			var varargValue = vararg.getValue().accept(this);
-			return Line.join("varargTable(", offset, ", ", varargValue, (copy.isEmpty() ? "" : ", "), list, ")");
+		String separator = joiner.isEmpty() ? "" : ", ";
+		// positional values are passed as an array which is copied into the array part at once
+		var array = t.array().isEmpty() ? Line.of("EMPTY") : Line.join("new Object[]{", commaList(t.array()), "}");
+		var trailing = t.trailing();
+		if (trailing != null) {
+			return Line.join("varargTable(", array, ", ", trailing.accept(this), separator, list, ")");
+		} else if (!t.array().isEmpty()) {
+			return Line.join("arrayTable(", array, separator, list, ")");
 		} else {
 			return Line.join("table(", list, ")");
 		}
@@ -143,6 +157,29 @@ final class JavaExpressionVisitor implements ExpressionVisitor<ResultBuffer, Com
 
 	@Override
 	public ResultBuffer visitFunctionLiteral(FunctionLiteral f) throws CompilationFailure {
+		var name = functionNames.get(f);
+		if (name != null) {
+			return Line.of(name);
+		}
+		if (!f.capturesVariables()) {
+			// functions which capture nothing are created once per chunk
+			name = "function_" + UniqueNames.next();
+			statementVisitor.addConstant("LuaFunction", name, createFunction(f));
+			functionNames.put(f, name);
+			return Line.of(name);
+		}
+		return createFunction(f);
+	}
+
+	// declares a variable with given function, the function literal will be compiled as a reference to this variable
+	ResultBuffer declareFunction(FunctionLiteral f) throws CompilationFailure {
+		var name = "function_" + UniqueNames.next();
+		var declaration = Line.join("final LuaFunction ", name, " = ", createFunction(f), ";");
+		functionNames.put(f, name);
+		return declaration;
+	}
+
+	private LineList createFunction(FunctionLiteral f) throws CompilationFailure {
 		LineList buffer = new LineList();
 		var params = f.parameters().list();
 		var argsName = "args" + UniqueNames.next();
@@ -152,32 +189,176 @@ final class JavaExpressionVisitor implements ExpressionVisitor<ResultBuffer, Com
 				functionCreationSiteName,
 				nestedData.rootContextName() + ".functionFactory(" + idCounter.incrementAndGet() + ")");
 		var contextName = nestedData.pushNewContextName();
-		buffer.addLine("new LuaFunction(", functionCreationSiteName, "){ public Object[] call(LuaContext " + contextName + ", Object[] " + argsName + ") { if(1==1) {");
+		boolean fixedArity = !f.parameters().hasVarargs() && params.size() <= MAX_FIXED_ARITY;
+		// functions which always return one value have their body in the single-result entry point
+		boolean singleResult = f.returnsSingleValue();
+		int arity = params.size();
+		var suffix = fixedArity ? Integer.toString(arity) : "";
+		var bodyParams = fixedArity ? fixedArityParams(arity, argsName) : ", Object[] " + argsName;
+		var bodyArgs = fixedArity ? fixedArityArgs(arity, arity, argsName + "_%d") : ", " + argsName;
+		boolean tailCalls = f.hasTailCalls();
+		boolean specialized = f.isSpecialized();
+		var parameterTypes = specialized ? parameterTypes(f) : null;
+		var returnType = specialized && singleResult ? f.returnType() : StaticType.OBJECT;
+		if (specialized) {
+			// the body is compiled into an entry point with inferred types which is called directly by the callers,
+			// the generic entry points only convert the arguments
+			var typedParams = new StringBuilder();
+			var typedArgs = new StringBuilder();
+			for (int i = 0; i < arity; i++) {
+				var type = parameterTypes.get(i);
+				typedParams.append(", ").append(JavaUtils.typeName(type)).append(' ').append(argsName).append('_').append(i);
+				typedArgs.append(", ").append(fromObject(type, "get(" + argsName + ", " + i + ")"));
+			}
+			var typedCall = "callTyped(" + contextName + typedArgs + ")";
+			buffer.addLine("new ", functionClass(f), "(", functionCreationSiteName, "){");
+			if (singleResult) {
+				buffer.addLine("public Object[] call(LuaContext ", contextName, ", Object[] ", argsName, ") { return list(", typedCall, "); }");
+				buffer.addLine("public Object callFirst(LuaContext ", contextName, ", Object[] ", argsName, ") { return ", typedCall, "; }");
+			} else {
+				buffer.addLine("public Object[] call(LuaContext ", contextName, ", Object[] ", argsName, ") { return ", typedCall, "; }");
+			}
+			var returnTypeName = singleResult ? JavaUtils.typeName(returnType) : "Object[]";
+			buffer.addLine("public ", returnTypeName, " callTyped(LuaContext ", contextName, typedParams, ") { if(1==1) {");
+			nestedData.pushMissingTailCallTarget();
+		} else {
+			buffer.addLine("new LuaFunction(", functionCreationSiteName, "){");
+			if (fixedArity) {
+				// the body is compiled into the entry point matching the number of parameters,
+				// all other entry points just pad or drop arguments
+				var arrayArgs = fixedArityArgs(arity, arity, "get(" + argsName + ", %d)");
+				for (var method : singleResult ? List.of("call", "callFirst") : List.of("call")) {
+					var type = method.equals("call") ? "Object[]" : "Object";
+					buffer.addLine("public ", type, " ", method, "(LuaContext ", contextName, ", Object[] ", argsName, ") { return ", method, arity, "(", contextName, arrayArgs, "); }");
+					for (int n = 0; n <= MAX_FIXED_ARITY; n++) {
+						if (n != arity) {
+							buffer.addLine("public ", type, " ", method, n, "(LuaContext ", contextName, fixedArityParams(n, argsName), ") { return ", method, arity, "(", contextName, fixedArityArgs(arity, n, argsName + "_%d"), "); }");
+						}
+					}
+				}
+			}
+			if (singleResult) {
+				buffer.addLine("public Object[] call", suffix, "(LuaContext ", contextName, bodyParams, ") { return list(callFirst", suffix, "(", contextName, bodyArgs, ")); }");
+				buffer.addLine("public Object callFirst", suffix, "(LuaContext ", contextName, bodyParams, ") { if(1==1) {");
+				nestedData.pushMissingTailCallTarget();
+			} else if (tailCalls) {
+				// the body returns TAIL_CALL instead of calling another function, the caller performs the call
+				// self tail calls jump back to the start of the body
+				var label = "tail_call_" + UniqueNames.next();
+				var arrayArgs = fixedArity ? fixedArityArgs(arity, arity, "get(" + argsName + ", %d)") : ", " + argsName;
+				buffer.addLine("public Object[] call", suffix, "(LuaContext ", contextName, bodyParams, ") { return ", contextName, ".trampoline(body(", contextName, bodyArgs, ")); }");
+				buffer.addLine("public Object[] callTail(LuaContext ", contextName, ", Object[] ", argsName, ") { return body(", contextName, arrayArgs, "); }");
+				buffer.addLine("private Object[] body(LuaContext ", contextName, bodyParams, ") { ", label, ": do { if(1==1) {");
+				nestedData.pushTailCallTarget(label, argsName, fixedArity ? arity : -1);
+			} else {
+				buffer.addLine("public Object[] call", suffix, "(LuaContext ", contextName, bodyParams, ") { if(1==1) {");
+				nestedData.pushMissingTailCallTarget();
+			}
+		}
 		for (var p : params) {
 			if (p.equals("...")) {
-				var varargName = nestedData.pushNewVarargName();
-				int offset = params.size() - 1;
-				buffer.addLine("\tfinal Object[] ", varargName, " = sublist(", argsName, ", ", offset, ");");
+				// varargs are a view of the argument array, nothing is copied
+				var varargName = "varargs_" + UniqueNames.next();
+				nestedData.pushVarargs(varargName, params.size() - 1);
+				buffer.addLine("\tfinal Object[] ", varargName, " = ", argsName, ";");
 			} else {
 				var param = f.body().locals().get(p);
 				Objects.requireNonNull(param);
 				boolean isUpValue = param.getMode() == VariableMode.UPVALUE;
 				var paramTypeName = (isUpValue && !param.isFinal()) ? "UpValue" : "Object";
 				String finalPrefix = param.isFinal() ? "final " : "";
-				buffer.addLine(finalPrefix, paramTypeName, " ", LOCAL_VARIABLE_PREFIX, p, " = get(", argsName, ", ", params.indexOf(p), ");");
+				int index = params.indexOf(p);
+				var value = fixedArity || specialized ? argsName + "_" + index : "get(" + argsName + ", " + index + ")";
+				if (specialized && param.isFinal()) {
+					paramTypeName = JavaUtils.typeName(parameterTypes.get(index));
+				}
+				buffer.addLine(finalPrefix, paramTypeName, " ", LOCAL_VARIABLE_PREFIX, p, " = ", value, ";");
 			}
 		}
 		if (!f.parameters().hasVarargs()) {
-			nestedData.pushMissingVarargName();
+			nestedData.pushMissingVarargs();
 		}
 
+		nestedData.pushResultMode(singleResult);
 		buffer.addAllChildren(statementVisitor.visitAll(f.body().steps()));
-		buffer.addLine("} return EMPTY; }}");
+		if (tailCalls && !singleResult) {
+			buffer.addLine("} return EMPTY; } while (true); }}");
+		} else {
+			buffer.addLine("} return ", singleResult ? defaultValue(returnType) : "EMPTY", "; }}");
+		}
 		nestedData.popLastContextName();
-		nestedData.popLastVarargName();
+		nestedData.popLastVarargs();
+		nestedData.popLastResultMode();
+		nestedData.popLastTailCallTarget();
 		return buffer;
 	}
 
+	// name of the abstract class which declares the typed entry point of a specialized function
+	private String functionClass(FunctionLiteral f) {
+		return functionClasses.computeIfAbsent(f, function -> {
+			var name = "Function_" + UniqueNames.next();
+			var parameters = new StringBuilder();
+			var types = parameterTypes(function);
+			for (int i = 0; i < types.size(); i++) {
+				parameters.append(", ").append(JavaUtils.typeName(types.get(i))).append(" a").append(i);
+			}
+			var returnType = function.returnsSingleValue() ? JavaUtils.typeName(function.returnType()) : "Object[]";
+			var declaration = new LineList();
+			declaration.addLine("static abstract class ", name, " extends LuaFunction {");
+			var members = new LineList();
+			members.addLine(name, "(FunctionFactory site) { super(site); }");
+			members.addLine("abstract ", returnType, " callTyped(LuaContext context", parameters, ");");
+			declaration.addChild(members);
+			declaration.addLine("}");
+			statementVisitor.addMemberClass(declaration);
+			return name;
+		});
+	}
+
+	// types of the parameters of the typed entry point, parameters which are written to are passed as objects
+	private static List<StaticType> parameterTypes(FunctionLiteral f) {
+		var names = f.parameters().list();
+		var types = new ArrayList<StaticType>(names.size());
+		for (int i = 0; i < names.size(); i++) {
+			var param = f.body().locals().get(names.get(i));
+			types.add(param.isFinal() ? f.parameterType(i) : StaticType.OBJECT);
+		}
+		return types;
+	}
+
+	private static String fromObject(StaticType type, String value) {
+		if (type == StaticType.INTEGER) {
+			return "toInt(" + value + ")";
+		} else if (type == StaticType.NUMBER) {
+			return "toNum(" + value + ")";
+		} else if (type == StaticType.TABLE) {
+			return "(LuaTable) " + value;
+		}
+		return value;
+	}
+
+	private static String defaultValue(StaticType type) {
+		return type.isNumeric() ? "0" : "null";
+	}
+
+	// ", Object args_0, Object args_1, ..."
+	private static String fixedArityParams(int count, String argsName) {
+		var builder = new StringBuilder();
+		for (int i = 0; i < count; i++) {
+			builder.append(", Object ").append(argsName).append('_').append(i);
+		}
+		return builder.toString();
+	}
+
+	// arguments of the first "available" parameters are passed using given format, the rest are nil
+	private static String fixedArityArgs(int count, int available, String format) {
+		var builder = new StringBuilder();
+		for (int i = 0; i < count; i++) {
+			builder.append(", ").append(i < available ? String.format(format, i) : "null");
+		}
+		return builder.toString();
+	}
+
 	@Override
 	public ResultBuffer visitRegister(Register register) {
 		return Line.of(register.name());
@@ -208,7 +389,7 @@ final class JavaExpressionVisitor implements ExpressionVisitor<ResultBuffer, Com
 	public ResultBuffer visitGlobalName(VariableInfo global) {
 		String debugComment = options().get(StandardFlags.DEBUG_COMMENTS) ? " /* " + global.toDebugString() + " */" : "";
 		String contextName = nestedData.contextName();
-		return Line.join(contextName, ".getGlobal(\"", global.getName(), "\")", debugComment);
+		return Line.join(statementVisitor.globalVariable(global.getName()), ".get(", contextName, ")", debugComment);
 	}
 
 	@Override
@@ -216,9 +397,13 @@ final class JavaExpressionVisitor implements ExpressionVisitor<ResultBuffer, Com
 		var args = x.getArguments();
 		switch (x.getMethod()) {
 			case CALL:
-				return compileFunctionCall(x.getObject(), args);
-			case INDEX:
+				return compileFunctionCall(x.getObject(), args, false);
+			case INDEX: {
+				var part = hoistedArrayPart(x);
+				if (part != null)
+					return compileArrayRead(part, x, false);
 				return compileTableRead(x.getObject(), args.getLeading(0));
+			}
 			case SET_INDEX:
 				return compileTableWrite(x.getObject(), args.getLeading(0), args.getLeading(1));
 			case TO_NUMBER:
@@ -239,10 +424,18 @@ final class JavaExpressionVisitor implements ExpressionVisitor<ResultBuffer, Com
 
 	@Override
 	public ResultBuffer visitVarargs() throws CompilationFailure {
+		var varargs = varargs();
+		if (varargs.offset == 0) {
+			return Line.of(varargs.array);
+		}
+		return Line.join("sublist(", varargs.array, ", ", varargs.offset, ")");
+	}
+
+	private NestedData.Varargs varargs() throws CompilationFailure {
 		if (options().get(StandardFlags.ALLOW_UPVALUE_VARARGS)) {
-			return Line.of(nestedData.firstNestedVarargName().orElseThrow(this::varargError));
+			return nestedData.firstNestedVarargs().orElseThrow(this::varargError);
 		}
-		return Line.of(nestedData.varargName().orElseThrow(this::varargError));
+		return nestedData.varargs().orElseThrow(this::varargError);
 	}
 
 	private CompilationFailure varargError() {
@@ -251,6 +444,15 @@ final class JavaExpressionVisitor implements ExpressionVisitor<ResultBuffer, Com
 	}
 
 	private ResultBuffer compileToNumber(ExprNode value) throws CompilationFailure {
+		if (value instanceof MonoInvocation && ((MonoInvocation) value).getMethod() == InvocationMethod.INDEX) {
+			var read = (MonoInvocation) value;
+			var key = read.getArguments().getLeading(0);
+			var part = hoistedArrayPart(read);
+			if (part != null)
+				return compileArrayRead(part, read, true);
+			if (key.typeInfo() == StaticType.INTEGER)
+				return compileNumericTableRead(read.getObject(), key);
+		}
 		return Line.join("toNum(", value.accept(this), ")");
 	}
 
@@ -284,22 +486,84 @@ final class JavaExpressionVisitor implements ExpressionVisitor<ResultBuffer, Com
 		return Line.join(function, "(", context, ", ", value.accept(this), ")");
 	}
 
+	// table accesses go through the runtime even if the table is statically known, since it may have a metatable
 	private ResultBuffer compileTableWrite(ExprNode table, ExprNode key, ExprNode value) throws CompilationFailure {
-		if (table.typeInfo() == StaticType.TABLE)
-			return Line.join(table.accept(this), ".set(", key.accept(this), ", (Object) (", value.accept(this), "))");
-		return Line.join("setIndex(", table.accept(this), ", ", key.accept(this), ", ", value.accept(this), ")");
+		var context = nestedData.contextName();
+		if (key.typeInfo() == StaticType.INTEGER && value.typeInfo().isNumeric()) {
+			// numbers may be stored in the array part without boxing
+			String method = value.typeInfo() == StaticType.INTEGER ? "setInt" : "setNum";
+			return Line.join(method, "(", context, ", ", table.accept(this), ", ", key.accept(this), ", ", value.accept(this), ")");
+		}
+		if (key instanceof StringConstant)
+			return Line.join(indexCache((StringConstant) key), ".set(", context, ", ", table.accept(this), ", (Object) (", value.accept(this), "))");
+		return Line.join("setIndex(", context, ", ", table.accept(this), ", ", key.accept(this), ", (Object) (", value.accept(this), "))");
 	}
 
 	private ResultBuffer compileTableRead(ExprNode table, ExprNode key) throws CompilationFailure {
-		if (table.typeInfo() == StaticType.TABLE)
-			return Line.join(table.accept(this), ".get(", key.accept(this), ")");
-		return Line.join("index(", table.accept(this), ", ", key.accept(this), ")");
+		var context = nestedData.contextName();
+		if (key instanceof StringConstant)
+			return Line.join(indexCache((StringConstant) key), ".get(", context, ", ", table.accept(this), ")");
+		return Line.join("index(", context, ", ", table.accept(this), ", ", key.accept(this), ")");
 	}
 
-	private ResultBuffer compileFunctionCall(ExprNode function, ListNode arguments) throws CompilationFailure {
+	private ResultBuffer compileNumericTableRead(ExprNode table, ExprNode key) throws CompilationFailure {
+		var context = nestedData.contextName();
+		return Line.join("getNum(", context, ", ", table.accept(this), ", ", key.accept(this), ")");
+	}
+
+	@Nullable
+	private NestedData.ArrayPart hoistedArrayPart(ListNode.Invocation read) {
+		if (!ArrayHoisting.isArrayRead(read))
+			return null;
+		return nestedData.hoistedArray(Objects.requireNonNull(ArrayHoisting.tableVariable(read)));
+	}
+
+	// keys within the array part which has been loaded before the loop are read from it directly
+	private ResultBuffer compileArrayRead(NestedData.ArrayPart part, ListNode.Invocation read, boolean numeric) throws CompilationFailure {
+		var key = read.getArguments().getLeading(0);
+		var value = Line.join(part.array, "[(int) ", key.accept(this), " - 1]");
+		var otherwise = numeric ? compileNumericTableRead(read.getObject(), key) : compileTableRead(read.getObject(), key);
+		var boxing = numeric ? "" : "(Object) ";
+		return Line.join("(", key.accept(this), " >= 1 && ", key.accept(this), " <= ", part.length, " ? ", boxing, value, " : ", otherwise, ")");
+	}
+
+	// creates a new inline cache for accessing the given key and returns it's name
+	private String indexCache(StringConstant key) {
+		String cacheName = "index_cache_" + UniqueNames.next();
+		statementVisitor.addConstant("IndexCache", cacheName, "new IndexCache(\"" + StringUtils.escape(key.value()) + "\")");
+		return cacheName;
+	}
+
+	private ResultBuffer compileFunctionCall(ExprNode function, ExprList arguments, boolean firstOnly) throws CompilationFailure {
 		var contextName = nestedData.contextName();
+		var leading = arguments.getLeading();
+		// calls with a small, statically known number of arguments don't need an argument array
+		boolean fixedArity = !arguments.hasTrailing() && leading.size() <= MAX_FIXED_ARITY;
+		var args = fixedArity ? commaList(leading) : arguments.accept(this);
+		var separator = fixedArity && leading.isEmpty() ? "" : ", ";
+		if (isGlobal(function, "select") && leading.size() == 1 && arguments.getTrailing().orElse(null) instanceof ListNode.Varargs) {
+			// "select(n, ...)" reads the argument array directly, unless "select" has been redefined
+			var varargs = varargs();
+			var method = firstOnly ? "selectFirst(" : "select(";
+			return Line.join(method, contextName, ", ", function.accept(this), ", ", leading.get(0).accept(this), ", ", varargs.array, ", ", varargs.offset, ")");
+		}
+		var specialized = function instanceof Name ? ((Name) function).specializedFunction() : null;
+		if (specialized != null) {
+			// all arguments are known to match the typed entry point
+			var call = Line.join("((", functionClass(specialized), ") ", function.accept(this), ").callTyped(", contextName, separator, commaList(leading), ")");
+			if (specialized.returnsSingleValue()) {
+				return firstOnly ? call : Line.join("list(", call, ")");
+			}
+			return firstOnly ? Line.join("get(", call, ", 0)") : call;
+		}
+		var intrinsic = firstOnly && !arguments.hasTrailing() ? Intrinsics.getDefault().lookupGuarded(function, leading.size()) : null;
+		if (intrinsic != null) {
+			// standard library function, called directly unless it has been replaced
+			return Line.join(intrinsic.methodName(), "(", contextName, ", ", function.accept(this), ", ", args, ")");
+		}
 		if (function.typeInfo() == StaticType.FUNCTION) {
-			return Line.join(function.accept(this), ".call(", contextName, ", ", arguments.accept(this), ")");
+			var method = (firstOnly ? ".callFirst" : ".call") + (fixedArity ? leading.size() : "") + "(";
+			return Line.join(function.accept(this), method, contextName, separator, args, ")");
 		}
 		String callSiteName = "call_site_" + UniqueNames.next();
 		statementVisitor.addConstant(
@@ -307,8 +571,20 @@ final class JavaExpressionVisitor implements ExpressionVisitor<ResultBuffer, Com
 				callSiteName,
 				nestedData.rootContextName() + ".callSite(" + idCounter.incrementAndGet() + ")"
 		);
-		return Line.join(callSiteName, ".invoke(", contextName, ", ", function.accept(this), ",", arguments.accept(this), ")");
+		var method = (firstOnly ? ".invokeFirst" : ".invoke") + (fixedArity ? leading.size() : "") + "(";
+		return Line.join(callSiteName, method, contextName, ", ", function.accept(this), separator, args, ")");
+	}
 
+	private static boolean isGlobal(ExprNode node, String name) {
+		if (!(node instanceof Name)) {
+			return false;
+		}
+		return name.equals(node.accept(new SpecificNodeVisitor<String, RuntimeException>() {
+			@Override
+			public String visitGlobalName(VariableInfo global) {
+				return global.getName();
+			}
+		}));
 	}
 
 	private ResultBuffer commaList(List<ExprNode> args) throws CompilationFailure {
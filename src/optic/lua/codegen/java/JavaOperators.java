@@ -22,7 +22,6 @@ final class JavaOperators {
 			case SUB:
 			case MUL:
 			case DIV:
-			case IDIV:
 			case MOD:
 			case EQ:
 			case LE:
@@ -1,49 +1,70 @@
 package optic.lua.codegen.java;
 
+import optic.lua.asm.VariableInfo;
 import optic.lua.util.UniqueNames;
+import org.jetbrains.annotations.Nullable;
 
 import java.util.*;
 
 final class NestedData {
 	/**
 	 * <p>
-	 * Stack containing names of varargs variables in nested functions.
+	 * Stack containing varargs of nested functions.
 	 * There is an entry for each level of nested functions. If an Optional
 	 * is empty, it means that function did not have a vararg parameter.
 	 * </p>
 	 * <p>
-	 * Initially, the stack contains the root vararg.
+	 * Initially, the stack contains the root vararg, which are the arguments of the main chunk.
 	 * </p>
 	 */
-	private final Deque<Optional<String>> varargNamesInFunction = new ArrayDeque<>(8);
+	private final Deque<Optional<Varargs>> varargsInFunction = new ArrayDeque<>(8);
 	/**
-	 * @see #varargNamesInFunction
+	 * @see #varargsInFunction
 	 */
 	private final Deque<String> contextNamesInFunction = new ArrayDeque<>(8);
+	/**
+	 * Whether or not the function returns a single value directly instead of an array.
+	 *
+	 * @see #varargsInFunction
+	 */
+	private final Deque<Boolean> resultModesInFunction = new ArrayDeque<>(8);
+	/**
+	 * The function which self tail calls jump back to. The main chunk has no such target.
+	 *
+	 * @see #varargsInFunction
+	 */
+	private final Deque<Optional<TailCallTarget>> tailCallTargetsInFunction = new ArrayDeque<>(8);
+	/**
+	 * Array parts of tables which are loaded before the enclosing loops (see optic.lua.asm.ArrayHoisting).
+	 */
+	private final Map<VariableInfo, ArrayPart> hoistedArrays = new IdentityHashMap<>(4);
 
 	{
-		pushNewVarargName();
+		pushVarargs("args", 0);
+		pushResultMode(false);
+		pushMissingTailCallTarget();
 	}
 
 	NestedData() {
 	}
 
-	String pushNewVarargName() {
-		String name = "varargs_" + UniqueNames.next();
-		varargNamesInFunction.addFirst(Optional.of(name));
-		return name;
+	/**
+	 * Declares the varargs of a new function, which are stored in the given array starting at given offset.
+	 */
+	void pushVarargs(String array, int offset) {
+		varargsInFunction.addFirst(Optional.of(new Varargs(array, offset)));
 	}
 
-	void pushMissingVarargName() {
-		varargNamesInFunction.addFirst(Optional.empty());
+	void pushMissingVarargs() {
+		varargsInFunction.addFirst(Optional.empty());
 	}
 
-	void popLastVarargName() {
-		varargNamesInFunction.removeFirst();
+	void popLastVarargs() {
+		varargsInFunction.removeFirst();
 	}
 
-	Optional<String> varargName() {
-		return varargNamesInFunction.peekFirst();
+	Optional<Varargs> varargs() {
+		return varargsInFunction.peekFirst();
 	}
 
 	String pushNewContextName() {
@@ -60,8 +81,60 @@ final class NestedData {
 		contextNamesInFunction.removeFirst();
 	}
 
-	Optional<String> firstNestedVarargName() {
-		for (var o : varargNamesInFunction) {
+	void pushResultMode(boolean singleResult) {
+		resultModesInFunction.addFirst(singleResult);
+	}
+
+	boolean singleResult() {
+		return resultModesInFunction.peekFirst();
+	}
+
+	void popLastResultMode() {
+		resultModesInFunction.removeFirst();
+	}
+
+	/**
+	 * Declares the target of self tail calls in a new function.
+	 *
+	 * @param label    label of the loop around the function body
+	 * @param argsName name of the argument array or prefix of the argument names
+	 * @param arity    number of separately passed arguments or -1 if they are passed as an array
+	 */
+	void pushTailCallTarget(String label, String argsName, int arity) {
+		tailCallTargetsInFunction.addFirst(Optional.of(new TailCallTarget(label, argsName, arity)));
+	}
+
+	void pushMissingTailCallTarget() {
+		tailCallTargetsInFunction.addFirst(Optional.empty());
+	}
+
+	void popLastTailCallTarget() {
+		tailCallTargetsInFunction.removeFirst();
+	}
+
+	Optional<TailCallTarget> tailCallTarget() {
+		return tailCallTargetsInFunction.peekFirst();
+	}
+
+	/**
+	 * Declares the array part of a table which has been loaded before a loop, returns false if the array part
+	 * of the table has already been loaded by an enclosing loop.
+	 */
+	boolean hoistArray(VariableInfo table, String array, String length) {
+		return hoistedArrays.putIfAbsent(table, new ArrayPart(array, length)) == null;
+	}
+
+	void removeHoistedArray(VariableInfo table) {
+		hoistedArrays.remove(table);
+	}
+
+	@Nullable
+	ArrayPart hoistedArray(VariableInfo table) {
+		return hoistedArrays.get(table);
+	}
+
+	Optional<Varargs> firstNestedVarargs() {
+		for (var o : varargsInFunction) {
 			if (o.isPresent()) {
 				return o;
 			}
@@ -72,4 +145,43 @@ final class NestedData {
 	String rootContextName() {
 		return Objects.requireNonNull(contextNamesInFunction.peekLast());
 	}
+
+	/**
+	 * Varargs are not copied out of the argument array, instead they are referenced
+	 * by the array and the index of the first value.
+	 */
+	static final class Varargs {
+		final String array;
+		final int offset;
+
+		private Varargs(String array, int offset) {
+			this.array = array;
+			this.offset = offset;
+		}
+	}
+
+	static final class TailCallTarget {
+		final String label;
+		final String argsName;
+		final int arity;
+
+		private TailCallTarget(String label, String argsName, int arity) {
+			this.label = label;
+			this.argsName = argsName;
+			this.arity = arity;
+		}
+	}
+
+	/**
+	 * Names of the variables which hold the numeric array part of a table and the number of entries in it.
+	 */
+	static final class ArrayPart {
+		final String array;
+		final String length;
+
+		private ArrayPart(String array, String length) {
+			this.array = array;
+			this.length = length;
+		}
+	}
 }
@@ -10,6 +10,21 @@ public enum StandardFlags implements Option<Boolean> {
 	VERIFY(false),
 	SSA_SPLIT(true),
 	LOOP_SPLIT(false),
+	/**
+	 * Whether or not small numeric for loops get a second version which assumes that values used by arithmetic are
+	 * numbers (see optic.lua.asm.LoopSpeculation).
+	 */
+	LOOP_SPECULATION(true),
+	/**
+	 * Whether or not numeric for loops which only read tables load their array parts before the loop
+	 * (see optic.lua.asm.ArrayHoisting).
+	 */
+	ARRAY_HOISTING(true),
+	/**
+	 * Whether or not table reads used as operands of arithmetic operators in speculative loop bodies
+	 * may be coerced to numbers in place.
+	 */
+	NUMERIC_OPERANDS(true),
 	/**
 	 * Whether or not to output the generated intermediate Java source code.
 	 */
@@ -4,6 +4,8 @@ import optic.lua.asm.*;
 import optic.lua.asm.ExprNode.*;
 import org.jetbrains.annotations.Nullable;
 
+import java.util.*;
+
 import static optic.lua.optimization.StaticType.*;
 
 public interface Intrinsics {
@@ -16,7 +18,63 @@ public interface Intrinsics {
 	@Nullable
 	ExprNode.IntrinsicCall lookup(ExprNode object, InvocationMethod method, ExprList args);
 
+	/**
+	 * Returns the runtime method which performs a call of a standard library function (such as <code>math.floor</code>)
+	 * with given number of arguments directly. The method checks that the called value is still the original library
+	 * function and performs a regular call otherwise, so the result must be treated as a dynamic value.
+	 */
+	@Nullable
+	GuardedIntrinsic lookupGuarded(ExprNode function, int argCount);
+
+	final class GuardedIntrinsic {
+		private final String methodName;
+
+		GuardedIntrinsic(String methodName) {
+			this.methodName = methodName;
+		}
+
+		/**
+		 * Name of the runtime method, which takes the context, the called value and the arguments.
+		 */
+		public String methodName() {
+			return methodName;
+		}
+
+		@Override
+		public String toString() {
+			return methodName;
+		}
+	}
+
 	class DefaultIntrinsics implements Intrinsics {
+		// keys are "name/argCount", such as "string.sub/2"
+		private static final Map<String, GuardedIntrinsic> GUARDED = new HashMap<>(32);
+
+		static {
+			for (String name : List.of("abs", "ceil", "floor", "sqrt", "sin", "cos", "tan", "atan", "exp", "log", "deg", "rad")) {
+				guarded("math." + name, 1, "math" + capitalize(name));
+			}
+			for (String name : List.of("atan2", "max", "min")) {
+				guarded("math." + name, 2, "math" + capitalize(name));
+			}
+			guarded("string.len", 1, "stringLen");
+			guarded("string.sub", 2, "stringSub");
+			guarded("string.sub", 3, "stringSub");
+			guarded("string.byte", 1, "stringByte");
+			guarded("string.byte", 2, "stringByte");
+			guarded("tostring", 1, "tostring");
+			guarded("tonumber", 1, "tonumber");
+			guarded("type", 1, "type");
+		}
+
+		private static void guarded(String name, int argCount, String method) {
+			GUARDED.put(name + "/" + argCount, new GuardedIntrinsic("Builtins." + method));
+		}
+
+		private static String capitalize(String name) {
+			return Character.toUpperCase(name.charAt(0)) + name.substring(1);
+		}
+
 		@Override
 		@Nullable
 		public ExprNode.IntrinsicCall lookup(ExprNode object, InvocationMethod method, ExprList args) {
@@ -26,12 +84,7 @@ public interface Intrinsics {
 			if (!(object instanceof Name)) {
 				return null;
 			}
-			String name = ((Name) object).accept(new SpecificNodeVisitor<String, RuntimeException>() {
-				@Override
-				public String visitGlobalName(VariableInfo variable) throws RuntimeException {
-					return variable.getName();
-				}
-			});
+			String name = globalName(object);
 			if (name == null) {
 				return null;
 			}
@@ -55,5 +108,43 @@ public interface Intrinsics {
 					return null;
 			}
 		}
+
+		@Override
+		@Nullable
+		public GuardedIntrinsic lookupGuarded(ExprNode function, int argCount) {
+			String name = libraryName(function);
+			return name == null ? null : GUARDED.get(name + "/" + argCount);
+		}
+
+		// returns "name" for a global or "library.name" for a constant key of a global, otherwise null
+		@Nullable
+		private static String libraryName(ExprNode function) {
+			if (function instanceof Name) {
+				return globalName(function);
+			}
+			if (!(function instanceof ListNode.Invocation)) {
+				return null;
+			}
+			var invocation = (ListNode.Invocation) function;
+			if (invocation.getMethod() != InvocationMethod.INDEX || !(invocation.getObject() instanceof Name)) {
+				return null;
+			}
+			String library = globalName(invocation.getObject());
+			var key = invocation.getArguments().getLeading(0);
+			if (library == null || !(key instanceof StringConstant)) {
+				return null;
+			}
+			return library + "." + ((StringConstant) key).value();
+		}
+
+		@Nullable
+		private static String globalName(ExprNode node) {
+			return node.accept(new SpecificNodeVisitor<String, RuntimeException>() {
+				@Override
+				public String visitGlobalName(VariableInfo variable) throws RuntimeException {
+					return variable.getName();
+				}
+			});
+		}
 	}
 }
@@ -115,7 +115,7 @@ public enum LuaOperator {
 			case POW:
 				// semantics for POW require double precision even if both operands are natural numbers
 				// this is due to large number overflow mechanics
-				return NUMBER;
+				return a.isNumeric() && b.isNumeric() ? NUMBER : OBJECT;
 			default:
 				throw new IllegalArgumentException(this.name());
 		}
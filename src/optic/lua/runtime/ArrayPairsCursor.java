@@ -0,0 +1,29 @@
+package optic.lua.runtime;
+
+import java.lang.reflect.Array;
+
+class ArrayPairsCursor extends LoopCursor {
+	private final int len;
+	private final Object array;
+	private int pos = 0;
+
+	ArrayPairsCursor(Object array) {
+		this.array = array;
+		this.len = Array.getLength(array);
+	}
+
+	@Override
+	public boolean advance() {
+		return ++pos <= len;
+	}
+
+	@Override
+	public Object key() {
+		return (long) pos;
+	}
+
+	@Override
+	public Object value() {
+		return Array.get(array, pos - 1);
+	}
+}
@@ -0,0 +1,41 @@
+package optic.lua.runtime;
+
+/**
+ * Array parts of tables which are loaded once before a loop (see optic.lua.asm.ArrayHoisting). An array part may only
+ * be used while no table is written and no Lua code runs, otherwise it may be replaced by another array.
+ */
+@RuntimeApi
+public final class ArrayParts {
+	private static final double[] EMPTY = {};
+
+	private ArrayParts() {
+	}
+
+	/**
+	 * Returns true if the value is a table and reading it can't call an "__index" metamethod.
+	 */
+	@RuntimeApi
+	public static boolean lacksIndex(Object table) {
+		if (!(table instanceof LuaTable)) {
+			return false;
+		}
+		LuaTable metatable = ((LuaTable) table).metatable;
+		return metatable == null || Metatables.handler(metatable, Metatables.INDEX) == null;
+	}
+
+	/**
+	 * Returns the numeric array part of a table, which is empty if the table doesn't have one.
+	 */
+	@RuntimeApi
+	public static double[] numbers(Object table) {
+		return table instanceof LuaTable ? ((LuaTable) table).numArrayPart() : EMPTY;
+	}
+
+	/**
+	 * Returns the number of entries in the numeric array part of a table.
+	 */
+	@RuntimeApi
+	public static int length(Object table) {
+		return table instanceof LuaTable ? ((LuaTable) table).numArrayLength() : 0;
+	}
+}
@@ -0,0 +1,250 @@
+package optic.lua.runtime;
+
+import java.util.function.*;
+
+/**
+ * Standard library functions which compiled code may call directly (see optic.lua.optimization.Intrinsics).
+ * Each such call is guarded by an identity check of the called value, if user code has replaced the library
+ * function, a regular call is performed instead. Only the first result of the call is returned.
+ */
+@RuntimeApi
+public final class Builtins {
+	static final LuaFunction MATH_ABS = unary("math.abs", Math::abs);
+	static final LuaFunction MATH_CEIL = unary("math.ceil", Math::ceil);
+	static final LuaFunction MATH_FLOOR = unary("math.floor", Math::floor);
+	static final LuaFunction MATH_SQRT = unary("math.sqrt", Math::sqrt);
+	static final LuaFunction MATH_SIN = unary("math.sin", Math::sin);
+	static final LuaFunction MATH_COS = unary("math.cos", Math::cos);
+	static final LuaFunction MATH_TAN = unary("math.tan", Math::tan);
+	static final LuaFunction MATH_ATAN = unary("math.atan", Math::atan);
+	static final LuaFunction MATH_EXP = unary("math.exp", Math::exp);
+	static final LuaFunction MATH_LOG = unary("math.log", Math::log);
+	static final LuaFunction MATH_DEG = unary("math.deg", Math::toDegrees);
+	static final LuaFunction MATH_RAD = unary("math.rad", Math::toRadians);
+	static final LuaFunction MATH_ATAN2 = binary("math.atan2", Math::atan2);
+	static final LuaFunction MATH_MAX = binary("math.max", Math::max);
+	static final LuaFunction MATH_MIN = binary("math.min", Math::min);
+	static final LuaFunction STRING_LEN = new LuaFunction("string.len") {
+		@Override
+		public Object[] call(LuaContext context, Object... args) {
+			return ListOps.list(len(args[0]));
+		}
+	};
+	static final LuaFunction STRING_SUB = new LuaFunction("string.sub") {
+		@Override
+		public Object[] call(LuaContext context, Object... args) {
+			return ListOps.list(sub(args[0], args[1], ListOps.get(args, 2)));
+		}
+	};
+	static final LuaFunction STRING_BYTE = new LuaFunction("string.byte") {
+		@Override
+		public Object[] call(LuaContext context, Object... args) {
+			return bytes(args[0], ListOps.get(args, 1), ListOps.get(args, 2));
+		}
+	};
+	static final LuaFunction TOSTRING = new LuaFunction("tostring") {
+		@Override
+		public Object[] call(LuaContext context, Object... args) {
+			return ListOps.list(StandardLibrary.toString(args[0]));
+		}
+	};
+	static final LuaFunction TONUMBER = new LuaFunction("tonumber") {
+		@Override
+		public Object[] call(LuaContext context, Object... args) {
+			return ListOps.list(StandardLibrary.toNumber(args[0]));
+		}
+	};
+	static final LuaFunction TYPE = new LuaFunction("type") {
+		@Override
+		public Object[] call(LuaContext context, Object... args) {
+			if (args.length == 0) {
+				throw new IllegalArgumentException("Bad argument #1, expected value");
+			}
+			return ListOps.list(StandardLibrary.type(args[0]));
+		}
+	};
+
+	private Builtins() {
+	}
+
+	private static LuaFunction unary(String name, DoubleUnaryOperator op) {
+		return new LuaFunction(name) {
+			@Override
+			public Object[] call(LuaContext context, Object... args) {
+				return ListOps.list(op.applyAsDouble(DynamicOps.toNum(args[0])));
+			}
+		};
+	}
+
+	private static LuaFunction binary(String name, DoubleBinaryOperator op) {
+		return new LuaFunction(name) {
+			@Override
+			public Object[] call(LuaContext context, Object... args) {
+				return ListOps.list(op.applyAsDouble(DynamicOps.toNum(args[0]), DynamicOps.toNum(args[1])));
+			}
+		};
+	}
+
+	// the slow path of every guarded call
+	private static Object call(LuaContext context, Object function, Object... args) {
+		return ListOps.get(DynamicOps.call(context, function, args), 0);
+	}
+
+	@RuntimeApi
+	public static Object mathAbs(LuaContext context, Object function, Object x) {
+		return function == MATH_ABS ? (Object) Math.abs(DynamicOps.toNum(x)) : call(context, function, x);
+	}
+
+	@RuntimeApi
+	public static Object mathCeil(LuaContext context, Object function, Object x) {
+		return function == MATH_CEIL ? (Object) Math.ceil(DynamicOps.toNum(x)) : call(context, function, x);
+	}
+
+	@RuntimeApi
+	public static Object mathFloor(LuaContext context, Object function, Object x) {
+		return function == MATH_FLOOR ? (Object) Math.floor(DynamicOps.toNum(x)) : call(context, function, x);
+	}
+
+	@RuntimeApi
+	public static Object mathSqrt(LuaContext context, Object function, Object x) {
+		return function == MATH_SQRT ? (Object) Math.sqrt(DynamicOps.toNum(x)) : call(context, function, x);
+	}
+
+	@RuntimeApi
+	public static Object mathSin(LuaContext context, Object function, Object x) {
+		return function == MATH_SIN ? (Object) Math.sin(DynamicOps.toNum(x)) : call(context, function, x);
+	}
+
+	@RuntimeApi
+	public static Object mathCos(LuaContext context, Object function, Object x) {
+		return function == MATH_COS ? (Object) Math.cos(DynamicOps.toNum(x)) : call(context, function, x);
+	}
+
+	@RuntimeApi
+	public static Object mathTan(LuaContext context, Object function, Object x) {
+		return function == MATH_TAN ? (Object) Math.tan(DynamicOps.toNum(x)) : call(context, function, x);
+	}
+
+	@RuntimeApi
+	public static Object mathAtan(LuaContext context, Object function, Object x) {
+		return function == MATH_ATAN ? (Object) Math.atan(DynamicOps.toNum(x)) : call(context, function, x);
+	}
+
+	@RuntimeApi
+	public static Object mathExp(LuaContext context, Object function, Object x) {
+		return function == MATH_EXP ? (Object) Math.exp(DynamicOps.toNum(x)) : call(context, function, x);
+	}
+
+	@RuntimeApi
+	public static Object mathLog(LuaContext context, Object function, Object x) {
+		return function == MATH_LOG ? (Object) Math.log(DynamicOps.toNum(x)) : call(context, function, x);
+	}
+
+	@RuntimeApi
+	public static Object mathDeg(LuaContext context, Object function, Object x) {
+		return function == MATH_DEG ? (Object) Math.toDegrees(DynamicOps.toNum(x)) : call(context, function, x);
+	}
+
+	@RuntimeApi
+	public static Object mathRad(LuaContext context, Object function, Object x) {
+		return function == MATH_RAD ? (Object) Math.toRadians(DynamicOps.toNum(x)) : call(context, function, x);
+	}
+
+	@RuntimeApi
+	public static Object mathAtan2(LuaContext context, Object function, Object y, Object x) {
+		return function == MATH_ATAN2 ? (Object) Math.atan2(DynamicOps.toNum(y), DynamicOps.toNum(x)) : call(context, function, y, x);
+	}
+
+	@RuntimeApi
+	public static Object mathMax(LuaContext context, Object function, Object a, Object b) {
+		return function == MATH_MAX ? (Object) Math.max(DynamicOps.toNum(a), DynamicOps.toNum(b)) : call(context, function, a, b);
+	}
+
+	@RuntimeApi
+	public static Object mathMin(LuaContext context, Object function, Object a, Object b) {
+		return function == MATH_MIN ? (Object) Math.min(DynamicOps.toNum(a), DynamicOps.toNum(b)) : call(context, function, a, b);
+	}
+
+	@RuntimeApi
+	public static Object stringLen(LuaContext context, Object function, Object s) {
+		return function == STRING_LEN ? len(s) : call(context, function, s);
+	}
+
+	@RuntimeApi
+	public static Object stringSub(LuaContext context, Object function, Object s, Object i) {
+		return function == STRING_SUB ? sub(s, i, null) : call(context, function, s, i);
+	}
+
+	@RuntimeApi
+	public static Object stringSub(LuaContext context, Object function, Object s, Object i, Object j) {
+		return function == STRING_SUB ? sub(s, i, j) : call(context, function, s, i, j);
+	}
+
+	@RuntimeApi
+	public static Object stringByte(LuaContext context, Object function, Object s) {
+		return function == STRING_BYTE ? ListOps.get(bytes(s, null, null), 0) : call(context, function, s);
+	}
+
+	@RuntimeApi
+	public static Object stringByte(LuaContext context, Object function, Object s, Object i) {
+		return function == STRING_BYTE ? ListOps.get(bytes(s, i, null), 0) : call(context, function, s, i);
+	}
+
+	@RuntimeApi
+	public static Object tostring(LuaContext context, Object function, Object value) {
+		return function == TOSTRING ? StandardLibrary.toString(value) : call(context, function, value);
+	}
+
+	@RuntimeApi
+	public static Object tonumber(LuaContext context, Object function, Object value) {
+		return function == TONUMBER ? StandardLibrary.toNumber(value) : call(context, function, value);
+	}
+
+	@RuntimeApi
+	public static Object type(LuaContext context, Object function, Object value) {
+		return function == TYPE ? StandardLibrary.type(value) : call(context, function, value);
+	}
+
+	private static Object len(Object s) {
+		return StandardLibrary.strictToString(s).length();
+	}
+
+	private static Object sub(Object s, Object i, Object j) {
+		String str = StandardLibrary.strictToString(s);
+		int from = adjustFromIndex((int) DynamicOps.toInt(i), str.length());
+		int to = j == null ? str.length() : (int) DynamicOps.toInt(j);
+		to = adjustToIndex(to, str.length());
+		if (to < from || from >= str.length()) {
+			return "";
+		}
+		return str.substring(from, to);
+	}
+
+	private static Object[] bytes(Object s, Object i, Object j) {
+		String str = StandardLibrary.strictToString(s);
+		int from = i == null ? 1 : (int) DynamicOps.toInt(i);
+		int to = j == null ? (i == null ? 1 : from) : (int) DynamicOps.toInt(j);
+		from = adjustFromIndex(from, str.length());
+		to = adjustToIndex(to, str.length());
+		if (to < from || from >= str.length()) {
+			return ListOps.EMPTY;
+		}
+		int length = to - from;
+		Object[] result = new Object[length];
+		for (int k = 0; k < length; k++) {
+			result[k] = (byte) str.charAt(from + k);
+		}
+		return result;
+	}
+
+	private static int adjustFromIndex(int from, int length) {
+		return from < 0 ? length + from : from - 1;
+	}
+
+	private static int adjustToIndex(int to, int length) {
+		if (to < 0) {
+			to = length + to + 1;
+		}
+		return (to <= length) ? to : length;
+	}
+}
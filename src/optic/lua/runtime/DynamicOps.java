@@ -7,12 +7,17 @@ import java.util.Objects;
 public final class DynamicOps {
 	@RuntimeApi
 	public static double toNum(Object o) {
-		if (o == null) {
-			throw new NullPointerException();
-		}
 		if (o instanceof Number) {
 			return ((Number) o).doubleValue();
 		}
+		return parseNum(o);
+	}
+
+	// kept separate from toNum to make it cheaper to inline
+	private static double parseNum(Object o) {
+		if (o == null) {
+			throw new NullPointerException();
+		}
 		if (o instanceof CharSequence) {
 			try {
 				return Double.parseDouble(o.toString());
@@ -65,42 +70,58 @@ public final class DynamicOps {
 
 	@RuntimeApi
 	public static Object add(LuaContext ctx, Object a, Object b) {
-		return toNum(a) + toNum(b);
+		if (a instanceof Number && b instanceof Number)
+			return ((Number) a).doubleValue() + ((Number) b).doubleValue();
+		return Metatables.arith(ctx, Metatables.ADD, a, b);
 	}
 
 	@RuntimeApi
 	public static Object mul(LuaContext ctx, Object a, Object b) {
-		return toNum(a) * toNum(b);
+		if (a instanceof Number && b instanceof Number)
+			return ((Number) a).doubleValue() * ((Number) b).doubleValue();
+		return Metatables.arith(ctx, Metatables.MUL, a, b);
 	}
 
 	@RuntimeApi
 	public static Object sub(LuaContext ctx, Object a, Object b) {
-		return toNum(a) - toNum(b);
+		if (a instanceof Number && b instanceof Number)
+			return ((Number) a).doubleValue() - ((Number) b).doubleValue();
+		return Metatables.arith(ctx, Metatables.SUB, a, b);
 	}
 
 	@RuntimeApi
 	public static Object div(LuaContext ctx, Object a, Object b) {
-		return toNum(a) / toNum(b);
+		if (a instanceof Number && b instanceof Number)
+			return ((Number) a).doubleValue() / ((Number) b).doubleValue();
+		return Metatables.arith(ctx, Metatables.DIV, a, b);
 	}
 
 	@RuntimeApi
-	public static double add(LuaContext ctx, double a, Object b) {
-		return a + toNum(b);
+	public static Object add(LuaContext ctx, double a, Object b) {
+		if (b instanceof Number)
+			return a + ((Number) b).doubleValue();
+		return Metatables.arith(ctx, Metatables.ADD, a, b);
 	}
 
 	@RuntimeApi
-	public static double mul(LuaContext ctx, double a, Object b) {
-		return a * toNum(b);
+	public static Object mul(LuaContext ctx, double a, Object b) {
+		if (b instanceof Number)
+			return a * ((Number) b).doubleValue();
+		return Metatables.arith(ctx, Metatables.MUL, a, b);
 	}
 
 	@RuntimeApi
-	public static double sub(LuaContext ctx, double a, Object b) {
-		return a - toNum(b);
+	public static Object sub(LuaContext ctx, double a, Object b) {
+		if (b instanceof Number)
+			return a - ((Number) b).doubleValue();
+		return Metatables.arith(ctx, Metatables.SUB, a, b);
 	}
 
 	@RuntimeApi
-	public static double div(LuaContext ctx, double a, Object b) {
-		return a / toNum(b);
+	public static Object div(LuaContext ctx, double a, Object b) {
+		if (b instanceof Number)
+			return a / ((Number) b).doubleValue();
+		return Metatables.arith(ctx, Metatables.DIV, a, b);
 	}
 
 	@RuntimeApi
@@ -145,7 +166,9 @@ public final class DynamicOps {
 
 	@RuntimeApi
 	public static Object mod(LuaContext ctx, Object a, Object b) {
-		return toNum(a) % toNum(b);
+		if (a instanceof Number && b instanceof Number)
+			return ((Number) a).doubleValue() % ((Number) b).doubleValue();
+		return Metatables.arith(ctx, Metatables.MOD, a, b);
 	}
 
 	@RuntimeApi
@@ -159,28 +182,38 @@ public final class DynamicOps {
 	}
 
 	@RuntimeApi
-	public static double mod(LuaContext ctx, Object a, double b) {
-		return toNum(a) % b;
+	public static Object mod(LuaContext ctx, Object a, double b) {
+		if (a instanceof Number)
+			return ((Number) a).doubleValue() % b;
+		return Metatables.arith(ctx, Metatables.MOD, a, b);
 	}
 
 	@RuntimeApi
-	public static double mod(LuaContext ctx, Object a, long b) {
-		return toNum(a) % b;
+	public static Object mod(LuaContext ctx, Object a, long b) {
+		if (a instanceof Number)
+			return ((Number) a).doubleValue() % b;
+		return Metatables.arith(ctx, Metatables.MOD, a, b);
 	}
 
 	@RuntimeApi
 	public static Object pow(LuaContext ctx, Object a, Object b) {
-		return Math.pow(toNum(a), toNum(b));
+		if (a instanceof Number && b instanceof Number)
+			return Math.pow(((Number) a).doubleValue(), ((Number) b).doubleValue());
+		return Metatables.arith(ctx, Metatables.POW, a, b);
 	}
 
 	@RuntimeApi
-	public static double pow(LuaContext ctx, Object a, double b) {
-		return Math.pow(toNum(a), b);
+	public static Object pow(LuaContext ctx, Object a, double b) {
+		if (a instanceof Number)
+			return Math.pow(((Number) a).doubleValue(), b);
+		return Metatables.arith(ctx, Metatables.POW, a, b);
 	}
 
 	@RuntimeApi
-	public static double pow(LuaContext ctx, double a, Object b) {
-		return Math.pow(a, toNum(b));
+	public static Object pow(LuaContext ctx, double a, Object b) {
+		if (b instanceof Number)
+			return Math.pow(a, ((Number) b).doubleValue());
+		return Metatables.arith(ctx, Metatables.POW, a, b);
 	}
 
 	@RuntimeApi
@@ -214,6 +247,30 @@ public final class DynamicOps {
 		return result;*/
 	}
 
+	@RuntimeApi
+	public static Object idiv(LuaContext ctx, Object a, Object b) {
+		if (a instanceof Number && b instanceof Number)
+			return Math.floor(((Number) a).doubleValue() / ((Number) b).doubleValue());
+		return Metatables.arith(ctx, Metatables.IDIV, a, b);
+	}
+
+	@RuntimeApi
+	public static long idiv(LuaContext ctx, long a, long b) {
+		return Math.floorDiv(a, b);
+	}
+
+	@RuntimeApi
+	public static double idiv(LuaContext ctx, double a, double b) {
+		return Math.floor(a / b);
+	}
+
+	@RuntimeApi
+	public static Object unm(LuaContext ctx, Object a) {
+		if (a instanceof Number)
+			return -((Number) a).doubleValue();
+		return Metatables.arith(ctx, Metatables.UNM, a, a);
+	}
+
 	@RuntimeApi
 	public static long bor(LuaContext ctx, long a, long b) {
 		return a | b;
@@ -277,6 +334,9 @@ public final class DynamicOps {
 		if (a instanceof CharSequence && b instanceof CharSequence) {
 			return a.toString().contentEquals((CharSequence) b);
 		}
+		if (a instanceof LuaTable && b instanceof LuaTable && a != b
+				&& (((LuaTable) a).metatable != null || ((LuaTable) b).metatable != null))
+			return Metatables.eq(ctx, a, b);
 		return Objects.equals(a, b);
 	}
 
@@ -287,7 +347,9 @@ public final class DynamicOps {
 
 	@RuntimeApi
 	public static boolean le(LuaContext ctx, Object a, Object b) {
-		return toNum(a) <= toNum(b);
+		if (a instanceof Number && b instanceof Number)
+			return ((Number) a).doubleValue() <= ((Number) b).doubleValue();
+		return Metatables.le(ctx, a, b);
 	}
 
 	@RuntimeApi
@@ -297,7 +359,9 @@ public final class DynamicOps {
 
 	@RuntimeApi
 	public static boolean lt(LuaContext ctx, Object a, Object b) {
-		return toNum(a) < toNum(b);
+		if (a instanceof Number && b instanceof Number)
+			return ((Number) a).doubleValue() < ((Number) b).doubleValue();
+		return Metatables.lt(ctx, a, b);
 	}
 
 	@RuntimeApi
@@ -307,7 +371,9 @@ public final class DynamicOps {
 
 	@RuntimeApi
 	public static boolean ge(LuaContext ctx, Object a, Object b) {
-		return toNum(a) >= toNum(b);
+		if (a instanceof Number && b instanceof Number)
+			return ((Number) a).doubleValue() >= ((Number) b).doubleValue();
+		return Metatables.le(ctx, b, a);
 	}
 
 	@RuntimeApi
@@ -317,7 +383,9 @@ public final class DynamicOps {
 
 	@RuntimeApi
 	public static boolean gt(LuaContext ctx, Object a, Object b) {
-		return toNum(a) > toNum(b);
+		if (a instanceof Number && b instanceof Number)
+			return ((Number) a).doubleValue() > ((Number) b).doubleValue();
+		return Metatables.lt(ctx, b, a);
 	}
 
 	@RuntimeApi
@@ -331,19 +399,21 @@ public final class DynamicOps {
 	}
 
 	@RuntimeApi
-	public static int len(LuaContext ctx, Object value) {
+	public static Object len(LuaContext ctx, Object value) {
 		if (value instanceof CharSequence)
-			return ((CharSequence) value).length();
+			return (long) ((CharSequence) value).length();
 		else if (value instanceof LuaTable)
-			return ((LuaTable) value).length();
+			return Metatables.len(ctx, (LuaTable) value);
 		else if (value != null && value.getClass().isArray())
-			return Array.getLength(value);
+			return (long) Array.getLength(value);
 		else
 			throw Errors.attemptTo("get length of", value);
 	}
 
 	@RuntimeApi
-	public static String concat(LuaContext ctx, Object a, Object b) {
+	public static Object concat(LuaContext ctx, Object a, Object b) {
+		if (a instanceof LuaTable || b instanceof LuaTable)
+			return Metatables.concat(ctx, a, b);
 		return StandardLibrary.strictToString(a) + StandardLibrary.strictToString(b);
 	}
 
@@ -354,7 +424,7 @@ public final class DynamicOps {
 
 	@RuntimeApi
 	public static LuaTable table(Object... entries) {
-		LuaTable table = new LuaTable();
+		LuaTable table = new LuaTable(0, entries.length / 2);
 		for (int i = 0; i < entries.length; i += 2) {
 			table.set(entries[i], entries[i + 1]);
 		}
@@ -368,36 +438,69 @@ public final class DynamicOps {
 
 	@RuntimeApi
 	public static LuaTable table(Object k1, Object v1) {
-		LuaTable table = new LuaTable();
+		LuaTable table = new LuaTable(0, 1);
 		table.set(k1, v1);
 		return table;
 	}
 
 	@RuntimeApi
 	public static LuaTable table(Object k1, Object v1, Object k2, Object v2) {
-		LuaTable table = new LuaTable();
+		LuaTable table = new LuaTable(0, 2);
 		table.set(k1, v1);
 		table.set(k2, v2);
 		return table;
 	}
 
+	/**
+	 * Creates a table with given positional values and key-value pairs. Positional values are stored
+	 * after the other entries, so they take precedence over explicit keys in the range of the array.
+	 */
 	@RuntimeApi
-	public static LuaTable varargTable(long key, Object[] trailing, Object... entries) {
-		LuaTable table = new LuaTable();
+	public static LuaTable arrayTable(Object[] array, Object... entries) {
+		LuaTable table = new LuaTable(array.length, entries.length / 2);
 		for (int i = 0; i < entries.length; i += 2) {
 			table.set(entries[i], entries[i + 1]);
 		}
-		int keyIndex = (int) key;
-		for (int i = 0; i < trailing.length; i++) {
-			table.set((double) (keyIndex + i), trailing[i]);
+		table.copyToArray(1, array, array.length);
+		return table;
+	}
+
+	/**
+	 * Stores all entries of the second table into the first one, which is returned. Table constructors which are
+	 * too large for a single method are created in parts, which are merged by this method.
+	 */
+	@RuntimeApi
+	public static LuaTable putAll(Object table, Object entries) {
+		LuaTable target = (LuaTable) table;
+		LuaTable source = (LuaTable) entries;
+		for (Object key = source.next(null); key != null; key = source.next(key)) {
+			target.set(key, source.get(key));
 		}
+		return target;
+	}
+
+	/**
+	 * Same as {@link #arrayTable(Object[], Object...)}, with all values of the trailing
+	 * vararg or function call stored after the positional values.
+	 */
+	@RuntimeApi
+	public static LuaTable varargTable(Object[] array, Object[] trailing, Object... entries) {
+		LuaTable table = new LuaTable(array.length + trailing.length, entries.length / 2);
+		for (int i = 0; i < entries.length; i += 2) {
+			table.set(entries[i], entries[i + 1]);
+		}
+		table.copyToArray(1, array, array.length);
+		table.copyToArray(array.length + 1, trailing, trailing.length);
 		return table;
 	}
 
 	@RuntimeApi
-	public static Object index(Object obj, Object key) {
+	public static Object index(LuaContext ctx, Object obj, Object key) {
 		if (obj instanceof LuaTable) {
-			return ((LuaTable) obj).get(key);
+			LuaTable table = (LuaTable) obj;
+			Object value = table.get(key);
+			// __index is only consulted for absent keys
+			return value != null || table.metatable == null ? value : Metatables.index(ctx, table, key);
 		}
 		if (obj != null && obj.getClass().isArray()) {
 			return Array.get(obj, toInt32(key) - 1);
@@ -406,17 +509,21 @@ public final class DynamicOps {
 	}
 
 	@RuntimeApi
-	public static Object index(Object obj, String key) {
+	public static Object index(LuaContext ctx, Object obj, String key) {
 		if (obj instanceof LuaTable) {
-			return ((LuaTable) obj).get(key);
+			LuaTable table = (LuaTable) obj;
+			Object value = table.get(key);
+			return value != null || table.metatable == null ? value : Metatables.index(ctx, table, key);
 		}
 		throw Errors.attemptTo("index", obj);
 	}
 
 	@RuntimeApi
-	public static Object index(Object obj, long key) {
+	public static Object index(LuaContext ctx, Object obj, long key) {
 		if (obj instanceof LuaTable) {
-			return ((LuaTable) obj).get(key);
+			LuaTable table = (LuaTable) obj;
+			Object value = table.get(key);
+			return value != null || table.metatable == null ? value : Metatables.index(ctx, table, key);
 		}
 		if (obj != null && obj.getClass().isArray()) {
 			return Array.get(obj, Math.toIntExact(key - 1));
@@ -425,42 +532,73 @@ public final class DynamicOps {
 	}
 
 	@RuntimeApi
-	public static void setIndex(Object obj, Object key, Object value) {
-		if (obj instanceof LuaTable) {
+	public static void setIndex(LuaContext ctx, Object obj, Object key, Object value) {
+		if (obj instanceof LuaTable && ((LuaTable) obj).metatable == null) {
 			((LuaTable) obj).set(key, value);
 		} else if (obj != null && obj.getClass().isArray()) {
 			Array.set(obj, toInt32(key) - 1, value);
 		} else {
-			throw Errors.attemptTo("index", obj);
+			Metatables.setIndex(ctx, obj, key, value);
 		}
 	}
 
 	@RuntimeApi
-	public static void setIndex(Object obj, String key, Object value) {
-		if (obj instanceof LuaTable) {
+	public static void setIndex(LuaContext ctx, Object obj, String key, Object value) {
+		if (obj instanceof LuaTable && ((LuaTable) obj).metatable == null) {
 			((LuaTable) obj).set(key, value);
 		} else {
-			throw Errors.attemptTo("index", obj);
+			Metatables.setIndex(ctx, obj, key, value);
 		}
 	}
 
 	@RuntimeApi
-	public static void setIndex(Object obj, long key, Object value) {
-		if (obj instanceof LuaTable) {
+	public static void setIndex(LuaContext ctx, Object obj, long key, Object value) {
+		if (obj instanceof LuaTable && ((LuaTable) obj).metatable == null) {
 			((LuaTable) obj).set(key, value);
 		} else if (obj != null && obj.getClass().isArray()) {
 			Array.set(obj, Math.toIntExact(key - 1), value);
 		} else {
-			throw Errors.attemptTo("index", obj);
+			Metatables.setIndex(ctx, obj, key, value);
+		}
+	}
+
+	@RuntimeApi
+	public static double getNum(LuaContext ctx, Object obj, long key) {
+		if (obj instanceof LuaTable && lacks((LuaTable) obj, Metatables.INDEX)) {
+			return ((LuaTable) obj).getNum(key);
+		}
+		return toNum(index(ctx, obj, key));
+	}
+
+	@RuntimeApi
+	public static void setNum(LuaContext ctx, Object obj, long key, double value) {
+		if (obj instanceof LuaTable && lacks((LuaTable) obj, Metatables.NEWINDEX)) {
+			((LuaTable) obj).setNum(key, value);
+		} else {
+			setIndex(ctx, obj, key, (Object) value);
+		}
+	}
+
+	@RuntimeApi
+	public static void setInt(LuaContext ctx, Object obj, long key, long value) {
+		if (obj instanceof LuaTable && lacks((LuaTable) obj, Metatables.NEWINDEX)) {
+			((LuaTable) obj).setInt(key, value);
+		} else {
+			setIndex(ctx, obj, key, (Object) value);
 		}
 	}
 
+	// true if the table doesn't handle the event, only costs a null check for tables without metatables
+	private static boolean lacks(LuaTable table, int event) {
+		return table.metatable == null || Metatables.handler(table.metatable, event) == null;
+	}
+
 	@RuntimeApi
 	public static Object[] call(LuaContext context, Object func, Object[] args) {
 		if (func instanceof LuaFunction) {
 			return ((LuaFunction) func).call(context, args);
 		}
-		throw Errors.attemptTo("call", func);
+		return Metatables.call(context, func, args);
 	}
 
 	private DynamicOps() {
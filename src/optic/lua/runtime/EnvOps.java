@@ -4,6 +4,27 @@ import java.util.*;
 
 @RuntimeApi
 public final class EnvOps {
+	// shared by all environments, so that compiled code can recognize it (see ListOps#select)
+	static final LuaFunction SELECT = new LuaFunction("select") {
+		@Override
+		public Object[] call(LuaContext context, Object... args) {
+			if (args.length == 0) {
+				throw Errors.argument(1, "number");
+			}
+			return ListOps.select(args[0], args, 1);
+		}
+	};
+
+	// shared by all environments, so that "for k, v in next, t" can be recognized (see LoopCursor#of)
+	static final LuaFunction NEXT = new LuaFunction("next") {
+		@Override
+		public Object[] call(LuaContext context, Object... args) {
+			LuaTable table = checkTable(args, 0);
+			Object key = table.next(ListOps.get(args, 1));
+			return key == null ? ListOps.list((Object) null) : ListOps.list(key, table.get(key));
+		}
+	};
+
 	@RuntimeApi
 	public static Object get(UpValue _ENV, String key) {
 		return ((LuaTable) _ENV.value).get(key);
@@ -14,15 +35,103 @@ public final class EnvOps {
 		((LuaTable) _ENV.value).set(key, value);
 	}
 
-	private static int adjustFromIndex(int from, int length) {
-		return from < 0 ? length + from : from - 1;
+	private static LuaTable checkTable(Object[] args, int index) {
+		Object value = ListOps.get(args, index);
+		if (value instanceof LuaTable) {
+			return (LuaTable) value;
+		}
+		throw Errors.argument(index + 1, "table");
+	}
+
+	private static long checkInteger(Object[] args, int index) {
+		Object value = ListOps.get(args, index);
+		if (value == null) {
+			throw Errors.argument(index + 1, "number");
+		}
+		return DynamicOps.toInt(value);
+	}
+
+	// same as LuaTable.insert, but goes through "__len", "__index" and "__newindex"
+	private static void insertWithMetamethods(LuaContext context, LuaTable table, Object[] args) {
+		long end = DynamicOps.toInt(DynamicOps.len(context, table)) + 1;
+		long pos;
+		Object value;
+		switch (args.length) {
+			case 2:
+				pos = end;
+				value = args[1];
+				break;
+			case 3:
+				pos = DynamicOps.toInt(args[1]);
+				value = args[2];
+				if (pos < 1 || pos > end)
+					throw new IllegalArgumentException("bad argument #2 to 'insert' (position out of bounds)");
+				break;
+			default:
+				throw new IllegalArgumentException("wrong number of arguments to 'insert'");
+		}
+		for (long i = end; i > pos; i--)
+			DynamicOps.setIndex(context, table, i, DynamicOps.index(context, table, i - 1));
+		DynamicOps.setIndex(context, table, pos, value);
 	}
 
-	private static int adjustToIndex(int to, int length) {
-		if (to < 0) {
-			to = length + to + 1;
+	// same as LuaTable.remove, but goes through "__len", "__index" and "__newindex"
+	private static Object removeWithMetamethods(LuaContext context, LuaTable table, Object position) {
+		long size = DynamicOps.toInt(DynamicOps.len(context, table));
+		long pos = position == null ? size : DynamicOps.toInt(position);
+		if (pos != size && (pos < 1 || pos > size + 1L))
+			throw new IllegalArgumentException("bad argument #2 to 'remove' (position out of bounds)");
+		Object value = DynamicOps.index(context, table, pos);
+		for (; pos < size; pos++)
+			DynamicOps.setIndex(context, table, pos, DynamicOps.index(context, table, pos + 1));
+		DynamicOps.setIndex(context, table, pos, null);
+		return value;
+	}
+
+	// same as LuaTable.unpack, but goes through "__len" and "__index"
+	private static Object[] unpackWithMetamethods(LuaContext context, LuaTable table, long from, Object end) {
+		long to = end == null ? DynamicOps.toInt(DynamicOps.len(context, table)) : DynamicOps.toInt(end);
+		if (from > to)
+			return ListOps.EMPTY;
+		if (to - from >= Integer.MAX_VALUE || to - from < 0)
+			throw new IllegalArgumentException("too many results to unpack");
+		Object[] result = new Object[(int) (to - from + 1)];
+		for (int i = 0; i < result.length; i++)
+			result[i] = DynamicOps.index(context, table, from + i);
+		return result;
+	}
+
+	// same as LuaTable.move, but goes through "__index" and "__newindex"
+	private static void moveWithMetamethods(LuaContext context, LuaTable source, long from, long to, long target, LuaTable destination) {
+		if (to < from)
+			return;
+		if (from <= 0 && to >= Long.MAX_VALUE + from)
+			throw new IllegalArgumentException("bad argument #3 to 'move' (too many elements to move)");
+		long count = to - from + 1;
+		if (target > Long.MAX_VALUE - count + 1)
+			throw new IllegalArgumentException("bad argument #4 to 'move' (destination wrap around)");
+		if (target > to || target <= from || source != destination) {
+			for (long i = 0; i < count; i++)
+				DynamicOps.setIndex(context, destination, target + i, DynamicOps.index(context, source, from + i));
+		} else {
+			for (long i = count - 1; i >= 0; i--)
+				DynamicOps.setIndex(context, destination, target + i, DynamicOps.index(context, source, from + i));
 		}
-		return (to <= length) ? to : length;
+	}
+
+	// same as LuaTable.sort, but goes through "__len", "__index" and "__newindex"
+	private static void sortWithMetamethods(LuaContext context, LuaTable table, LuaFunction comparator) {
+		long n = DynamicOps.toInt(DynamicOps.len(context, table));
+		if (n < 2)
+			return;
+		if (n >= Integer.MAX_VALUE)
+			throw new IllegalArgumentException("bad argument #1 to 'sort' (array too big)");
+		Object[] values = new Object[(int) n];
+		for (int i = 0; i < n; i++)
+			values[i] = DynamicOps.index(context, table, i + 1L);
+		new TableSort(context, comparator).sort(values, (int) n);
+		for (int i = 0; i < n; i++)
+			DynamicOps.setIndex(context, table, i + 1L, values[i]);
 	}
 
 	static LuaTable createEnv() {
@@ -71,45 +180,78 @@ public final class EnvOps {
 			@Override
 			public Object[] call(LuaContext context, Object... args) {
 				if (args[0].getClass().isArray()) {
-					return ListOps.list(new ArrayPairsIterator(args[0]));
+					return ListOps.list(new ArrayPairsCursor(args[0]));
 				}
 				LuaTable table = (LuaTable) args[0];
-				return ListOps.list(table.pairsIterator());
+				return ListOps.list(table.pairsCursor());
 			}
 		});
+		env.set("next", NEXT);
 		env.set("ipairs", new LuaFunction("ipairs") {
 			@Override
 			public Object[] call(LuaContext context, Object... args) {
 				if (args[0].getClass().isArray()) {
-					return ListOps.list(new ArrayPairsIterator(args[0]));
+					return ListOps.list(new ArrayPairsCursor(args[0]));
 				}
 				LuaTable table = (LuaTable) args[0];
-				return ListOps.list(table.ipairsIterator());
+				return ListOps.list(table.ipairsCursor());
 			}
 		});
-		env.set("type", new LuaFunction("type") {
+		env.set("select", SELECT);
+		env.set("type", Builtins.TYPE);
+		env.set("tostring", Builtins.TOSTRING);
+		env.set("tonumber", Builtins.TONUMBER);
+		env.set("setmetatable", new LuaFunction("setmetatable") {
 			@Override
 			public Object[] call(LuaContext context, Object... args) {
-				if (args.length == 0) {
-					throw new IllegalArgumentException("Bad argument #1, expected value");
+				LuaTable table = checkTable(args, 0);
+				Object metatable = ListOps.get(args, 1);
+				if (metatable != null && !(metatable instanceof LuaTable)) {
+					throw Errors.argument(2, "nil or table");
 				}
-				Object value = args[0];
-				return ListOps.list(StandardLibrary.type(value));
+				Metatables.setMetatable(table, (LuaTable) metatable);
+				return ListOps.list(table);
+			}
+		});
+		env.set("getmetatable", new LuaFunction("getmetatable") {
+			@Override
+			public Object[] call(LuaContext context, Object... args) {
+				return ListOps.list(Metatables.getMetatable(ListOps.get(args, 0)));
+			}
+		});
+		env.set("rawget", new LuaFunction("rawget") {
+			@Override
+			public Object[] call(LuaContext context, Object... args) {
+				return ListOps.list(checkTable(args, 0).get(ListOps.get(args, 1)));
 			}
 		});
-		env.set("tostring", new LuaFunction("tostring") {
+		env.set("rawset", new LuaFunction("rawset") {
 			@Override
 			public Object[] call(LuaContext context, Object... args) {
-				return ListOps.list(StandardLibrary.toString(args[0]));
+				LuaTable table = checkTable(args, 0);
+				table.set(ListOps.get(args, 1), ListOps.get(args, 2));
+				return ListOps.list(table);
 			}
 		});
-		env.set("tonumber", new LuaFunction("tonumber") {
+		env.set("rawequal", new LuaFunction("rawequal") {
 			@Override
 			public Object[] call(LuaContext context, Object... args) {
-				return ListOps.list(StandardLibrary.toNumber(args[0]));
+				Object a = ListOps.get(args, 0);
+				Object b = ListOps.get(args, 1);
+				return ListOps.list(a == b || a instanceof LuaTable || b instanceof LuaTable ? a == b : DynamicOps.eq(context, a, b));
 			}
 		});
-		HashMap<Object, Object> tableLib = new HashMap<>(1);
+		env.set("rawlen", new LuaFunction("rawlen") {
+			@Override
+			public Object[] call(LuaContext context, Object... args) {
+				Object value = ListOps.get(args, 0);
+				if (value instanceof LuaTable) {
+					return ListOps.list((long) ((LuaTable) value).length());
+				}
+				return ListOps.list(DynamicOps.len(context, value));
+			}
+		});
+		HashMap<Object, Object> tableLib = new HashMap<>(8);
 		tableLib.put("concat", new LuaFunction("table.concat") {
 			public Object[] call(LuaContext context, Object... args) {
 				if (args.length == 0) {
@@ -121,6 +263,86 @@ public final class EnvOps {
 				return ListOps.list(StandardLibrary.tableConcat(table, delimiterString));
 			}
 		});
+		tableLib.put("insert", new LuaFunction("table.insert") {
+			@Override
+			public Object[] call(LuaContext context, Object... args) {
+				LuaTable table = checkTable(args, 0);
+				if (table.metatable != null) {
+					insertWithMetamethods(context, table, args);
+				} else if (args.length == 2) {
+					table.insert(table.length() + 1L, args[1]);
+				} else if (args.length == 3) {
+					table.insert(DynamicOps.toInt(args[1]), args[2]);
+				} else {
+					throw new IllegalArgumentException("wrong number of arguments to 'insert'");
+				}
+				return ListOps.EMPTY;
+			}
+		});
+		tableLib.put("remove", new LuaFunction("table.remove") {
+			@Override
+			public Object[] call(LuaContext context, Object... args) {
+				LuaTable table = checkTable(args, 0);
+				Object pos = ListOps.get(args, 1);
+				if (table.metatable != null) {
+					return ListOps.list(removeWithMetamethods(context, table, pos));
+				}
+				return ListOps.list(table.remove(pos == null ? table.length() : DynamicOps.toInt(pos)));
+			}
+		});
+		tableLib.put("unpack", new LuaFunction("table.unpack") {
+			@Override
+			public Object[] call(LuaContext context, Object... args) {
+				LuaTable table = checkTable(args, 0);
+				Object from = ListOps.get(args, 1);
+				Object to = ListOps.get(args, 2);
+				if (table.metatable != null) {
+					return unpackWithMetamethods(context, table, from == null ? 1 : DynamicOps.toInt(from), to);
+				}
+				return table.unpack(from == null ? 1 : DynamicOps.toInt(from), to == null ? table.length() : DynamicOps.toInt(to));
+			}
+		});
+		tableLib.put("move", new LuaFunction("table.move") {
+			@Override
+			public Object[] call(LuaContext context, Object... args) {
+				LuaTable source = checkTable(args, 0);
+				long from = checkInteger(args, 1);
+				long to = checkInteger(args, 2);
+				long target = checkInteger(args, 3);
+				LuaTable destination = ListOps.get(args, 4) == null ? source : checkTable(args, 4);
+				if (source.metatable != null || destination.metatable != null) {
+					moveWithMetamethods(context, source, from, to, target, destination);
+				} else {
+					LuaTable.move(source, from, to, target, destination);
+				}
+				return ListOps.list(destination);
+			}
+		});
+		tableLib.put("pack", new LuaFunction("table.pack") {
+			@Override
+			public Object[] call(LuaContext context, Object... args) {
+				LuaTable table = new LuaTable(args.length, 1);
+				table.copyToArray(1, args, args.length);
+				table.set("n", (long) args.length);
+				return ListOps.list(table);
+			}
+		});
+		tableLib.put("sort", new LuaFunction("table.sort") {
+			@Override
+			public Object[] call(LuaContext context, Object... args) {
+				LuaTable table = checkTable(args, 0);
+				Object comparator = ListOps.get(args, 1);
+				if (comparator != null && !(comparator instanceof LuaFunction)) {
+					throw Errors.argument(2, "function");
+				}
+				if (table.metatable != null) {
+					sortWithMetamethods(context, table, (LuaFunction) comparator);
+				} else {
+					table.sort(context, (LuaFunction) comparator);
+				}
+				return ListOps.EMPTY;
+			}
+		});
 		env.set("table", LuaTable.ofMap(tableLib));
 		env.set("assert", new LuaFunction("assert") {
 			public Object[] call(LuaContext context, Object... args) {
@@ -169,28 +391,8 @@ public final class EnvOps {
 		});
 		env.set("os", LuaTable.ofMap(os));
 		HashMap<Object, Object> stringLib = new HashMap<>(8);
-		stringLib.put("sub", new LuaFunction("string.sub") {
-			@Override
-			public Object[] call(LuaContext context, Object... args) {
-				String str = StandardLibrary.strictToString(args[0]);
-				int from = (int) DynamicOps.toInt(args[1]);
-				from = adjustFromIndex(from, str.length());
-				Object thirdArgument = ListOps.get(args, 2);
-				int to = thirdArgument == null ? str.length() : (int) DynamicOps.toInt(thirdArgument);
-				to = adjustToIndex(to, str.length());
-				if (to < from || from >= str.length()) {
-					return ListOps.list("");
-				}
-				return ListOps.list(str.substring(from, to));
-			}
-		});
-		stringLib.put("len", new LuaFunction("string.len") {
-			@Override
-			public Object[] call(LuaContext context, Object... args) {
-				String str = StandardLibrary.strictToString(args[0]);
-				return ListOps.list(str.length());
-			}
-		});
+		stringLib.put("sub", Builtins.STRING_SUB);
+		stringLib.put("len", Builtins.STRING_LEN);
 		stringLib.put("lower", new LuaFunction("string.lower") {
 			@Override
 			public Object[] call(LuaContext context, Object... args) {
@@ -221,112 +423,26 @@ public final class EnvOps {
 				return ListOps.list(str.repeat(Math.max(0, n)));
 			}
 		});
-		stringLib.put("byte", new LuaFunction("string.byte") {
-			@Override
-			public Object[] call(LuaContext context, Object... args) {
-				String str = StandardLibrary.strictToString(args[0]);
-				Object secondArgument = ListOps.get(args, 1);
-				int from = secondArgument == null ? 1 : (int) DynamicOps.toInt(secondArgument);
-				Object thirdArgument = ListOps.get(args, 2);
-				int to = thirdArgument == null ? (secondArgument == null ? 1 : from) : (int) DynamicOps.toInt(thirdArgument);
-				from = adjustFromIndex(from, str.length());
-				to = adjustToIndex(to, str.length());
-				if (to < from || from >= str.length()) {
-					return ListOps.EMPTY;
-				}
-				int length = to - from;
-				Object[] result = new Object[length];
-				for (int i = 0; i < length; i++) {
-					result[i] = (byte) str.charAt(from + i);
-				}
-				return result;
-			}
-		});
+		stringLib.put("byte", Builtins.STRING_BYTE);
 		env.set("string", LuaTable.ofMap(stringLib));
 		HashMap<Object, Object> math = new HashMap<>(16);
-		math.put("sqrt", new LuaFunction("math.sqrt") {
-			public Object[] call(LuaContext context, Object... args) {
-				double value = DynamicOps.toNum(args[0]);
-				return ListOps.list(Math.sqrt(value));
-			}
-		});
-		math.put("sin", new LuaFunction("math.sin") {
-			public Object[] call(LuaContext context, Object... args) {
-				double value = DynamicOps.toNum(args[0]);
-				return ListOps.list(Math.sin(value));
-			}
-		});
-		math.put("cos", new LuaFunction("math.cos") {
-			public Object[] call(LuaContext context, Object... args) {
-				double value = DynamicOps.toNum(args[0]);
-				return ListOps.list(Math.cos(value));
-			}
-		});
-		math.put("atan2", new LuaFunction("math.atan2") {
-			public Object[] call(LuaContext context, Object... args) {
-				double y = DynamicOps.toNum(args[0]);
-				double x = DynamicOps.toNum(args[1]);
-				return ListOps.list(Math.atan2(y, x));
-			}
-		});
-		math.put("atan", new LuaFunction("math.atan") {
-			public Object[] call(LuaContext context, Object... args) {
-				double value = DynamicOps.toNum(args[0]);
-				return ListOps.list(Math.atan(value));
-			}
-		});
-		math.put("abs", new LuaFunction("math.abs") {
-			public Object[] call(LuaContext context, Object... args) {
-				double value = DynamicOps.toNum(args[0]);
-				return ListOps.list(Math.abs(value));
-			}
-		});
-		math.put("ceil", new LuaFunction("math.ceil") {
-			public Object[] call(LuaContext context, Object... args) {
-				double value = DynamicOps.toNum(args[0]);
-				return ListOps.list(Math.ceil(value));
-			}
-		});
-		math.put("floor", new LuaFunction("math.floor") {
-			public Object[] call(LuaContext context, Object... args) {
-				double value = DynamicOps.toNum(args[0]);
-				return ListOps.list(Math.floor(value));
-			}
-		});
-		math.put("deg", new LuaFunction("math.deg") {
-			public Object[] call(LuaContext context, Object... args) {
-				double value = DynamicOps.toNum(args[0]);
-				return ListOps.list(Math.toDegrees(value));
-			}
-		});
-		math.put("exp", new LuaFunction("math.exp") {
-			public Object[] call(LuaContext context, Object... args) {
-				double value = DynamicOps.toNum(args[0]);
-				return ListOps.list(Math.exp(value));
-			}
-		});
+		math.put("sqrt", Builtins.MATH_SQRT);
+		math.put("sin", Builtins.MATH_SIN);
+		math.put("cos", Builtins.MATH_COS);
+		math.put("atan2", Builtins.MATH_ATAN2);
+		math.put("atan", Builtins.MATH_ATAN);
+		math.put("abs", Builtins.MATH_ABS);
+		math.put("ceil", Builtins.MATH_CEIL);
+		math.put("floor", Builtins.MATH_FLOOR);
+		math.put("deg", Builtins.MATH_DEG);
+		math.put("exp", Builtins.MATH_EXP);
 		math.put("huge", Double.POSITIVE_INFINITY);
 		math.put("maxinteger", Long.MAX_VALUE);
 		math.put("mininteger", Long.MIN_VALUE);
 		math.put("pi", Math.PI);
-		math.put("log", new LuaFunction("math.log") {
-			public Object[] call(LuaContext context, Object... args) {
-				double value = DynamicOps.toNum(args[0]);
-				return ListOps.list(Math.log(value));
-			}
-		});
-		math.put("rad", new LuaFunction("math.rad") {
-			public Object[] call(LuaContext context, Object... args) {
-				double value = DynamicOps.toNum(args[0]);
-				return ListOps.list(Math.toRadians(value));
-			}
-		});
-		math.put("tan", new LuaFunction("math.tan") {
-			public Object[] call(LuaContext context, Object... args) {
-				double value = DynamicOps.toNum(args[0]);
-				return ListOps.list(Math.tan(value));
-			}
-		});
+		math.put("log", Builtins.MATH_LOG);
+		math.put("rad", Builtins.MATH_RAD);
+		math.put("tan", Builtins.MATH_TAN);
 		Object[] numberTypeFloat = {"number"};
 		Object[] numberTypeInt = {"integer"};
 		math.put("type", new LuaFunction("math.type") {
@@ -335,20 +451,8 @@ public final class EnvOps {
 				return (long) value == value ? numberTypeInt : numberTypeFloat;
 			}
 		});
-		math.put("max", new LuaFunction("math.max") {
-			public Object[] call(LuaContext context, Object... args) {
-				double a = DynamicOps.toNum(args[0]);
-				double b = DynamicOps.toNum(args[1]);
-				return ListOps.list(Math.max(a, b));
-			}
-		});
-		math.put("min", new LuaFunction("math.min") {
-			public Object[] call(LuaContext context, Object... args) {
-				double a = DynamicOps.toNum(args[0]);
-				double b = DynamicOps.toNum(args[1]);
-				return ListOps.list(Math.min(a, b));
-			}
-		});
+		math.put("max", Builtins.MATH_MAX);
+		math.put("min", Builtins.MATH_MIN);
 		math.put("ult", new LuaFunction("math.ult") {
 			public Object[] call(LuaContext context, Object... args) {
 				long a = DynamicOps.toInt(args[0]);
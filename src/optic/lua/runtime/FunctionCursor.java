@@ -0,0 +1,40 @@
+package optic.lua.runtime;
+
+/**
+ * Cursor of a generic for loop with an iterator function, which is called with the state and the control value
+ * before each iteration. The loop ends when the first result (the new control value) is nil.
+ */
+class FunctionCursor extends LoopCursor {
+	private final LuaContext context;
+	private final Object function;
+	private final Object state;
+	private Object[] results;
+
+	FunctionCursor(LuaContext context, Object function, Object state, Object control) {
+		this.context = context;
+		this.function = function;
+		this.state = state;
+		this.results = ListOps.list(control);
+	}
+
+	@Override
+	public boolean advance() {
+		results = DynamicOps.call(context, function, new Object[]{state, results[0]});
+		return ListOps.get(results, 0) != null;
+	}
+
+	@Override
+	public Object key() {
+		return results[0];
+	}
+
+	@Override
+	public Object value() {
+		return ListOps.get(results, 1);
+	}
+
+	@Override
+	public Object variable(int index) {
+		return ListOps.get(results, index);
+	}
+}
@@ -0,0 +1,61 @@
+package optic.lua.runtime;
+
+/**
+ * Access to a global variable from compiled code. Each compiled chunk creates one instance per global name it uses.
+ * The value is read from a {@link Cell} handed out by the _ENV table (see {@link LuaTable#cell(String)}),
+ * which is only looked up again when _ENV is replaced by a different object.
+ */
+@RuntimeApi
+public final class GlobalVariable {
+	// used while _ENV is not a table, every access takes the slow path
+	private static final Cell MISSING = new Cell(null);
+	private final String name;
+	private Object env = null;
+	private Cell cell = MISSING;
+
+	@RuntimeApi
+	public GlobalVariable(String name) {
+		this.name = name;
+	}
+
+	@RuntimeApi
+	public Object get(LuaContext context) {
+		Cell cell = context._ENV == env ? this.cell : resolve(context._ENV);
+		Object value = cell.value;
+		// absent globals may come from "__index" or cause an error if _ENV is not a table
+		return value != null ? value : DynamicOps.index(context, context._ENV, name);
+	}
+
+	@RuntimeApi
+	public void set(LuaContext context, Object value) {
+		Cell cell = context._ENV == env ? this.cell : resolve(context._ENV);
+		// overwriting a present global never triggers "__newindex"
+		if (cell.value != null) {
+			((LuaTable) env).set(name, value);
+			return;
+		}
+		DynamicOps.setIndex(context, context._ENV, name, value);
+	}
+
+	private Cell resolve(Object newEnv) {
+		env = newEnv;
+		cell = newEnv instanceof LuaTable ? ((LuaTable) newEnv).cell(name) : MISSING;
+		return cell;
+	}
+
+	@Override
+	public String toString() {
+		return "global \"" + name + "\"";
+	}
+
+	/**
+	 * Holds the current value of a string key of a table. The table updates the cell on every write of that key.
+	 */
+	static final class Cell {
+		Object value;
+
+		Cell(Object value) {
+			this.value = value;
+		}
+	}
+}
@@ -0,0 +1,60 @@
+package optic.lua.runtime;
+
+/**
+ * Checks performed by speculative versions of loops (see optic.lua.asm.LoopSpeculation). The speculative version
+ * leaves the loop as soon as a check fails and the remaining iterations are performed by the generic version.
+ */
+@RuntimeApi
+public final class Guards {
+	private Guards() {
+	}
+
+	@RuntimeApi
+	public static boolean isFloat(Object value) {
+		return value instanceof Double;
+	}
+
+	@RuntimeApi
+	public static boolean isInteger(Object value) {
+		return value instanceof Long;
+	}
+
+	@RuntimeApi
+	public static boolean isNumber(Object value) {
+		return value instanceof Double || value instanceof Long;
+	}
+
+	@RuntimeApi
+	public static boolean isPresent(Object value) {
+		return value != null;
+	}
+
+	@RuntimeApi
+	public static double doubleValue(Object number) {
+		return ((Number) number).doubleValue();
+	}
+
+	@RuntimeApi
+	public static long longValue(Object integer) {
+		return (Long) integer;
+	}
+
+	/**
+	 * Reads a value of a table without consulting the metatable. Returns null if the value is absent
+	 * or if the object is not a table.
+	 */
+	@RuntimeApi
+	public static Object rawIndex(Object table, Object key) {
+		return table instanceof LuaTable ? ((LuaTable) table).get(key) : null;
+	}
+
+	@RuntimeApi
+	public static Object rawIndex(Object table, long key) {
+		return table instanceof LuaTable ? ((LuaTable) table).get(key) : null;
+	}
+
+	@RuntimeApi
+	public static Object rawIndex(Object table, String key) {
+		return table instanceof LuaTable ? ((LuaTable) table).get(key) : null;
+	}
+}
@@ -0,0 +1,144 @@
+package optic.lua.runtime;
+
+/**
+ * Inline cache for table accesses with a constant string key. Remembers the slot of the key
+ * in the last seen {@link Shape}, so that tables with the same shape can be accessed without any lookup.
+ * Keys inherited through an "__index" table (usually a class table shared by many objects)
+ * are cached as well, see {@link #getAbsent(LuaContext, LuaTable)}.
+ */
+@RuntimeApi
+public final class IndexCache {
+	private final String key;
+	// the last seen shape and the slot of the key in that shape (-1 if the shape doesn't contain the key)
+	private Shape shape = null;
+	private int slot = -1;
+	// the last seen transition caused by adding the key
+	private Shape addedFrom = null;
+	private Shape addedTo = null;
+	// the last metatable whose "__index" table contained the key
+	// valid as long as metatable still has the same shape and the same "__index" value
+	private LuaTable metatable = null;
+	private Shape metaShape = null;
+	private int metaSlot = -1;
+	private LuaTable parent = null;
+	private Shape parentShape = null;
+	private int parentSlot = -1;
+
+	@RuntimeApi
+	public IndexCache(String key) {
+		this.key = key;
+	}
+
+	@RuntimeApi
+	public Object get(LuaContext context, Object obj) {
+		if (obj instanceof LuaTable) {
+			LuaTable table = (LuaTable) obj;
+			if (table.shape == shape) {
+				int slot = this.slot;
+				Object value = slot < 0 ? null : table.slots[slot];
+				return value != null ? value : getAbsent(context, table);
+			}
+		}
+		return getMiss(context, obj);
+	}
+
+	@RuntimeApi
+	public void set(LuaContext context, Object obj, Object value) {
+		if (obj instanceof LuaTable) {
+			LuaTable table = (LuaTable) obj;
+			// overwriting a present key never triggers "__newindex"
+			if (table.shape == shape && slot >= 0 && table.slots[slot] != null) {
+				table.slots[slot] = value;
+				return;
+			}
+		}
+		setMiss(context, obj, value);
+	}
+
+	// the table has the cached shape, but doesn't contain the key
+	private Object getAbsent(LuaContext context, LuaTable table) {
+		LuaTable metatable = table.metatable;
+		if (metatable == null)
+			return null;
+		if (metatable == this.metatable) {
+			Object value = getInherited(metatable);
+			if (value != null)
+				return value;
+		}
+		return getMiss(context, table);
+	}
+
+	private Object getInherited(LuaTable metatable) {
+		LuaTable parent = this.parent;
+		if (metatable.shape == metaShape && metatable.slots[metaSlot] == parent && parent.shape == parentShape) {
+			return parent.slots[parentSlot];
+		}
+		return null;
+	}
+
+	// slow paths are kept separate so that the fast paths can be inlined
+	private Object getMiss(LuaContext context, Object obj) {
+		Object value = DynamicOps.index(context, obj, key);
+		if (obj instanceof LuaTable) {
+			LuaTable table = (LuaTable) obj;
+			update(table.shape);
+			if (slot < 0 && table.metatable != null)
+				updateInherited(table.metatable);
+		}
+		return value;
+	}
+
+	private void setMiss(LuaContext context, Object obj, Object value) {
+		if (obj instanceof LuaTable && ((LuaTable) obj).metatable == null) {
+			LuaTable table = (LuaTable) obj;
+			Shape current = table.shape;
+			if (current == addedFrom && value != null) {
+				table.addSlot(addedTo, value);
+				return;
+			}
+			table.set(key, value);
+			if (table.shape != current && table.shape != Shape.DICTIONARY) {
+				addedFrom = current;
+				addedTo = table.shape;
+			}
+			update(table.shape);
+			return;
+		}
+		DynamicOps.setIndex(context, obj, key, value);
+		if (obj instanceof LuaTable)
+			update(((LuaTable) obj).shape);
+	}
+
+	private void update(Shape newShape) {
+		if (newShape == Shape.DICTIONARY)
+			return;
+		shape = newShape;
+		slot = newShape.indexOf(key);
+	}
+
+	// only a single level of inheritance is cached, longer chains always take the slow path
+	private void updateInherited(LuaTable newMetatable) {
+		if (newMetatable.shape == Shape.DICTIONARY)
+			return;
+		int newMetaSlot = newMetatable.shape.indexOf("__index");
+		if (newMetaSlot < 0 || !(newMetatable.slots[newMetaSlot] instanceof LuaTable))
+			return;
+		LuaTable newParent = (LuaTable) newMetatable.slots[newMetaSlot];
+		if (newParent.shape == Shape.DICTIONARY)
+			return;
+		int newParentSlot = newParent.shape.indexOf(key);
+		if (newParentSlot < 0)
+			return;
+		metatable = newMetatable;
+		metaShape = newMetatable.shape;
+		metaSlot = newMetaSlot;
+		parent = newParent;
+		parentShape = newParent.shape;
+		parentSlot = newParentSlot;
+	}
+
+	@Override
+	public String toString() {
+		return "index cache \"" + key + "\"";
+	}
+}
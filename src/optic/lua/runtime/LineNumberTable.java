@@ -19,6 +19,27 @@ public final class LineNumberTable {
 		this.rawData = rawData;
 	}
 
+	/**
+	 * Creates a table from comma-separated numbers. Large tables are passed as several strings since a string
+	 * constant can't be longer than 64KB and an array initializer would take too much space in the class file.
+	 */
+	@RuntimeApi
+	public LineNumberTable(String... parts) {
+		this(parse(String.join(",", parts)));
+	}
+
+	private static int[] parse(String numbers) {
+		if (numbers.isEmpty()) {
+			return new int[0];
+		}
+		String[] values = numbers.split(",");
+		int[] data = new int[values.length];
+		for (int i = 0; i < values.length; i++) {
+			data[i] = Integer.parseInt(values[i]);
+		}
+		return data;
+	}
+
 	private static TreeMap<Integer, Integer> buildTable(int[] data) {
 		TreeMap<Integer, Integer> table = new TreeMap<>();
 		for (int i = 0; i < data.length; i += 2) {
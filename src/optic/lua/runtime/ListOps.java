@@ -20,6 +20,74 @@ public final class ListOps {
 		return array;
 	}
 
+	/**
+	 * Same as <code>append(sublist(toAppend, from), original)</code>, but without the intermediate copy.
+	 */
+	@RuntimeApi
+	public static Object[] appendFrom(Object[] toAppend, int from, Object... original) {
+		int length = toAppend.length - from;
+		if (length <= 0) {
+			return original;
+		}
+		Object[] array = new Object[original.length + length];
+		System.arraycopy(original, 0, array, 0, original.length);
+		System.arraycopy(toAppend, from, array, original.length, length);
+		return array;
+	}
+
+	/**
+	 * Calls <code>function(n, ...)</code>, where "..." are the values of the array starting at given offset.
+	 * If the function is the builtin "select", the values are selected without copying the array.
+	 */
+	@RuntimeApi
+	public static Object[] select(LuaContext context, Object function, Object n, Object[] varargs, int offset) {
+		if (function == EnvOps.SELECT) {
+			return select(n, varargs, offset);
+		}
+		return DynamicOps.call(context, function, appendFrom(varargs, offset, n));
+	}
+
+	/**
+	 * Same as {@link #select(LuaContext, Object, Object, Object[], int)}, but only returns the first value.
+	 */
+	@RuntimeApi
+	public static Object selectFirst(LuaContext context, Object function, Object n, Object[] varargs, int offset) {
+		if (function == EnvOps.SELECT) {
+			int count = Math.max(0, varargs.length - offset);
+			return isCountOption(n) ? (Object) (long) count : get(varargs, offset + selectIndex(n, count));
+		}
+		return get(DynamicOps.call(context, function, appendFrom(varargs, offset, n)), 0);
+	}
+
+	static Object[] select(Object n, Object[] varargs, int offset) {
+		// a function with more parameters than arguments has no varargs
+		int count = Math.max(0, varargs.length - offset);
+		if (isCountOption(n)) {
+			return list((Object) (long) count);
+		}
+		return sublist(varargs, offset + selectIndex(n, count));
+	}
+
+	private static boolean isCountOption(Object n) {
+		return n instanceof CharSequence && "#".contentEquals((CharSequence) n);
+	}
+
+	// returns the index of the first selected value, relative to the first vararg
+	private static int selectIndex(Object n, int count) {
+		long index = DynamicOps.toInt(n);
+		if (index < 0) {
+			index += count;
+		} else if (index > 0) {
+			index = Math.min(index - 1, count);
+		} else {
+			index = -1;
+		}
+		if (index < 0) {
+			throw new IllegalArgumentException("bad argument #1 to 'select' (index out of range)");
+		}
+		return (int) index;
+	}
+
 	@RuntimeApi
 	public static void use(Object x) {
 		// ignore argument
@@ -49,7 +117,7 @@ public final class ListOps {
 
 	@RuntimeApi
 	public static Object[] sublist(Object[] array, int from) {
-		if (from == array.length) {
+		if (from >= array.length) {
 			return EMPTY;
 		}
 		if (from == 0) {
@@ -0,0 +1,50 @@
+package optic.lua.runtime;
+
+/**
+ * State of a generic for loop, returned by functions such as pairs and ipairs.
+ * The loop calls {@link #advance()} before each iteration and reads the current entry
+ * using {@link #key()} and {@link #value()}, so no array has to be created per iteration.
+ */
+@RuntimeApi
+public abstract class LoopCursor {
+	/**
+	 * Returns the cursor of a generic for loop with given values of the expression list, which are either a cursor
+	 * or an iterator function followed by its state and the initial control value.
+	 * "next, t" traverses the table directly, any other function is called for each iteration.
+	 */
+	@RuntimeApi
+	public static LoopCursor of(LuaContext context, Object[] values) {
+		Object iterator = ListOps.get(values, 0);
+		if (iterator instanceof LoopCursor) {
+			return (LoopCursor) iterator;
+		}
+		Object state = ListOps.get(values, 1);
+		Object control = ListOps.get(values, 2);
+		if (iterator == EnvOps.NEXT && state instanceof LuaTable && control == null) {
+			return ((LuaTable) state).pairsCursor();
+		}
+		return new FunctionCursor(context, iterator, state, control);
+	}
+
+	/**
+	 * Moves to the next entry. Returns false when there are no more entries,
+	 * after which the cursor must not be used anymore.
+	 */
+	@RuntimeApi
+	public abstract boolean advance();
+
+	@RuntimeApi
+	public abstract Object key();
+
+	@RuntimeApi
+	public abstract Object value();
+
+	/**
+	 * Returns the value of the loop variable with given index, starting with 0 for the key.
+	 * Only iterator functions provide more than a key and a value.
+	 */
+	@RuntimeApi
+	public Object variable(int index) {
+		return index == 0 ? key() : index == 1 ? value() : null;
+	}
+}
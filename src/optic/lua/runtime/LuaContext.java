@@ -6,6 +6,12 @@ import java.io.*;
 import java.util.*;
 
 public final class LuaContext {
+	/**
+	 * Returned by {@link LuaFunction#callTail(LuaContext, Object[])} instead of results
+	 * when the function ended with a tail call, see {@link #tailCall(Object, Object[])}.
+	 */
+	@RuntimeApi
+	public static final Object[] TAIL_CALL = {};
 	public Reader in = new InputStreamReader(System.in);
 	public PrintWriter out = new PrintWriter(System.out);
 	public PrintWriter err = new PrintWriter(System.err);
@@ -14,6 +20,9 @@ public final class LuaContext {
 	public CallSiteFactory callSiteFactory = new SimpleCallSiteFactory();
 	public FunctionMetafactory functionMetafactory = new SimpleFunctionMetafactory();
 	private List<CallSite> callSites = new ArrayList<>(32);
+	// the pending tail call, only valid while TAIL_CALL is being returned
+	private Object tailFunction;
+	private Object[] tailArguments;
 
 	private LuaContext() {
 	}
@@ -30,12 +39,41 @@ public final class LuaContext {
 
 	@RuntimeApi
 	public Object getGlobal(String name) {
-		return DynamicOps.index(_ENV, name);
+		return DynamicOps.index(this, _ENV, name);
 	}
 
 	@RuntimeApi
 	public void setGlobal(String name, Object value) {
-		DynamicOps.setIndex(_ENV, name, value);
+		DynamicOps.setIndex(this, _ENV, name, value);
+	}
+
+	/**
+	 * Stores a tail call, which will be performed by the nearest {@link #trampoline(Object[])} after the calling function has returned.
+	 */
+	@RuntimeApi
+	public Object[] tailCall(Object function, Object[] args) {
+		tailFunction = function;
+		tailArguments = args;
+		return TAIL_CALL;
+	}
+
+	/**
+	 * Performs pending tail calls until there are actual results, so that a chain of tail calls doesn't grow the stack.
+	 */
+	@RuntimeApi
+	public Object[] trampoline(Object[] results) {
+		while (results == TAIL_CALL) {
+			Object function = tailFunction;
+			Object[] args = tailArguments;
+			tailFunction = null;
+			tailArguments = null;
+			while (!(function instanceof LuaFunction)) {
+				args = Metatables.withSelf(function, args);
+				function = Metatables.callHandler(function);
+			}
+			results = ((LuaFunction) function).callTail(this, args);
+		}
+		return results;
 	}
 
 	@RuntimeApi
@@ -19,6 +19,80 @@ public abstract class LuaFunction {
 	@RuntimeApi
 	public abstract Object[] call(LuaContext context, Object... args);
 
+	/**
+	 * Same as {@link #call(LuaContext, Object...)}, except that if the function ends with a tail call,
+	 * {@link LuaContext#TAIL_CALL} is returned and the caller must perform the call (see {@link LuaContext#trampoline(Object[])}).
+	 */
+	@RuntimeApi
+	public Object[] callTail(LuaContext context, Object[] args) {
+		return call(context, args);
+	}
+
+	/*
+	 * Fixed-arity entry points, used when the number of arguments is known at compile time.
+	 * Compiled functions override them to avoid allocating the argument array.
+	 */
+
+	@RuntimeApi
+	public Object[] call0(LuaContext context) {
+		return call(context, ListOps.EMPTY);
+	}
+
+	@RuntimeApi
+	public Object[] call1(LuaContext context, Object a) {
+		return call(context, new Object[]{a});
+	}
+
+	@RuntimeApi
+	public Object[] call2(LuaContext context, Object a, Object b) {
+		return call(context, new Object[]{a, b});
+	}
+
+	@RuntimeApi
+	public Object[] call3(LuaContext context, Object a, Object b, Object c) {
+		return call(context, new Object[]{a, b, c});
+	}
+
+	@RuntimeApi
+	public Object[] call4(LuaContext context, Object a, Object b, Object c, Object d) {
+		return call(context, new Object[]{a, b, c, d});
+	}
+
+	/*
+	 * Single-result entry points, used when only the first result of a call is needed.
+	 * Functions which always return exactly one value override them to avoid allocating the result array.
+	 */
+
+	@RuntimeApi
+	public Object callFirst(LuaContext context, Object... args) {
+		return ListOps.get(call(context, args), 0);
+	}
+
+	@RuntimeApi
+	public Object callFirst0(LuaContext context) {
+		return ListOps.get(call0(context), 0);
+	}
+
+	@RuntimeApi
+	public Object callFirst1(LuaContext context, Object a) {
+		return ListOps.get(call1(context, a), 0);
+	}
+
+	@RuntimeApi
+	public Object callFirst2(LuaContext context, Object a, Object b) {
+		return ListOps.get(call2(context, a, b), 0);
+	}
+
+	@RuntimeApi
+	public Object callFirst3(LuaContext context, Object a, Object b, Object c) {
+		return ListOps.get(call3(context, a, b, c), 0);
+	}
+
+	@RuntimeApi
+	public Object callFirst4(LuaContext context, Object a, Object b, Object c, Object d) {
+		return ListOps.get(call4(context, a, b, c, d), 0);
+	}
+
 	@Override
 	public String toString() {
 		return "function 0x" + Integer.toHexString(hashCode());
@@ -1,21 +1,79 @@
 package optic.lua.runtime;
 
 import java.util.*;
-import java.util.Map.Entry;
 
 public class LuaTable {
 	private static final Object[] EMPTY_ARRAY = {};
-	private final HashMap<Object, Object> hash;
-	// entries with keys of [1 .. length] are stored in array part
+	private static final long[] EMPTY_LONG_ARRAY = {};
+	private static final double[] EMPTY_DOUBLE_ARRAY = {};
+	private static final int[] EMPTY_INT_ARRAY = {};
+	// marks a free slot in the integer lane of the hash part
+	// the key Long.MIN_VALUE itself is stored in the object lane
+	private static final long FREE_KEY = Long.MIN_VALUE;
+	// possible values of arrayType
+	private static final int OBJECT_ARRAY = 0;
+	private static final int NUM_ARRAY = 1;
+	private static final int INT_ARRAY = 2;
+	// the array part is never larger than 2^MAX_BITS
+	private static final int MAX_BITS = 30;
+	// lanes of up to this many slots are searched linearly
+	private static final int SMALL_LANE = 8;
+	// entries with keys of [1 .. arraySize] are stored in array part and never in the hash part
 	// remember that array part is zero-indexed
+	// while all values are numbers of the same kind, they are kept unboxed in numArray or intArray
+	// arrayType tells which one of the three arrays is in use
+	// Object[] may contain holes (nulls), numeric arrays only contain the entries [1 .. length]
 	private Object[] array = EMPTY_ARRAY;
+	private double[] numArray = EMPTY_DOUBLE_ARRAY;
+	private long[] intArray = EMPTY_LONG_ARRAY;
+	private int arrayType = OBJECT_ARRAY;
+	private int arraySize;
+	// all entries of [1 .. length] are present in the array part
+	// filling a hole doesn't look for the next one, so an Object[] array part may have more entries after length
 	private int length;
+	// the last border found by binary search in the array part, see length()
+	private int borderHint;
+	// string keys are stored in slots, the shape of the table tells which key is in which slot
+	// tables with too many string keys switch to dictionary mode and store them in the hash part
+	// both fields are accessed directly by IndexCache
+	Shape shape = Shape.EMPTY;
+	Object[] slots = EMPTY_ARRAY;
+	// the hash part is split into two open-addressing tables with linear probing:
+	// integral numeric keys are stored unboxed in the integer lane, everything else in the object lane
+	// removed entries keep their key and have their value set to null, so that clearing
+	// fields during traversal is allowed (same as "dead keys" in reference Lua)
+	// most tables only have a few such keys, small lanes keep them in insertion order and are searched linearly
+	// this saves the hashes array and keeps tiny tables compact
+	private long[] intKeys = EMPTY_LONG_ARRAY;
+	private Object[] intValues = EMPTY_ARRAY;
+	private int intSlotsUsed;
+	private Object[] keys = EMPTY_ARRAY;
+	private int[] hashes = EMPTY_INT_ARRAY;
+	private Object[] values = EMPTY_ARRAY;
+	private int slotsUsed;
+	// null if the table has no metatable, see Metatables
+	LuaTable metatable;
+	// bit set of events this table is known not to handle when used as a metatable
+	// cleared whenever a string key is written, as the write may add a metamethod
+	int absentEvents;
+	// cells of string keys used as global variables, null unless the table has been used as _ENV
+	private Map<String, GlobalVariable.Cell> cells;
 
 	LuaTable() {
-		hash = new HashMap<>();
 		length = 0;
 	}
 
+	// creates a table with room for arraySize entries in the array part and hashSize string keys
+	// the array part is always allocated as Object[], see copyToArray
+	LuaTable(int arraySize, int hashSize) {
+		if (arraySize > 0) {
+			this.arraySize = arraySize;
+			array = new Object[arraySize];
+		}
+		if (hashSize > 0)
+			slots = new Object[hashSize];
+	}
+
 	static LuaTable ofMap(Map<?, ?> entries) {
 		LuaTable table = new LuaTable();
 		entries.forEach(table::set);
@@ -35,65 +93,438 @@ public class LuaTable {
 
 	public Object get(Object key) {
 		if (key instanceof Number) {
+			if (key.getClass() == Long.class)
+				return get(((Long) key).longValue());
 			double d = ((Number) key).doubleValue();
-			int i = (int) d;
-			if (i == d && i <= length && i >= 1)
-				return array[i - 1];
+			long i = (long) d;
+			if (i == d)
+				return get(i);
 			// key is a Number but not a Double
 			if (key.getClass() != Double.class)
 				key = d; // autobox to Double
+		} else if (key instanceof String) {
+			return get((String) key);
 		}
-		return hash.get(key);
+		int slot = findObject(key, hash(key.hashCode()));
+		return slot < 0 ? null : values[slot];
 	}
 
 	public Object get(String key) {
-		return hash.get(key);
+		Shape shape = this.shape;
+		if (shape != Shape.DICTIONARY) {
+			int slot = shape.indexOf(key);
+			return slot < 0 ? null : slots[slot];
+		}
+		int slot = findObject(key, hash(key.hashCode()));
+		return slot < 0 ? null : values[slot];
 	}
 
 	public Object get(long key) {
 		if (key <= length && key >= 1)
-			return array[(int) (key) - 1];
-		return hash.get((double) key);
+			return arrayGet((int) (key) - 1);
+		if (key <= arraySize && key >= 1)
+			return arrayType == OBJECT_ARRAY ? array[(int) (key) - 1] : null;
+		if (key == FREE_KEY) {
+			Object boxed = (double) key;
+			int slot = findObject(boxed, hash(boxed.hashCode()));
+			return slot < 0 ? null : values[slot];
+		}
+		int slot = findInt(key);
+		return slot < 0 ? null : intValues[slot];
 	}
 
 	public void set(Object key, Object value) {
 		if (key == null)
 			throw new NullPointerException();
 		if (key instanceof Number) {
+			if (key.getClass() == Long.class) {
+				set(((Long) key).longValue(), value);
+				return;
+			}
 			double d = ((Number) key).doubleValue();
-			int i = (int) d;
-			if (i == d && i <= length + 1 && i >= 1) {
-				setArray(i, value);
+			long i = (long) d;
+			if (i == d) {
+				set(i, value);
 				return;
 			}
 			// key is a Number but not a Double
 			if (key.getClass() != Double.class)
 				key = d; // autobox to Double
+		} else if (key instanceof String) {
+			set((String) key, value);
+			return;
 		}
-		if (value == null)
-			hash.remove(key);
-		else
-			hash.put(key, value);
+		putObject(key, value);
 	}
 
 	public void set(String key, Object value) {
-		if (value == null) {
-			hash.remove(key);
-		} else {
-			hash.put(key, value);
+		absentEvents = 0;
+		if (cells != null)
+			updateCell(key, value);
+		Shape shape = this.shape;
+		if (shape == Shape.DICTIONARY) {
+			putObject(key, value);
+			return;
+		}
+		int slot = shape.indexOf(key);
+		if (slot >= 0) {
+			// removed keys keep their slot
+			slots[slot] = value;
+			return;
 		}
+		if (value == null)
+			return;
+		Shape next = shape.with(key);
+		if (next == null) {
+			convertToDictionary();
+			putObject(key, value);
+			return;
+		}
+		addSlot(next, value);
+	}
+
+	// adds a new string key, the next shape must be derived from the current one
+	void addSlot(Shape next, Object value) {
+		int slot = shape.size();
+		if (slot >= slots.length)
+			slots = Arrays.copyOf(slots, Math.max(4, slots.length * 2));
+		slots[slot] = value;
+		shape = next;
+		absentEvents = 0;
+	}
+
+	/**
+	 * Returns the cell which follows the value of given key, see {@link GlobalVariable}.
+	 * Tables with cells store string keys in the hash part, so that every write goes through {@link #set(String, Object)}.
+	 */
+	GlobalVariable.Cell cell(String key) {
+		if (cells == null) {
+			if (shape != Shape.DICTIONARY)
+				convertToDictionary();
+			cells = new HashMap<>(64);
+		}
+		GlobalVariable.Cell cell = cells.get(key);
+		if (cell == null) {
+			cell = new GlobalVariable.Cell(get(key));
+			cells.put(key, cell);
+		}
+		return cell;
+	}
+
+	private void updateCell(String key, Object value) {
+		GlobalVariable.Cell cell = cells.get(key);
+		if (cell != null)
+			cell.value = value;
+	}
+
+	private void convertToDictionary() {
+		for (int i = 0; i < shape.size(); i++) {
+			if (slots[i] != null)
+				putObject(shape.key(i), slots[i]);
+		}
+		shape = Shape.DICTIONARY;
+		slots = EMPTY_ARRAY;
 	}
 
 	public void set(long key, Object value) {
-		if (key <= length + 1 && key >= 1) {
+		if (key <= arraySize && key >= 1) {
 			setArray((int) key, value);
 			return;
 		}
-		Double boxed = (double) key;
-		if (value == null)
-			hash.remove(boxed);
-		else
-			hash.put(boxed, value);
+		if (key == FREE_KEY) {
+			putObject((double) key, value);
+			return;
+		}
+		if (key == arraySize + 1 && value != null && arraySize < 1 << MAX_BITS && isArrayFull()) {
+			// appending to a full array part, it will still be more than half full after doubling
+			if (arraySize == 0)
+				chooseArrayType(value);
+			resize(Math.max(4, arraySize * 2));
+			setArray((int) key, value);
+			return;
+		}
+		putInt(key, value);
+	}
+
+	/**
+	 * Same as {@link #get(long)}, but converts the result to a number. Does not box values
+	 * stored in a numeric array part.
+	 */
+	public double getNum(long key) {
+		if (key <= length && key >= 1) {
+			if (arrayType == NUM_ARRAY)
+				return numArray[(int) (key) - 1];
+			if (arrayType == INT_ARRAY)
+				return intArray[(int) (key) - 1];
+		}
+		return DynamicOps.toNum(get(key));
+	}
+
+	// the numeric array part, which holds the entries [1 .. numArrayLength()]
+	// empty if the array part is not numeric
+	double[] numArrayPart() {
+		return arrayType == NUM_ARRAY ? numArray : EMPTY_DOUBLE_ARRAY;
+	}
+
+	int numArrayLength() {
+		return arrayType == NUM_ARRAY ? length : 0;
+	}
+
+	/**
+	 * Same as {@link #set(long, Object)}, but does not box the value if it can be stored in a numeric array part.
+	 */
+	public void setNum(long key, double value) {
+		if (arrayType == NUM_ARRAY && key >= 1) {
+			if (key <= length) {
+				numArray[(int) (key) - 1] = value;
+				return;
+			}
+			if (key == length + 1 && length < arraySize) {
+				numArray[length++] = value;
+				return;
+			}
+		}
+		set(key, (Object) value);
+	}
+
+	/**
+	 * Same as {@link #set(long, Object)}, but does not box the value if it can be stored in a numeric array part.
+	 */
+	public void setInt(long key, long value) {
+		if (arrayType == INT_ARRAY && key >= 1) {
+			if (key <= length) {
+				intArray[(int) (key) - 1] = value;
+				return;
+			}
+			if (key == length + 1 && length < arraySize) {
+				intArray[length++] = value;
+				return;
+			}
+		}
+		set(key, (Object) value);
+	}
+
+	// copies values[0 .. count - 1] to keys [key .. key + count - 1], which must be within the array part
+	void copyToArray(int key, Object[] values, int count) {
+		if (count == 0)
+			return;
+		if (arrayType != OBJECT_ARRAY)
+			convertToObjectArray();
+		System.arraycopy(values, 0, array, key - 1, count);
+		updateLength(key - 1);
+		if (length == arraySize)
+			specializeArray();
+	}
+
+	// true if all entries of the array part are present
+	private boolean isArrayFull() {
+		if (length < arraySize && arrayType == OBJECT_ARRAY && array[arraySize - 1] != null)
+			updateLength(length);
+		return length == arraySize;
+	}
+
+	// recomputes length of an Object[] array part after the entries starting from given index have changed
+	private void updateLength(int index) {
+		Object[] array = this.array;
+		int n = Math.min(length, index);
+		while (n < arraySize && array[n] != null)
+			n++;
+		length = n;
+	}
+
+	// moves count entries of the array part from index from to index to, the ranges may overlap
+	private void moveInArray(int from, int to, int count) {
+		switch (arrayType) {
+			case NUM_ARRAY:
+				System.arraycopy(numArray, from, numArray, to, count);
+				break;
+			case INT_ARRAY:
+				System.arraycopy(intArray, from, intArray, to, count);
+				break;
+			default:
+				System.arraycopy(array, from, array, to, count);
+		}
+	}
+
+	/**
+	 * Implementation of "table.insert", shifts up the entries [pos .. #t] and stores value at pos.
+	 */
+	void insert(long pos, Object value) {
+		int n = length();
+		if (pos < 1 || pos > n + 1L)
+			throw new IllegalArgumentException("bad argument #2 to 'insert' (position out of bounds)");
+		// appending the last entry first grows the array part if necessary
+		if (pos == n + 1L) {
+			set(pos, value);
+			return;
+		}
+		set(n + 1L, get((long) n));
+		if (length > n) {
+			// the border was in the array part, which now holds the entries [1 .. n + 1]
+			int index = (int) pos - 1;
+			moveInArray(index, index + 1, n - 1 - index);
+			if (value == null) {
+				removeFromArray(index + 1);
+			} else {
+				arrayPut(index, value);
+			}
+			return;
+		}
+		for (long i = n; i > pos; i--)
+			set(i, get(i - 1));
+		set(pos, value);
+	}
+
+	/**
+	 * Implementation of "table.remove", returns the entry at pos and shifts down the entries [pos + 1 .. #t].
+	 */
+	Object remove(long pos) {
+		int n = length();
+		if (pos != n && (pos < 1 || pos > n + 1L))
+			throw new IllegalArgumentException("bad argument #2 to 'remove' (position out of bounds)");
+		if (n == length && pos >= 1 && pos <= n) {
+			int index = (int) pos - 1;
+			Object value = arrayGet(index);
+			moveInArray(index + 1, index, n - 1 - index);
+			if (arrayType == OBJECT_ARRAY)
+				array[n - 1] = null;
+			length = n - 1;
+			return value;
+		}
+		Object value = get(pos);
+		for (; pos < n; pos++)
+			set(pos, get(pos + 1));
+		set(pos, null);
+		return value;
+	}
+
+	/**
+	 * Implementation of "table.unpack", returns the values of keys [from .. to].
+	 * The result is a new array which may be returned from a function as is.
+	 */
+	Object[] unpack(long from, long to) {
+		if (from > to)
+			return ListOps.EMPTY;
+		if (to - from >= Integer.MAX_VALUE || to - from < 0)
+			throw new IllegalArgumentException("too many results to unpack");
+		Object[] result = new Object[(int) (to - from + 1)];
+		if (arrayType == OBJECT_ARRAY && from >= 1 && to <= arraySize) {
+			System.arraycopy(array, (int) from - 1, result, 0, result.length);
+			return result;
+		}
+		for (int i = 0; i < result.length; i++)
+			result[i] = get(from + i);
+		return result;
+	}
+
+	/**
+	 * Implementation of "table.sort", sorts the entries [1 .. #t]. Numbers and strings are sorted
+	 * directly in the array part if there is no comparator.
+	 */
+	void sort(LuaContext context, LuaFunction comparator) {
+		int n = length();
+		if (n < 2)
+			return;
+		if (n == length) {
+			if (comparator == null) {
+				switch (arrayType) {
+					case NUM_ARRAY:
+						Arrays.sort(numArray, 0, n);
+						return;
+					case INT_ARRAY:
+						Arrays.sort(intArray, 0, n);
+						return;
+					default:
+						if (TableSort.allStrings(array, n)) {
+							Arrays.sort(array, 0, n);
+							return;
+						}
+				}
+			}
+			if (arrayType == OBJECT_ARRAY) {
+				new TableSort(context, comparator).sort(array, n);
+				return;
+			}
+		}
+		Object[] values = unpack(1, n);
+		new TableSort(context, comparator).sort(values, n);
+		for (int i = 0; i < n; i++)
+			set(i + 1L, values[i]);
+	}
+
+	/**
+	 * Implementation of "table.move", copies the entries [from .. to] of source to destination, starting at key target.
+	 */
+	static void move(LuaTable source, long from, long to, long target, LuaTable destination) {
+		if (to < from)
+			return;
+		if (from <= 0 && to >= Long.MAX_VALUE + from)
+			throw new IllegalArgumentException("bad argument #3 to 'move' (too many elements to move)");
+		long count = to - from + 1;
+		if (target > Long.MAX_VALUE - count + 1)
+			throw new IllegalArgumentException("bad argument #4 to 'move' (destination wrap around)");
+		long end = target + count - 1;
+		if (from >= 1 && target >= 1 && end <= destination.arraySize) {
+			int type = source.arrayType;
+			if (type != OBJECT_ARRAY && type == destination.arrayType && to <= source.length && target <= destination.length + 1L) {
+				// the numeric array part of the destination stays without holes
+				System.arraycopy(type == NUM_ARRAY ? source.numArray : source.intArray, (int) from - 1,
+						type == NUM_ARRAY ? destination.numArray : destination.intArray, (int) target - 1, (int) count);
+				destination.length = Math.max(destination.length, (int) end);
+				return;
+			}
+			if (type == OBJECT_ARRAY && to <= source.arraySize) {
+				if (destination.arrayType != OBJECT_ARRAY)
+					destination.convertToObjectArray();
+				System.arraycopy(source.array, (int) from - 1, destination.array, (int) target - 1, (int) count);
+				destination.updateLength((int) target - 1);
+				return;
+			}
+		}
+		if (target > to || target <= from || source != destination) {
+			for (long i = 0; i < count; i++)
+				destination.set(target + i, source.get(from + i));
+		} else {
+			for (long i = count - 1; i >= 0; i--)
+				destination.set(target + i, source.get(from + i));
+		}
+	}
+
+	// switches a full Object[] array part to an unboxed one if all values are numbers of the same kind
+	private void specializeArray() {
+		Object[] array = this.array;
+		Class<?> type = array[0].getClass();
+		if (type != Long.class && type != Double.class)
+			return;
+		for (Object value : array) {
+			if (value.getClass() != type)
+				return;
+		}
+		if (type == Long.class) {
+			long[] ints = new long[arraySize];
+			for (int i = 0; i < ints.length; i++)
+				ints[i] = (Long) array[i];
+			intArray = ints;
+			arrayType = INT_ARRAY;
+		} else {
+			double[] nums = new double[arraySize];
+			for (int i = 0; i < nums.length; i++)
+				nums[i] = (Double) array[i];
+			numArray = nums;
+			arrayType = NUM_ARRAY;
+		}
+		this.array = EMPTY_ARRAY;
+	}
+
+	private Object arrayGet(int index) {
+		switch (arrayType) {
+			case NUM_ARRAY:
+				return numArray[index];
+			case INT_ARRAY:
+				return intArray[index];
+			default:
+				return array[index];
+		}
 	}
 
 	private void setArray(int key, Object value) {
@@ -101,40 +532,459 @@ public class LuaTable {
 			removeFromArray(key);
 			return;
 		}
+		if (key <= length) {
+			arrayPut(key - 1, value);
+			return;
+		}
+		if (key == 1 && arrayType != OBJECT_ARRAY) {
+			// numeric array part is empty
+			chooseArrayType(value);
+		}
 		if (key == length + 1) {
-			appendToArray(value);
+			arrayPut(length++, value);
 			return;
 		}
+		// the value leaves a hole in the array part
+		if (arrayType != OBJECT_ARRAY)
+			convertToObjectArray();
 		array[key - 1] = value;
 	}
 
-	private void appendToArray(Object value) {
-		if (array.length <= length) {
-			int newLength = array.length == 0 ? 4 : array.length * 4;
-			array = Arrays.copyOf(array, newLength);
+	// stores a value in the array part, falling back to Object[] if the value does not fit
+	// integers and floats are never converted to each other, since that would change their Lua type
+	private void arrayPut(int index, Object value) {
+		switch (arrayType) {
+			case NUM_ARRAY:
+				if (value.getClass() == Double.class) {
+					numArray[index] = (Double) value;
+					return;
+				}
+				break;
+			case INT_ARRAY:
+				if (value.getClass() == Long.class) {
+					intArray[index] = (Long) value;
+					return;
+				}
+				break;
+			default:
+				array[index] = value;
+				return;
 		}
-		// example:
-		// array: [1, 2, 3]; length = 3
-		array[length++] = value;
-		// array: [1, 2, 3, 4]; length = 4
-		// check if hash part contains entry for 5:
-		Object next = hash.remove((double) length + 1);
-		// recursively append
-		if (next != null)
-			appendToArray(next);
+		convertToObjectArray();
+		array[index] = value;
 	}
 
 	private void removeFromArray(int key) {
+		if (arrayType != OBJECT_ARRAY) {
+			if (key > length)
+				return;
+			if (key == length) {
+				length--;
+				return;
+			}
+			convertToObjectArray();
+		}
+		array[key - 1] = null;
+		if (key <= length)
+			length = key - 1;
+	}
+
+	// called when the array part is empty, picks the representation for the first value
+	private void chooseArrayType(Object value) {
+		Class<?> valueType = value.getClass();
+		int type = valueType == Long.class ? INT_ARRAY : valueType == Double.class ? NUM_ARRAY : OBJECT_ARRAY;
+		if (type == arrayType)
+			return;
+		array = type == OBJECT_ARRAY ? new Object[arraySize] : EMPTY_ARRAY;
+		numArray = type == NUM_ARRAY ? new double[arraySize] : EMPTY_DOUBLE_ARRAY;
+		intArray = type == INT_ARRAY ? new long[arraySize] : EMPTY_LONG_ARRAY;
+		arrayType = type;
+	}
+
+	private void convertToObjectArray() {
+		Object[] converted = new Object[arraySize];
+		for (int i = 0; i < length; i++)
+			converted[i] = arrayGet(i);
+		array = converted;
+		numArray = EMPTY_DOUBLE_ARRAY;
+		intArray = EMPTY_LONG_ARRAY;
+		arrayType = OBJECT_ARRAY;
+	}
+
+	private static int hash(int h) {
+		h *= 0x9E3779B9;
+		return h ^ (h >>> 16);
+	}
+
+	private static int hash(long key) {
+		return hash((int) (key ^ (key >>> 32)));
+	}
+
+	// returns the slot which contains the given key or -1
+	private int findInt(long key) {
+		long[] keys = intKeys;
+		if (keys.length <= SMALL_LANE) {
+			for (int i = 0; i < intSlotsUsed; i++) {
+				if (keys[i] == key)
+					return i;
+			}
+			return -1;
+		}
+		int mask = keys.length - 1;
+		int i = hash(key) & mask;
+		long k;
+		while ((k = keys[i]) != FREE_KEY) {
+			if (k == key)
+				return i;
+			i = (i + 1) & mask;
+		}
+		return -1;
+	}
+
+	// returns the slot which contains the given key or -1
+	private int findObject(Object key, int hash) {
+		Object[] keys = this.keys;
+		if (keys.length <= SMALL_LANE) {
+			for (int i = 0; i < slotsUsed; i++) {
+				Object k = keys[i];
+				if (k == key || k.equals(key))
+					return i;
+			}
+			return -1;
+		}
+		int mask = keys.length - 1;
+		int i = hash & mask;
+		Object k;
+		while ((k = keys[i]) != null) {
+			if (k == key || (hashes[i] == hash && k.equals(key)))
+				return i;
+			i = (i + 1) & mask;
+		}
+		return -1;
+	}
+
+	private void putInt(long key, Object value) {
+		long[] keys = intKeys;
+		int slot;
+		if (keys.length <= SMALL_LANE) {
+			slot = findInt(key);
+			if (slot < 0)
+				slot = intSlotsUsed;
+		} else {
+			// the probe stops either at the key or at the free slot where it should be inserted
+			int mask = keys.length - 1;
+			slot = hash(key) & mask;
+			long k;
+			while ((k = keys[slot]) != FREE_KEY && k != key)
+				slot = (slot + 1) & mask;
+		}
+		if (slot < keys.length && keys[slot] == key) {
+			intValues[slot] = value;
+			return;
+		}
+		if (value == null)
+			return;
+		if (!isFull(intSlotsUsed, keys.length)) {
+			keys[slot] = key;
+			intValues[slot] = value;
+			intSlotsUsed++;
+			return;
+		}
+		if (keys.length >= SMALL_LANE) {
+			rehash(key);
+			if (key <= arraySize && key >= 1) {
+				setArray((int) key, value);
+				return;
+			}
+		}
+		if (isFull(intSlotsUsed, intKeys.length))
+			growSmallIntLane();
+		insertInt(intKeys, intValues, key, value);
+		intSlotsUsed++;
+	}
+
+	private void growSmallIntLane() {
+		int capacity = Math.max(2, intKeys.length * 2);
+		long[] keys = Arrays.copyOf(intKeys, capacity);
+		Arrays.fill(keys, intKeys.length, capacity, FREE_KEY);
+		intKeys = keys;
+		intValues = Arrays.copyOf(intValues, capacity);
+	}
+
+	private void putObject(Object key, Object value) {
+		int hash = hash(key.hashCode());
+		Object[] keys = this.keys;
+		int slot;
+		if (keys.length <= SMALL_LANE) {
+			slot = findObject(key, hash);
+			if (slot < 0)
+				slot = slotsUsed;
+		} else {
+			// the probe stops either at the key or at the free slot where it should be inserted
+			int mask = keys.length - 1;
+			slot = hash & mask;
+			Object k;
+			while ((k = keys[slot]) != null && !(k == key || (hashes[slot] == hash && k.equals(key))))
+				slot = (slot + 1) & mask;
+		}
+		if (slot < keys.length && keys[slot] != null) {
+			values[slot] = value;
+			return;
+		}
+		if (value == null)
+			return;
+		if (isFull(slotsUsed, keys.length)) {
+			rehashObjectLane();
+			keys = this.keys;
+			slot = keys.length <= SMALL_LANE ? slotsUsed : freeSlot(keys, hash);
+		}
+		keys[slot] = key;
+		if (keys.length > SMALL_LANE)
+			hashes[slot] = hash;
+		values[slot] = value;
+		slotsUsed++;
+	}
+
+	private static int freeSlot(Object[] keys, int hash) {
+		int mask = keys.length - 1;
+		int i = hash & mask;
+		while (keys[i] != null)
+			i = (i + 1) & mask;
+		return i;
+	}
+
+	private static boolean isFull(int slotsUsed, int capacity) {
+		return capacity <= SMALL_LANE ? slotsUsed == capacity : (slotsUsed + 1) * 4 > capacity * 3;
+	}
+
+	// sizes a lane so that it has room for one more entry, hashed lanes are at most half full afterwards
+	private static int laneCapacity(int liveEntries) {
+		if (liveEntries < SMALL_LANE)
+			return Math.max(2, Integer.highestOneBit(liveEntries) << 1);
+		int minimum = (liveEntries + 1) * 2;
+		return Integer.highestOneBit(minimum - 1) << 1;
+	}
+
+	// called when the integer lane is full, chooses new sizes for the array part and the integer lane
+	// the array part gets the largest size n, such that more than half of the keys [1 .. n] are present
+	// (same as "computesizes" in reference Lua)
+	private void rehash(long extraKey) {
+		// nums[i] is the number of keys k with 2^(i-1) < k <= 2^i
+		int[] nums = new int[MAX_BITS + 1];
+		int total = countKey(nums, extraKey);
+		int end = arrayType == OBJECT_ARRAY ? arraySize : length;
+		for (int i = 0; i < end; i++) {
+			if (arrayType != OBJECT_ARRAY || array[i] != null)
+				total += countKey(nums, i + 1);
+		}
+		for (int i = 0; i < intKeys.length; i++) {
+			if (intValues[i] != null)
+				total += countKey(nums, intKeys[i]);
+		}
+		int optimal = 0;
+		int count = 0;
+		for (int i = 0, twoToI = 1; i <= MAX_BITS && total > twoToI / 2; i++, twoToI *= 2) {
+			count += nums[i];
+			if (count > twoToI / 2)
+				optimal = twoToI;
+		}
+		resize(optimal);
+	}
+
+	// if the key belongs to the array part of a table with array part of 2^MAX_BITS,
+	// increments the counter of it's slice and returns 1
+	private static int countKey(int[] nums, long key) {
+		if (key < 1 || key > 1 << MAX_BITS)
+			return 0;
+		nums[64 - Long.numberOfLeadingZeros(key - 1)]++;
+		return 1;
+	}
+
+	// changes the size of the array part and moves entries between the array part and the integer lane
+	// also rebuilds the integer lane, dropping removed entries
+	private void resize(int newSize) {
+		int oldSize = arraySize;
 		int oldLength = length;
-		length = key - 1;
-		for (int i = key; i < oldLength; i++)
-			hash.put((double) (i + 1), array[i]);
-		for (int i = key; i < array.length; i++)
-			array[i] = null;
+		long[] oldKeys = intKeys;
+		Object[] oldValues = intValues;
+		// entries which move from the array part to the integer lane
+		Object[] evicted = EMPTY_ARRAY;
+		if (newSize < oldSize) {
+			int end = arrayType == OBJECT_ARRAY ? oldSize : oldLength;
+			evicted = new Object[Math.max(0, end - newSize)];
+			for (int i = newSize; i < end; i++)
+				evicted[i - newSize] = arrayGet(i);
+			length = Math.min(oldLength, newSize);
+		}
+		switch (arrayType) {
+			case NUM_ARRAY:
+				numArray = Arrays.copyOf(numArray, newSize);
+				break;
+			case INT_ARRAY:
+				intArray = Arrays.copyOf(intArray, newSize);
+				break;
+			default:
+				array = Arrays.copyOf(array, newSize);
+		}
+		arraySize = newSize;
+		// entries which stay in the integer lane or move to the array part
+		int staying = 0;
+		int moving = 0;
+		for (int i = 0; i < oldKeys.length; i++) {
+			if (oldValues[i] == null)
+				continue;
+			long key = oldKeys[i];
+			if (key >= 1 && key <= newSize)
+				moving++;
+			else
+				staying++;
+		}
+		for (Object value : evicted) {
+			if (value != null)
+				staying++;
+		}
+		// the lane is only allocated when it's needed
+		int capacity = staying == 0 ? 0 : laneCapacity(staying);
+		long[] newKeys = capacity == 0 ? EMPTY_LONG_ARRAY : new long[capacity];
+		Arrays.fill(newKeys, FREE_KEY);
+		Object[] newValues = capacity == 0 ? EMPTY_ARRAY : new Object[capacity];
+		// indexed by key, so that the entries can be added in ascending order
+		Object[] moved = moving == 0 ? EMPTY_ARRAY : new Object[newSize];
+		for (int i = 0; i < oldKeys.length; i++) {
+			Object value = oldValues[i];
+			if (value == null)
+				continue;
+			long key = oldKeys[i];
+			if (key >= 1 && key <= newSize)
+				moved[(int) key - 1] = value;
+			else
+				insertInt(newKeys, newValues, key, value);
+		}
+		for (int i = 0; i < evicted.length; i++) {
+			if (evicted[i] != null)
+				insertInt(newKeys, newValues, newSize + i + 1, evicted[i]);
+		}
+		intKeys = newKeys;
+		intValues = newValues;
+		intSlotsUsed = staying;
+		// in ascending order, so that numeric array parts stay without holes
+		for (int i = 0; i < moved.length; i++) {
+			if (moved[i] != null)
+				setArray(i + 1, moved[i]);
+		}
+	}
+
+	// inserts a new key into the given integer lane which must have free slots
+	private static void insertInt(long[] keys, Object[] values, long key, Object value) {
+		int i;
+		if (keys.length <= SMALL_LANE) {
+			i = 0;
+			while (keys[i] != FREE_KEY)
+				i++;
+		} else {
+			int mask = keys.length - 1;
+			i = hash(key) & mask;
+			while (keys[i] != FREE_KEY)
+				i = (i + 1) & mask;
+		}
+		keys[i] = key;
+		values[i] = value;
+	}
+
+	// rebuilds the object lane, dropping removed entries and growing if necessary
+	private void rehashObjectLane() {
+		Object[] oldKeys = keys;
+		int[] oldHashes = hashes;
+		Object[] oldValues = values;
+		int live = 0;
+		for (Object v : oldValues)
+			if (v != null)
+				live++;
+		int capacity = laneCapacity(live);
+		boolean small = capacity <= SMALL_LANE;
+		Object[] newKeys = new Object[capacity];
+		int[] newHashes = small ? EMPTY_INT_ARRAY : new int[capacity];
+		Object[] newValues = new Object[capacity];
+		int next = 0;
+		for (int j = 0; j < oldKeys.length; j++) {
+			Object v = oldValues[j];
+			if (v == null)
+				continue;
+			if (small) {
+				newKeys[next] = oldKeys[j];
+				newValues[next] = v;
+				next++;
+				continue;
+			}
+			// small lanes do not store hashes
+			int hash = oldHashes.length == 0 ? hash(oldKeys[j].hashCode()) : oldHashes[j];
+			int i = freeSlot(newKeys, hash);
+			newKeys[i] = oldKeys[j];
+			newHashes[i] = hash;
+			newValues[i] = v;
+		}
+		keys = newKeys;
+		hashes = newHashes;
+		values = newValues;
+		slotsUsed = live;
 	}
 
+	/**
+	 * Returns a border of the table, that is a key n such that t[n] is not nil and t[n + 1] is nil
+	 * (or 0 if t[1] is nil). Same as "luaH_getn" in reference Lua, if there are holes after
+	 * the known prefix of the array part, the border is found by binary search.
+	 */
 	int length() {
-		return length;
+		int length = this.length;
+		int size = arraySize;
+		if (length == size)
+			return hashBorder(size);
+		Object[] array = this.array;
+		// numeric array parts only contain [1 .. length]
+		if (arrayType != OBJECT_ARRAY || array[length] == null)
+			return length;
+		int hint = borderHint;
+		if (hint > length && hint < size && array[hint - 1] != null && array[hint] == null)
+			return hint;
+		if (array[size - 1] != null)
+			return hashBorder(size);
+		// t[i] is not nil and t[j] is nil
+		int i = length + 1;
+		int j = size;
+		while (j - i > 1) {
+			int m = (i + j) >>> 1;
+			if (array[m - 1] == null)
+				j = m;
+			else
+				i = m;
+		}
+		borderHint = i;
+		return i;
+	}
+
+	// finds a border after key j of the array part, which is either 0 or not nil
+	// doubles the key until a nil entry is found, then does a binary search (same as "hash_search" in reference Lua)
+	private int hashBorder(int j) {
+		long i = j;
+		long k = j + 1L;
+		while (get(k) != null) {
+			i = k;
+			if (k > Integer.MAX_VALUE / 2) {
+				// pathological case, fall back to linear search
+				while (get(i + 1) != null)
+					i++;
+				return (int) Math.min(i, Integer.MAX_VALUE);
+			}
+			k *= 2;
+		}
+		while (k - i > 1) {
+			long m = (i + k) >>> 1;
+			if (get(m) == null)
+				k = m;
+			else
+				i = m;
+		}
+		return (int) i;
 	}
 
 	@Override
@@ -152,46 +1002,132 @@ public class LuaTable {
 		return "table 0x" + Integer.toHexString(hashCode());
 	}
 
-	Iterator<Object[]> pairsIterator() {
-		return new PairsIterator(hash.entrySet().iterator(), array, length);
+	/**
+	 * Returns the key which follows given key in traversal order or null if there are no more entries.
+	 * A null key returns the first key of the table. Same as "next" in reference Lua, removing entries
+	 * during traversal is allowed, but adding new keys is not.
+	 */
+	public Object next(Object key) {
+		int position = key == null ? 0 : positionOf(key) + 1;
+		position = nextPosition(position);
+		return position < 0 ? null : keyAt(position);
+	}
+
+	// traversal positions are the indices of array part, followed by string slots, integer lane and object lane
+	// returns the first position starting from given one which has a value, or -1 if there is none
+	int nextPosition(int position) {
+		int end = arraySize;
+		if (position < end) {
+			if (arrayType != OBJECT_ARRAY) {
+				if (position < length)
+					return position;
+			} else {
+				Object[] array = this.array;
+				for (; position < end; position++) {
+					if (array[position] != null)
+						return position;
+				}
+			}
+			position = end;
+		}
+		int base = end;
+		Object[] slots = this.slots;
+		end += shape.size();
+		for (; position < end; position++) {
+			if (slots[position - base] != null)
+				return position;
+		}
+		base = end;
+		Object[] intValues = this.intValues;
+		end += intValues.length;
+		for (; position < end; position++) {
+			if (intValues[position - base] != null)
+				return position;
+		}
+		base = end;
+		Object[] values = this.values;
+		end += values.length;
+		for (; position < end; position++) {
+			if (values[position - base] != null)
+				return position;
+		}
+		return -1;
 	}
 
-	Iterator<Object[]> ipairsIterator() {
-		return new IpairsIterator(array, length);
+	Object keyAt(int position) {
+		if (position < arraySize)
+			return position + 1L;
+		position -= arraySize;
+		if (position < shape.size())
+			return shape.key(position);
+		position -= shape.size();
+		if (position < intKeys.length)
+			return intKeys[position];
+		return keys[position - intKeys.length];
 	}
 
-	private class PairsIterator implements Iterator<Object[]> {
-		private final Object[] wrapper = new Object[2];
-		private final Iterator<Entry<Object, Object>> hashIterator;
-		private final int length;
-		private int arrayIndex = 0;
-		private final Object[] array;
+	Object valueAt(int position) {
+		if (position < arraySize)
+			return arrayType == OBJECT_ARRAY ? array[position] : arrayGet(position);
+		position -= arraySize;
+		if (position < shape.size())
+			return slots[position];
+		position -= shape.size();
+		if (position < intValues.length)
+			return intValues[position];
+		return values[position - intValues.length];
+	}
 
-		PairsIterator(Iterator<Entry<Object, Object>> hashIterator, Object[] array, int length) {
-			this.hashIterator = hashIterator;
-			this.array = array;
-			this.length = length;
+	private int positionOf(Object key) {
+		if (key instanceof Number) {
+			double d = ((Number) key).doubleValue();
+			long i = key.getClass() == Long.class ? (Long) key : (long) d;
+			if (key.getClass() == Long.class || i == d) {
+				if (i >= 1 && i <= arraySize)
+					return (int) (i - 1);
+				int slot = i == FREE_KEY ? -1 : findInt(i);
+				if (slot >= 0)
+					return arraySize + shape.size() + slot;
+				key = (double) i;
+			} else if (key.getClass() != Double.class) {
+				key = d;
+			}
+		} else if (key instanceof String && shape != Shape.DICTIONARY) {
+			int slot = shape.indexOf((String) key);
+			if (slot >= 0)
+				return arraySize + slot;
 		}
+		int slot = findObject(key, hash(key.hashCode()));
+		if (slot < 0)
+			throw new IllegalArgumentException("invalid key to 'next'");
+		return arraySize + shape.size() + intKeys.length + slot;
+	}
+
+	LoopCursor pairsCursor() {
+		return new PairsCursor();
+	}
+
+	LoopCursor ipairsCursor() {
+		return new IpairsCursor();
+	}
+
+	private final class PairsCursor extends LoopCursor {
+		private int position = -1;
 
 		@Override
-		public boolean hasNext() {
-			return arrayIndex < length || hashIterator.hasNext();
+		public boolean advance() {
+			position = nextPosition(position + 1);
+			return position >= 0;
 		}
 
 		@Override
-		public Object[] next() {
-			if (arrayIndex < length) {
-				wrapper[1] = array[arrayIndex];
-				wrapper[0] = ++arrayIndex;
-			} else if (hashIterator.hasNext()) {
-				Entry<Object, Object> next = hashIterator.next();
-				wrapper[0] = next.getKey();
-				wrapper[1] = next.getValue();
-			} else {
-				wrapper[0] = null;
-				wrapper[1] = null;
-			}
-			return wrapper;
+		public Object key() {
+			return keyAt(position);
+		}
+
+		@Override
+		public Object value() {
+			return valueAt(position);
 		}
 
 		@Override
@@ -200,32 +1136,27 @@ public class LuaTable {
 		}
 	}
 
-	private class IpairsIterator implements Iterator<Object[]> {
-		private final Object[] wrapper = new Object[2];
-		private int arrayIndex = 0;
-		private final int length;
-		private final Object[] array;
+	private final class IpairsCursor extends LoopCursor {
+		private long index = 0;
+		private Object value;
 
-		IpairsIterator(Object[] array, int length) {
-			this.array = array;
-			this.length = length;
+		@Override
+		public boolean advance() {
+			value = get(index + 1);
+			if (value == null)
+				return false;
+			index++;
+			return true;
 		}
 
 		@Override
-		public boolean hasNext() {
-			return arrayIndex < length;
+		public Object key() {
+			return index;
 		}
 
 		@Override
-		public Object[] next() {
-			if (arrayIndex < length) {
-				wrapper[1] = array[arrayIndex];
-				wrapper[0] = ++arrayIndex;
-			} else {
-				wrapper[0] = null;
-				wrapper[1] = null;
-			}
-			return wrapper;
+		public Object value() {
+			return value;
 		}
 
 		@Override
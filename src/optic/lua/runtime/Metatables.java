@@ -0,0 +1,232 @@
+package optic.lua.runtime;
+
+/**
+ * Metamethod lookup and the slow paths of operations which may invoke metamethods.
+ * Every table used as a metatable remembers the events it has no handler for (see {@link LuaTable#absentEvents}),
+ * so that values whose metatable lacks the event only pay for a single flag test.
+ */
+final class Metatables {
+	// each event corresponds to a bit in LuaTable.absentEvents
+	static final int INDEX = 0;
+	static final int NEWINDEX = 1;
+	static final int CALL = 2;
+	static final int ADD = 3;
+	static final int SUB = 4;
+	static final int MUL = 5;
+	static final int DIV = 6;
+	static final int MOD = 7;
+	static final int POW = 8;
+	static final int UNM = 9;
+	static final int IDIV = 10;
+	static final int CONCAT = 11;
+	static final int LEN = 12;
+	static final int EQ = 13;
+	static final int LT = 14;
+	static final int LE = 15;
+	static final int METATABLE = 16;
+	private static final String[] EVENT_NAMES = {
+			"__index", "__newindex", "__call", "__add", "__sub", "__mul", "__div", "__mod", "__pow",
+			"__unm", "__idiv", "__concat", "__len", "__eq", "__lt", "__le", "__metatable"
+	};
+	// limits the length of __index and __newindex chains, same as in reference Lua
+	private static final int MAX_CHAIN = 2000;
+
+	private Metatables() {
+	}
+
+	static LuaTable metatable(Object value) {
+		return value instanceof LuaTable ? ((LuaTable) value).metatable : null;
+	}
+
+	/**
+	 * Returns the handler of given event in the metatable or null if there is none.
+	 */
+	static Object handler(LuaTable metatable, int event) {
+		if (metatable == null || (metatable.absentEvents & (1 << event)) != 0) {
+			return null;
+		}
+		Object handler = metatable.get(EVENT_NAMES[event]);
+		if (handler == null) {
+			metatable.absentEvents |= 1 << event;
+		}
+		return handler;
+	}
+
+	// binary operators try the metatable of the first operand, then the second one
+	private static Object handler(Object a, Object b, int event) {
+		Object handler = handler(metatable(a), event);
+		return handler != null ? handler : handler(metatable(b), event);
+	}
+
+	private static Object call1(LuaContext context, Object handler, Object a, Object b) {
+		return ListOps.get(DynamicOps.call(context, handler, new Object[]{a, b}), 0);
+	}
+
+	static Object index(LuaContext context, Object obj, Object key) {
+		for (int i = 0; i < MAX_CHAIN; i++) {
+			if (!(obj instanceof LuaTable)) {
+				throw Errors.attemptTo("index", obj);
+			}
+			LuaTable table = (LuaTable) obj;
+			Object value = table.get(key);
+			if (value != null) {
+				return value;
+			}
+			Object handler = handler(table.metatable, INDEX);
+			if (handler == null) {
+				return null;
+			}
+			if (!(handler instanceof LuaTable)) {
+				return call1(context, handler, table, key);
+			}
+			obj = handler;
+		}
+		throw new IllegalArgumentException("'__index' chain too long; possible loop");
+	}
+
+	static void setIndex(LuaContext context, Object obj, Object key, Object value) {
+		for (int i = 0; i < MAX_CHAIN; i++) {
+			if (!(obj instanceof LuaTable)) {
+				throw Errors.attemptTo("index", obj);
+			}
+			LuaTable table = (LuaTable) obj;
+			Object handler = handler(table.metatable, NEWINDEX);
+			if (handler == null || table.get(key) != null) {
+				table.set(key, value);
+				return;
+			}
+			if (!(handler instanceof LuaTable)) {
+				DynamicOps.call(context, handler, new Object[]{table, key, value});
+				return;
+			}
+			obj = handler;
+		}
+		throw new IllegalArgumentException("'__newindex' chain too long; possible loop");
+	}
+
+	static Object[] call(LuaContext context, Object func, Object[] args) {
+		return DynamicOps.call(context, callHandler(func), withSelf(func, args));
+	}
+
+	static Object callHandler(Object func) {
+		Object handler = handler(metatable(func), CALL);
+		if (handler == null) {
+			throw Errors.attemptTo("call", func);
+		}
+		return handler;
+	}
+
+	// the called object becomes the first argument of "__call"
+	static Object[] withSelf(Object func, Object[] args) {
+		Object[] withSelf = new Object[args.length + 1];
+		withSelf[0] = func;
+		System.arraycopy(args, 0, withSelf, 1, args.length);
+		return withSelf;
+	}
+
+	static Object arith(LuaContext context, int event, Object a, Object b) {
+		if (!(a instanceof LuaTable) && !(b instanceof LuaTable)) {
+			// numeric strings
+			return arith(event, DynamicOps.toNum(a), DynamicOps.toNum(b));
+		}
+		Object handler = handler(a, b, event);
+		if (handler == null) {
+			throw Errors.attemptTo("perform arithmetic on", a instanceof LuaTable ? a : b);
+		}
+		return call1(context, handler, a, b);
+	}
+
+	private static double arith(int event, double a, double b) {
+		switch (event) {
+			case ADD:
+				return a + b;
+			case SUB:
+				return a - b;
+			case MUL:
+				return a * b;
+			case DIV:
+				return a / b;
+			case MOD:
+				return a % b;
+			case POW:
+				return Math.pow(a, b);
+			case IDIV:
+				return Math.floor(a / b);
+			case UNM:
+				return -a;
+			default:
+				throw new IllegalArgumentException(EVENT_NAMES[event]);
+		}
+	}
+
+	static Object concat(LuaContext context, Object a, Object b) {
+		Object handler = handler(a, b, CONCAT);
+		if (handler == null) {
+			throw Errors.attemptTo("concatenate", a instanceof LuaTable ? a : b);
+		}
+		return call1(context, handler, a, b);
+	}
+
+	static Object len(LuaContext context, LuaTable table) {
+		Object handler = handler(table.metatable, LEN);
+		if (handler == null) {
+			return (long) table.length();
+		}
+		return call1(context, handler, table, table);
+	}
+
+	// only called for two distinct tables
+	static boolean eq(LuaContext context, Object a, Object b) {
+		Object handler = handler(a, b, EQ);
+		return handler != null && DynamicOps.toBool(call1(context, handler, a, b));
+	}
+
+	static boolean lt(LuaContext context, Object a, Object b) {
+		if (!(a instanceof LuaTable) && !(b instanceof LuaTable)) {
+			return DynamicOps.toNum(a) < DynamicOps.toNum(b);
+		}
+		Object handler = handler(a, b, LT);
+		if (handler == null) {
+			throw compareError(a, b);
+		}
+		return DynamicOps.toBool(call1(context, handler, a, b));
+	}
+
+	static boolean le(LuaContext context, Object a, Object b) {
+		if (!(a instanceof LuaTable) && !(b instanceof LuaTable)) {
+			return DynamicOps.toNum(a) <= DynamicOps.toNum(b);
+		}
+		Object handler = handler(a, b, LE);
+		if (handler != null) {
+			return DynamicOps.toBool(call1(context, handler, a, b));
+		}
+		// same as reference Lua 5.3, "a <= b" is assumed to be "not (b < a)"
+		handler = handler(a, b, LT);
+		if (handler == null) {
+			throw compareError(a, b);
+		}
+		return !DynamicOps.toBool(call1(context, handler, b, a));
+	}
+
+	private static RuntimeException compareError(Object a, Object b) {
+		String t1 = StandardLibrary.type(a);
+		String t2 = StandardLibrary.type(b);
+		if (t1.equals(t2)) {
+			return new IllegalArgumentException("attempt to compare two " + t1 + " values");
+		}
+		return new IllegalArgumentException("attempt to compare " + t1 + " with " + t2);
+	}
+
+	static Object getMetatable(Object value) {
+		LuaTable metatable = metatable(value);
+		Object protectedValue = handler(metatable, METATABLE);
+		return protectedValue != null ? protectedValue : metatable;
+	}
+
+	static void setMetatable(LuaTable table, LuaTable metatable) {
+		if (handler(table.metatable, METATABLE) != null) {
+			throw new IllegalArgumentException("cannot change a protected metatable");
+		}
+		table.metatable = metatable;
+	}
+}
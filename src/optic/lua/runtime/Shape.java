@@ -0,0 +1,81 @@
+package optic.lua.runtime;
+
+import java.util.*;
+
+/**
+ * Describes which string keys a {@link LuaTable} has and in which slots their values are stored.
+ * Tables which had the same string keys added in the same order share the same shape.
+ * Shapes are immutable, adding a key to a table replaces its shape with a new one.
+ */
+final class Shape {
+	// tables with more string keys than this store them in the hash part instead
+	static final int MAX_SIZE = 32;
+	// limits the number of shapes which may be derived from a single shape
+	private static final int MAX_TRANSITIONS = 16;
+	// every table starts with the empty shape, so the limit is higher for shapes with few keys (see #maxTransitions)
+	private static final int MAX_ROOT_TRANSITIONS = 1024;
+	static final Shape EMPTY = new Shape(new String[0], new int[0]);
+	// marks tables which store string keys in the hash part
+	static final Shape DICTIONARY = new Shape(new String[0], new int[0]);
+
+	private final String[] keys;
+	private final int[] hashes;
+	private final Map<String, Shape> transitions = new HashMap<>(4);
+
+	private Shape(String[] keys, int[] hashes) {
+		this.keys = keys;
+		this.hashes = hashes;
+	}
+
+	int size() {
+		return keys.length;
+	}
+
+	String key(int slot) {
+		return keys[slot];
+	}
+
+	/**
+	 * Returns the slot of given key or -1 if this shape does not contain the key.
+	 */
+	int indexOf(String key) {
+		String[] keys = this.keys;
+		int[] hashes = this.hashes;
+		int hash = key.hashCode();
+		for (int i = 0; i < keys.length; i++) {
+			String k = keys[i];
+			if (k == key || (hashes[i] == hash && k.equals(key)))
+				return i;
+		}
+		return -1;
+	}
+
+	/**
+	 * Returns the shape which has given key added to the end or null if the table
+	 * should store string keys in the hash part instead.
+	 */
+	synchronized Shape with(String key) {
+		Shape next = transitions.get(key);
+		if (next != null)
+			return next;
+		if (keys.length >= MAX_SIZE || transitions.size() >= maxTransitions(keys.length))
+			return null;
+		String[] newKeys = Arrays.copyOf(keys, keys.length + 1);
+		int[] newHashes = Arrays.copyOf(hashes, hashes.length + 1);
+		newKeys[keys.length] = key;
+		newHashes[keys.length] = key.hashCode();
+		next = new Shape(newKeys, newHashes);
+		transitions.put(key, next);
+		return next;
+	}
+
+	// halves with each key, so that unrelated record types don't push each other into dictionary mode
+	private static int maxTransitions(int size) {
+		return Math.max(MAX_TRANSITIONS, MAX_ROOT_TRANSITIONS >> size);
+	}
+
+	@Override
+	public String toString() {
+		return this == DICTIONARY ? "shape(dictionary)" : "shape" + Arrays.toString(keys);
+	}
+}
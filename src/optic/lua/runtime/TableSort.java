@@ -0,0 +1,105 @@
+package optic.lua.runtime;
+
+/**
+ * Quicksort which only needs a "less than" predicate, used by "table.sort" for comparators
+ * and for arrays which can't be sorted in their natural order. Similar to "auxsort" in reference Lua,
+ * an inconsistent comparator results in an error instead of an out-of-bounds access.
+ */
+final class TableSort {
+	// ranges smaller than this are sorted using insertion sort
+	private static final int INSERTION_THRESHOLD = 12;
+	private final LuaContext context;
+	private final LuaFunction comparator;
+
+	TableSort(LuaContext context, LuaFunction comparator) {
+		this.context = context;
+		this.comparator = comparator;
+	}
+
+	static boolean allStrings(Object[] values, int count) {
+		for (int i = 0; i < count; i++) {
+			if (!(values[i] instanceof String))
+				return false;
+		}
+		return true;
+	}
+
+	void sort(Object[] values, int count) {
+		quicksort(values, 0, count - 1);
+	}
+
+	private void quicksort(Object[] a, int lo, int hi) {
+		while (hi - lo >= INSERTION_THRESHOLD) {
+			int mid = (lo + hi) >>> 1;
+			// median of three, afterwards a[lo] <= pivot <= a[hi] serve as sentinels
+			if (less(a[mid], a[lo]))
+				swap(a, mid, lo);
+			if (less(a[hi], a[mid])) {
+				swap(a, hi, mid);
+				if (less(a[mid], a[lo]))
+					swap(a, mid, lo);
+			}
+			Object pivot = a[mid];
+			swap(a, mid, hi - 1);
+			int i = lo;
+			int j = hi - 1;
+			while (true) {
+				while (less(a[++i], pivot)) {
+					if (i == hi)
+						throw invalidOrder();
+				}
+				while (less(pivot, a[--j])) {
+					if (j == lo)
+						throw invalidOrder();
+				}
+				if (j < i)
+					break;
+				swap(a, i, j);
+			}
+			swap(a, hi - 1, i);
+			// recurse into the smaller half to limit stack depth
+			if (i - lo < hi - i) {
+				quicksort(a, lo, i - 1);
+				lo = i + 1;
+			} else {
+				quicksort(a, i + 1, hi);
+				hi = i - 1;
+			}
+		}
+		for (int k = lo + 1; k <= hi; k++) {
+			Object x = a[k];
+			int j = k - 1;
+			while (j >= lo && less(x, a[j])) {
+				a[j + 1] = a[j];
+				j--;
+			}
+			a[j + 1] = x;
+		}
+	}
+
+	private boolean less(Object a, Object b) {
+		if (comparator == null)
+			return lessThan(a, b);
+		// compiled functions don't create an argument array for fixed-arity calls
+		Object[] result = comparator.call2(context, a, b);
+		return result.length > 0 && DynamicOps.toBool(result[0]);
+	}
+
+	private static boolean lessThan(Object a, Object b) {
+		if (a instanceof Number && b instanceof Number)
+			return ((Number) a).doubleValue() < ((Number) b).doubleValue();
+		if (a instanceof CharSequence && b instanceof CharSequence)
+			return a.toString().compareTo(b.toString()) < 0;
+		throw Errors.attemptTo("compare", a instanceof Number || a instanceof CharSequence ? b : a);
+	}
+
+	private static void swap(Object[] a, int i, int j) {
+		Object tmp = a[i];
+		a[i] = a[j];
+		a[j] = tmp;
+	}
+
+	private static RuntimeException invalidOrder() {
+		return new IllegalArgumentException("invalid order function for sorting");
+	}
+}
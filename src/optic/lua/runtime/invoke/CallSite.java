@@ -1,11 +1,59 @@
 package optic.lua.runtime.invoke;
 
-import optic.lua.runtime.LuaContext;
+import optic.lua.runtime.*;
 
 import java.io.PrintStream;
 
 public interface CallSite {
 	Object[] invoke(LuaContext context, Object function, Object[] args);
 
+	// fixed-arity variants, see LuaFunction#call0
+
+	default Object[] invoke0(LuaContext context, Object function) {
+		return invoke(context, function, ListOps.EMPTY);
+	}
+
+	default Object[] invoke1(LuaContext context, Object function, Object a) {
+		return invoke(context, function, new Object[]{a});
+	}
+
+	default Object[] invoke2(LuaContext context, Object function, Object a, Object b) {
+		return invoke(context, function, new Object[]{a, b});
+	}
+
+	default Object[] invoke3(LuaContext context, Object function, Object a, Object b, Object c) {
+		return invoke(context, function, new Object[]{a, b, c});
+	}
+
+	default Object[] invoke4(LuaContext context, Object function, Object a, Object b, Object c, Object d) {
+		return invoke(context, function, new Object[]{a, b, c, d});
+	}
+
+	// single-result variants, see LuaFunction#callFirst
+
+	default Object invokeFirst(LuaContext context, Object function, Object[] args) {
+		return ListOps.get(invoke(context, function, args), 0);
+	}
+
+	default Object invokeFirst0(LuaContext context, Object function) {
+		return ListOps.get(invoke0(context, function), 0);
+	}
+
+	default Object invokeFirst1(LuaContext context, Object function, Object a) {
+		return ListOps.get(invoke1(context, function, a), 0);
+	}
+
+	default Object invokeFirst2(LuaContext context, Object function, Object a, Object b) {
+		return ListOps.get(invoke2(context, function, a, b), 0);
+	}
+
+	default Object invokeFirst3(LuaContext context, Object function, Object a, Object b, Object c) {
+		return ListOps.get(invoke3(context, function, a, b, c), 0);
+	}
+
+	default Object invokeFirst4(LuaContext context, Object function, Object a, Object b, Object c, Object d) {
+		return ListOps.get(invoke4(context, function, a, b, c, d), 0);
+	}
+
 	void printTo(PrintStream out);
 }
@@ -24,6 +24,9 @@ public final class InstrumentedCallSite implements CallSite {
 	@Override
 	public Object[] invoke(LuaContext context, Object function, Object[] args) {
 		Object[] results = DynamicOps.call(context, function, args);
+		if (!(function instanceof LuaFunction)) {
+			return results;
+		}
 		HistoryEntry entry = new HistoryEntry(
 				((LuaFunction) function).constructionSite(),
 				HistoryEntry.encode(args),
@@ -13,7 +13,98 @@ public final class SimpleCallSite implements CallSite {
 
 	@Override
 	public Object[] invoke(LuaContext context, Object function, Object[] args) {
-		return ((LuaFunction) function).call(context, args);
+		if (function instanceof LuaFunction) {
+			return ((LuaFunction) function).call(context, args);
+		}
+		return DynamicOps.call(context, function, args);
+	}
+
+	@Override
+	public Object[] invoke0(LuaContext context, Object function) {
+		if (function instanceof LuaFunction) {
+			return ((LuaFunction) function).call0(context);
+		}
+		return DynamicOps.call(context, function, ListOps.EMPTY);
+	}
+
+	@Override
+	public Object[] invoke1(LuaContext context, Object function, Object a) {
+		if (function instanceof LuaFunction) {
+			return ((LuaFunction) function).call1(context, a);
+		}
+		return DynamicOps.call(context, function, new Object[]{a});
+	}
+
+	@Override
+	public Object[] invoke2(LuaContext context, Object function, Object a, Object b) {
+		if (function instanceof LuaFunction) {
+			return ((LuaFunction) function).call2(context, a, b);
+		}
+		return DynamicOps.call(context, function, new Object[]{a, b});
+	}
+
+	@Override
+	public Object[] invoke3(LuaContext context, Object function, Object a, Object b, Object c) {
+		if (function instanceof LuaFunction) {
+			return ((LuaFunction) function).call3(context, a, b, c);
+		}
+		return DynamicOps.call(context, function, new Object[]{a, b, c});
+	}
+
+	@Override
+	public Object[] invoke4(LuaContext context, Object function, Object a, Object b, Object c, Object d) {
+		if (function instanceof LuaFunction) {
+			return ((LuaFunction) function).call4(context, a, b, c, d);
+		}
+		return DynamicOps.call(context, function, new Object[]{a, b, c, d});
+	}
+
+	@Override
+	public Object invokeFirst(LuaContext context, Object function, Object[] args) {
+		if (function instanceof LuaFunction) {
+			return ((LuaFunction) function).callFirst(context, args);
+		}
+		return ListOps.get(DynamicOps.call(context, function, args), 0);
+	}
+
+	@Override
+	public Object invokeFirst0(LuaContext context, Object function) {
+		if (function instanceof LuaFunction) {
+			return ((LuaFunction) function).callFirst0(context);
+		}
+		return ListOps.get(DynamicOps.call(context, function, ListOps.EMPTY), 0);
+	}
+
+	@Override
+	public Object invokeFirst1(LuaContext context, Object function, Object a) {
+		if (function instanceof LuaFunction) {
+			return ((LuaFunction) function).callFirst1(context, a);
+		}
+		return ListOps.get(DynamicOps.call(context, function, new Object[]{a}), 0);
+	}
+
+	@Override
+	public Object invokeFirst2(LuaContext context, Object function, Object a, Object b) {
+		if (function instanceof LuaFunction) {
+			return ((LuaFunction) function).callFirst2(context, a, b);
+		}
+		return ListOps.get(DynamicOps.call(context, function, new Object[]{a, b}), 0);
+	}
+
+	@Override
+	public Object invokeFirst3(LuaContext context, Object function, Object a, Object b, Object c) {
+		if (function instanceof LuaFunction) {
+			return ((LuaFunction) function).callFirst3(context, a, b, c);
+		}
+		return ListOps.get(DynamicOps.call(context, function, new Object[]{a, b, c}), 0);
+	}
+
+	@Override
+	public Object invokeFirst4(LuaContext context, Object function, Object a, Object b, Object c, Object d) {
+		if (function instanceof LuaFunction) {
+			return ((LuaFunction) function).callFirst4(context, a, b, c, d);
+		}
+		return ListOps.get(DynamicOps.call(context, function, new Object[]{a, b, c, d}), 0);
 	}
 
 	@Override
@@ -0,0 +1,57 @@
+package optic.lua.asm
+
+import groovy.transform.CompileStatic
+
+import static optic.lua.asm.ExprList.exprList
+import static optic.lua.asm.ExprNode.monoInvocation
+import static optic.lua.asm.ExprNode.number
+import static optic.lua.asm.ExprNode.variableName
+import static optic.lua.asm.InvocationMethod.ADD
+import static optic.lua.asm.InvocationMethod.MUL
+import static optic.lua.optimization.StaticType.INTEGER
+
+@CompileStatic
+class RangeAnalysisTest extends GroovyTestCase {
+    private static VariableInfo variable(String name, ExprNode value) {
+        def v = new VariableInfo(name)
+        v.update(INTEGER)
+        v.markAsWritten()
+        v.setLastAssignedExpression(value)
+        return v
+    }
+
+    void testConstants() {
+        assert RangeAnalysis.fitsInt(number(1), number(100), number(1))
+        assert RangeAnalysis.fitsInt(number(-5), number(-1), number(2))
+        assert !RangeAnalysis.fitsInt(number(1), number(1.5d), number(1))
+        assert !RangeAnalysis.fitsInt(number(1), number(10), number(0))
+        assert !RangeAnalysis.fitsInt(number(0), number(3000000000), number(1))
+    }
+
+    void testOverflowAfterLastStep() {
+        assert RangeAnalysis.fitsInt(number(1), number(Integer.MAX_VALUE - 1), number(1))
+        assert !RangeAnalysis.fitsInt(number(1), number(Integer.MAX_VALUE), number(1))
+    }
+
+    void testFinalVariables() {
+        // local n = 1000 * 1000
+        def n = variable("n", monoInvocation(number(1000), MUL, exprList(number(1000))))
+        assert RangeAnalysis.fitsInt(number(1), variableName(n), number(1))
+        // local m = n * n
+        def m = variable("m", monoInvocation(variableName(n), MUL, exprList(variableName(n))))
+        assert !RangeAnalysis.fitsInt(number(1), variableName(m), number(1))
+        n.markAsWritten()
+        assert !RangeAnalysis.fitsInt(number(1), variableName(n), number(1))
+    }
+
+    void testLoopCounter() {
+        // for i = 1, 10 do for j = i, i + 5 do ... end end
+        def i = new VariableInfo("i")
+        i.update(INTEGER)
+        i.markAsInitialized()
+        i.setLoopBounds(number(1), number(10), number(1))
+        assert RangeAnalysis.fitsInt(variableName(i), monoInvocation(variableName(i), ADD, exprList(number(5))), number(1))
+        i.setLoopBounds(number(1), number(Long.MAX_VALUE), number(1))
+        assert !RangeAnalysis.fitsInt(variableName(i), number(10), number(1))
+    }
+}
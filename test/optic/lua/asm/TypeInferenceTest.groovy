@@ -0,0 +1,53 @@
+package optic.lua.asm
+
+import groovy.transform.CompileStatic
+import optic.lua.optimization.StaticType
+
+import java.util.function.Supplier
+
+import static optic.lua.asm.ExprList.exprList
+import static optic.lua.asm.ExprNode.number
+import static optic.lua.asm.ExprNode.variableName
+import static optic.lua.asm.InvocationMethod.DIV
+import static optic.lua.asm.InvocationMethod.MUL
+import static optic.lua.optimization.StaticType.*
+
+@CompileStatic
+class TypeInferenceTest extends GroovyTestCase {
+    private static VariableInfo variable(String name) {
+        def v = new VariableInfo(name)
+        v.markAsInitialized()
+        return v
+    }
+
+    void testLoopCarriedVariable() {
+        // local x = 1; for i = 1, 10 do x = x * 2 end
+        def x = variable("x")
+        x.update(INTEGER)
+        x.addTypeDependency({ MUL.typeInfo(variableName(x), exprList(number(2))) } as Supplier<StaticType>)
+        TypeInference.solve([x], [])
+        assert x.typeInfo() == INTEGER
+    }
+
+    void testWidening() {
+        // local x = 1; local y = x; for i = 1, 10 do x = y / 2 end
+        def x = variable("x")
+        def y = variable("y")
+        x.update(INTEGER)
+        x.addTypeDependency({ DIV.typeInfo(variableName(y), exprList(number(2))) } as Supplier<StaticType>)
+        y.addTypeDependency({ x.typeInfo() } as Supplier<StaticType>)
+        TypeInference.solve([y, x], [])
+        assert x.typeInfo() == NUMBER
+        assert y.typeInfo() == NUMBER
+    }
+
+    void testCycleWithoutType() {
+        def x = variable("x")
+        def y = variable("y")
+        x.addTypeDependency({ y.typeInfo() } as Supplier<StaticType>)
+        y.addTypeDependency({ x.typeInfo() } as Supplier<StaticType>)
+        TypeInference.solve([x, y], [])
+        assert x.typeInfo() == OBJECT
+        assert y.typeInfo() == OBJECT
+    }
+}
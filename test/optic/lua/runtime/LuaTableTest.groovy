@@ -1,5 +1,6 @@
 package optic.lua.runtime
 
+import groovy.transform.CompileDynamic
 import groovy.transform.CompileStatic
 
 @CompileStatic
@@ -68,6 +69,35 @@ class LuaTableTest extends GroovyTestCase {
         assert table.length() == 0
     }
 
+    void testBorder() {
+        LuaTable table = new LuaTable(1000, 0)
+        Object[] values = new Object[1000]
+        Arrays.fill(values, "x")
+        table.copyToArray(1, values, 1000)
+        assert table.length() == 1000
+        // filling a hole leaves the rest of the array part to binary search
+        table.set(1, null)
+        assert table.length() == 0
+        table.set(1, "x")
+        assert table.length() == 1000
+        for (int i = 1000; i > 900; i--) {
+            table.set(i, null)
+        }
+        assert table.length() == 900
+        table.set(500, null)
+        int border = table.length()
+        assert border == 499 || border == 900
+        assert table.get((long) border) != null && table.get(border + 1L) == null
+
+        // the border continues in the hash part
+        LuaTable sparse = LuaTable.ofArray([])
+        for (long i = 5000; i >= 1; i--) {
+            sparse.set(i, i)
+        }
+        sparse.set(7000L, 1L)
+        assert sparse.length() == 5000
+    }
+
     void testNullValues() {
         def table = LuaTable.ofMap(1: null, 2: "foo", 3: "bar")
         assert table.get(1) == null
@@ -85,13 +115,13 @@ class LuaTableTest extends GroovyTestCase {
                 2: "i2",
                 3: "i3")
 
-        def keys = table.pairsIterator().collect { it[0].toString() }.toSorted()
+        def keys = entries(table.pairsCursor()).collect { it[0].toString() }.toSorted()
         assert keys == List.of("1", "2", "3", "key1", "key2", "key3")
 
-        def values = table.pairsIterator().collect { it[1] }.toSorted()
+        def values = entries(table.pairsCursor()).collect { it[1] }.toSorted()
         assert values == List.of("i1", "i2", "i3", "value1", "value2", "value3")
 
-        assert !LuaTable.ofArray([]).pairsIterator().hasNext()
+        assert !LuaTable.ofArray([]).pairsCursor().advance()
     }
 
     void testIpairs() {
@@ -102,12 +132,359 @@ class LuaTableTest extends GroovyTestCase {
                 2: "i2",
                 3: "i3")
 
-        def keys = table.ipairsIterator().collect { it[0] }
+        def keys = entries(table.ipairsCursor()).collect { it[0] }
         assert keys == List.of(1, 2, 3)
 
-        def values = table.ipairsIterator().collect { it[1] }
+        def values = entries(table.ipairsCursor()).collect { it[1] }
         assert values == List.of("i1", "i2", "i3")
 
-        assert !LuaTable.ofArray([]).ipairsIterator().hasNext()
+        assert !LuaTable.ofArray([]).ipairsCursor().advance()
+    }
+
+    void testSparseKeys() {
+        LuaTable table = LuaTable.ofArray([])
+        for (long i = 1; i <= 10000; i++) {
+            table.set(i * 1000, i)
+        }
+        assert table.length() == 0
+        for (long i = 1; i <= 10000; i++) {
+            assert table.get(i * 1000) == i
+            assert table.get((Object) (double) (i * 1000)) == i
+        }
+        assert table.get(999) == null
+        assert table.get(Long.MIN_VALUE) == null
+        table.set(Long.MIN_VALUE, "min")
+        assert table.get(Long.MIN_VALUE) == "min"
+        assert table.get((Object) Long.MIN_VALUE) == "min"
+    }
+
+    void testNumberKeys() {
+        LuaTable table = LuaTable.ofArray([])
+        table.set(1.5d, "a")
+        table.set(-0.5d, "b")
+        table.set((Object) 7i, "c")
+        assert table.get(1.5d) == "a"
+        assert table.get((Object) 1.5f) == "a"
+        assert table.get(-0.5d) == "b"
+        assert table.get(7L) == "c"
+        assert table.get((Object) 7.0d) == "c"
+        table.set(1.5d, null)
+        assert table.get(1.5d) == null
+    }
+
+    void testRemoveWhileIterating() {
+        LuaTable table = LuaTable.ofArray([])
+        for (int i = 0; i < 100; i++) {
+            table.set("key" + i, i)
+            table.set(1000 + i, i)
+        }
+        int count = 0
+        def cursor = table.pairsCursor()
+        while (cursor.advance()) {
+            table.set(cursor.key(), null)
+            count++
+        }
+        assert count == 200
+        assert !table.pairsCursor().advance()
+        for (int i = 0; i < 100; i++) {
+            table.set("key" + i, i)
+        }
+        assert entries(table.pairsCursor()).collect { it[1] }.size() == 100
+    }
+
+    void testNext() {
+        LuaTable table = LuaTable.ofArray(["a", "b"])
+        table.set("x", 1)
+        table.set(100L, 2)
+        table.set(0.5d, 3)
+        def keys = []
+        def key = table.next(null)
+        while (key != null) {
+            keys.add(key)
+            // removing the current key must not break traversal
+            table.set(key, null)
+            key = table.next(key)
+        }
+        assert keys == [1L, 2L, "x", 100L, 0.5d]
+        assert table.next(null) == null
+        shouldFail(IllegalArgumentException) {
+            table.next("missing")
+        }
+    }
+
+    void testConstructor() {
+        // positional values take precedence over explicit keys
+        Object[] entries = [1L, "a", "x", "y", 3L, "c"]
+        LuaTable table = DynamicOps.arrayTable(["b", null, "d"] as Object[], entries)
+        assert table.get(1L) == "b"
+        assert table.get(2L) == null
+        assert table.get(3L) == "d"
+        assert table.get("x") == "y"
+        assert table.length() == 1
+
+        LuaTable numbers = DynamicOps.varargTable([1.5d, 2.5d] as Object[], [3.5d] as Object[], new Object[0])
+        assert numbers.length() == 3
+        assert numbers.getNum(3) == 3.5d
+        numbers.set(4L, 4.5d)
+        assert numbers.get(4L) == 4.5d
+        assert DynamicOps.varargTable(new Object[0], new Object[0], new Object[0]).length() == 0
+    }
+
+    void testSmallTables() {
+        LuaTable table = LuaTable.ofArray([])
+        // enough keys to outgrow the linearly searched lanes
+        for (int i = 1; i <= 20; i++) {
+            table.set(i + 0.5d, i)
+            table.set(-i * 10L, i)
+            table.set(4, null)
+            assert table.get(i + 0.5d) == i
+            assert table.get(-i * 10L) == i
+        }
+        for (int i = 1; i <= 20; i++) {
+            assert table.get(i + 0.5d) == i
+            assert table.get(-i * 10L) == i
+        }
+        for (int i = 1; i <= 18; i++) {
+            table.set(i + 0.5d, null)
+        }
+        table.set(true, "t")
+        assert table.get(true) == "t"
+        assert table.get(19.5d) == 19
+        assert entries(table.pairsCursor()).size() == 23
+    }
+
+    void testInsertRemove() {
+        LuaTable table = LuaTable.ofArray([])
+        for (long i = 1; i <= 10; i++) {
+            table.insert(1, i)
+        }
+        assert table.length() == 10
+        assert table.get(1L) == 10L
+        assert table.get(10L) == 1L
+        table.insert(5, "x")
+        assert table.get(5L) == "x"
+        assert table.get(6L) == 6L
+        assert table.remove(5) == "x"
+        assert table.remove(10) == 1L
+        assert table.length() == 9
+        assert table.unpack(1, 3).toList() == [10L, 9L, 8L]
+        shouldFail(IllegalArgumentException) {
+            table.insert(20, "y")
+        }
+
+        LuaTable other = LuaTable.ofArray([])
+        LuaTable.move(table, 1, 9, 2, other)
+        assert other.get(1L) == null
+        assert other.get(2L) == 10L
+        assert other.get(10L) == 2L
+    }
+
+    void testSort() {
+        def random = new Random(42)
+        LuaTable numbers = LuaTable.ofArray([])
+        LuaTable strings = LuaTable.ofArray([])
+        LuaTable mixed = LuaTable.ofArray([])
+        for (long i = 1; i <= 1000; i++) {
+            numbers.setNum(i, random.nextDouble())
+            strings.set(i, "s" + random.nextInt())
+            if (i % 2 == 0) {
+                mixed.set(i, (Object) random.nextInt(100).toLong())
+            } else {
+                mixed.set(i, (Object) (random.nextDouble() * 100))
+            }
+        }
+        numbers.sort(null, null)
+        strings.sort(null, null)
+        mixed.sort(null, null)
+        def descending = new LuaFunction("descending") {
+            @Override
+            Object[] call(LuaContext context, Object... args) {
+                return [DynamicOps.lt(context, args[1], args[0])] as Object[]
+            }
+        }
+        for (long i = 1; i < 1000; i++) {
+            assert numbers.getNum(i) <= numbers.getNum(i + 1)
+            assert strings.get(i).toString() <= strings.get(i + 1).toString()
+            assert mixed.getNum(i) <= mixed.getNum(i + 1)
+        }
+        numbers.sort(null, descending)
+        for (long i = 1; i < 1000; i++) {
+            assert numbers.getNum(i) >= numbers.getNum(i + 1)
+        }
+        def inconsistent = new LuaFunction("inconsistent") {
+            @Override
+            Object[] call(LuaContext context, Object... args) {
+                return [true] as Object[]
+            }
+        }
+        shouldFail(IllegalArgumentException) {
+            numbers.sort(null, inconsistent)
+        }
+    }
+
+    void testNumericArray() {
+        LuaTable table = LuaTable.ofArray([])
+        for (long i = 1; i <= 100; i++) {
+            table.setNum(i, i / 2.0d)
+        }
+        assert table.length() == 100
+        assert table.getNum(10) == 5.0d
+        assert table.get(10L) == 5.0d
+        table.set(50L, 7L)
+        // integers must not turn into floats
+        assert table.get(50L) == 7L
+        assert table.get(50L) instanceof Long
+        assert table.getNum(50) == 7.0d
+        assert table.get(51L) == 25.5d
+
+        LuaTable ints = LuaTable.ofArray([])
+        for (long i = 1; i <= 100; i++) {
+            ints.setInt(i, i * 2)
+        }
+        assert ints.get(3L) == 6L
+        assert ints.getNum(3) == 6.0d
+        ints.set(4L, "x")
+        assert ints.get(4L) == "x"
+        assert ints.get(100L) == 200L
+        ints.set(90L, null)
+        assert ints.length() == 89
+        assert ints.get(91L) == 182L
+    }
+
+    void testShapes() {
+        LuaTable a = LuaTable.ofArray([])
+        LuaTable b = LuaTable.ofArray([])
+        a.set("x", 1)
+        a.set("y", 2)
+        b.set("x", 3)
+        b.set("y", 4)
+        a.set("x", null)
+        assert a.get("x") == null
+        assert entries(a.pairsCursor()).collect { it[0] } == ["y"]
+
+        def cache = new IndexCache("y")
+        assert cache.get(null, a) == 2
+        assert cache.get(null, b) == 4
+        cache.set(null, b, 5)
+        assert b.get("y") == 5
+
+        // too many keys switch the table to dictionary mode
+        for (int i = 0; i < 100; i++) {
+            a.set("key" + i, i)
+        }
+        assert a.get("key99") == 99
+        assert a.get("y") == 2
+        assert cache.get(null, a) == 2
+        cache.set(null, a, 6)
+        assert a.get("y") == 6
+        assert entries(a.pairsCursor()).collect { it[0] }.size() == 101
+    }
+
+    // reads the package-private shape of the table
+    @CompileDynamic
+    void testManyFirstKeys() {
+        // each table starts with a key which no other table has used as its first key
+        for (int i = 0; i < 20; i++) {
+            LuaTable.ofArray([]).set("firstKey" + i, i)
+        }
+        LuaTable later = LuaTable.ofArray([])
+        later.set("laterX", 1)
+        later.set("laterY", 2)
+        assert later.shape != Shape.DICTIONARY
+        assert later.shape.indexOf("laterY") == 1
+    }
+
+    void testMetatables() {
+        LuaTable base = LuaTable.ofArray([])
+        base.set("name", "base")
+        LuaTable meta = LuaTable.ofArray([])
+        meta.set("__index", base)
+        LuaTable a = LuaTable.ofArray([])
+        LuaTable b = LuaTable.ofArray([])
+        a.set("x", 1)
+        b.set("x", 2)
+        Metatables.setMetatable(a, meta)
+        Metatables.setMetatable(b, meta)
+        assert a.get("name") == null
+
+        def cache = new IndexCache("name")
+        assert cache.get(null, a) == "base"
+        assert cache.get(null, b) == "base"
+        base.set("name", "changed")
+        assert cache.get(null, a) == "changed"
+        b.set("name", "own")
+        assert cache.get(null, b) == "own"
+        assert cache.get(null, a) == "changed"
+
+        // missing events are remembered until the metatable is written to
+        def setter = new IndexCache("y")
+        setter.set(null, a, 3)
+        assert a.get("y") == 3
+        LuaTable log = LuaTable.ofArray([])
+        meta.set("__newindex", log)
+        setter.set(null, b, 4)
+        assert b.get("y") == null
+        assert log.get("y") == 4
+        setter.set(null, a, 5)
+        assert a.get("y") == 5
+        meta.set("__index", null)
+        assert cache.get(null, a) == null
+    }
+
+    void testRehash() {
+        LuaTable table = LuaTable.ofArray([])
+        // keys arrive in the hash part first and have to be moved to the array part
+        for (long i = 1000; i >= 1; i--) {
+            table.set(i, i)
+        }
+        assert table.length() == 1000
+        for (long i = 1; i <= 1000; i++) {
+            assert table.get(i) == i
+        }
+        // holes don't affect other entries
+        for (long i = 1; i <= 1000; i += 2) {
+            table.set(i, null)
+        }
+        assert table.get(1L) == null
+        assert table.get(2L) == 2L
+        assert table.get(1000L) == 1000L
+        // mass deletion followed by insertion into the hash part
+        for (long i = 1; i <= 1000; i++) {
+            table.set(i, null)
+        }
+        for (long i = 1; i <= 100; i++) {
+            table.set(i * 100000, i)
+        }
+        assert table.length() == 0
+        assert table.get(500L) == null
+        assert table.get(100000L) == 1L
+        assert entries(table.pairsCursor()).collect { it[1] }.size() == 100
+    }
+
+    void testGlobalVariables() {
+        def context = LuaContext.create()
+        def env = LuaTable.ofMap("x": 1L)
+        context._ENV = env
+        def x = new GlobalVariable("x")
+        assert x.get(context) == 1L
+        env.set("x", 2L)
+        assert x.get(context) == 2L
+        x.set(context, 3L)
+        assert env.get("x") == 3L
+        env.set("x", null)
+        assert x.get(context) == null
+        assert entries(env.pairsCursor()).isEmpty()
+        context._ENV = LuaTable.ofMap("x": 4L)
+        assert x.get(context) == 4L
+        x.set(context, 5L)
+        assert env.get("x") == null
+    }
+
+    private static List<List<Object>> entries(LoopCursor cursor) {
+        def entries = new ArrayList<List<Object>>()
+        while (cursor.advance()) {
+            entries.add([cursor.key(), cursor.value()])
+        }
+        return entries
     }
 }